@@ -62,6 +62,7 @@ public class ClientReplayer implements ActionListener {
 	private final List<ServerCommand> fUnseenList;
 	private final List<Integer> markingAffectingCommands;
 	private final Map<Integer, Map<String, String>> markings;
+	private final ReplayKeyframes keyframes;
 	private int fLastReplayPosition, fReplaySpeed, fUnseenPosition, activeMarkingCommand = Integer.MIN_VALUE, fFirstCommandNr;
 	private boolean fReplayDirectionForward, fStopping, fSkipping, control, online;
 	private ClientCommandHandlerMode lastMode;
@@ -73,6 +74,7 @@ public class ClientReplayer implements ActionListener {
 		fUnseenList = new ArrayList<>();
 		markingAffectingCommands = new ArrayList<>();
 		markings = new HashMap<>();
+		keyframes = new ReplayKeyframes();
 		fLastReplayPosition = -1;
 		fReplaySpeed = 1;
 		fTimer = new Timer(1000, this);
@@ -132,6 +134,7 @@ public class ClientReplayer implements ActionListener {
 		fReplayList.clear();
 		Collections.addAll(fReplayList, pServerCommands);
 		fReplayList.addAll(oldReplayList);
+		keyframes.clear();
 		getClient().getUserInterface().getLog().detachLogDocument();
 		if (pProgressListener != null) {
 			pProgressListener.initProgress(0, getReplaySize() - 1);
@@ -309,7 +312,9 @@ public class ClientReplayer implements ActionListener {
 		if ((fLastReplayPosition >= 0) && (fLastReplayPosition < pReplayPosition)) {
 			start = fLastReplayPosition;
 		}
-		if (start == 0) {
+		// keyframes are only used for replaying, initializing has to handle every command to build the log
+		int keyframePosition = (pMode == ClientCommandHandlerMode.REPLAYING) ? keyframes.findPosition(pReplayPosition - 1) : -1;
+		if ((start == 0) || (keyframePosition > start)) {
 			activeMarkingCommand = Integer.MIN_VALUE;
 			Game oldGame = getClient().getGame();
 			FieldMarker[] oldFieldMarker = null;
@@ -318,7 +323,13 @@ public class ClientReplayer implements ActionListener {
 				oldFieldMarker = oldGame.getFieldModel().getTransientFieldMarkers();
 				oldPlayerMarker = oldGame.getFieldModel().getTransientPlayerMarkers();
 			}
-			Game game = createGame();
+			Game game;
+			if (keyframePosition > 0) {
+				game = keyframes.restore(keyframePosition, getClient().getFactorySource(), getClient().getFactoryManager());
+				start = keyframePosition;
+			} else {
+				game = createGame();
+			}
 			getClient().setGame(game);
 
 			if (ArrayTool.isProvided(oldFieldMarker)) {
@@ -359,6 +370,9 @@ public class ClientReplayer implements ActionListener {
 					}
 				}
 				if (pMode == ClientCommandHandlerMode.INITIALIZING) {
+					if (keyframes.isDue(i + 1)) {
+						keyframes.add(i + 1, getClient().getGame());
+					}
 					if (automarkingEnabled && markingAffectingCommands.contains(serverCommand.getCommandNr())) {
 						gameVersions.add(cloneGame(applicationSource, factoryManager));
 						int index = gameVersions.size() - 1;
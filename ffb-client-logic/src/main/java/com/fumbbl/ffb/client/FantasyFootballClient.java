@@ -14,7 +14,9 @@ import com.fumbbl.ffb.client.state.logic.LogicModule;
 import com.fumbbl.ffb.factory.IFactorySource;
 import com.fumbbl.ffb.factory.INamedObjectFactory;
 import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.net.CommandCodec;
 import com.fumbbl.ffb.net.IConnectionListener;
+import com.fumbbl.ffb.net.WireProtocol;
 import com.fumbbl.ffb.util.StringTool;
 
 import javax.websocket.ContainerProvider;
@@ -210,7 +212,9 @@ public abstract class FantasyFootballClient implements IConnectionListener, IDia
 
 		try {
 
-			URI uri = new URI("ws", null, getServerHost().getCanonicalHostName(), getServerPort(), "/command", null, null);
+			// propose the binary protocol, servers not supporting it ignore the parameter and keep sending json
+			String query = CommandCodec.PARAMETER_PROTOCOL + "=" + CommandCodec.getProtocolName(WireProtocol.BINARY);
+			URI uri = new URI("ws", null, getServerHost().getCanonicalHostName(), getServerPort(), "/command", query, null);
 			WebSocketContainer container = ContainerProvider.getWebSocketContainer();
 			container.setDefaultMaxSessionIdleTimeout(Integer.MAX_VALUE);
 			container.setDefaultMaxTextMessageBufferSize(64 * 1024);
@@ -24,6 +24,7 @@ import com.fumbbl.ffb.client.overlay.Overlay;
 import com.fumbbl.ffb.client.overlay.sketch.ClientSketchManager;
 import com.fumbbl.ffb.client.state.ClientState;
 import com.fumbbl.ffb.client.state.logic.LogicModule;
+import com.fumbbl.ffb.client.util.UtilClientGraphics;
 import com.fumbbl.ffb.marking.FieldMarker;
 import com.fumbbl.ffb.marking.PlayerMarker;
 import com.fumbbl.ffb.model.FieldModel;
@@ -37,6 +38,7 @@ import com.fumbbl.ffb.model.stadium.OnPitchEnhancement;
 import javax.swing.JPanel;
 import javax.swing.ToolTipManager;
 import javax.swing.event.MouseInputListener;
+import java.awt.AlphaComposite;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -67,6 +69,7 @@ public class FieldComponent extends JPanel implements IModelChangeObserver, Mous
 	private final FieldLayerSketches layerSketches;
 	private final FieldLayerTackleZones layerTackleZones;
 	private BufferedImage fImage;
+	private BufferedImage fBackground;
 
 	// we need to keep some old model values for a redraw (if those get set to null)
 	private FieldCoordinate fBallCoordinate;
@@ -121,7 +124,8 @@ public class FieldComponent extends JPanel implements IModelChangeObserver, Mous
 		layerTackleZones.initLayout();
 
 		Dimension size = uiDimensionProvider.dimension(Component.FIELD);
-		fImage = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_ARGB);
+		fImage = UtilClientGraphics.createCompatibleImage(size.width, size.height);
+		fBackground = UtilClientGraphics.createCompatibleImage(size.width, size.height);
 
 		setMinimumSize(size);
 		setPreferredSize(size);
@@ -179,22 +183,54 @@ public class FieldComponent extends JPanel implements IModelChangeObserver, Mous
 
 	public synchronized void refresh() {
 
-		Rectangle updatedArea = combineRectangles(new Rectangle[]{getLayerField().fetchUpdatedArea(),
-			getLayerTeamLogo().fetchUpdatedArea(), getLayerEnhancements().fetchUpdatedArea(),
-			getLayerBloodspots().fetchUpdatedArea(),
+		Rectangle updatedArea = combineRectangles(new Rectangle[]{updateBackground(),
 			getLayerRangeGrid().fetchUpdatedArea(), getLayerMarker().fetchUpdatedArea(),
 			getLayerUnderPlayers().fetchUpdatedArea(), getLayerTackleZones().fetchUpdatedArea(),
-			getLayerPlayers().fetchUpdatedArea(), getLayerOverPlayers().fetchUpdatedArea(), 
+			getLayerPlayers().fetchUpdatedArea(), getLayerOverPlayers().fetchUpdatedArea(),
 			getLayerRangeRuler().fetchUpdatedArea(), getLayerSketches().fetchUpdatedArea(),
 		});
 
 		if (updatedArea != null) {
-			refresh(updatedArea);
+			compose(updatedArea);
 		}
 
 	}
 
 	public synchronized void refresh(Rectangle pUpdatedArea) {
+		Rectangle backgroundArea = updateBackground();
+		compose((pUpdatedArea != null) ? combineRectangles(new Rectangle[]{backgroundArea, pUpdatedArea}) : null);
+	}
+
+	/**
+	 * Redraws the parts of the background changed since the last refresh. The background flattens the layers below
+	 * the range grid, which rarely change, so they are not composed again for every move of a player.
+	 *
+	 * @return the changed area, null if the background has not changed
+	 */
+	private Rectangle updateBackground() {
+
+		Rectangle updatedArea = combineRectangles(new Rectangle[]{getLayerField().fetchUpdatedArea(),
+			getLayerTeamLogo().fetchUpdatedArea(), getLayerEnhancements().fetchUpdatedArea(),
+			getLayerBloodspots().fetchUpdatedArea()
+		});
+
+		if (updatedArea != null) {
+			Graphics2D g2d = fBackground.createGraphics();
+			g2d.setClip(updatedArea.x, updatedArea.y, updatedArea.width, updatedArea.height);
+			g2d.setComposite(AlphaComposite.Src);
+			g2d.drawImage(getLayerField().getImage(), 0, 0, null);
+			g2d.setComposite(AlphaComposite.SrcOver);
+			g2d.drawImage(getLayerTeamLogo().getImage(), 0, 0, null);
+			g2d.drawImage(getLayerEnhancements().getImage(), 0, 0, null);
+			g2d.drawImage(getLayerBloodspots().getImage(), 0, 0, null);
+			g2d.dispose();
+		}
+
+		return updatedArea;
+
+	}
+
+	private void compose(Rectangle pUpdatedArea) {
 
 		Graphics2D g2d = fImage.createGraphics();
 
@@ -202,10 +238,9 @@ public class FieldComponent extends JPanel implements IModelChangeObserver, Mous
 			g2d.setClip(pUpdatedArea.x, pUpdatedArea.y, pUpdatedArea.width, pUpdatedArea.height);
 		}
 
-		g2d.drawImage(getLayerField().getImage(), 0, 0, null);
-		g2d.drawImage(getLayerTeamLogo().getImage(), 0, 0, null);
-		g2d.drawImage(getLayerEnhancements().getImage(), 0, 0, null);
-		g2d.drawImage(getLayerBloodspots().getImage(), 0, 0, null);
+		g2d.setComposite(AlphaComposite.Src);
+		g2d.drawImage(fBackground, 0, 0, null);
+		g2d.setComposite(AlphaComposite.SrcOver);
 		g2d.drawImage(getLayerRangeGrid().getImage(), 0, 0, null);
 		g2d.drawImage(getLayerMarker().getImage(), 0, 0, null);
 		g2d.drawImage(getLayerUnderPlayers().getImage(), 0, 0, null);
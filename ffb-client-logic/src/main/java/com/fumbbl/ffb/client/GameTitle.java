@@ -21,6 +21,9 @@ public class GameTitle {
 	private long fPingTime;
 	private long fTurnTime;
 	private long fGameTime;
+	private Boolean fTurnTimeRunning;
+	private Boolean fGameTimeRunning;
+	private long fTimeBase;
 
 	public GameTitle() {
 		setPingTime(-1);
@@ -47,10 +50,17 @@ public class GameTitle {
 			}
 			if (gameTitle.getGameTime() >= 0) {
 				setGameTime(gameTitle.getGameTime());
+				setTimeBase(gameTitle.getTimeBase());
 			}
 			if (gameTitle.getTurnTime() >= 0) {
 				setTurnTime(gameTitle.getTurnTime());
 			}
+			if (gameTitle.fTurnTimeRunning != null) {
+				setTurnTimeRunning(gameTitle.isTurnTimeRunning());
+			}
+			if (gameTitle.fGameTimeRunning != null) {
+				setGameTimeRunning(gameTitle.isGameTimeRunning());
+			}
 		}
 	}
 
@@ -114,6 +124,37 @@ public class GameTitle {
 		fGameTime = pGameTime;
 	}
 
+	public boolean isTurnTimeRunning() {
+		return (fTurnTimeRunning != null) ? fTurnTimeRunning : false;
+	}
+
+	public void setTurnTimeRunning(boolean pTurnTimeRunning) {
+		fTurnTimeRunning = pTurnTimeRunning;
+	}
+
+	public boolean isGameTimeRunning() {
+		return (fGameTimeRunning != null) ? fGameTimeRunning : false;
+	}
+
+	public void setGameTimeRunning(boolean pGameTimeRunning) {
+		fGameTimeRunning = pGameTimeRunning;
+	}
+
+	/**
+	 * Time in ms at which the game and turn time have been received, running clocks advance from there.
+	 */
+	public long getTimeBase() {
+		return fTimeBase;
+	}
+
+	public void setTimeBase(long pTimeBase) {
+		fTimeBase = pTimeBase;
+	}
+
+	public boolean isClockRunning() {
+		return isTurnTimeRunning() || isGameTimeRunning();
+	}
+
 	public String toString() {
 		StringBuilder title = new StringBuilder();
 		title.append("FantasyFootball");
@@ -135,11 +176,11 @@ public class GameTitle {
 		}
 		if ((ClientMode.REPLAY != getClientMode()) && (getTurnTime() >= 0)) {
 			title.append(" - Turn ");
-			appendTime(title, getTurnTime(), false);
+			appendTime(title, getTurnTime() + findElapsed(isTurnTimeRunning()), false);
 		}
 		if (getGameTime() >= 0) {
 			title.append(" - Game ");
-			appendTime(title, getGameTime(), true);
+			appendTime(title, getGameTime() + findElapsed(isGameTimeRunning()), true);
 		}
 		if (getPingTime() >= 0) {
 			title.append(" - Ping ");
@@ -148,6 +189,10 @@ public class GameTitle {
 		return title.toString();
 	}
 
+	private long findElapsed(boolean pRunning) {
+		return (pRunning && (getTimeBase() > 0)) ? Math.max(0, System.currentTimeMillis() - getTimeBase()) : 0;
+	}
+
 	private void appendTime(StringBuilder builder, long milliseconds, boolean showHours) {
 
 		long myMilliseconds = (milliseconds > 0) ? milliseconds : 0;
@@ -0,0 +1,79 @@
+package com.fumbbl.ffb.client;
+
+import com.fumbbl.ffb.client.util.UtilClientGraphics;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs small icons of one scale row by row into shared pages. Icons are handed out as sub images of their page,
+ * so drawing them just copies a region of the page.
+ */
+public class IconAtlas {
+
+	public static final int PAGE_SIZE = 512;
+
+	// keeps scaled drawing of an icon from picking up pixels of its neighbours
+	private static final int PADDING = 1;
+
+	private final List<BufferedImage> fPages;
+	private final Map<String, BufferedImage> fIconByKey;
+	private int fX;
+	private int fY;
+	private int fRowHeight;
+
+	public IconAtlas() {
+		fPages = new ArrayList<>();
+		fIconByKey = new HashMap<>();
+	}
+
+	public synchronized BufferedImage get(String pKey) {
+		return fIconByKey.get(pKey);
+	}
+
+	/**
+	 * @return the packed icon, null if it does not fit on a page
+	 */
+	public synchronized BufferedImage add(String pKey, BufferedImage pIcon) {
+		int width = pIcon.getWidth();
+		int height = pIcon.getHeight();
+		if ((width > PAGE_SIZE) || (height > PAGE_SIZE)) {
+			return null;
+		}
+		if (fX + width > PAGE_SIZE) {
+			fX = 0;
+			fY += fRowHeight + PADDING;
+			fRowHeight = 0;
+		}
+		if (fPages.isEmpty() || (fY + height > PAGE_SIZE)) {
+			fPages.add(UtilClientGraphics.createCompatibleImage(PAGE_SIZE, PAGE_SIZE));
+			fX = 0;
+			fY = 0;
+			fRowHeight = 0;
+		}
+		BufferedImage page = fPages.get(fPages.size() - 1);
+		Graphics2D g2d = page.createGraphics();
+		g2d.setComposite(AlphaComposite.Src);
+		g2d.drawImage(pIcon, fX, fY, null);
+		g2d.dispose();
+		BufferedImage packedIcon = page.getSubimage(fX, fY, width, height);
+		fIconByKey.put(pKey, packedIcon);
+		fX += width + PADDING;
+		fRowHeight = Math.max(fRowHeight, height);
+		return packedIcon;
+	}
+
+	public synchronized int size() {
+		return fIconByKey.size();
+	}
+
+	public synchronized int getNrOfPages() {
+		return fPages.size();
+	}
+
+}
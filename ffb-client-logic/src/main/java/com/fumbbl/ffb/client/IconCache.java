@@ -53,10 +53,15 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivilegedAction;
 import java.security.cert.X509Certificate;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -70,23 +75,32 @@ public class IconCache {
 	private static final Pattern _PATTERN_PITCH = Pattern.compile("\\?pitch=([a-z]+)$");
 	private static final String LOCAL_CACHE_MAP_FILE = "map.json";
 	private static final JsonStringMapOption JSON_OPTION = new JsonStringMapOption("map");
+	// small icons used all over the field, packed into one atlas per scale
+	private static final String[] ATLAS_PROPERTY_PREFIXES = {"dice.", "game.pushback.", "decoration.", "bloodspot."};
+	private static final long MAX_SCALED_ICON_BYTES = 64L * 1024 * 1024;
+	// downloads run on as many threads as the http client has connections
+	private static final int MAX_CONNECTIONS = 5;
 	private final BaseImageMap fIconByKey;
-	private final Map<String, BufferedImage> scaledIcons;
+	private final ScaledIconCache scaledIcons;
+	private final Map<String, IconAtlas> atlasByCacheKey;
 
 	private Properties fIconUrlProperties;
 
 	private final Map<String, Integer> fCurrentIndexPerKey;
 
 	private final FantasyFootballClient fClient;
-	private final Map<String, String> localCacheMap = new HashMap<>();
+	private final Map<String, String> localCacheMap = new ConcurrentHashMap<>();
+	private final AtomicBoolean localCacheMapDirty = new AtomicBoolean();
 	private MessageDigest digest;
 	private String localCacheFolder;
 	private final HttpClient httpClient;
+	private final IconPrefetcher prefetcher;
 
 	public IconCache(FantasyFootballClient pClient) {
 		fClient = pClient;
 		fIconByKey = new BaseImageMap();
-		scaledIcons = new HashMap<>();
+		scaledIcons = new ScaledIconCache(MAX_SCALED_ICON_BYTES);
+		atlasByCacheKey = new HashMap<>();
 		fCurrentIndexPerKey = new HashMap<>();
 		try {
 			digest = MessageDigest.getInstance("MD5");
@@ -103,6 +117,7 @@ public class IconCache {
 		}
 
 		httpClient = setupHttpClient();
+		prefetcher = new IconPrefetcher(this::downloadIcon, MAX_CONNECTIONS);
 	}
 
 	private HttpClient setupHttpClient() {
@@ -125,7 +140,7 @@ public class IconCache {
 				.build();
 
 			PoolingHttpClientConnectionManager cm = PoolingHttpClientConnectionManagerBuilder.create()
-				.setSSLSocketFactory(sslCF).setMaxConnTotal(5).setMaxConnPerRoute(5)
+				.setSSLSocketFactory(sslCF).setMaxConnTotal(MAX_CONNECTIONS).setMaxConnPerRoute(MAX_CONNECTIONS)
 				.setDefaultConnectionConfig(connectionConfig).build();
 
 			httpClient = HttpClients.custom().setConnectionManager(cm).build();
@@ -263,6 +278,9 @@ public class IconCache {
 			return null;
 		}
 		String iconUrl = getClient().getProperty(pIconProperty);
+		if (isAtlasProperty(pIconProperty)) {
+			return getAtlasIcon(iconUrl, dimensionProvider);
+		}
 		BufferedImage icon = getIconByUrl(iconUrl, dimensionProvider);
 		if ((icon == null) && loadIconFromArchive(iconUrl)) {
 			icon = getIconByUrl(iconUrl, dimensionProvider);
@@ -270,6 +288,40 @@ public class IconCache {
 		return icon;
 	}
 
+	private boolean isAtlasProperty(String pIconProperty) {
+		for (String prefix : ATLAS_PROPERTY_PREFIXES) {
+			if (pIconProperty.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private BufferedImage getAtlasIcon(String pUrl, DimensionProvider dimensionProvider) {
+		if (!StringTool.isProvided(pUrl)) {
+			return null;
+		}
+		IconAtlas atlas;
+		synchronized (atlasByCacheKey) {
+			atlas = atlasByCacheKey.computeIfAbsent(dimensionProvider.cacheKey(), cacheKey -> new IconAtlas());
+		}
+		BufferedImage icon = atlas.get(pUrl);
+		if (icon == null) {
+			BufferedImage unscaledIcon = fIconByKey.get(pUrl);
+			if ((unscaledIcon == null) && loadIconFromArchive(pUrl)) {
+				unscaledIcon = fIconByKey.get(pUrl);
+			}
+			if (unscaledIcon != null) {
+				BufferedImage scaledIcon = dimensionProvider.scaleImage(unscaledIcon);
+				icon = atlas.add(pUrl, scaledIcon);
+				if (icon == null) {
+					icon = scaledIcon;
+				}
+			}
+		}
+		return icon;
+	}
+
 	public ImageIcon getImageIconByProperty(String pIconProperty, DimensionProvider dimensionProvider) {
 		BufferedImage icon = getIconByProperty(pIconProperty, dimensionProvider);
 		if (icon != null) {
@@ -285,8 +337,12 @@ public class IconCache {
 		if (bufferedImage == null) {
 			bufferedImage = fIconByKey.get(pUrl);
 			if (bufferedImage != null) {
-				bufferedImage = dimensionProvider.scaleImage(bufferedImage);
-				scaledIcons.put(key, bufferedImage);
+				BufferedImage scaledImage = dimensionProvider.scaleImage(bufferedImage);
+				// unscaled icons are kept with the originals already
+				if (scaledImage != bufferedImage) {
+					scaledIcons.put(key, scaledImage);
+				}
+				bufferedImage = scaledImage;
 			}
 		}
 		return bufferedImage;
@@ -319,10 +375,22 @@ public class IconCache {
 	}
 
 	public void loadIconFromUrl(String pUrl) {
-
-		if (!StringTool.isProvided(pUrl)) {
-			return;
+		if (StringTool.isProvided(pUrl)) {
+			prefetchIcons(Collections.singleton(pUrl)).join();
 		}
+	}
+
+	/**
+	 * Downloads the given urls in the background, urls already being downloaded are not requested again.
+	 * The local cache map is written once all of them are done.
+	 *
+	 * @return completes when all icons have been loaded or have failed to load
+	 */
+	public CompletableFuture<Void> prefetchIcons(Collection<String> pUrls) {
+		return prefetcher.prefetch(pUrls).whenComplete((result, throwable) -> flushLocalCacheMap());
+	}
+
+	private void downloadIcon(String pUrl) {
 
 		Weather weather = findPitchWeather(pUrl);
 		AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
@@ -342,6 +410,9 @@ public class IconCache {
 							String contentType = header != null ? header.getValue() : "";
 							BufferedImage icon = ImageIO.read(entity.getContent());
 							EntityUtils.consumeQuietly(entity);
+							if (icon == null) {
+								throw new IOException("Unreadable image " + pUrl);
+							}
 							fIconByKey.put(pUrl, icon);
 							addLocalCacheEntry(pUrl, icon, getFormat(contentType));
 						}
@@ -369,15 +440,18 @@ public class IconCache {
 			return;
 		}
 
-		digest.reset();
-		digest.update(iconUrl.getBytes());
+		String hash;
+		synchronized (digest) {
+			digest.reset();
+			digest.update(iconUrl.getBytes());
+			hash = DatatypeConverter.printHexBinary(digest.digest()) + "." + format;
+		}
 		try {
-			String hash = DatatypeConverter.printHexBinary(digest.digest()) + "." + format;
 			File newFile = new File(localCacheFolder + hash);
 			if (newFile.canWrite() || newFile.createNewFile()) {
 				ImageIO.write(icon, format, newFile);
 				localCacheMap.put(iconUrl, hash);
-				updateMapFile();
+				localCacheMapDirty.set(true);
 			}
 		} catch (IOException e) {
 			getClient().logWithOutGameId(e);
@@ -396,7 +470,13 @@ public class IconCache {
 		return readers.next().getFormatName();
 	}
 
-	private void updateMapFile() {
+	private void flushLocalCacheMap() {
+		if (localCacheMapDirty.getAndSet(false)) {
+			updateMapFile();
+		}
+	}
+
+	private synchronized void updateMapFile() {
 		JsonObject jsonObject = new JsonObject();
 		JSON_OPTION.addTo(jsonObject, localCacheMap);
 		String json = jsonObject.toString();
@@ -716,13 +796,27 @@ public class IconCache {
 
 	public void clear() {
 		scaledIcons.clear();
+		synchronized (atlasByCacheKey) {
+			atlasByCacheKey.clear();
+		}
 	}
 
-	private class BaseImageMap extends HashMap<String, BufferedImage> {
+	public ScaledIconCache getScaledIcons() {
+		return scaledIcons;
+	}
+
+	public IconPrefetcher getPrefetcher() {
+		return prefetcher;
+	}
+
+	private class BaseImageMap extends ConcurrentHashMap<String, BufferedImage> {
 
 		@Override
 		public BufferedImage get(Object key) {
 			String url = (String) key;
+			if (url == null) {
+				return null;
+			}
 
 			BufferedImage image = super.get(url);
 			if (image != null) {
@@ -735,7 +829,9 @@ public class IconCache {
 					return null;
 				}
 				image = ImageIO.read(new File(localCacheFolder + filename));
-				put(url, image);
+				if (image != null) {
+					put(url, image);
+				}
 			} catch (IOException e) {
 				localCacheMap.remove(url);
 				updateMapFile();
@@ -0,0 +1,93 @@
+package com.fumbbl.ffb.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Loads icon urls concurrently on a bounded pool of daemon threads.
+ * <p>
+ * A url that is already being loaded is not loaded a second time, callers asking for it share the pending load.
+ */
+public class IconPrefetcher {
+
+	private final Consumer<String> fLoader;
+	private final ExecutorService fExecutor;
+	private final Map<String, CompletableFuture<Void>> fLoadByUrl;
+	private final AtomicLong fLoads;
+	private final AtomicLong fDeduplicated;
+
+	/**
+	 * @param pLoader loads a single url into the cache, it has to handle its own failures
+	 */
+	public IconPrefetcher(Consumer<String> pLoader, int pNrOfThreads) {
+		fLoader = pLoader;
+		AtomicInteger threadNr = new AtomicInteger();
+		fExecutor = Executors.newFixedThreadPool(Math.max(1, pNrOfThreads), runnable -> {
+			Thread thread = new Thread(runnable, "IconPrefetch-" + threadNr.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		fLoadByUrl = new ConcurrentHashMap<>();
+		fLoads = new AtomicLong();
+		fDeduplicated = new AtomicLong();
+	}
+
+	/**
+	 * @return completes when all given urls have been loaded or have failed to load
+	 */
+	public CompletableFuture<Void> prefetch(Collection<String> pUrls) {
+		List<CompletableFuture<Void>> loads = new ArrayList<>();
+		for (String url : pUrls) {
+			if (url != null) {
+				loads.add(prefetch(url));
+			}
+		}
+		return CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]));
+	}
+
+	public CompletableFuture<Void> prefetch(String pUrl) {
+		CompletableFuture<Void> load = fLoadByUrl.get(pUrl);
+		if (load != null) {
+			fDeduplicated.incrementAndGet();
+			return load;
+		}
+		CompletableFuture<Void> newLoad = new CompletableFuture<>();
+		load = fLoadByUrl.putIfAbsent(pUrl, newLoad);
+		if (load != null) {
+			fDeduplicated.incrementAndGet();
+			return load;
+		}
+		fLoads.incrementAndGet();
+		fExecutor.execute(() -> {
+			try {
+				fLoader.accept(pUrl);
+			} finally {
+				fLoadByUrl.remove(pUrl, newLoad);
+				newLoad.complete(null);
+			}
+		});
+		return newLoad;
+	}
+
+	public int getNrOfPending() {
+		return fLoadByUrl.size();
+	}
+
+	public long getLoads() {
+		return fLoads.get();
+	}
+
+	public long getDeduplicated() {
+		return fDeduplicated.get();
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.fumbbl.ffb.client;
+
+import com.fumbbl.ffb.FactoryManager;
+import com.fumbbl.ffb.FantasyFootballException;
+import com.fumbbl.ffb.factory.IFactorySource;
+import com.fumbbl.ffb.json.UtilJson;
+import com.fumbbl.ffb.model.Game;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.TreeMap;
+
+/**
+ * Gzipped game snapshots taken while the replay is initialized, so seeking only has to apply the commands
+ * after the nearest snapshot instead of all commands from the start.
+ * <p>
+ * Snapshots are taken every <code>interval</code> commands. To bound memory, every second snapshot is
+ * dropped and the interval is doubled whenever the maximum number of snapshots is exceeded.
+ */
+class ReplayKeyframes {
+
+	private static final int INITIAL_INTERVAL = 100;
+	private static final int MAX_KEYFRAMES = 32;
+
+	private final TreeMap<Integer, byte[]> keyframes = new TreeMap<>();
+	private int interval = INITIAL_INTERVAL;
+
+	void clear() {
+		keyframes.clear();
+		interval = INITIAL_INTERVAL;
+	}
+
+	/**
+	 * @param position replay position, i.e. the number of commands applied to the game
+	 */
+	boolean isDue(int position) {
+		if ((position <= 0) || ((position % interval) != 0)) {
+			return false;
+		}
+		return !keyframes.containsKey(position);
+	}
+
+	void add(int position, Game game) {
+		try {
+			keyframes.put(position, UtilJson.gzip(game.toJsonValue()));
+		} catch (IOException pIoException) {
+			throw new FantasyFootballException("Unable to create replay keyframe", pIoException);
+		}
+		if (keyframes.size() > MAX_KEYFRAMES) {
+			interval *= 2;
+			Iterator<Integer> positions = keyframes.keySet().iterator();
+			while (positions.hasNext()) {
+				if ((positions.next() % interval) != 0) {
+					positions.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the position of the latest keyframe not after the given position or -1 if there is none
+	 */
+	int findPosition(int position) {
+		Integer keyframePosition = keyframes.floorKey(position);
+		return (keyframePosition != null) ? keyframePosition : -1;
+	}
+
+	Game restore(int position, IFactorySource factorySource, FactoryManager factoryManager) {
+		byte[] keyframe = keyframes.get(position);
+		if (keyframe == null) {
+			throw new FantasyFootballException("No replay keyframe at position " + position);
+		}
+		try {
+			return new Game(factorySource, factoryManager).initFrom(factorySource, UtilJson.gunzip(keyframe));
+		} catch (IOException pIoException) {
+			throw new FantasyFootballException("Unable to restore replay keyframe", pIoException);
+		}
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.fumbbl.ffb.client;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Scaled icons by key. Once their pixels exceed the given size the least recently used icons are dropped,
+ * they are scaled again from the original when needed.
+ */
+public class ScaledIconCache {
+
+	private final long fMaxBytes;
+	private final LinkedHashMap<String, BufferedImage> fIconByKey;
+	private long fBytes;
+	private long fHits;
+	private long fMisses;
+	private long fEvictions;
+
+	public ScaledIconCache(long pMaxBytes) {
+		fMaxBytes = pMaxBytes;
+		fIconByKey = new LinkedHashMap<>(64, 0.75f, true);
+	}
+
+	public synchronized BufferedImage get(String pKey) {
+		BufferedImage icon = fIconByKey.get(pKey);
+		if (icon != null) {
+			fHits++;
+		} else {
+			fMisses++;
+		}
+		return icon;
+	}
+
+	public synchronized void put(String pKey, BufferedImage pIcon) {
+		BufferedImage replacedIcon = fIconByKey.put(pKey, pIcon);
+		if (replacedIcon != null) {
+			fBytes -= findBytes(replacedIcon);
+		}
+		fBytes += findBytes(pIcon);
+		// the icon just added is kept even if it is larger than the cache
+		Iterator<Map.Entry<String, BufferedImage>> iterator = fIconByKey.entrySet().iterator();
+		while ((fBytes > fMaxBytes) && (fIconByKey.size() > 1)) {
+			fBytes -= findBytes(iterator.next().getValue());
+			iterator.remove();
+			fEvictions++;
+		}
+	}
+
+	public synchronized void clear() {
+		fIconByKey.clear();
+		fBytes = 0;
+	}
+
+	public synchronized int size() {
+		return fIconByKey.size();
+	}
+
+	public synchronized long getBytes() {
+		return fBytes;
+	}
+
+	public synchronized long getHits() {
+		return fHits;
+	}
+
+	public synchronized long getMisses() {
+		return fMisses;
+	}
+
+	public synchronized long getEvictions() {
+		return fEvictions;
+	}
+
+	private static long findBytes(BufferedImage pIcon) {
+		return 4L * pIcon.getWidth() * pIcon.getHeight();
+	}
+
+}
@@ -16,6 +16,7 @@ import com.fumbbl.ffb.client.state.logic.LogicModule;
 import com.fumbbl.ffb.client.ui.ChatComponent;
 import com.fumbbl.ffb.client.ui.menu.GameMenuBar;
 import com.fumbbl.ffb.client.ui.LogComponent;
+import com.fumbbl.ffb.client.ui.RefreshScheduler;
 import com.fumbbl.ffb.client.ui.ScoreBarComponent;
 import com.fumbbl.ffb.client.ui.SideBarComponent;
 import com.fumbbl.ffb.client.util.MarkerService;
@@ -53,6 +54,8 @@ public class UserInterface extends JFrame implements WindowListener, IDialogClos
 	private final DialogManager fDialogManager;
 	private JDesktopPane fDesktop;
 	private GameTitle fGameTitle;
+	private final Timer fTitleTimer;
+	private final RefreshScheduler fRefreshScheduler;
 	private final PlayerIconFactory fPlayerIconFactory;
 	private final MouseEntropySource fMouseEntropySource;
 	private final ClickStrategyRegistry clickStrategyRegistry;
@@ -99,6 +102,14 @@ public class UserInterface extends JFrame implements WindowListener, IDialogClos
 		clickStrategyRegistry = new ClickStrategyRegistry();
 		setGameMenuBar(new GameMenuBar(getClient(), uiDimensionProvider, styleProvider, fontCache, sketchManager, clickStrategyRegistry));
 		setGameTitle(new GameTitle());
+		// running clocks are advanced locally, the server only sends the time when a clock starts or stops
+		fTitleTimer = new Timer(1000, e -> {
+			if ((fGameTitle != null) && fGameTitle.isClockRunning()) {
+				refreshTitle();
+			}
+		});
+		fTitleTimer.start();
+		fRefreshScheduler = new RefreshScheduler(this);
 		fPlayerIconFactory = new PlayerIconFactory();
 		fStatusReport = new StatusReport(getClient());
 		fMouseEntropySource = new MouseEntropySource(this);
@@ -378,6 +389,10 @@ public class UserInterface extends JFrame implements WindowListener, IDialogClos
 		return fStatusReport;
 	}
 
+	public RefreshScheduler getRefreshScheduler() {
+		return fRefreshScheduler;
+	}
+
 	public void invokeAndWait(Runnable pRunnable) {
 		try {
 			if (SwingUtilities.isEventDispatchThread()) {
@@ -7,6 +7,7 @@ import com.fumbbl.ffb.client.FantasyFootballClient;
 import com.fumbbl.ffb.client.GameTitle;
 import com.fumbbl.ffb.client.sound.SoundEngine;
 import com.fumbbl.ffb.client.ui.GameTitleUpdateTask;
+import com.fumbbl.ffb.client.ui.RefreshScheduler;
 import com.fumbbl.ffb.net.NetCommand;
 import com.fumbbl.ffb.net.NetCommandId;
 
@@ -59,35 +60,19 @@ public abstract class ClientCommandHandler {
 	}
 
 	protected void refreshFieldComponent() {
-		getClient().getUserInterface().invokeAndWait(new Runnable() {
-			public void run() {
-				getClient().getUserInterface().getFieldComponent().refresh();
-			}
-		});
+		getClient().getUserInterface().getRefreshScheduler().markDirty(RefreshScheduler.Target.FIELD_COMPONENT);
 	}
 
 	protected void refreshSideBars() {
-		getClient().getUserInterface().invokeAndWait(new Runnable() {
-			public void run() {
-				getClient().getUserInterface().refreshSideBars();
-			}
-		});
+		getClient().getUserInterface().getRefreshScheduler().markDirty(RefreshScheduler.Target.SIDE_BARS);
 	}
 
 	protected void refreshGameMenuBar() {
-		getClient().getUserInterface().invokeAndWait(new Runnable() {
-			public void run() {
-				getClient().getUserInterface().getGameMenuBar().refresh();
-			}
-		});
+		getClient().getUserInterface().getRefreshScheduler().markDirty(RefreshScheduler.Target.GAME_MENU_BAR);
 	}
 
 	protected void updateDialog() {
-		getClient().getUserInterface().invokeAndWait(new Runnable() {
-			public void run() {
-				getClient().getUserInterface().getDialogManager().updateDialog();
-			}
-		});
+		getClient().getUserInterface().getRefreshScheduler().markDirty(RefreshScheduler.Target.DIALOG);
 	}
 
 	protected void updateGameTitle(GameTitle pGameTitle) {
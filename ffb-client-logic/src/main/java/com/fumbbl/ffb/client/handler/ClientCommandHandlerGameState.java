@@ -3,11 +3,10 @@ package com.fumbbl.ffb.client.handler;
 import com.fumbbl.ffb.IIconProperty;
 import com.fumbbl.ffb.Weather;
 import com.fumbbl.ffb.client.FantasyFootballClient;
+import com.fumbbl.ffb.client.FieldComponent;
 import com.fumbbl.ffb.client.IconCache;
 import com.fumbbl.ffb.client.PlayerIconFactory;
 import com.fumbbl.ffb.client.UserInterface;
-import com.fumbbl.ffb.client.dialog.IDialog;
-import com.fumbbl.ffb.client.dialog.IDialogCloseListener;
 import com.fumbbl.ffb.client.util.UtilClientThrowTeamMate;
 import com.fumbbl.ffb.model.Game;
 import com.fumbbl.ffb.model.Player;
@@ -21,20 +20,15 @@ import com.fumbbl.ffb.util.StringTool;
 
 import javax.swing.SwingUtilities;
 import java.lang.reflect.InvocationTargetException;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
  * @author Kalimar
  */
-public class ClientCommandHandlerGameState extends ClientCommandHandler implements IDialogCloseListener {
+public class ClientCommandHandlerGameState extends ClientCommandHandler {
 
 	private final SubHandlerGameStateMarking subHandler;
 
@@ -87,47 +81,27 @@ public class ClientCommandHandlerGameState extends ClientCommandHandler implemen
 			}
 		}
 
-		int nrOfIcons = iconUrlsToDownload.size();
-		if (nrOfIcons > 0) {
+		if (!iconUrlsToDownload.isEmpty()) {
 
-			getClient().getClientState().showIconProgress(this, nrOfIcons);
+			// pitch archives are the largest downloads, so they are started first
+			List<String> sortedUrls = iconUrlsToDownload.stream().sorted(
+				(path1, path2) -> {
+					boolean isZip1 = path1.toLowerCase().endsWith(".zip");
+					boolean isZip2 = path2.toLowerCase().endsWith(".zip");
 
-			// preload all icon urls now
-			final AtomicInteger currentIconNr = new AtomicInteger(0);
+					// If both are zip or both are not zip, sort alphabetically
+					if (isZip1 == isZip2) {
+						return path1.compareToIgnoreCase(path2);
+					}
 
-			List<LoadTask> tasks =
-				iconUrlsToDownload.stream().sorted(
-						(path1, path2) -> {
-							if (path1 == null) {
-								if (path2 == null) {
-									return 0;
-								}
-								return 1;
-							} else if (path2 == null) {
-								return -1;
-							}
+					// If only path1 is zip, it goes first
+					return isZip1 ? -1 : 1;
+				}
+			).collect(Collectors.toList());
 
-							boolean isZip1 = path1.toLowerCase().endsWith(".zip");
-							boolean isZip2 = path2.toLowerCase().endsWith(".zip");
-
-							// If both are zip or both are not zip, sort alphabetically
-							if (isZip1 == isZip2) {
-								return path1.compareToIgnoreCase(path2);
-							}
-
-							// If only path1 is zip, it goes first
-							return isZip1 ? -1 : 1;
-						}
-					).map(url -> new LoadTask(getClient(), iconCache, url, nrOfIcons, currentIconNr))
-					.collect(
-						Collectors.toList());
-
-			AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-				ForkJoinPool.commonPool().invokeAll(tasks);
-				return null;
-			});
-
-			getClient().getClientState().hideIconProgress();
+			// placeholders are drawn until the downloads are done, the icons are redrawn afterwards
+			iconCache.prefetchIcons(sortedUrls)
+				.thenRun(() -> getClient().getUserInterface().invokeLater(this::refreshIcons));
 
 		}
 
@@ -155,8 +129,14 @@ public class ClientCommandHandlerGameState extends ClientCommandHandler implemen
 
 	}
 
-	public void dialogClosed(IDialog pDialog) {
-		getClient().exitClient();
+	private void refreshIcons() {
+		UserInterface userInterface = getClient().getUserInterface();
+		FieldComponent fieldComponent = userInterface.getFieldComponent();
+		fieldComponent.getLayerField().init();
+		fieldComponent.getLayerTeamLogo().init();
+		fieldComponent.getLayerPlayers().init();
+		fieldComponent.refresh();
+		userInterface.refreshSideBars();
 	}
 
 	private void addIconUrl(Set<String> pIconUrls, String pIconUrl) {
@@ -174,30 +154,4 @@ public class ClientCommandHandlerGameState extends ClientCommandHandler implemen
 			addIconUrl(pIconUrls, PlayerIconFactory.getIconSetUrl(position));
 		}
 	}
-
-	private static class LoadTask implements Callable<Boolean> {
-
-		private final FantasyFootballClient client;
-		private final IconCache iconCache;
-		private final String iconUrl;
-		private final int nrOfIcons;
-		private final AtomicInteger counter;
-
-		public LoadTask(FantasyFootballClient client, IconCache iconCache, String iconUrl, int nrOfIcons,
-			AtomicInteger counter) {
-			this.client = client;
-			this.iconCache = iconCache;
-			this.iconUrl = iconUrl;
-			this.nrOfIcons = nrOfIcons;
-			this.counter = counter;
-		}
-
-		@Override
-		public Boolean call() {
-			client.logDebug("download " + iconUrl);
-			iconCache.loadIconFromUrl(iconUrl);
-			client.getClientState().updateIconProgress(counter, nrOfIcons);
-			return true;
-		}
-	}
 }
@@ -23,6 +23,9 @@ public class ClientCommandHandlerGameTime extends ClientCommandHandler {
 		GameTitle gameTitle = new GameTitle();
 		gameTitle.setGameTime(gameTimeCommand.getGameTime());
 		gameTitle.setTurnTime(gameTimeCommand.getTurnTime());
+		gameTitle.setTimeBase(System.currentTimeMillis());
+		gameTitle.setGameTimeRunning(gameTimeCommand.isGameTimeRunning());
+		gameTitle.setTurnTimeRunning(gameTimeCommand.isTurnTimeRunning());
 		updateGameTitle(gameTitle);
 
 		return true;
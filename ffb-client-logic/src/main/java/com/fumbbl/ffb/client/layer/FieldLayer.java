@@ -3,6 +3,7 @@ package com.fumbbl.ffb.client.layer;
 import com.fumbbl.ffb.FieldCoordinate;
 import com.fumbbl.ffb.FieldCoordinateBounds;
 import com.fumbbl.ffb.client.*;
+import com.fumbbl.ffb.client.util.UtilClientGraphics;
 
 import java.awt.AlphaComposite;
 import java.awt.Dimension;
@@ -37,7 +38,7 @@ public abstract class FieldLayer {
 
 	public void initLayout() {
 		size = uiDimensionProvider.dimension(Component.FIELD);
-		fImage = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_ARGB);
+		fImage = UtilClientGraphics.createCompatibleImage(size.width, size.height);
 		addUpdatedArea(new Rectangle(0, 0, fImage.getWidth(), fImage.getHeight()));
 	}
 
@@ -67,14 +68,18 @@ public abstract class FieldLayer {
 			int width = (int) (pImage.getWidth() * pScaleX);
 			int height = (int) (pImage.getHeight() * pScaleY);
 			if ((width > 0) && (height > 0)) {
-				BufferedImage scaledIcon = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-				Graphics2D g2d = scaledIcon.createGraphics();
-				AffineTransform transformation = AffineTransform.getScaleInstance(pScaleX, pScaleY);
-				g2d.drawRenderedImage(pImage, transformation);
-				g2d.dispose();
 				int x = pX - (width / 2);
 				int y = pY - (height / 2);
-				return draw(scaledIcon, x, y, pAlpha);
+				// scaled while drawing, animations call this for every frame
+				Graphics2D g2d = fImage.createGraphics();
+				g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, pAlpha));
+				g2d.clipRect(x, y, width, height);
+				g2d.translate(x, y);
+				g2d.drawRenderedImage(pImage, AffineTransform.getScaleInstance(pScaleX, pScaleY));
+				g2d.dispose();
+				Rectangle updatedArea = new Rectangle(x, y, width, height);
+				addUpdatedArea(updatedArea);
+				return updatedArea;
 			}
 		}
 		return null;
@@ -5,17 +5,17 @@ import com.fumbbl.ffb.CommonProperty;
 import com.fumbbl.ffb.client.FantasyFootballClient;
 import com.fumbbl.ffb.client.GameTitle;
 import com.fumbbl.ffb.client.ui.GameTitleUpdateTask;
-import com.fumbbl.ffb.json.LZString;
+import com.fumbbl.ffb.net.CommandCodec;
 import com.fumbbl.ffb.net.NetCommand;
 import com.fumbbl.ffb.net.NetCommandFactory;
 import com.fumbbl.ffb.net.NetCommandId;
+import com.fumbbl.ffb.net.WireProtocol;
 import com.fumbbl.ffb.net.commands.ServerCommandPong;
 import com.fumbbl.ffb.util.StringTool;
 
 import javax.websocket.*;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -27,7 +27,8 @@ public class CommandEndpoint {
 
 	private final FantasyFootballClient fClient;
 	private final NetCommandFactory fNetCommandFactory;
-	private boolean fCommandCompression;
+	private final CommandCodec fCodec;
+	private volatile WireProtocol fProtocol;
 	private Session fSession;
 
 	private final CountDownLatch fCloseLatch;
@@ -37,10 +38,12 @@ public class CommandEndpoint {
 		fNetCommandFactory = new NetCommandFactory(pClient.getFactorySource());
 		fCloseLatch = new CountDownLatch(1);
 		String commandCompressionProperty = fClient.getProperty(CommonProperty.CLIENT_COMMAND_COMPRESSION);
-		fCommandCompression = false;
+		boolean commandCompression = false;
 		if (StringTool.isProvided(commandCompressionProperty)) {
-			fCommandCompression = Boolean.parseBoolean(commandCompressionProperty);
+			commandCompression = Boolean.parseBoolean(commandCompressionProperty);
 		}
+		fCodec = new CommandCodec(commandCompression);
+		fProtocol = WireProtocol.JSON;
 	}
 
 	@SuppressWarnings("unused")
@@ -52,7 +55,22 @@ public class CommandEndpoint {
 	@SuppressWarnings("unused")
 	@OnMessage
 	public void onBinary(byte[] buf, boolean unused, Session ignored) {
-		this.onMessage(new String(buf, StandardCharsets.UTF_8));
+
+		if ((buf == null) || (buf.length == 0) || !isOpen()) {
+			return;
+		}
+
+		// the server accepted the proposed binary protocol, answer in kind from now on
+		if (CommandCodec.isBinary(buf, 0, buf.length)) {
+			fProtocol = WireProtocol.BINARY;
+		}
+
+		try {
+			handleJsonValue(fCodec.decode(buf, 0, buf.length));
+		} catch (IOException pIoException) {
+			fClient.logWithOutGameId(pIoException);
+		}
+
 	}
 
 	@OnMessage
@@ -62,9 +80,11 @@ public class CommandEndpoint {
 			return;
 		}
 
-		@SuppressWarnings("deprecation") JsonValue jsonValue = JsonValue
-			.readFrom(fCommandCompression ? LZString.decompressFromUTF16(pTextMessage) : pTextMessage);
+		handleJsonValue(fCodec.decode(pTextMessage));
 
+	}
+
+	private void handleJsonValue(JsonValue jsonValue) {
 		synchronized (this) {
 			if (fClient.getGame().getRules().isInitialized()) {
 				handleNetCommand(fNetCommandFactory.forJsonValue(fClient.getGame().getRules(), jsonValue));
@@ -111,21 +131,13 @@ public class CommandEndpoint {
 		}
 
 		JsonValue jsonValue = pCommand.toJsonValue();
-		if (jsonValue == null) {
-			return;
-		}
-
-		String textMessage = jsonValue.toString();
-		if (fCommandCompression) {
-			textMessage = LZString.compressToUTF16(textMessage);
-		}
-
-		if (!StringTool.isProvided(textMessage)) {
+		byte[] message = fCodec.encode(jsonValue, fProtocol);
+		if (message == null) {
 			return;
 		}
 
 		fSession.getAsyncRemote().sendBinary(
-			ByteBuffer.wrap(textMessage.getBytes(StandardCharsets.UTF_8)),
+			ByteBuffer.wrap(message),
 			new FfbSendHandler(fClient, jsonValue.toString())
 		);
 
@@ -4,13 +4,10 @@ import com.fumbbl.ffb.ClientStateId;
 import com.fumbbl.ffb.FieldCoordinate;
 import com.fumbbl.ffb.client.ActionKey;
 import com.fumbbl.ffb.client.FantasyFootballClient;
-import com.fumbbl.ffb.client.dialog.DialogProgressBar;
-import com.fumbbl.ffb.client.dialog.IDialogCloseListener;
 import com.fumbbl.ffb.client.state.logic.LogicModule;
 import com.fumbbl.ffb.net.NetCommand;
 
 import java.awt.event.MouseEvent;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class ClientState<T extends LogicModule, C extends FantasyFootballClient> {
 
@@ -18,7 +15,6 @@ public abstract class ClientState<T extends LogicModule, C extends FantasyFootba
 	protected final T logicModule;
 
 	protected FieldCoordinate fSelectSquareCoordinate;
-	private DialogProgressBar dialogProgress;
 
 	public ClientState(C pClient, T logicModule) {
 		fClient = pClient;
@@ -41,9 +37,6 @@ public abstract class ClientState<T extends LogicModule, C extends FantasyFootba
 	public void tearDown() {}
 
 	public void reinitializeLocalState() {
-		if (dialogProgress != null) {
-			dialogProgress.showDialog(dialogProgress.getCloseListener());
-		}
 	}
 
 	public final ClientStateId getId() {
@@ -129,20 +122,5 @@ public abstract class ClientState<T extends LogicModule, C extends FantasyFootba
 	public boolean isDropAllowed(FieldCoordinate dragEndPosition) {
 		return true;
 	}
-
-	public void showIconProgress(IDialogCloseListener listener, int total) {
-		dialogProgress = new DialogProgressBar(getClient(), "Loading icons", 0, total);
-		dialogProgress.showDialog(listener);
-	}
-
-	public synchronized void updateIconProgress(AtomicInteger count, int total) {
-		String message = String.format("Loaded icon %d of %d.", count.incrementAndGet(), total);
-		dialogProgress.updateProgress(count.get(), message);
-	}
-
-	public void hideIconProgress() {
-		dialogProgress.hideDialog();
-		dialogProgress = null;
-	}
 }
 
@@ -0,0 +1,88 @@
+package com.fumbbl.ffb.client.ui;
+
+import com.fumbbl.ffb.client.UserInterface;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Collects refresh requests for the main components and carries them out together on the event dispatch thread.
+ * <p>
+ * Marking a component never blocks the caller. At most one flush is pending at a time, so requests arriving while
+ * the event dispatch thread is busy are combined into a single refresh per component.
+ */
+public class RefreshScheduler {
+
+	public enum Target {
+		// in the order they are refreshed
+		FIELD_COMPONENT, DIALOG, SIDE_BARS, GAME_MENU_BAR
+	}
+
+	private final UserInterface fUserInterface;
+	private final Set<Target> fDirtyTargets;
+	private boolean fFlushPending;
+	private long fMarks;
+	private long fFlushes;
+
+	public RefreshScheduler(UserInterface pUserInterface) {
+		fUserInterface = pUserInterface;
+		fDirtyTargets = EnumSet.noneOf(Target.class);
+	}
+
+	public void markDirty(Target pTarget) {
+		boolean scheduleFlush;
+		synchronized (this) {
+			fMarks++;
+			fDirtyTargets.add(pTarget);
+			scheduleFlush = !fFlushPending;
+			fFlushPending = true;
+		}
+		if (scheduleFlush) {
+			fUserInterface.invokeLater(this::flush);
+		}
+	}
+
+	/**
+	 * Refreshes all components marked so far, has to be called on the event dispatch thread.
+	 */
+	public void flush() {
+		Set<Target> dirtyTargets;
+		synchronized (this) {
+			dirtyTargets = EnumSet.copyOf(fDirtyTargets);
+			fDirtyTargets.clear();
+			fFlushPending = false;
+			fFlushes++;
+		}
+		for (Target target : dirtyTargets) {
+			refresh(target);
+		}
+	}
+
+	private void refresh(Target pTarget) {
+		switch (pTarget) {
+			case FIELD_COMPONENT:
+				fUserInterface.getFieldComponent().refresh();
+				break;
+			case DIALOG:
+				fUserInterface.getDialogManager().updateDialog();
+				break;
+			case SIDE_BARS:
+				fUserInterface.refreshSideBars();
+				break;
+			case GAME_MENU_BAR:
+				fUserInterface.getGameMenuBar().refresh();
+				break;
+			default:
+				break;
+		}
+	}
+
+	public synchronized long getMarks() {
+		return fMarks;
+	}
+
+	public synchronized long getFlushes() {
+		return fFlushes;
+	}
+
+}
@@ -4,7 +4,10 @@ import com.fumbbl.ffb.client.StyleProvider;
 
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
 /**
  * @author Kalimar
@@ -24,4 +27,16 @@ public class UtilClientGraphics {
 		return ((pWidth - (int) bounds.getWidth()) / 2);
 	}
 
+	/**
+	 * Creates a translucent image in the format of the screen, so drawing it needs no conversion and it can be kept
+	 * in video memory.
+	 */
+	public static BufferedImage createCompatibleImage(int pWidth, int pHeight) {
+		if (GraphicsEnvironment.isHeadless()) {
+			return new BufferedImage(pWidth, pHeight, BufferedImage.TYPE_INT_ARGB);
+		}
+		return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+			.createCompatibleImage(pWidth, pHeight, Transparency.TRANSLUCENT);
+	}
+
 }
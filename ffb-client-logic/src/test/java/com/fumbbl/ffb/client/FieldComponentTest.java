@@ -0,0 +1,82 @@
+package com.fumbbl.ffb.client;
+
+import com.fumbbl.ffb.client.overlay.sketch.ClientSketchManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs headless, compatible images fall back to plain ARGB images there.
+ */
+class FieldComponentTest {
+
+	private static final int RED = Color.RED.getRGB();
+	private static final int BLUE = Color.BLUE.getRGB();
+	private static final int NONE = 0;
+
+	private FieldComponent fieldComponent;
+
+	@BeforeEach
+	public void setUp() {
+		UiDimensionProvider uiDimensionProvider = mock(UiDimensionProvider.class);
+		when(uiDimensionProvider.dimension(Component.FIELD)).thenReturn(new Dimension(100, 60));
+		fieldComponent = new FieldComponent(mock(FantasyFootballClient.class), uiDimensionProvider,
+			mock(PitchDimensionProvider.class), mock(FontCache.class), mock(ClientSketchManager.class),
+			mock(StyleProvider.class));
+		fieldComponent.initLayout();
+		fieldComponent.refresh();
+	}
+
+	@Test
+	public void backgroundChangeIsRedrawnOnlyInsideItsArea() {
+		fieldComponent.getLayerBloodspots().draw(filled(10, 10, RED), 20, 20, 1.0f);
+		// changed without reporting it, so it must not show up
+		fieldComponent.getLayerBloodspots().getImage().setRGB(70, 40, BLUE);
+
+		fieldComponent.refresh();
+
+		BufferedImage image = fieldComponent.getImage();
+		assertEquals(RED, image.getRGB(20, 20));
+		assertEquals(RED, image.getRGB(29, 29));
+		assertEquals(NONE, image.getRGB(30, 30));
+		assertEquals(NONE, image.getRGB(70, 40));
+	}
+
+	@Test
+	public void playersChangeKeepsTheCachedBackground() {
+		// changed without reporting it, a recomposed background would show it
+		fieldComponent.getLayerField().getImage().setRGB(50, 30, BLUE);
+
+		fieldComponent.getLayerPlayers().draw(filled(20, 20, NONE), 45, 25, 1.0f);
+		fieldComponent.getLayerPlayers().draw(filled(4, 4, RED), 60, 40, 1.0f);
+		fieldComponent.refresh();
+
+		BufferedImage image = fieldComponent.getImage();
+		assertEquals(NONE, image.getRGB(50, 30));
+		assertEquals(RED, image.getRGB(61, 41));
+
+		// once the background itself reports the change, it is taken over
+		fieldComponent.getLayerBloodspots().draw(filled(1, 1, NONE), 50, 30, 1.0f);
+		fieldComponent.refresh();
+
+		assertEquals(BLUE, fieldComponent.getImage().getRGB(50, 30));
+	}
+
+	private static BufferedImage filled(int width, int height, int argb) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = image.createGraphics();
+		g2d.setColor(new Color(argb, true));
+		g2d.fillRect(0, 0, width, height);
+		g2d.dispose();
+		return image;
+	}
+
+}
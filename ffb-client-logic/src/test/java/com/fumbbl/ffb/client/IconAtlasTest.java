@@ -0,0 +1,57 @@
+package com.fumbbl.ffb.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class IconAtlasTest {
+
+	private final IconAtlas atlas = new IconAtlas();
+
+	@Test
+	public void iconsShareOnePage() {
+		BufferedImage first = atlas.add("first", icon(40, 0xFFFF0000));
+		BufferedImage second = atlas.add("second", icon(40, 0xFF00FF00));
+
+		assertEquals(1, atlas.getNrOfPages());
+		assertEquals(40, first.getWidth());
+		assertEquals(0xFFFF0000, first.getRGB(39, 39));
+		assertEquals(0xFF00FF00, second.getRGB(0, 0));
+		assertSame(second, atlas.get("second"));
+	}
+
+	@Test
+	public void fullPageStartsAnotherOne() {
+		int iconsPerRow = IconAtlas.PAGE_SIZE / 101;
+		for (int i = 0; i < iconsPerRow * iconsPerRow; i++) {
+			atlas.add("icon" + i, icon(100, 0xFF0000FF));
+		}
+		assertEquals(1, atlas.getNrOfPages());
+
+		atlas.add("next", icon(100, 0xFF0000FF));
+
+		assertEquals(2, atlas.getNrOfPages());
+		assertEquals(iconsPerRow * iconsPerRow + 1, atlas.size());
+	}
+
+	@Test
+	public void iconsLargerThanPageAreNotPacked() {
+		assertNull(atlas.add("large", icon(IconAtlas.PAGE_SIZE + 1, 0)));
+		assertEquals(0, atlas.getNrOfPages());
+	}
+
+	private BufferedImage icon(int size, int argb) {
+		BufferedImage icon = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				icon.setRGB(x, y, argb);
+			}
+		}
+		return icon;
+	}
+
+}
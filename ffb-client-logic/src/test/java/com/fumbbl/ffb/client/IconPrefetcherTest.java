@@ -0,0 +1,150 @@
+package com.fumbbl.ffb.client;
+
+import com.fumbbl.ffb.CommonProperty;
+import com.fumbbl.ffb.IClientPropertyValue;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class IconPrefetcherTest {
+
+	@Mock
+	private FantasyFootballClient client;
+
+	private HttpServer server;
+	private byte[] png;
+	private final AtomicInteger requests = new AtomicInteger();
+	private final AtomicInteger running = new AtomicInteger();
+	private final AtomicInteger maxRunning = new AtomicInteger();
+	private volatile CountDownLatch release = new CountDownLatch(0);
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(4, 3, BufferedImage.TYPE_INT_ARGB), "png", out);
+		png = out.toByteArray();
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", this::serve);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	public void pendingUrlIsFetchedOnce() {
+		release = new CountDownLatch(1);
+		IconPrefetcher prefetcher = new IconPrefetcher(this::fetch, 3);
+		String url = url("/portrait.png");
+
+		CompletableFuture<Void> first = prefetcher.prefetch(url);
+		CompletableFuture<Void> second = prefetcher.prefetch(Arrays.asList(url, url));
+		assertEquals(1, prefetcher.getNrOfPending());
+
+		release.countDown();
+		first.join();
+		second.join();
+
+		assertEquals(1, requests.get());
+		assertEquals(1, prefetcher.getLoads());
+		assertEquals(2, prefetcher.getDeduplicated());
+		assertEquals(0, prefetcher.getNrOfPending());
+	}
+
+	@Test
+	public void fetchesAreBoundedByThePool() {
+		IconPrefetcher prefetcher = new IconPrefetcher(this::fetch, 2);
+		List<String> urls = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			urls.add(url("/icon" + i + ".png"));
+		}
+
+		prefetcher.prefetch(urls).join();
+
+		assertEquals(8, requests.get());
+		assertTrue(maxRunning.get() <= 2);
+	}
+
+	@Test
+	public void iconCacheHoldsPrefetchedIcons() {
+		given(client.getProperty(CommonProperty.SETTING_LOCAL_ICON_CACHE))
+			.willReturn(IClientPropertyValue.SETTING_LOCAL_ICON_CACHE_OFF);
+		given(client.getProperty(CommonProperty.HTTPCLIENT_TIMEOUT_CONNECT)).willReturn("5000");
+		given(client.getProperty(CommonProperty.HTTPCLIENT_TIMEOUT_SOCKET)).willReturn("5000");
+		IconCache iconCache = new IconCache(client);
+		String url = url("/logo.png");
+
+		iconCache.prefetchIcons(Arrays.asList(url, url)).join();
+
+		BufferedImage icon = iconCache.getUnscaledIconByUrl(url);
+		assertNotNull(icon);
+		assertEquals(4, icon.getWidth());
+		assertEquals(1, requests.get());
+	}
+
+	private String url(String pPath) {
+		return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + pPath;
+	}
+
+	private void fetch(String pUrl) {
+		try (InputStream in = new URL(pUrl).openStream()) {
+			while (in.read() >= 0) {
+				// drain
+			}
+		} catch (IOException pIoException) {
+			throw new UncheckedIOException(pIoException);
+		}
+	}
+
+	private void serve(HttpExchange pExchange) throws IOException {
+		requests.incrementAndGet();
+		maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+		try {
+			release.await(5, TimeUnit.SECONDS);
+			Thread.sleep(20);
+		} catch (InterruptedException pInterruptedException) {
+			Thread.currentThread().interrupt();
+		} finally {
+			running.decrementAndGet();
+		}
+		pExchange.getResponseHeaders().add("Content-Type", "image/png");
+		pExchange.sendResponseHeaders(200, png.length);
+		try (OutputStream out = pExchange.getResponseBody()) {
+			out.write(png);
+		}
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.fumbbl.ffb.client;
+
+import com.eclipsesource.json.JsonObject;
+import com.fumbbl.ffb.FactoryManager;
+import com.fumbbl.ffb.FactoryType.Factory;
+import com.fumbbl.ffb.FactoryType.FactoryContext;
+import com.fumbbl.ffb.FantasyFootballException;
+import com.fumbbl.ffb.RulesCollection;
+import com.fumbbl.ffb.factory.IFactorySource;
+import com.fumbbl.ffb.factory.INamedObjectFactory;
+import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.option.GameOptionId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplayKeyframesTest {
+
+	private ReplayKeyframes keyframes;
+	private Game game;
+
+	@BeforeEach
+	public void setUp() {
+		keyframes = new ReplayKeyframes();
+		game = mock(Game.class);
+		when(game.toJsonValue()).thenReturn(new JsonObject());
+	}
+
+	@Test
+	public void keyframesAreDueEveryHundredCommands() {
+		assertFalse(keyframes.isDue(0));
+		assertFalse(keyframes.isDue(1));
+		assertFalse(keyframes.isDue(99));
+		assertTrue(keyframes.isDue(100));
+
+		keyframes.add(100, game);
+
+		assertFalse(keyframes.isDue(100));
+		assertTrue(keyframes.isDue(200));
+	}
+
+	@Test
+	public void seekUsesTheNearestEarlierKeyframe() {
+		initialize(1000);
+
+		assertEquals(900, keyframes.findPosition(999));
+		assertEquals(500, keyframes.findPosition(550));
+		assertEquals(100, keyframes.findPosition(100));
+	}
+
+	@Test
+	public void seekBeforeTheFirstKeyframeStartsFromTheFirstCommand() {
+		initialize(1000);
+
+		assertEquals(-1, keyframes.findPosition(0));
+		assertEquals(-1, keyframes.findPosition(99));
+	}
+
+	@Test
+	public void seekToTheLastCommandUsesTheLastKeyframe() {
+		initialize(1050);
+
+		// the replayer looks up the keyframe before the last command to apply
+		assertEquals(1000, keyframes.findPosition(1049));
+		assertEquals(1000, keyframes.findPosition(Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void intervalDoublesWhenThereAreTooManyKeyframes() {
+		initialize(3300);
+
+		assertEquals(3200, keyframes.findPosition(3299));
+		assertEquals(3000, keyframes.findPosition(3199));
+		assertEquals(200, keyframes.findPosition(399));
+		assertEquals(-1, keyframes.findPosition(199));
+		assertFalse(keyframes.isDue(3300));
+		assertTrue(keyframes.isDue(3400));
+	}
+
+	@Test
+	public void clearDropsAllKeyframes() {
+		initialize(3300);
+
+		keyframes.clear();
+
+		assertEquals(-1, keyframes.findPosition(3299));
+		assertTrue(keyframes.isDue(100));
+	}
+
+	@Test
+	public void restoredGameMatchesTheSnapshot() {
+		FactoryManager factoryManager = new FactoryManager();
+		IFactorySource factorySource = applicationSource(factoryManager);
+		Game snapshot = new Game(factorySource, factoryManager);
+		snapshot.getOptions().addOption(snapshot.getOptions().getFactory().createGameOption(GameOptionId.RULESVERSION)
+			.setValue(RulesCollection.Rules.BB2020.name()));
+		snapshot.initializeRules();
+		snapshot.setId(1042L);
+		keyframes.add(100, snapshot);
+
+		Game restored = keyframes.restore(100, factorySource, factoryManager);
+
+		assertEquals(1042L, restored.getId());
+		assertEquals(snapshot.toJsonValue(), restored.toJsonValue());
+	}
+
+	@Test
+	public void restoringAMissingKeyframeFails() {
+		keyframes.add(100, game);
+
+		assertThrows(FantasyFootballException.class, () -> keyframes.restore(150, mock(IFactorySource.class),
+			new FactoryManager()));
+	}
+
+	/**
+	 * Stands in for the client, which is the application factory source of a replay.
+	 */
+	@SuppressWarnings("rawtypes")
+	private IFactorySource applicationSource(FactoryManager factoryManager) {
+		IFactorySource factorySource = mock(IFactorySource.class);
+		Map<Factory, INamedObjectFactory> factories = factoryManager.getFactoriesForContext(FactoryContext.APPLICATION,
+			factorySource);
+		when(factorySource.getContext()).thenReturn(FactoryContext.APPLICATION);
+		when(factorySource.getFactoryManager()).thenReturn(factoryManager);
+		when(factorySource.forContext(FactoryContext.APPLICATION)).thenReturn(factorySource);
+		when(factorySource.getFactory(any())).thenAnswer(invocation -> factories.get(invocation.<Factory>getArgument(0)));
+		return factorySource;
+	}
+
+	/**
+	 * Adds keyframes the way the replayer does while it initializes a replay of the given number of commands.
+	 */
+	private void initialize(int commands) {
+		for (int i = 0; i < commands; i++) {
+			if (keyframes.isDue(i + 1)) {
+				keyframes.add(i + 1, game);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.fumbbl.ffb.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ScaledIconCacheTest {
+
+	// room for two icons of 10x10 pixels
+	private final ScaledIconCache cache = new ScaledIconCache(800);
+
+	@Test
+	public void leastRecentlyUsedIconIsEvicted() {
+		cache.put("a", icon(10));
+		cache.put("b", icon(10));
+		assertNotNull(cache.get("a"));
+
+		cache.put("c", icon(10));
+
+		assertNotNull(cache.get("a"));
+		assertNull(cache.get("b"));
+		assertNotNull(cache.get("c"));
+		assertEquals(1, cache.getEvictions());
+		assertEquals(800, cache.getBytes());
+		assertEquals(3, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void iconLargerThanCacheIsKeptAlone() {
+		cache.put("a", icon(10));
+		cache.put("large", icon(20));
+
+		assertEquals(1, cache.size());
+		assertNotNull(cache.get("large"));
+		assertEquals(1600, cache.getBytes());
+	}
+
+	@Test
+	public void replacedIconIsNotCountedTwice() {
+		cache.put("a", icon(10));
+		cache.put("a", icon(10));
+
+		assertEquals(400, cache.getBytes());
+		assertEquals(0, cache.getEvictions());
+	}
+
+	private BufferedImage icon(int size) {
+		return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+	}
+
+}
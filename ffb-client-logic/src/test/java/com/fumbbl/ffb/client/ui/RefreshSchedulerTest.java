@@ -0,0 +1,97 @@
+package com.fumbbl.ffb.client.ui;
+
+import com.fumbbl.ffb.client.FieldComponent;
+import com.fumbbl.ffb.client.UserInterface;
+import com.fumbbl.ffb.client.dialog.DialogManager;
+import com.fumbbl.ffb.client.ui.menu.GameMenuBar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshSchedulerTest {
+
+	@Mock
+	private UserInterface userInterface;
+
+	@Mock
+	private FieldComponent fieldComponent;
+
+	@Mock
+	private DialogManager dialogManager;
+
+	@Mock
+	private GameMenuBar gameMenuBar;
+
+	private RefreshScheduler scheduler;
+
+	@BeforeEach
+	public void setUp() {
+		scheduler = new RefreshScheduler(userInterface);
+	}
+
+	@Test
+	public void marksAreCombinedIntoOneFlush() {
+		given(userInterface.getFieldComponent()).willReturn(fieldComponent);
+
+		scheduler.markDirty(RefreshScheduler.Target.FIELD_COMPONENT);
+		scheduler.markDirty(RefreshScheduler.Target.SIDE_BARS);
+		scheduler.markDirty(RefreshScheduler.Target.FIELD_COMPONENT);
+
+		ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+		verify(userInterface, times(1)).invokeLater(flush.capture());
+		verify(fieldComponent, never()).refresh();
+
+		flush.getValue().run();
+
+		verify(fieldComponent, times(1)).refresh();
+		verify(userInterface, times(1)).refreshSideBars();
+		verify(userInterface, never()).getGameMenuBar();
+		assertEquals(3, scheduler.getMarks());
+		assertEquals(1, scheduler.getFlushes());
+	}
+
+	@Test
+	public void markAfterFlushSchedulesAnotherOne() {
+		given(userInterface.getGameMenuBar()).willReturn(gameMenuBar);
+
+		scheduler.markDirty(RefreshScheduler.Target.GAME_MENU_BAR);
+		scheduler.flush();
+		scheduler.markDirty(RefreshScheduler.Target.GAME_MENU_BAR);
+
+		verify(userInterface, times(2)).invokeLater(any(Runnable.class));
+		verify(gameMenuBar, times(1)).refresh();
+	}
+
+	@Test
+	public void targetsAreRefreshedInOrder() {
+		given(userInterface.getFieldComponent()).willReturn(fieldComponent);
+		given(userInterface.getDialogManager()).willReturn(dialogManager);
+		given(userInterface.getGameMenuBar()).willReturn(gameMenuBar);
+
+		scheduler.markDirty(RefreshScheduler.Target.GAME_MENU_BAR);
+		scheduler.markDirty(RefreshScheduler.Target.SIDE_BARS);
+		scheduler.markDirty(RefreshScheduler.Target.DIALOG);
+		scheduler.markDirty(RefreshScheduler.Target.FIELD_COMPONENT);
+		scheduler.flush();
+
+		InOrder inOrder = inOrder(fieldComponent, dialogManager, userInterface, gameMenuBar);
+		inOrder.verify(fieldComponent).refresh();
+		inOrder.verify(dialogManager).updateDialog();
+		inOrder.verify(userInterface).refreshSideBars();
+		inOrder.verify(gameMenuBar).refresh();
+	}
+
+}
@@ -5,16 +5,26 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fumbbl.ffb.FactoryType.Factory;
 import com.fumbbl.ffb.FactoryType.FactoryContext;
+import com.fumbbl.ffb.factory.GameOptionFactory;
 import com.fumbbl.ffb.factory.ILoggingFacade;
 import com.fumbbl.ffb.factory.INamedObjectFactory;
+import com.fumbbl.ffb.factory.RulesRuntime;
+import com.fumbbl.ffb.model.Game;
 import com.fumbbl.ffb.model.GameOptions;
+import com.fumbbl.ffb.option.IGameOption;
 import com.fumbbl.ffb.util.Scanner;
 
 @SuppressWarnings("rawtypes")
 public class FactoryManager {
+
+	private final Map<String, RulesRuntime> runtimes = new ConcurrentHashMap<>();
+	private final GameOptionFactory gameOptionFactory = new GameOptionFactory();
+
 	public FactoryManager() {
 
 	}
@@ -62,4 +72,52 @@ public class FactoryManager {
 
 		return factories;
 	}
+
+	/**
+	 * Returns the runtime for the rules version and options of the given game, creating and initializing its shared
+	 * factories with that game if no other game with the same options has been initialized before.
+	 */
+	public RulesRuntime getRuntime(FactoryContext context, Game game) {
+		String key = context.name() + ":" + createOptionsKey(game.getOptions());
+		return runtimes.computeIfAbsent(key, k -> createRuntime(k, context, game));
+	}
+
+	public int getNumberOfRuntimes() {
+		return runtimes.size();
+	}
+
+	@SuppressWarnings("unchecked")
+	private RulesRuntime createRuntime(String key, FactoryContext context, Game game) {
+		Map<Factory, INamedObjectFactory<?>> sharedFactories = new HashMap<>();
+		Map<Factory, Constructor<? extends INamedObjectFactory<?>>> gameBoundFactories = new HashMap<>();
+		for (Map.Entry<Factory, INamedObjectFactory<?>> entry : getFactoriesForContext(context, game.getOptions()).entrySet()) {
+			INamedObjectFactory<?> factory = entry.getValue();
+			if (factory.isGameBound()) {
+				try {
+					gameBoundFactories.put(entry.getKey(), (Constructor<? extends INamedObjectFactory<?>>) factory.getClass().getConstructor());
+				} catch (NoSuchMethodException e) {
+					throw new FantasyFootballException("Game bound factory " + factory.getClass().getName() + " needs a default constructor", e);
+				}
+			} else {
+				factory.initialize(game);
+				sharedFactories.put(entry.getKey(), factory);
+			}
+		}
+		return new RulesRuntime(key, sharedFactories, gameBoundFactories);
+	}
+
+	/**
+	 * Key of the rules version and all options deviating from their defaults, independent of the order they were added in.
+	 */
+	String createOptionsKey(GameOptions gameOptions) {
+		Map<String, String> values = new TreeMap<>();
+		for (IGameOption option : gameOptions.getOptions()) {
+			IGameOption defaultOption = gameOptionFactory.createGameOption(option.getId());
+			String value = option.getValueAsString();
+			if ((defaultOption == null) || !String.valueOf(value).equals(defaultOption.getValueAsString())) {
+				values.put(option.getId().getName(), value);
+			}
+		}
+		return gameOptions.getRulesVersion().name() + values;
+	}
 }
@@ -32,8 +32,31 @@ public class FieldCoordinate implements IJsonSerializable {
 	public static final int BAN_AWAY_X = 35;
 	public static final int MNG_AWAY_X = 36;
 
-	public static final FieldCoordinate SWEET_SPOT_AWAY = new FieldCoordinate(19, 7);
-	public static final FieldCoordinate SWEET_SPOT_HOME = new FieldCoordinate(6, 7);
+	// number of squares per box column with a shared instance
+	private static final int BOX_SQUARES = 32;
+	private static final int[] BOX_COLUMNS = {
+		RSV_HOME_X, KO_HOME_X, BH_HOME_X, SI_HOME_X, RIP_HOME_X, BAN_HOME_X, MNG_HOME_X,
+		RSV_AWAY_X, KO_AWAY_X, BH_AWAY_X, SI_AWAY_X, RIP_AWAY_X, BAN_AWAY_X, MNG_AWAY_X
+	};
+
+	private static final FieldCoordinate[] FIELD_SQUARES = new FieldCoordinate[FIELD_WIDTH * FIELD_HEIGHT];
+	private static final FieldCoordinate[][] BOX_SQUARES_BY_COLUMN = new FieldCoordinate[BOX_COLUMNS.length][BOX_SQUARES];
+
+	static {
+		for (int x = 0; x < FIELD_WIDTH; x++) {
+			for (int y = 0; y < FIELD_HEIGHT; y++) {
+				FIELD_SQUARES[x * FIELD_HEIGHT + y] = new FieldCoordinate(x, y);
+			}
+		}
+		for (int column = 0; column < BOX_COLUMNS.length; column++) {
+			for (int y = 0; y < BOX_SQUARES; y++) {
+				BOX_SQUARES_BY_COLUMN[column][y] = new FieldCoordinate(BOX_COLUMNS[column], y);
+			}
+		}
+	}
+
+	public static final FieldCoordinate SWEET_SPOT_AWAY = of(19, 7);
+	public static final FieldCoordinate SWEET_SPOT_HOME = of(6, 7);
 
 	private int fX;
 	private int fY;
@@ -47,6 +70,25 @@ public class FieldCoordinate implements IJsonSerializable {
 		this(0, 0);
 	}
 
+	/**
+	 * Returns a shared instance for squares on the pitch and in the boxes, a new coordinate otherwise.
+	 * Shared instances must not be modified (e.g. by initFrom).
+	 */
+	public static FieldCoordinate of(int pX, int pY) {
+		if ((pX >= 0) && (pX < FIELD_WIDTH)) {
+			if ((pY >= 0) && (pY < FIELD_HEIGHT)) {
+				return FIELD_SQUARES[pX * FIELD_HEIGHT + pY];
+			}
+		} else if ((pY >= 0) && (pY < BOX_SQUARES)) {
+			for (int column = 0; column < BOX_COLUMNS.length; column++) {
+				if (BOX_COLUMNS[column] == pX) {
+					return BOX_SQUARES_BY_COLUMN[column][pY];
+				}
+			}
+		}
+		return new FieldCoordinate(pX, pY);
+	}
+
 	public int getX() {
 		return fX;
 	}
@@ -74,7 +116,7 @@ public class FieldCoordinate implements IJsonSerializable {
 	}
 
 	public FieldCoordinate add(int pDeltaX, int pDeltaY) {
-		return new FieldCoordinate(getX() + pDeltaX, getY() + pDeltaY);
+		return of(getX() + pDeltaX, getY() + pDeltaY);
 	}
 
 	public int distanceInSteps(FieldCoordinate pOtherCoordinate) {
@@ -92,35 +134,35 @@ public class FieldCoordinate implements IJsonSerializable {
 	public FieldCoordinate transform() {
 		switch (getX()) {
 		case RSV_HOME_X:
-			return new FieldCoordinate(RSV_AWAY_X, getY());
+			return of(RSV_AWAY_X, getY());
 		case KO_HOME_X:
-			return new FieldCoordinate(KO_AWAY_X, getY());
+			return of(KO_AWAY_X, getY());
 		case BH_HOME_X:
-			return new FieldCoordinate(BH_AWAY_X, getY());
+			return of(BH_AWAY_X, getY());
 		case SI_HOME_X:
-			return new FieldCoordinate(SI_AWAY_X, getY());
+			return of(SI_AWAY_X, getY());
 		case RIP_HOME_X:
-			return new FieldCoordinate(RIP_AWAY_X, getY());
+			return of(RIP_AWAY_X, getY());
 		case BAN_HOME_X:
-			return new FieldCoordinate(BAN_AWAY_X, getY());
+			return of(BAN_AWAY_X, getY());
 		case MNG_HOME_X:
-			return new FieldCoordinate(MNG_AWAY_X, getY());
+			return of(MNG_AWAY_X, getY());
 		case RSV_AWAY_X:
-			return new FieldCoordinate(RSV_HOME_X, getY());
+			return of(RSV_HOME_X, getY());
 		case KO_AWAY_X:
-			return new FieldCoordinate(KO_HOME_X, getY());
+			return of(KO_HOME_X, getY());
 		case BH_AWAY_X:
-			return new FieldCoordinate(BH_HOME_X, getY());
+			return of(BH_HOME_X, getY());
 		case SI_AWAY_X:
-			return new FieldCoordinate(SI_HOME_X, getY());
+			return of(SI_HOME_X, getY());
 		case RIP_AWAY_X:
-			return new FieldCoordinate(RIP_HOME_X, getY());
+			return of(RIP_HOME_X, getY());
 		case BAN_AWAY_X:
-			return new FieldCoordinate(BAN_HOME_X, getY());
+			return of(BAN_HOME_X, getY());
 		case MNG_AWAY_X:
-			return new FieldCoordinate(MNG_HOME_X, getY());
+			return of(MNG_HOME_X, getY());
 		default:
-			return new FieldCoordinate(FIELD_WIDTH - 1 - getX(), getY());
+			return of(FIELD_WIDTH - 1 - getX(), getY());
 		}
 	}
 
@@ -215,8 +257,6 @@ public class FieldCoordinate implements IJsonSerializable {
 	}
 
 	public FieldCoordinate move(Direction d, int distance) {
-		FieldCoordinate result = new FieldCoordinate(this.fX, this.fY);
-
 		int dy = 0;
 		int dx = 0;
 
@@ -251,12 +291,8 @@ public class FieldCoordinate implements IJsonSerializable {
 			break;
 		}
 
-		for (int i = 0; i < distance; i++) {
-			result.fX += dx;
-			result.fY += dy;
-		}
-
-		return result;
+		int steps = Math.max(distance, 0);
+		return of(fX + steps * dx, fY + steps * dy);
 	}
 
 	@Override
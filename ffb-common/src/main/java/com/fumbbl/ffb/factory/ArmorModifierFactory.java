@@ -18,6 +18,7 @@ import com.fumbbl.ffb.util.UtilCards;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -94,10 +95,17 @@ public class ArmorModifierFactory implements INamedObjectFactory<ArmorModifier>
 	@Override
 	public void initialize(Game game) {
 		modifierAggregator = game.getModifierAggregator();
-		armorModifiers = new Scanner<>(ArmorModifiers.class).getInstancesImplementing(game.getOptions()).stream().findFirst().orElse(null);
-		if (armorModifiers != null) {
-			armorModifiers.setUseAll(((GameOptionBoolean) game.getOptions().getOptionWithDefault(GameOptionId.BOMB_USES_MB)).isEnabled());
-		}
+		Optional<ArmorModifiers> modifiers = game.getRules().getRuntime().getShared(getClass(), () -> {
+			Optional<ArmorModifiers> scanned = new Scanner<>(ArmorModifiers.class).getInstancesImplementing(game.getOptions()).stream().findFirst();
+			scanned.ifPresent(value -> value.setUseAll(((GameOptionBoolean) game.getOptions().getOptionWithDefault(GameOptionId.BOMB_USES_MB)).isEnabled()));
+			return scanned;
+		});
+		armorModifiers = modifiers.orElse(null);
+	}
+
+	@Override
+	public boolean isGameBound() {
+		return true;
 	}
 
 	private Set<ArmorModifier> getArmorModifiers(Player<?> player, ArmorModifierContext context) {
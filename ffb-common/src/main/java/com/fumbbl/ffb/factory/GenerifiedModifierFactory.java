@@ -30,12 +30,17 @@ public abstract class GenerifiedModifierFactory<
 
 	@Override
 	public void initialize(Game game) {
-		getScanner()
-			.getSubclassInstances(game.getOptions()).stream().findFirst()
-			.ifPresent(this::setModifierCollection);
+		Optional<R> modifierCollection = game.getRules().getRuntime().getShared(getClass(),
+			() -> getScanner().getSubclassInstances(game.getOptions()).stream().findFirst());
+		modifierCollection.ifPresent(this::setModifierCollection);
 		modifierAggregator = game.getModifierAggregator();
 	}
 
+	@Override
+	public boolean isGameBound() {
+		return true;
+	}
+
 	protected ModifierAggregator modifierAggregator;
 
 	protected abstract Scanner<R> getScanner();
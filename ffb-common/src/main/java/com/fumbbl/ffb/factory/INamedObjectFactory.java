@@ -14,7 +14,15 @@ public interface INamedObjectFactory<T> extends IKeyedItem {
 	INamedObject forName(String pName);
 
 	void initialize(Game game);
-	
+
+	/**
+	 * Game bound factories keep state of a single game and are created for each game. All others are initialized once
+	 * per rules version and set of options and shared between games.
+	 */
+	default boolean isGameBound() {
+		return false;
+	}
+
 	default String getKey() {
 		FactoryType a = this.getClass().getAnnotation(FactoryType.class);
 		return a.value().name();
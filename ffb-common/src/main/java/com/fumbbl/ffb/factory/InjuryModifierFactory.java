@@ -103,13 +103,19 @@ public class InjuryModifierFactory implements INamedObjectFactory<InjuryModifier
 	@Override
 	public void initialize(Game game) {
 		this.modifierAggregator = game.getModifierAggregator();
-		injuryModifiers =
-			new Scanner<>(InjuryModifiers.class).getInstancesImplementing(game.getOptions()).stream().findFirst()
-				.orElse(null);
-		if (injuryModifiers != null) {
-			injuryModifiers.setUseAll(
-				((GameOptionBoolean) game.getOptions().getOptionWithDefault(GameOptionId.BOMB_USES_MB)).isEnabled());
-		}
+		Optional<InjuryModifiers> modifiers = game.getRules().getRuntime().getShared(getClass(), () -> {
+			Optional<InjuryModifiers> scanned =
+				new Scanner<>(InjuryModifiers.class).getInstancesImplementing(game.getOptions()).stream().findFirst();
+			scanned.ifPresent(value -> value.setUseAll(
+				((GameOptionBoolean) game.getOptions().getOptionWithDefault(GameOptionId.BOMB_USES_MB)).isEnabled()));
+			return scanned;
+		});
+		injuryModifiers = modifiers.orElse(null);
+	}
+
+	@Override
+	public boolean isGameBound() {
+		return true;
 	}
 
 }
@@ -0,0 +1,64 @@
+package com.fumbbl.ffb.factory;
+
+import com.fumbbl.ffb.FactoryType.Factory;
+import com.fumbbl.ffb.FantasyFootballException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Factories of one context initialized for a rules version and set of game options, shared by all games using them.
+ * <p>
+ * Game bound factories are created for each game. Parts of them not depending on the game can be kept here
+ * with {@link #getShared(Object, Supplier)}.
+ */
+public class RulesRuntime {
+
+	private final String key;
+	private final Map<Factory, INamedObjectFactory<?>> sharedFactories;
+	private final Map<Factory, Constructor<? extends INamedObjectFactory<?>>> gameBoundFactories;
+	private final Map<Object, Object> sharedParts = new ConcurrentHashMap<>();
+
+	public RulesRuntime(String key, Map<Factory, INamedObjectFactory<?>> sharedFactories,
+	                    Map<Factory, Constructor<? extends INamedObjectFactory<?>>> gameBoundFactories) {
+		this.key = key;
+		this.sharedFactories = Collections.unmodifiableMap(sharedFactories);
+		this.gameBoundFactories = Collections.unmodifiableMap(gameBoundFactories);
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public Map<Factory, INamedObjectFactory<?>> getSharedFactories() {
+		return sharedFactories;
+	}
+
+	/**
+	 * @return the shared factories together with new instances of the game bound ones, which still need to be initialized
+	 */
+	public Map<Factory, INamedObjectFactory<?>> createFactories() {
+		Map<Factory, INamedObjectFactory<?>> factories = new HashMap<>(sharedFactories);
+		for (Map.Entry<Factory, Constructor<? extends INamedObjectFactory<?>>> entry : gameBoundFactories.entrySet()) {
+			try {
+				factories.put(entry.getKey(), entry.getValue().newInstance());
+			} catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+				throw new FantasyFootballException("Could not create factory " + entry.getKey(), e);
+			}
+		}
+		return factories;
+	}
+
+	/**
+	 * Returns the part stored for the given key, creating it on first access. Parts must not depend on a single game.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getShared(Object partKey, Supplier<T> supplier) {
+		return (T) sharedParts.computeIfAbsent(partKey, k -> supplier.get());
+	}
+}
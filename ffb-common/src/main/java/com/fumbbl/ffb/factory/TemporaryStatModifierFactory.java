@@ -34,4 +34,9 @@ public class TemporaryStatModifierFactory implements INamedObjectFactory<Tempora
 	public void initialize(Game game) {
 		this.game = game;
 	}
+
+	@Override
+	public boolean isGameBound() {
+		return true;
+	}
 }
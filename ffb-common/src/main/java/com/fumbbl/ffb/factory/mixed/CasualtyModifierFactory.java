@@ -50,6 +50,11 @@ public class CasualtyModifierFactory implements INamedObjectFactory<CasualtyModi
 		this.modifierAggregator = game.getModifierAggregator();
 	}
 
+	@Override
+	public boolean isGameBound() {
+		return true;
+	}
+
 	private Optional<CasualtyNigglingModifier> fromName(String name) {
 		if (StringTool.isProvided(name)) {
 			String[] parts = name.split(" ");
@@ -0,0 +1,363 @@
+package com.fumbbl.ffb.json;
+
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary form of json values.
+ * <p>
+ * Strings from a dictionary known to both sides are written as small indices, other strings repeated within a
+ * message as back references. Larger messages are deflated. The first byte of an encoded message is always below
+ * 0x20, so it is never mistaken for json text or its LZString compressed form.
+ */
+public class BinaryJsonCodec {
+
+	private static final int HEADER_PLAIN = 0x01;
+	private static final int HEADER_DEFLATED = 0x02;
+	private static final int DEFLATE_THRESHOLD = 256;
+	// far beyond any command, keeps hostile input from exhausting the stack
+	private static final int MAX_DEPTH = 100;
+
+	private static final int TYPE_NULL = 0;
+	private static final int TYPE_TRUE = 1;
+	private static final int TYPE_FALSE = 2;
+	private static final int TYPE_LONG = 3;
+	private static final int TYPE_NUMBER = 4;
+	private static final int TYPE_STRING = 5;
+	private static final int TYPE_KNOWN_STRING = 6;
+	private static final int TYPE_REPEATED_STRING = 7;
+	private static final int TYPE_ARRAY = 8;
+	private static final int TYPE_OBJECT = 9;
+
+	private final String[] fDictionary;
+	private final Map<String, Integer> fIndexByString;
+	private final String fDictionaryId;
+
+	/**
+	 * @param pDictionary strings known to both sides, order and duplicates do not matter
+	 */
+	public BinaryJsonCodec(Collection<String> pDictionary) {
+		fDictionary = new TreeSet<>(pDictionary).toArray(new String[0]);
+		fIndexByString = new HashMap<>();
+		CRC32 crc = new CRC32();
+		for (int i = 0; i < fDictionary.length; i++) {
+			fIndexByString.put(fDictionary[i], i);
+			crc.update(fDictionary[i].getBytes(StandardCharsets.UTF_8));
+			crc.update(0);
+		}
+		fDictionaryId = Long.toHexString(crc.getValue());
+	}
+
+	/**
+	 * @return checksum of the dictionary, both sides must agree on it
+	 */
+	public String getDictionaryId() {
+		return fDictionaryId;
+	}
+
+	public static boolean isBinary(byte[] pBuffer, int pOffset, int pLength) {
+		return (pLength > 0) && ((pBuffer[pOffset] == HEADER_PLAIN) || (pBuffer[pOffset] == HEADER_DEFLATED));
+	}
+
+	public byte[] encode(JsonValue pJsonValue) {
+		Output output = new Output();
+		output.write(HEADER_PLAIN);
+		writeValue(output, pJsonValue, new HashMap<>());
+		if (output.size() < DEFLATE_THRESHOLD) {
+			return output.toByteArray();
+		}
+		byte[] plain = output.toByteArray();
+		Output deflated = new Output();
+		deflated.write(HEADER_DEFLATED);
+		deflated.writeVarInt(plain.length - 1);
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try {
+			deflater.setInput(plain, 1, plain.length - 1);
+			deflater.finish();
+			byte[] buffer = new byte[4096];
+			while (!deflater.finished()) {
+				int length = deflater.deflate(buffer);
+				deflated.write(buffer, 0, length);
+			}
+		} finally {
+			deflater.end();
+		}
+		return deflated.toByteArray();
+	}
+
+	public JsonValue decode(byte[] pBuffer, int pOffset, int pLength) throws IOException {
+		return decode(pBuffer, pOffset, pLength, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param pMaxLength limit for the length of a deflated message after inflating it
+	 */
+	public JsonValue decode(byte[] pBuffer, int pOffset, int pLength, int pMaxLength) throws IOException {
+		if (!isBinary(pBuffer, pOffset, pLength)) {
+			throw new IOException("Message is not binary encoded.");
+		}
+		Input input;
+		if (pBuffer[pOffset] == HEADER_DEFLATED) {
+			Input header = new Input(pBuffer, pOffset + 1, pOffset + pLength);
+			int plainLength = header.readVarInt();
+			if (plainLength > pMaxLength) {
+				throw new IOException("Inflated length " + plainLength + " exceeds " + pMaxLength);
+			}
+			byte[] plain = new byte[plainLength];
+			Inflater inflater = new Inflater(true);
+			try {
+				inflater.setInput(pBuffer, header.fPosition, pOffset + pLength - header.fPosition);
+				int length = 0;
+				while (length < plain.length) {
+					int inflated = inflater.inflate(plain, length, plain.length - length);
+					if ((inflated == 0) && (inflater.needsInput() || inflater.finished())) {
+						throw new IOException("Truncated binary message.");
+					}
+					length += inflated;
+				}
+				if (!inflater.finished() && (inflater.inflate(new byte[1]) > 0)) {
+					throw new IOException("Inflated message is longer than declared.");
+				}
+			} catch (DataFormatException pDataFormatException) {
+				throw new IOException(pDataFormatException);
+			} finally {
+				inflater.end();
+			}
+			input = new Input(plain, 0, plain.length);
+		} else {
+			input = new Input(pBuffer, pOffset + 1, pOffset + pLength);
+		}
+		return readValue(input, new ArrayList<>(), 0);
+	}
+
+	private void writeValue(Output pOutput, JsonValue pJsonValue, Map<String, Integer> pRepeatedStrings) {
+		if ((pJsonValue == null) || pJsonValue.isNull()) {
+			pOutput.write(TYPE_NULL);
+		} else if (pJsonValue.isBoolean()) {
+			pOutput.write(pJsonValue.asBoolean() ? TYPE_TRUE : TYPE_FALSE);
+		} else if (pJsonValue.isNumber()) {
+			String number = pJsonValue.toString();
+			Long value = parseLong(number);
+			if (value != null) {
+				pOutput.write(TYPE_LONG);
+				pOutput.writeVarLong((value << 1) ^ (value >> 63));
+			} else {
+				// fractions and exponents are rare, keeping their text keeps them exact
+				pOutput.write(TYPE_NUMBER);
+				writeUtf8(pOutput, number);
+			}
+		} else if (pJsonValue.isString()) {
+			writeString(pOutput, pJsonValue.asString(), pRepeatedStrings);
+		} else if (pJsonValue.isArray()) {
+			JsonArray jsonArray = pJsonValue.asArray();
+			pOutput.write(TYPE_ARRAY);
+			pOutput.writeVarInt(jsonArray.size());
+			for (JsonValue element : jsonArray) {
+				writeValue(pOutput, element, pRepeatedStrings);
+			}
+		} else {
+			JsonObject jsonObject = pJsonValue.asObject();
+			pOutput.write(TYPE_OBJECT);
+			pOutput.writeVarInt(jsonObject.size());
+			for (JsonObject.Member member : jsonObject) {
+				writeString(pOutput, member.getName(), pRepeatedStrings);
+				writeValue(pOutput, member.getValue(), pRepeatedStrings);
+			}
+		}
+	}
+
+	private void writeString(Output pOutput, String pString, Map<String, Integer> pRepeatedStrings) {
+		Integer index = fIndexByString.get(pString);
+		if (index != null) {
+			pOutput.write(TYPE_KNOWN_STRING);
+			pOutput.writeVarInt(index);
+			return;
+		}
+		index = pRepeatedStrings.get(pString);
+		if (index != null) {
+			pOutput.write(TYPE_REPEATED_STRING);
+			pOutput.writeVarInt(index);
+			return;
+		}
+		pRepeatedStrings.put(pString, pRepeatedStrings.size());
+		pOutput.write(TYPE_STRING);
+		writeUtf8(pOutput, pString);
+	}
+
+	private void writeUtf8(Output pOutput, String pString) {
+		byte[] bytes = pString.getBytes(StandardCharsets.UTF_8);
+		pOutput.writeVarInt(bytes.length);
+		pOutput.write(bytes, 0, bytes.length);
+	}
+
+	private JsonValue readValue(Input pInput, List<String> pRepeatedStrings, int pDepth) throws IOException {
+		if (pDepth > MAX_DEPTH) {
+			throw new IOException("Message is nested deeper than " + MAX_DEPTH);
+		}
+		int type = pInput.read();
+		switch (type) {
+			case TYPE_NULL:
+				//noinspection deprecation
+				return JsonValue.NULL;
+			case TYPE_TRUE:
+				//noinspection deprecation
+				return JsonValue.TRUE;
+			case TYPE_FALSE:
+				//noinspection deprecation
+				return JsonValue.FALSE;
+			case TYPE_LONG:
+				long zigZag = pInput.readVarLong();
+				return JsonValue.valueOf((zigZag >>> 1) ^ -(zigZag & 1));
+			case TYPE_NUMBER:
+				//noinspection deprecation
+				return JsonValue.readFrom(pInput.readUtf8(pInput.readVarInt()));
+			case TYPE_ARRAY:
+				JsonArray jsonArray = new JsonArray();
+				int nrOfElements = pInput.readVarInt();
+				for (int i = 0; i < nrOfElements; i++) {
+					jsonArray.add(readValue(pInput, pRepeatedStrings, pDepth + 1));
+				}
+				return jsonArray;
+			case TYPE_OBJECT:
+				JsonObject jsonObject = new JsonObject();
+				int nrOfMembers = pInput.readVarInt();
+				for (int i = 0; i < nrOfMembers; i++) {
+					String name = readString(pInput, pInput.read(), pRepeatedStrings);
+					jsonObject.add(name, readValue(pInput, pRepeatedStrings, pDepth + 1));
+				}
+				return jsonObject;
+			default:
+				return JsonValue.valueOf(readString(pInput, type, pRepeatedStrings));
+		}
+	}
+
+	private String readString(Input pInput, int pType, List<String> pRepeatedStrings) throws IOException {
+		switch (pType) {
+			case TYPE_KNOWN_STRING:
+				int index = pInput.readVarInt();
+				if (index >= fDictionary.length) {
+					throw new IOException("Unknown dictionary index " + index);
+				}
+				return fDictionary[index];
+			case TYPE_REPEATED_STRING:
+				int repeated = pInput.readVarInt();
+				if (repeated >= pRepeatedStrings.size()) {
+					throw new IOException("Unknown string reference " + repeated);
+				}
+				return pRepeatedStrings.get(repeated);
+			case TYPE_STRING:
+				String string = pInput.readUtf8(pInput.readVarInt());
+				pRepeatedStrings.add(string);
+				return string;
+			default:
+				throw new IOException("Unknown type " + pType);
+		}
+	}
+
+	/**
+	 * @return the number if it is written as a plain long, null otherwise
+	 */
+	private static Long parseLong(String pNumber) {
+		int start = pNumber.startsWith("-") ? 1 : 0;
+		if ((pNumber.length() <= start) || (pNumber.length() - start > 19)
+			|| ((pNumber.charAt(start) == '0') && (pNumber.length() > start + 1))) {
+			return null;
+		}
+		for (int i = start; i < pNumber.length(); i++) {
+			char digit = pNumber.charAt(i);
+			if ((digit < '0') || (digit > '9')) {
+				return null;
+			}
+		}
+		try {
+			long value = Long.parseLong(pNumber);
+			// -0 has to keep its sign
+			return ((value == 0) && (start > 0)) ? null : value;
+		} catch (NumberFormatException pNumberFormatException) {
+			return null;
+		}
+	}
+
+	private static final class Output extends ByteArrayOutputStream {
+
+		private void writeVarInt(int pValue) {
+			writeVarLong(pValue & 0xFFFFFFFFL);
+		}
+
+		private void writeVarLong(long pValue) {
+			long value = pValue;
+			while ((value & ~0x7FL) != 0) {
+				write((int) ((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			write((int) value);
+		}
+
+	}
+
+	private static final class Input {
+
+		private final byte[] fBuffer;
+		private final int fEnd;
+		private int fPosition;
+
+		private Input(byte[] pBuffer, int pPosition, int pEnd) {
+			fBuffer = pBuffer;
+			fPosition = pPosition;
+			fEnd = pEnd;
+		}
+
+		private int read() throws IOException {
+			if (fPosition >= fEnd) {
+				throw new IOException("Truncated binary message.");
+			}
+			return fBuffer[fPosition++] & 0xFF;
+		}
+
+		private int readVarInt() throws IOException {
+			long value = readVarLong();
+			if ((value < 0) || (value > Integer.MAX_VALUE)) {
+				throw new IOException("Invalid length " + value);
+			}
+			return (int) value;
+		}
+
+		private long readVarLong() throws IOException {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				int b = read();
+				value |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IOException("Malformed number.");
+		}
+
+		private String readUtf8(int pLength) throws IOException {
+			if (pLength > fEnd - fPosition) {
+				throw new IOException("Truncated binary message.");
+			}
+			String string = new String(fBuffer, fPosition, pLength, StandardCharsets.UTF_8);
+			fPosition += pLength;
+			return string;
+		}
+
+	}
+
+}
@@ -212,6 +212,7 @@ public interface IJsonOption {
 	JsonObjectOption GAME_OPTIONS = new JsonObjectOption("gameOptions");
 	JsonObjectOption GAME_RESULT = new JsonObjectOption("gameResult");
 	JsonLongOption GAME_TIME = new JsonLongOption("gameTime");
+	JsonBooleanOption GAME_TIME_RUNNING = new JsonBooleanOption("gameTimeRunning");
 	JsonStringArrayOption GAINED_HATRED = new JsonStringArrayOption("gainedHatred");
 	JsonBooleanOption GOING_FOR_IT = new JsonBooleanOption("goingForIt");
 	JsonIntOption GOLD = new JsonIntOption("gold");
@@ -617,6 +618,7 @@ public interface IJsonOption {
 	JsonIntOption TURN_NR = new JsonIntOption("turnNr");
 	JsonBooleanOption TURN_STARTED = new JsonBooleanOption("turnStarted");
 	JsonLongOption TURN_TIME = new JsonLongOption("turnTime");
+	JsonBooleanOption TURN_TIME_RUNNING = new JsonBooleanOption("turnTimeRunning");
 	JsonIntOption TURNS_PLAYED = new JsonIntOption("turnsPlayed");
 	JsonBooleanOption UNDEAD = new JsonBooleanOption("undead");
 	JsonBooleanOption UNDER_SCRUTINY = new JsonBooleanOption("underScrutiny");
@@ -57,6 +57,22 @@ import java.util.stream.Collectors;
  */
 public class FieldModel implements IJsonSerializable {
 
+	private static final int SQUARES = FieldCoordinate.FIELD_WIDTH * FieldCoordinate.FIELD_HEIGHT;
+
+	// adjacent squares within the pitch by step radius, start square excluded / included and square
+	private static final int MAX_TABLE_STEPS = 3;
+	private static final FieldCoordinate[][][][] ADJACENT_SQUARES = new FieldCoordinate[MAX_TABLE_STEPS + 1][2][SQUARES][];
+
+	static {
+		for (int steps = 1; steps <= MAX_TABLE_STEPS; steps++) {
+			for (int square = 0; square < SQUARES; square++) {
+				FieldCoordinate coordinate = FieldCoordinate.of(square / FieldCoordinate.FIELD_HEIGHT, square % FieldCoordinate.FIELD_HEIGHT);
+				ADJACENT_SQUARES[steps][0][square] = computeAdjacentCoordinates(coordinate, FieldCoordinateBounds.FIELD, steps, false);
+				ADJACENT_SQUARES[steps][1][square] = computeAdjacentCoordinates(coordinate, FieldCoordinateBounds.FIELD, steps, true);
+			}
+		}
+	}
+
 	private boolean fBallMoving;
 	private boolean fBallInPlay;
 	private FieldCoordinate fBallCoordinate;
@@ -88,6 +104,8 @@ public class FieldModel implements IJsonSerializable {
 	private final Map<String, List<String>> chomped = new HashMap<>();
 
 	private final transient Map<FieldCoordinate, List<String>> fPlayerIdByCoordinate;
+	// topmost player of each square on the pitch, kept in sync with fPlayerIdByCoordinate
+	private final transient String[] fPlayerIdBySquare = new String[SQUARES];
 	// no need to serialize this, as it can be
 	// reconstructed
 	private transient Game fGame;
@@ -193,7 +211,9 @@ public class FieldModel implements IJsonSerializable {
 
 	public Player<?> getPlayer(FieldCoordinate pPlayerPosition) {
 		String playerId = null;
-		if (pPlayerPosition != null) {
+		if (FieldCoordinateBounds.FIELD.isInBounds(pPlayerPosition)) {
+			playerId = fPlayerIdBySquare[toSquare(pPlayerPosition)];
+		} else if (pPlayerPosition != null) {
 			List<String> playersAtCoordinate = fPlayerIdByCoordinate.get(pPlayerPosition);
 			if (playersAtCoordinate != null) {
 				int numPlayers = playersAtCoordinate.size();
@@ -230,6 +250,7 @@ public class FieldModel implements IJsonSerializable {
 		List<String> playersAtCoordinate = fPlayerIdByCoordinate.get(coordinate);
 		if (playersAtCoordinate != null) {
 			playersAtCoordinate.remove(pPlayer.getId());
+			updateSquare(coordinate, playersAtCoordinate);
 		}
 		fCoordinateByPlayerId.remove(pPlayer.getId());
 		notifyObservers(ModelChangeId.FIELD_MODEL_REMOVE_PLAYER, pPlayer.getId(), coordinate);
@@ -280,15 +301,27 @@ public class FieldModel implements IJsonSerializable {
 				List<String> playerList = fPlayerIdByCoordinate.get(oldCoordinate);
 				if (playerList != null) {
 					playerList.remove(pPlayer.getId());
+					updateSquare(oldCoordinate, playerList);
 				}
 			}
 			// Add player to new coordinate
 			List<String> playerList = fPlayerIdByCoordinate.computeIfAbsent(pCoordinate, k -> new ArrayList<>());
 			playerList.add(pPlayer.getId());
+			updateSquare(pCoordinate, playerList);
 			notifyObservers(ModelChangeId.FIELD_MODEL_SET_PLAYER_COORDINATE, pPlayer.getId(), pCoordinate);
 		}
 	}
 
+	private void updateSquare(FieldCoordinate pCoordinate, List<String> pPlayerIds) {
+		if (FieldCoordinateBounds.FIELD.isInBounds(pCoordinate)) {
+			fPlayerIdBySquare[toSquare(pCoordinate)] = !pPlayerIds.isEmpty() ? pPlayerIds.get(pPlayerIds.size() - 1) : null;
+		}
+	}
+
+	private static int toSquare(FieldCoordinate pCoordinate) {
+		return pCoordinate.getX() * FieldCoordinate.FIELD_HEIGHT + pCoordinate.getY();
+	}
+
 	public FieldCoordinate[] getPlayerCoordinates() {
 		List<FieldCoordinate> coordinates = new ArrayList<>();
 		for (FieldCoordinate c : fPlayerIdByCoordinate.keySet()) {
@@ -544,13 +577,51 @@ public class FieldModel implements IJsonSerializable {
 	}
 
 	public FieldCoordinate[] findAdjacentCoordinates(FieldCoordinate pCoordinate, FieldCoordinateBounds pBounds,
+		int pSteps, boolean pWithStartCoordinate) {
+		FieldCoordinate[] adjacentSquares = findAdjacentSquares(pCoordinate, pBounds, pSteps, pWithStartCoordinate);
+		if (adjacentSquares != null) {
+			return adjacentSquares.clone();
+		}
+		return computeAdjacentCoordinates(pCoordinate, pBounds, pSteps, pWithStartCoordinate);
+	}
+
+	/**
+	 * Players in the squares found by findAdjacentCoordinates with bounds FIELD, looked up without creating
+	 * coordinates for squares on the pitch.
+	 */
+	public List<Player<?>> findAdjacentPlayers(FieldCoordinate pCoordinate, int pSteps, boolean pWithStartCoordinate) {
+		List<Player<?>> players = new ArrayList<>();
+		FieldCoordinate[] adjacentSquares = findAdjacentSquares(pCoordinate, FieldCoordinateBounds.FIELD, pSteps, pWithStartCoordinate);
+		if (adjacentSquares == null) {
+			adjacentSquares = computeAdjacentCoordinates(pCoordinate, FieldCoordinateBounds.FIELD, pSteps, pWithStartCoordinate);
+		}
+		for (FieldCoordinate adjacentSquare : adjacentSquares) {
+			String playerId = fPlayerIdBySquare[toSquare(adjacentSquare)];
+			if (playerId != null) {
+				players.add(getGame().getPlayerById(playerId));
+			}
+		}
+		return players;
+	}
+
+	// shared table of adjacent squares or null if there is none for the given parameters
+	private static FieldCoordinate[] findAdjacentSquares(FieldCoordinate pCoordinate, FieldCoordinateBounds pBounds,
+		int pSteps, boolean pWithStartCoordinate) {
+		if ((pSteps < 1) || (pSteps > MAX_TABLE_STEPS) || !FieldCoordinateBounds.FIELD.equals(pBounds)
+			|| !FieldCoordinateBounds.FIELD.isInBounds(pCoordinate)) {
+			return null;
+		}
+		return ADJACENT_SQUARES[pSteps][pWithStartCoordinate ? 1 : 0][toSquare(pCoordinate)];
+	}
+
+	private static FieldCoordinate[] computeAdjacentCoordinates(FieldCoordinate pCoordinate, FieldCoordinateBounds pBounds,
 		int pSteps, boolean pWithStartCoordinate) {
 		List<FieldCoordinate> adjacentCoordinates = new ArrayList<>();
 		if ((pCoordinate != null) && (pBounds != null)) {
 			for (int y = -pSteps; y <= pSteps; y++) {
 				for (int x = -pSteps; x <= pSteps; x++) {
 					if ((x != 0) || (y != 0) || pWithStartCoordinate) {
-						FieldCoordinate adjacentCoordinate = new FieldCoordinate(pCoordinate.getX() + x, pCoordinate.getY() + y);
+						FieldCoordinate adjacentCoordinate = FieldCoordinate.of(pCoordinate.getX() + x, pCoordinate.getY() + y);
 						if (pBounds.isInBounds(adjacentCoordinate)) {
 							adjacentCoordinates.add(adjacentCoordinate);
 						}
@@ -1234,6 +1305,7 @@ public class FieldModel implements IJsonSerializable {
 		}
 
 		fPlayerIdByCoordinate.clear();
+		Arrays.fill(fPlayerIdBySquare, null);
 		fCoordinateByPlayerId.clear();
 		fStateByPlayerId.clear();
 		fCardsByPlayerId.clear();
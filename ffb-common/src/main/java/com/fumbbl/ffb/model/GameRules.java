@@ -5,6 +5,7 @@ import com.fumbbl.ffb.FactoryType.Factory;
 import com.fumbbl.ffb.FactoryType.FactoryContext;
 import com.fumbbl.ffb.factory.IFactorySource;
 import com.fumbbl.ffb.factory.INamedObjectFactory;
+import com.fumbbl.ffb.factory.RulesRuntime;
 import com.fumbbl.ffb.factory.SkillFactory;
 
 import java.util.Map;
@@ -12,6 +13,7 @@ import java.util.Map;
 public class GameRules implements IFactorySource {
 
 	private Map<Factory, INamedObjectFactory<?>> factories;
+	private RulesRuntime runtime;
 	private final FactoryManager manager;
 	private final IFactorySource applicationSource;
 
@@ -23,13 +25,20 @@ public class GameRules implements IFactorySource {
 	}
 
 	public void initialize(Game game) {
-		factories = manager.getFactoriesForContext(getContext(), game.getOptions());
+		runtime = manager.getRuntime(getContext(), game);
+		factories = runtime.createFactories();
 		for (INamedObjectFactory<?> factory : factories.values()) {
-			factory.initialize(game);
+			if (factory.isGameBound()) {
+				factory.initialize(game);
+			}
 		}
 		initialized = true;
 	}
 
+	public RulesRuntime getRuntime() {
+		return runtime;
+	}
+
 	public boolean isInitialized() {
 		return initialized;
 	}
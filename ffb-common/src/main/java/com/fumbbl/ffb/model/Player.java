@@ -81,6 +81,9 @@ public abstract class Player<T extends Position> implements IXmlSerializable, IJ
 	static final String _XML_TAG_SHORTHAND = "shorthand";
 	static final String _XML_TAG_RACE = "race";
 
+	private transient long skillModifications;
+	private transient SkillPropertyIndex skillPropertyIndex;
+
 	public abstract String getName();
 
 	public abstract PlayerType getPlayerType();
@@ -205,12 +208,7 @@ public abstract class Player<T extends Position> implements IXmlSerializable, IJ
 	}
 
 	public Skill getSkillWithProperty(ISkillProperty property) {
-		for (Skill playerSkill : getSkillsIncludingTemporaryOnes()) {
-			if (playerSkill.hasSkillProperty(property)) {
-				return playerSkill;
-			}
-		}
-		return null;
+		return getSkillPropertyIndex().getSkillWithProperty(property);
 	}
 
 	public Skill getUnusedSkillWithRerollSource(ReRollSource source, ReRolledAction action) {
@@ -326,7 +324,29 @@ public abstract class Player<T extends Position> implements IXmlSerializable, IJ
 	}
 
 	public Set<Skill> getSkillsIncludingTemporaryOnes() {
-		return new HashSet<>(getSkillsIncludingTemporaryOnesWithDuplicates());
+		return new HashSet<>(getSkillPropertyIndex().getSkills());
+	}
+
+	/**
+	 * Has to be called by implementations whenever skills, temporary skills or temporary properties change.
+	 */
+	protected void skillsChanged() {
+		skillModifications++;
+	}
+
+	protected long getSkillModifications() {
+		return skillModifications;
+	}
+
+	private SkillPropertyIndex getSkillPropertyIndex() {
+		long modifications = getSkillModifications();
+		SkillPropertyIndex index = skillPropertyIndex;
+		if ((index == null) || (index.getModifications() != modifications)) {
+			index = new SkillPropertyIndex(modifications, getSkillsIncludingTemporaryOnesWithDuplicates(),
+				getTemporaryProperties().values());
+			skillPropertyIndex = index;
+		}
+		return index;
 	}
 
 	protected abstract Map<String, Set<SkillWithValue>> getTemporarySkills();
@@ -351,18 +371,11 @@ public abstract class Player<T extends Position> implements IXmlSerializable, IJ
 	public abstract void removeTemporarySkills(String source);
 
 	public boolean hasSkillProperty(ISkillProperty property) {
-		return Stream.concat(
-			getSkillsIncludingTemporaryOnes().stream().flatMap(skill -> skill.getSkillProperties().stream()),
-			getTemporaryProperties().values().stream().flatMap(Collection::stream)
-		).anyMatch(prop -> prop.equals(property));
+		return getSkillPropertyIndex().hasProperty(property);
 	}
 
 	public boolean hasUnusedSkillProperty(ISkillProperty property) {
-		return Stream.concat(
-			getSkillsIncludingTemporaryOnes().stream().filter(skill -> !this.isUsed(skill))
-				.flatMap(skill -> skill.getSkillProperties().stream()),
-			getTemporaryProperties().values().stream().flatMap(Collection::stream)
-		).anyMatch(prop -> prop.equals(property));
+		return getSkillPropertyIndex().hasUnusedProperty(property, this);
 	}
 
 	public boolean hasUsableSkillProperty(ISkillProperty property, PlayerState state) {
@@ -374,10 +387,7 @@ public abstract class Player<T extends Position> implements IXmlSerializable, IJ
 	}
 
 	public boolean hasSkill(ISkillProperty property) {
-		return Stream.concat(
-			getSkillsIncludingTemporaryOnes().stream().flatMap(skill -> skill.getSkillProperties().stream()),
-			getTemporaryProperties().values().stream().flatMap(Collection::stream)
-		).anyMatch(prop -> prop.equals(property));
+		return getSkillPropertyIndex().hasProperty(property);
 	}
 
 	protected abstract Map<String, Set<ISkillProperty>> getTemporaryProperties();
@@ -446,14 +456,12 @@ public abstract class Player<T extends Position> implements IXmlSerializable, IJ
 	public abstract boolean isJourneyman();
 
 	public boolean isUsed(ISkillProperty property) {
-		Optional<Skill> skill =
-			getSkillsIncludingTemporaryOnes().stream().filter(s -> s.hasSkillProperty(property)).findFirst();
-
-		return skill.isPresent() && isUsed(skill.get());
+		Skill skill = getSkillWithProperty(property);
+		return skill != null && isUsed(skill);
 	}
 
 	public boolean has(Skill skill) {
-		return getSkillsIncludingTemporaryOnes().contains(skill);
+		return getSkillPropertyIndex().hasSkill(skill);
 	}
 
 	public boolean hasUnused(Skill skill) {
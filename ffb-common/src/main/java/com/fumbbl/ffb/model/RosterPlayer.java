@@ -195,11 +195,13 @@ public class RosterPlayer extends Player<RosterPosition> {
 		if ((pSkill != null) && ((pSkill.getCategory() == SkillCategory.STAT_INCREASE)
 			|| (pSkill.getCategory() == SkillCategory.STAT_DECREASE) || !fSkills.contains(pSkill))) {
 			fSkills.add(pSkill);
+			skillsChanged();
 		}
 	}
 
 	public void removeSkill(Skill pSkill) {
 		fSkills.remove(pSkill);
+		skillsChanged();
 	}
 
 	@Override
@@ -540,6 +542,7 @@ public class RosterPlayer extends Player<RosterPosition> {
 					Skill skill = game.getRules().<SkillFactory>getFactory(Factory.SKILL).forName(pValue);
 					if (skill != null) {
 						fSkills.add(skill);
+						skillsChanged();
 						skillValues.put(skill, fCurrentSkillValue);
 						displayValues.put(skill, currentDisplayValue);
 					}
@@ -637,6 +640,7 @@ public class RosterPlayer extends Player<RosterPosition> {
 		setNrOfIcons(pPlayer.getNrOfIcons());
 
 		fSkills.clear();
+		skillsChanged();
 		for (Skill skill : pPlayer.getSkills()) {
 			addSkill(skill);
 		}
@@ -750,6 +754,7 @@ public class RosterPlayer extends Player<RosterPosition> {
 		temporaryModifiers = IJsonOption.TEMPORARY_MODIFIERS_MAP.getFrom(source, jsonObject);
 		temporarySkills = IJsonOption.TEMPORARY_SKILL_MAP.getFrom(source, jsonObject);
 		temporaryProperties = IJsonOption.TEMPORARY_PROPERTIES_MAP.getFrom(source, jsonObject);
+		skillsChanged();
 
 		skillValues = IJsonOption.SKILL_VALUES_MAP.getFrom(source, jsonObject);
 		displayValues = IJsonOption.SKILL_DISPLAY_VALUES_MAP.getFrom(source, jsonObject);
@@ -804,11 +809,13 @@ public class RosterPlayer extends Player<RosterPosition> {
 			temporarySkills.put(source, new HashSet<>());
 		}
 		temporarySkills.get(source).addAll(skills);
+		skillsChanged();
 	}
 
 	@Override
 	public void removeTemporarySkills(String source) {
 		temporarySkills.remove(source);
+		skillsChanged();
 	}
 
 	@Override
@@ -822,12 +829,14 @@ public class RosterPlayer extends Player<RosterPosition> {
 			temporaryProperties.put(source, new HashSet<>());
 		}
 		temporaryProperties.get(source).addAll(properties);
+		skillsChanged();
 
 	}
 
 	@Override
 	public void removeTemporaryProperties(String source) {
 		temporaryProperties.remove(source);
+		skillsChanged();
 	}
 
 	@Override
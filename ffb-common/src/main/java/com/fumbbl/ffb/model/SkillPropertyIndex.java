@@ -0,0 +1,80 @@
+package com.fumbbl.ffb.model;
+
+import com.fumbbl.ffb.model.property.ISkillProperty;
+import com.fumbbl.ffb.model.skill.Skill;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable lookup of the skills and properties of a player (including temporary ones).
+ * Built lazily by {@link Player} and replaced whenever the skills or temporary properties of the player change.
+ * Used skills are checked on lookup, so marking skills as used does not invalidate the index.
+ */
+class SkillPropertyIndex {
+
+	private final long modifications;
+	private final Set<Skill> skills;
+	private final Map<ISkillProperty, List<Skill>> skillsByProperty;
+	private final Set<ISkillProperty> temporaryProperties;
+
+	SkillPropertyIndex(long modifications, Collection<Skill> skillsWithDuplicates,
+										 Collection<? extends Collection<ISkillProperty>> temporaryProperties) {
+		this.modifications = modifications;
+		skills = Collections.unmodifiableSet(new LinkedHashSet<>(skillsWithDuplicates));
+		skillsByProperty = new HashMap<>();
+		for (Skill skill : skills) {
+			for (ISkillProperty property : skill.getSkillProperties()) {
+				skillsByProperty.computeIfAbsent(property, key -> new ArrayList<>(1)).add(skill);
+			}
+		}
+		this.temporaryProperties = new HashSet<>();
+		for (Collection<ISkillProperty> properties : temporaryProperties) {
+			this.temporaryProperties.addAll(properties);
+		}
+	}
+
+	long getModifications() {
+		return modifications;
+	}
+
+	Set<Skill> getSkills() {
+		return skills;
+	}
+
+	boolean hasSkill(Skill skill) {
+		return skills.contains(skill);
+	}
+
+	boolean hasProperty(ISkillProperty property) {
+		return temporaryProperties.contains(property) || skillsByProperty.containsKey(property);
+	}
+
+	boolean hasUnusedProperty(ISkillProperty property, Player<?> player) {
+		if (temporaryProperties.contains(property)) {
+			return true;
+		}
+		List<Skill> propertySkills = skillsByProperty.get(property);
+		if (propertySkills != null) {
+			for (Skill skill : propertySkills) {
+				if (!player.isUsed(skill)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	Skill getSkillWithProperty(ISkillProperty property) {
+		List<Skill> propertySkills = skillsByProperty.get(property);
+		return (propertySkills != null) ? propertySkills.get(0) : null;
+	}
+
+}
@@ -172,6 +172,7 @@ public class ZappedPlayer extends Player<ZappedPosition> {
 	public void updatePosition(RosterPosition pPosition, boolean updateStats, IFactorySource game, long gameId) {
 		position = new ZappedPosition(pPosition, game);
 		originalPlayer.updatePosition(pPosition, updateStats, game, gameId);
+		skillsChanged();
 	}
 
 	@Override
@@ -258,6 +259,13 @@ public class ZappedPlayer extends Player<ZappedPosition> {
 	public void init(RosterPlayer pPlayer, IFactorySource game) {
 		this.originalPlayer = pPlayer;
 		this.position = new ZappedPosition(pPlayer.getPosition(), game);
+		skillsChanged();
+	}
+
+	@Override
+	protected long getSkillModifications() {
+		// temporary skills and properties are kept by the original player
+		return (super.getSkillModifications() << 32) + originalPlayer.getSkillModifications();
 	}
 
 	@Override
@@ -336,6 +344,7 @@ public class ZappedPlayer extends Player<ZappedPosition> {
 	@Override
 	public ZappedPlayer initFrom(IFactorySource source, JsonValue jsonValue) {
 		originalPlayer = new RosterPlayer().initFrom(source, IJsonOption.PLAYER.getFrom(source, (JsonObject) jsonValue));
+		skillsChanged();
 		return this;
 	}
 
@@ -10,7 +10,10 @@ import com.fumbbl.ffb.json.UtilJson;
 import com.fumbbl.ffb.model.Game;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -68,6 +71,43 @@ public class ModelChangeList implements IJsonSerializable {
 		return fChanges.size();
 	}
 
+	/**
+	 * Drops changes that are overwritten later in the list. Of the changes with the same last write wins id and key
+	 * only the last one is kept, unless another change for that key lies in between. Adds and removes thereby keep
+	 * their order relative to the values they depend on.
+	 *
+	 * @return the number of dropped changes
+	 */
+	public int compact() {
+		// walk backwards, remembering the ids already written later on for each key
+		Map<String, Set<ModelChangeId>> overwrittenByKey = new HashMap<>();
+		boolean[] dropped = new boolean[fChanges.size()];
+		int nrOfDropped = 0;
+		for (int i = fChanges.size() - 1; i >= 0; i--) {
+			ModelChange change = fChanges.get(i);
+			ModelChangeId changeId = change.getChangeId();
+			if ((changeId != null) && changeId.isLastWriteWins()) {
+				if (!overwrittenByKey.computeIfAbsent(change.getKey(), key -> EnumSet.noneOf(ModelChangeId.class)).add(changeId)) {
+					dropped[i] = true;
+					nrOfDropped++;
+				}
+			} else {
+				overwrittenByKey.remove(change.getKey());
+			}
+		}
+		if (nrOfDropped > 0) {
+			List<ModelChange> compacted = new ArrayList<>(fChanges.size() - nrOfDropped);
+			for (int i = 0; i < fChanges.size(); i++) {
+				if (!dropped[i]) {
+					compacted.add(fChanges.get(i));
+				}
+			}
+			fChanges.clear();
+			fChanges.addAll(compacted);
+		}
+		return nrOfDropped;
+	}
+
 	public void applyTo(Game pGame, Set<ModelChangeId> ignore) {
 		ModelChangeProcessor processor = new ModelChangeProcessor();
 		for (ModelChange change : getChanges()) {
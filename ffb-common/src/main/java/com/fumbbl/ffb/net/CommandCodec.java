@@ -0,0 +1,145 @@
+package com.fumbbl.ffb.net;
+
+import com.eclipsesource.json.JsonValue;
+import com.fumbbl.ffb.ClientMode;
+import com.fumbbl.ffb.GameStatus;
+import com.fumbbl.ffb.INamedObject;
+import com.fumbbl.ffb.PlayerAction;
+import com.fumbbl.ffb.SoundId;
+import com.fumbbl.ffb.TurnMode;
+import com.fumbbl.ffb.json.BinaryJsonCodec;
+import com.fumbbl.ffb.json.IJsonOption;
+import com.fumbbl.ffb.json.JsonAbstractOption;
+import com.fumbbl.ffb.json.LZString;
+import com.fumbbl.ffb.model.change.ModelChangeId;
+import com.fumbbl.ffb.report.ReportId;
+import com.fumbbl.ffb.util.StringTool;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns commands into websocket messages and back.
+ * <p>
+ * Json is the default for every connection, as text that may be LZString compressed. A client may propose the
+ * binary protocol with the connect parameter {@link #PARAMETER_PROTOCOL}. It is only accepted if both sides use
+ * the same dictionary, the server then answers in binary and the client switches on receiving the first binary
+ * message. Received messages are always decoded by their own format.
+ *
+ * @see BinaryJsonCodec
+ */
+public class CommandCodec {
+
+	public static final String PARAMETER_PROTOCOL = "protocol";
+
+	private static final BinaryJsonCodec BINARY_CODEC = new BinaryJsonCodec(createDictionary());
+
+	private final boolean fCompression;
+	private final int fMaxMessageSize;
+
+	/**
+	 * @param pCompression LZString compression of json messages
+	 */
+	public CommandCodec(boolean pCompression) {
+		this(pCompression, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param pCompression    LZString compression of json messages
+	 * @param pMaxMessageSize limit for the decoded length of received binary messages
+	 */
+	public CommandCodec(boolean pCompression, int pMaxMessageSize) {
+		fCompression = pCompression;
+		fMaxMessageSize = pMaxMessageSize;
+	}
+
+	/**
+	 * @return the encoded message or null if there is nothing to send
+	 */
+	public byte[] encode(JsonValue pJsonValue, WireProtocol pProtocol) {
+		if (pJsonValue == null) {
+			return null;
+		}
+		if (WireProtocol.BINARY == pProtocol) {
+			return BINARY_CODEC.encode(pJsonValue);
+		}
+		String textMessage = pJsonValue.toString();
+		if (fCompression) {
+			textMessage = LZString.compressToUTF16(textMessage);
+		}
+		if (!StringTool.isProvided(textMessage)) {
+			return null;
+		}
+		return textMessage.getBytes(StandardCharsets.UTF_8);
+	}
+
+	public JsonValue decode(byte[] pBuffer, int pOffset, int pLength) throws IOException {
+		if (BinaryJsonCodec.isBinary(pBuffer, pOffset, pLength)) {
+			return BINARY_CODEC.decode(pBuffer, pOffset, pLength, fMaxMessageSize);
+		}
+		return decode(new String(pBuffer, pOffset, pLength, StandardCharsets.UTF_8));
+	}
+
+	public JsonValue decode(String pTextMessage) {
+		//noinspection deprecation
+		return JsonValue.readFrom(fCompression ? LZString.decompressFromUTF16(pTextMessage) : pTextMessage);
+	}
+
+	public static boolean isBinary(byte[] pBuffer, int pOffset, int pLength) {
+		return BinaryJsonCodec.isBinary(pBuffer, pOffset, pLength);
+	}
+
+	/**
+	 * @return value of the connect parameter proposing the protocol
+	 */
+	public static String getProtocolName(WireProtocol pProtocol) {
+		if (WireProtocol.BINARY == pProtocol) {
+			return "binary-" + BINARY_CODEC.getDictionaryId();
+		}
+		return "json";
+	}
+
+	/**
+	 * @return the proposed protocol if it is supported, json otherwise
+	 */
+	public static WireProtocol findProtocol(String pName) {
+		if (getProtocolName(WireProtocol.BINARY).equals(pName)) {
+			return WireProtocol.BINARY;
+		}
+		return WireProtocol.JSON;
+	}
+
+	private static List<String> createDictionary() {
+		List<String> dictionary = new ArrayList<>();
+		for (Field field : IJsonOption.class.getFields()) {
+			if (JsonAbstractOption.class.isAssignableFrom(field.getType())) {
+				try {
+					dictionary.add(((JsonAbstractOption) field.get(null)).getKey());
+				} catch (IllegalAccessException pIllegalAccessException) {
+					throw new IllegalStateException(pIllegalAccessException);
+				}
+			}
+		}
+		addNames(dictionary, NetCommandId.values());
+		addNames(dictionary, ModelChangeId.values());
+		addNames(dictionary, ReportId.values());
+		addNames(dictionary, SoundId.values());
+		addNames(dictionary, PlayerAction.values());
+		addNames(dictionary, TurnMode.values());
+		addNames(dictionary, ClientMode.values());
+		addNames(dictionary, GameStatus.values());
+		return dictionary;
+	}
+
+	private static void addNames(List<String> pDictionary, INamedObject[] pNamedObjects) {
+		for (INamedObject namedObject : pNamedObjects) {
+			if (StringTool.isProvided(namedObject.getName())) {
+				pDictionary.add(namedObject.getName());
+			}
+		}
+	}
+
+}
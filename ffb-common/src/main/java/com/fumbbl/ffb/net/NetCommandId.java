@@ -69,7 +69,8 @@ public enum NetCommandId implements INamedObject {
 	CLIENT_SET_PREVENT_SKETCHING("clientSetPreventSketching"), SERVER_SET_PREVENT_SKETCHING("serverSetPreventSketching"),
 	CLIENT_PICK_UP_CHOICE("clientPickUpChoice"), CLIENT_KEYWORD_SELECTION("clientKeywordSelection"),
 	CLIENT_USE_HATRED("clientUseHatred"), CLIENT_POSITION_SELECTION("clientPositionSelection"),
-	CLIENT_PUNT_TO_CROWD("clientPuntToCrowd")
+	CLIENT_PUNT_TO_CROWD("clientPuntToCrowd"), INTERNAL_SERVER_HIBERNATE_GAME("internalServerHibernateGame"),
+	INTERNAL_SERVER_GAME_CLOCK("internalServerGameClock")
 	;
 
 	private final String fName;
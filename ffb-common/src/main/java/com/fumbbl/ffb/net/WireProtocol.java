@@ -0,0 +1,10 @@
+package com.fumbbl.ffb.net;
+
+/**
+ * Encoding of the commands sent over a connection, negotiated when connecting.
+ */
+public enum WireProtocol {
+
+	JSON, BINARY
+
+}
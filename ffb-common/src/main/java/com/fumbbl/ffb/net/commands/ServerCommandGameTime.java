@@ -9,13 +9,17 @@ import com.fumbbl.ffb.json.UtilJson;
 import com.fumbbl.ffb.net.NetCommandId;
 
 /**
- * 
+ * Game and turn time at the moment of sending. Running clocks are advanced locally by the client
+ * until the next command arrives.
+ *
  * @author Kalimar
  */
 public class ServerCommandGameTime extends ServerCommand {
 
 	private long fGameTime;
 	private long fTurnTime;
+	private boolean fGameTimeRunning;
+	private boolean fTurnTimeRunning;
 
 	public ServerCommandGameTime() {
 		super();
@@ -26,6 +30,12 @@ public class ServerCommandGameTime extends ServerCommand {
 		fTurnTime = turnTime;
 	}
 
+	public ServerCommandGameTime(long gameTime, long turnTime, boolean gameTimeRunning, boolean turnTimeRunning) {
+		this(gameTime, turnTime);
+		fGameTimeRunning = gameTimeRunning;
+		fTurnTimeRunning = turnTimeRunning;
+	}
+
 	public NetCommandId getId() {
 		return NetCommandId.SERVER_GAME_TIME;
 	}
@@ -46,6 +56,14 @@ public class ServerCommandGameTime extends ServerCommand {
 		return fTurnTime;
 	}
 
+	public boolean isGameTimeRunning() {
+		return fGameTimeRunning;
+	}
+
+	public boolean isTurnTimeRunning() {
+		return fTurnTimeRunning;
+	}
+
 	public boolean isReplayable() {
 		return false;
 	}
@@ -63,6 +81,8 @@ public class ServerCommandGameTime extends ServerCommand {
 		IJsonOption.COMMAND_NR.addTo(jsonObject, getCommandNr());
 		IJsonOption.GAME_TIME.addTo(jsonObject, fGameTime);
 		IJsonOption.TURN_TIME.addTo(jsonObject, fTurnTime);
+		IJsonOption.GAME_TIME_RUNNING.addTo(jsonObject, fGameTimeRunning);
+		IJsonOption.TURN_TIME_RUNNING.addTo(jsonObject, fTurnTimeRunning);
 		return jsonObject;
 	}
 
@@ -72,6 +92,9 @@ public class ServerCommandGameTime extends ServerCommand {
 		setCommandNr(IJsonOption.COMMAND_NR.getFrom(source, jsonObject));
 		fGameTime = IJsonOption.GAME_TIME.getFrom(source, jsonObject);
 		fTurnTime = IJsonOption.TURN_TIME.getFrom(source, jsonObject);
+		// servers sending every second do not provide these
+		fGameTimeRunning = Boolean.TRUE.equals(IJsonOption.GAME_TIME_RUNNING.getFrom(source, jsonObject));
+		fTurnTimeRunning = Boolean.TRUE.equals(IJsonOption.TURN_TIME_RUNNING.getFrom(source, jsonObject));
 		return this;
 	}
 
@@ -1,10 +1,18 @@
 package com.fumbbl.ffb.util;
 
+import com.fumbbl.ffb.RulesCollection;
+import com.fumbbl.ffb.RulesCollection.Rules;
 import io.github.classgraph.ClassInfo;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+/**
+ * Finds classes extending or implementing a type. Uses the build time {@link ScannerIndex} if present
+ * and falls back to scanning the classpath with ClassGraph otherwise.
+ */
 public class RawScanner<T2> {
 
 	private Class<T2> persistentClass;
@@ -13,34 +21,59 @@ public class RawScanner<T2> {
 		persistentClass = cls;
 	}
 
-	@SuppressWarnings("unchecked")
 	public Set<Class<T2>> getSubclasses() {
-		Set<Class<T2>> result = new HashSet<>();
+		ScannerIndex index = ScannerIndex.getInstance();
+		if (index != null) {
+			return loadClasses(index.getSubclasses(persistentClass.getName()));
+		}
+		List<String> classNames = new ArrayList<>();
 		for (ClassInfo classInfo : ScannerSingleton.getInstance().scanResult.getSubclasses(persistentClass.getName())) {
 			if (!classInfo.isAbstract()) {
-				try {
-					result.add((Class<T2>) Class.forName(classInfo.getName()));
-				} catch (ClassNotFoundException e) {
-					e.printStackTrace();
-				}
+				classNames.add(classInfo.getName());
 			}
 		}
-		return result;
+		return loadClasses(classNames);
 	}
 
-	@SuppressWarnings("unchecked")
 	public Set<Class<T2>> getClassesImplementing() {
-		Set<Class<T2>> result = new HashSet<>();
+		ScannerIndex index = ScannerIndex.getInstance();
+		if (index != null) {
+			return loadClasses(index.getClassesImplementing(persistentClass.getName()));
+		}
+		List<String> classNames = new ArrayList<>();
 		for (ClassInfo classInfo : ScannerSingleton.getInstance().scanResult.getClassesImplementing(persistentClass.getName())) {
 			if (!classInfo.isAbstract()) {
-				try {
-					result.add((Class<T2>) Class.forName(classInfo.getName()));
-				} catch (ClassNotFoundException e) {
-					e.printStackTrace();
-				}
+				classNames.add(classInfo.getName());
 			}
 		}
-		return result;
+		return loadClasses(classNames);
+	}
 
+	/**
+	 * Return the rules of the RulesCollection annotations of the given class.
+	 */
+	public List<Rules> getRules(Class<?> cls) {
+		ScannerIndex index = ScannerIndex.getInstance();
+		if (index != null) {
+			return index.getRules(cls.getName());
+		}
+		List<Rules> rules = new ArrayList<>();
+		for (RulesCollection rulesCollection : cls.getAnnotationsByType(RulesCollection.class)) {
+			rules.add(rulesCollection.value());
+		}
+		return rules;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<Class<T2>> loadClasses(List<String> classNames) {
+		Set<Class<T2>> result = new HashSet<>();
+		for (String className : classNames) {
+			try {
+				result.add((Class<T2>) Class.forName(className));
+			} catch (ClassNotFoundException e) {
+				e.printStackTrace();
+			}
+		}
+		return result;
 	}
 }
@@ -4,13 +4,11 @@ import com.fumbbl.ffb.FantasyFootballException;
 import com.fumbbl.ffb.IKeyedItem;
 import com.fumbbl.ffb.RulesCollection;
 import com.fumbbl.ffb.RulesCollection.Rules;
-import com.fumbbl.ffb.RulesCollections;
 import com.fumbbl.ffb.model.GameOptions;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
@@ -145,23 +143,13 @@ public class Scanner<T extends IKeyedItem> {
 	private Set<Class<T>> filterClassesForRulesVersion(GameOptions options, Set<Class<T>> classes) {
 		Set<Class<T>> foundClasses = new HashSet<>();
 		for (Class<T> cls : classes) {
-			List<RulesCollection> ruleAnnotations = new ArrayList<>();
-			for (Annotation a : cls.getAnnotations()) {
-				if (a instanceof RulesCollection) {
-					ruleAnnotations.add((RulesCollection) a);
-				} else if (a instanceof RulesCollections) {
-					ruleAnnotations.addAll(Arrays.asList(((RulesCollections) a).value()));
-				}
-			}
-			boolean hasRulesAnnotation = false;
-			for (RulesCollection a : ruleAnnotations) {
-				hasRulesAnnotation = true;
-				Rules rule = a.value();
+			List<Rules> rules = rawScanner.getRules(cls);
+			for (Rules rule : rules) {
 				if (options.getRulesVersion().isOrExtends(rule)) {
 					foundClasses.add(cls);
 				}
 			}
-			if (!hasRulesAnnotation) {
+			if (rules.isEmpty()) {
 				throw new FantasyFootballException("Missing annotations on scanned class " + cls.getName() + ".");
 			}
 		}
@@ -175,12 +163,7 @@ public class Scanner<T extends IKeyedItem> {
 	}
 
 	private int getHierarchyLevel(T instance) {
-		RulesCollection singleRule = instance.getClass().getAnnotation(RulesCollection.class);
-		if (singleRule != null) {
-			return singleRule.value().getHierarchyLevel();
-		}
-		RulesCollections rules = instance.getClass().getAnnotation(RulesCollections.class);
-		return Arrays.stream(rules.value()).map(rule -> rule.value().getHierarchyLevel())
+		return rawScanner.getRules(instance.getClass()).stream().map(Rules::getHierarchyLevel)
 			.max(Comparator.comparingInt(value -> value)).orElse(0);
 	}
 
@@ -0,0 +1,160 @@
+package com.fumbbl.ffb.util;
+
+import com.fumbbl.ffb.FantasyFootballException;
+import com.fumbbl.ffb.RulesCollection.Rules;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class index written at build time by the ScannerIndexProcessor of ffb-scanner-index.
+ * Replaces the runtime classpath scan of {@link ScannerSingleton} when the index files are on the classpath.
+ */
+class ScannerIndex {
+
+	private static final String INDEX_DIRECTORY = "META-INF/ffb-index/";
+	private static final String INDEX_SUFFIX = ".idx";
+	/**
+	 * Indexed modules with a class of each, telling whether the module is on the classpath.
+	 */
+	private static final String[][] MODULES = {
+		{"ffb-common", "com.fumbbl.ffb.util.ScannerIndex"},
+		{"ffb-client-logic", "com.fumbbl.ffb.client.FantasyFootballClient"},
+		{"ffb-client", "com.fumbbl.ffb.client.FantasyFootballClientAwt"},
+		{"ffb-server", "com.fumbbl.ffb.server.FantasyFootballServer"}
+	};
+
+	private static final ScannerIndex INSTANCE = load(ScannerIndex.class.getClassLoader());
+
+	private final Map<String, List<String>> subclasses;
+	private final Map<String, List<String>> implementations;
+	private final Map<String, List<Rules>> rules;
+
+	/**
+	 * @return the index or null if not every module on the classpath comes with its index file
+	 */
+	static ScannerIndex getInstance() {
+		return INSTANCE;
+	}
+
+	private ScannerIndex(Map<String, String[]> entries) {
+		subclasses = new HashMap<>();
+		implementations = new HashMap<>();
+		rules = new HashMap<>();
+		for (Map.Entry<String, String[]> entry : entries.entrySet()) {
+			String name = entry.getKey();
+			String[] fields = entry.getValue();
+			if (fields[4].length() > 0) {
+				List<Rules> classRules = new ArrayList<>();
+				for (String rule : fields[4].split(",")) {
+					classRules.add(Rules.valueOf(rule));
+				}
+				rules.put(name, Collections.unmodifiableList(classRules));
+			}
+			if (!"1".equals(fields[1])) {
+				continue;
+			}
+			Set<String> interfaces = new LinkedHashSet<>();
+			for (String superclass = name; superclass != null; superclass = superclassOf(entries, superclass)) {
+				if (!superclass.equals(name)) {
+					subclasses.computeIfAbsent(superclass, key -> new ArrayList<>()).add(name);
+				}
+				addInterfaces(entries, entries.get(superclass), interfaces);
+			}
+			for (String implemented : interfaces) {
+				implementations.computeIfAbsent(implemented, key -> new ArrayList<>()).add(name);
+			}
+		}
+	}
+
+	private static String superclassOf(Map<String, String[]> entries, String name) {
+		String[] fields = entries.get(name);
+		return ((fields != null) && (fields[2].length() > 0)) ? fields[2] : null;
+	}
+
+	private static void addInterfaces(Map<String, String[]> entries, String[] fields, Set<String> interfaces) {
+		if ((fields == null) || (fields[3].length() == 0)) {
+			return;
+		}
+		for (String implemented : fields[3].split(",")) {
+			if (interfaces.add(implemented)) {
+				addInterfaces(entries, entries.get(implemented), interfaces);
+			}
+		}
+	}
+
+	/**
+	 * Names of all public non-abstract classes extending the given class.
+	 */
+	List<String> getSubclasses(String className) {
+		return subclasses.getOrDefault(className, Collections.emptyList());
+	}
+
+	/**
+	 * Names of all public non-abstract classes implementing the given interface, directly or indirectly.
+	 */
+	List<String> getClassesImplementing(String interfaceName) {
+		return implementations.getOrDefault(interfaceName, Collections.emptyList());
+	}
+
+	/**
+	 * Rules of the RulesCollection annotations of the given class.
+	 */
+	List<Rules> getRules(String className) {
+		return rules.getOrDefault(className, Collections.emptyList());
+	}
+
+	/**
+	 * A module on the classpath without its index file (an IDE run, a partial build) would silently be missing from
+	 * the index, so the classpath is scanned instead.
+	 */
+	static ScannerIndex load(ClassLoader classLoader) {
+		Map<String, String[]> entries = new HashMap<>();
+		Set<String> loaded = new HashSet<>();
+		try {
+			for (String[] module : MODULES) {
+				Enumeration<URL> resources = classLoader.getResources(INDEX_DIRECTORY + module[0] + INDEX_SUFFIX);
+				if (!resources.hasMoreElements()) {
+					if (classLoader.getResource(module[1].replace('.', '/') + ".class") != null) {
+						return null;
+					}
+					continue;
+				}
+				while (resources.hasMoreElements()) {
+					URL resource = resources.nextElement();
+					if (loaded.add(resource.toString())) {
+						read(resource, entries);
+					}
+				}
+			}
+		} catch (IOException pIoException) {
+			throw new FantasyFootballException("Error reading scanner index", pIoException);
+		}
+		return !entries.isEmpty() ? new ScannerIndex(entries) : null;
+	}
+
+	private static void read(URL resource, Map<String, String[]> entries) throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.length() > 0) {
+					String[] fields = line.split("\t", -1);
+					entries.put(fields[0], fields);
+				}
+			}
+		}
+	}
+
+}
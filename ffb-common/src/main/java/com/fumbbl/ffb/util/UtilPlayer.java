@@ -117,11 +117,7 @@ public class UtilPlayer {
 	public static Player<?>[] findAdjacentPronePlayers(Game pGame, Team pTeam, FieldCoordinate pCoordinate) {
 		List<Player<?>> adjacentPlayers = new ArrayList<>();
 		FieldModel fieldModel = pGame.getFieldModel();
-		FieldCoordinate[] adjacentCoordinates =
-				fieldModel.findAdjacentCoordinates(pCoordinate, FieldCoordinateBounds.FIELD,
-						1, false);
-		for (FieldCoordinate adjacentCoordinate : adjacentCoordinates) {
-			Player<?> player = fieldModel.getPlayer(adjacentCoordinate);
+		for (Player<?> player : fieldModel.findAdjacentPlayers(pCoordinate, 1, false)) {
 			if ((player != null) && (player.getTeam() == pTeam)) {
 				PlayerState playerState = fieldModel.getPlayerState(player);
 				if ((playerState.getBase() == PlayerState.PRONE) || (playerState.getBase() == PlayerState.STUNNED)) {
@@ -155,11 +151,7 @@ public class UtilPlayer {
 	public static Player<?>[] findBlockablePlayers(Game pGame, Team pTeam, FieldCoordinate pCoordinate, int distance) {
 		List<Player<?>> adjacentPlayers = new ArrayList<>();
 		FieldModel fieldModel = pGame.getFieldModel();
-		FieldCoordinate[] adjacentCoordinates =
-				fieldModel.findAdjacentCoordinates(pCoordinate, FieldCoordinateBounds.FIELD,
-						distance, false);
-		for (FieldCoordinate adjacentCoordinate : adjacentCoordinates) {
-			Player<?> player = fieldModel.getPlayer(adjacentCoordinate);
+		for (Player<?> player : fieldModel.findAdjacentPlayers(pCoordinate, distance, false)) {
 			if ((player != null) && (player.getTeam() == pTeam)) {
 				PlayerState playerState = fieldModel.getPlayerState(player);
 				if (playerState.canBeBlocked()) {
@@ -174,11 +166,7 @@ public class UtilPlayer {
 	                                                     int distance) {
 		List<Player<?>> adjacentPlayers = new ArrayList<>();
 		FieldModel fieldModel = pGame.getFieldModel();
-		FieldCoordinate[] adjacentCoordinates =
-				fieldModel.findAdjacentCoordinates(pCoordinate, FieldCoordinateBounds.FIELD,
-						distance, false);
-		for (FieldCoordinate adjacentCoordinate : adjacentCoordinates) {
-			Player<?> player = fieldModel.getPlayer(adjacentCoordinate);
+		for (Player<?> player : fieldModel.findAdjacentPlayers(pCoordinate, distance, false)) {
 			if ((player != null) && (player.getTeam() == pTeam)) {
 				PlayerState playerState = fieldModel.getPlayerState(player);
 				if (playerState.getBase() == PlayerState.STANDING && !playerState.isDistracted()) {
@@ -196,10 +184,7 @@ public class UtilPlayer {
 	public static Player<?>[] findStandingOrPronePlayers(Game pGame, Team pTeam, FieldCoordinate pCoordinate, int pDistance) {
 		List<Player<?>> players = new ArrayList<>();
 		FieldModel fieldModel = pGame.getFieldModel();
-		FieldCoordinate[] coordinates = fieldModel.findAdjacentCoordinates(pCoordinate, FieldCoordinateBounds.FIELD,
-			pDistance, false);
-		for (FieldCoordinate coordinate : coordinates) {
-			Player<?> player = fieldModel.getPlayer(coordinate);
+		for (Player<?> player : fieldModel.findAdjacentPlayers(pCoordinate, pDistance, false)) {
 			if ((player != null) && (player.getTeam() == pTeam)) {
 				PlayerState playerState = fieldModel.getPlayerState(player);
 				if (!playerState.isStunned()) {
@@ -213,11 +198,7 @@ public class UtilPlayer {
 	public static Player<?>[] findAdjacentPlayers(Game pGame, Team pTeam, FieldCoordinate pCoordinate) {
 		List<Player<?>> adjacentPlayers = new ArrayList<>();
 		FieldModel fieldModel = pGame.getFieldModel();
-		FieldCoordinate[] adjacentCoordinates =
-				fieldModel.findAdjacentCoordinates(pCoordinate, FieldCoordinateBounds.FIELD,
-						1, false);
-		for (FieldCoordinate adjacentCoordinate : adjacentCoordinates) {
-			Player<?> player = fieldModel.getPlayer(adjacentCoordinate);
+		for (Player<?> player : fieldModel.findAdjacentPlayers(pCoordinate, 1, false)) {
 			if ((player != null) && (player.getTeam() == pTeam)) {
 				adjacentPlayers.add(player);
 			}
@@ -229,11 +210,7 @@ public class UtilPlayer {
 	                                                             boolean pWithStartCoordinate) {
 		List<Player<?>> adjacentPlayers = new ArrayList<>();
 		FieldModel fieldModel = pGame.getFieldModel();
-		FieldCoordinate[] adjacentCoordinates =
-				fieldModel.findAdjacentCoordinates(pCoordinate, FieldCoordinateBounds.FIELD,
-						1, pWithStartCoordinate);
-		for (FieldCoordinate adjacentCoordinate : adjacentCoordinates) {
-			Player<?> player = fieldModel.getPlayer(adjacentCoordinate);
+		for (Player<?> player : fieldModel.findAdjacentPlayers(pCoordinate, 1, pWithStartCoordinate)) {
 			if ((player != null) && (player.getTeam() == pTeam)) {
 				PlayerState playerState = fieldModel.getPlayerState(player);
 				if (playerState.hasTacklezones()) {
@@ -247,11 +224,7 @@ public class UtilPlayer {
 	public static Player<?>[] findAdjacentPlayersToFeedOn(Game pGame, Team pTeam, FieldCoordinate pCoordinate) {
 		List<Player<?>> adjacentPlayers = new ArrayList<>();
 		FieldModel fieldModel = pGame.getFieldModel();
-		FieldCoordinate[] adjacentCoordinates =
-				fieldModel.findAdjacentCoordinates(pCoordinate, FieldCoordinateBounds.FIELD,
-						1, false);
-		for (FieldCoordinate adjacentCoordinate : adjacentCoordinates) {
-			Player<?> player = fieldModel.getPlayer(adjacentCoordinate);
+		for (Player<?> player : fieldModel.findAdjacentPlayers(pCoordinate, 1, false)) {
 			if ((player != null) && (player.getTeam() == pTeam) && (player instanceof RosterPlayer)
 					&& ((RosterPlayer) player).getPosition().isThrall()) {
 				adjacentPlayers.add(player);
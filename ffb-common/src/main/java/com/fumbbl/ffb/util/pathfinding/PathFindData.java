@@ -2,36 +2,295 @@ package com.fumbbl.ffb.util.pathfinding;
 
 import com.fumbbl.ffb.FieldCoordinate;
 
-import java.util.Hashtable;
+import java.util.Arrays;
+import java.util.Set;
 
-class PathFindData {
-	private final Hashtable<PathFindState, PathFindNode[][]> nodes;
+/**
+ * Search state of a path finder, held in primitive arrays that are reused between searches of the same thread.
+ * <p>
+ * There is one node per square and {@link PathFindState} (NORMAL and HAS_JUMPED), plus a separate start node.
+ * Open nodes are kept in an indexed binary heap ordered by distance plus estimated distance to the target,
+ * preferring diagonal moves on ties.
+ */
+final class PathFindData {
 
-	public PathFindData() {
-		nodes = new Hashtable<>();
-		nodes.put(PathFindState.NORMAL, new PathFindNode[FieldCoordinate.FIELD_WIDTH][FieldCoordinate.FIELD_HEIGHT]);
-		nodes.put(PathFindState.HAS_JUMPED, new PathFindNode[FieldCoordinate.FIELD_WIDTH][FieldCoordinate.FIELD_HEIGHT]);
+	private static final int NODES = 2 * PathFindGrid.CELLS;
+	private static final int START = NODES;
+
+	private static final int BLOCKED_DISTANCE = 1000;
+
+	private static final byte TACKLEZONE = 1;
+	private static final byte CLOSED = 2;
+
+	private static final byte TARGET = 1;
+	private static final byte CELL_CLOSED = 2;
+	private static final byte DOWNED_PLAYER = 4;
+
+	private static final ThreadLocal<PathFindData> DATA = ThreadLocal.withInitial(PathFindData::new);
+
+	private final int[] nodeGenerations = new int[NODES + 1];
+	private final int[] distances = new int[NODES + 1];
+	private final int[] parents = new int[NODES + 1];
+	private final byte[] nodeFlags = new byte[NODES + 1];
+
+	private final int[] cellGenerations = new int[PathFindGrid.CELLS];
+	private final int[] estimates = new int[PathFindGrid.CELLS];
+	private final int[] nonDiagonalEstimates = new int[PathFindGrid.CELLS];
+	private final byte[] cellFlags = new byte[PathFindGrid.CELLS];
+
+	private final int[] targets = new int[PathFindGrid.CELLS];
+	private int targetCount;
+
+	private final int[] heap = new int[NODES + 1];
+	private final int[] heapPositions = new int[NODES + 1];
+	private int heapSize;
+
+	private int generation;
+	private int startCell;
+
+	/**
+	 * @return the data of the current thread, reset for a search from start to the given targets
+	 */
+	static PathFindData start(FieldCoordinate start, Set<FieldCoordinate> targetCoordinates) {
+		PathFindData data = DATA.get();
+		data.reset(start, targetCoordinates);
+		return data;
+	}
+
+	private PathFindData() {
 	}
 
-	public PathFindNode blockNode(FieldCoordinate coordinate) {
-		PathFindNode blockedNode = new PathFindNode(PathFindState.GLOBAL, coordinate, 1000, false, null, null);
+	private void reset(FieldCoordinate start, Set<FieldCoordinate> targetCoordinates) {
+		if (++generation == 0) {
+			Arrays.fill(nodeGenerations, 0);
+			Arrays.fill(cellGenerations, 0);
+			generation = 1;
+		}
+		heapSize = 0;
+		targetCount = 0;
+		for (FieldCoordinate target : targetCoordinates) {
+			targets[targetCount++] = PathFindGrid.getCell(target);
+		}
+		for (int i = 0; i < targetCount; i++) {
+			touchCell(targets[i]);
+			cellFlags[targets[i]] |= TARGET;
+		}
+
+		// the square of the start node counts as processed, the start node itself is kept separately
+		startCell = PathFindGrid.getCell(start);
+		int startSquare = getNode(PathFindState.NORMAL, startCell);
+		touchNode(startSquare, 0);
+		nodeFlags[startSquare] = CLOSED;
+		touchNode(START, 0);
+		push(START);
+	}
 
-		for (PathFindState state : nodes.keySet()) {
-			nodes.get(state)[coordinate.getX()][coordinate.getY()] = blockedNode;
+	private void touchCell(int cell) {
+		if (cellGenerations[cell] == generation) {
+			return;
 		}
+		cellGenerations[cell] = generation;
+		cellFlags[cell] = 0;
+		int estimate = 1000;
+		int nonDiagonalEstimate = 10000;
+		int x = PathFindGrid.getX(cell);
+		int y = PathFindGrid.getY(cell);
+		for (int i = 0; i < targetCount; i++) {
+			int dx = Math.abs(x - PathFindGrid.getX(targets[i]));
+			int dy = Math.abs(y - PathFindGrid.getY(targets[i]));
+			estimate = Math.min(estimate, Math.max(dx, dy));
+			nonDiagonalEstimate = Math.min(nonDiagonalEstimate, dx + dy);
+		}
+		estimates[cell] = estimate;
+		nonDiagonalEstimates[cell] = nonDiagonalEstimate;
+	}
 
-		return blockedNode;
+	private void touchNode(int node, int distance) {
+		touchCell(getCell(node));
+		nodeGenerations[node] = generation;
+		distances[node] = distance;
+		parents[node] = -1;
+		nodeFlags[node] = 0;
+		heapPositions[node] = -1;
 	}
 
-	public boolean isProcessed(PathFindState state, int x, int y) {
-		return nodes.get(state)[x][y] != null;
+	static int getNode(PathFindState state, int cell) {
+		return (state == PathFindState.HAS_JUMPED) ? PathFindGrid.CELLS + cell : cell;
 	}
 
-	public void setNode(FieldCoordinate coord, PathFindNode node) {
-		nodes.get(node.getState())[coord.getX()][coord.getY()] = node;
+	int getCell(int node) {
+		return (node == START) ? startCell : node % PathFindGrid.CELLS;
 	}
 
-	public PathFindNode getNeighbour(PathFindState state, FieldCoordinate neighbour) {
-		return nodes.get(state)[neighbour.getX()][neighbour.getY()];
+	PathFindState getState(int node) {
+		return (node >= PathFindGrid.CELLS) && (node != START) ? PathFindState.HAS_JUMPED : PathFindState.NORMAL;
 	}
+
+	/**
+	 * Marks the square as occupied by a player, it is processed for all states.
+	 */
+	void block(int cell) {
+		touchNode(getNode(PathFindState.NORMAL, cell), BLOCKED_DISTANCE);
+		nodeFlags[getNode(PathFindState.NORMAL, cell)] = CLOSED;
+		touchNode(getNode(PathFindState.HAS_JUMPED, cell), BLOCKED_DISTANCE);
+		nodeFlags[getNode(PathFindState.HAS_JUMPED, cell)] = CLOSED;
+		cellFlags[cell] |= CELL_CLOSED;
+	}
+
+	/**
+	 * Marks the square as a tackle zone, which may be entered as target only.
+	 */
+	void markTacklezone(int cell) {
+		int node = getNode(PathFindState.NORMAL, cell);
+		touchNode(node, BLOCKED_DISTANCE);
+		nodeFlags[node] = TACKLEZONE;
+	}
+
+	void markDownedPlayer(int cell) {
+		touchCell(cell);
+		cellFlags[cell] |= DOWNED_PLAYER;
+	}
+
+	boolean isProcessed(int node) {
+		return nodeGenerations[node] == generation;
+	}
+
+	boolean isClosed(int node) {
+		return (nodeFlags[node] & CLOSED) != 0;
+	}
+
+	boolean isTacklezone(int node) {
+		return (nodeFlags[node] & TACKLEZONE) != 0;
+	}
+
+	boolean isTarget(int cell) {
+		return (cellGenerations[cell] == generation) && ((cellFlags[cell] & TARGET) != 0);
+	}
+
+	/**
+	 * @return true if a node of the square has been processed or the square is occupied by a player
+	 */
+	boolean isCellClosed(int cell) {
+		return (cellGenerations[cell] == generation) && ((cellFlags[cell] & CELL_CLOSED) != 0);
+	}
+
+	boolean isDownedPlayer(int cell) {
+		return (cellGenerations[cell] == generation) && ((cellFlags[cell] & DOWNED_PLAYER) != 0);
+	}
+
+	int getDistance(int node) {
+		return distances[node];
+	}
+
+	void close(int node) {
+		nodeFlags[node] |= CLOSED;
+		cellFlags[getCell(node)] |= CELL_CLOSED;
+	}
+
+	/**
+	 * Opens an unprocessed node.
+	 */
+	void open(int node, int distance, int parent) {
+		touchNode(node, distance);
+		parents[node] = parent;
+		push(node);
+	}
+
+	/**
+	 * Sets a shorter distance for a processed node and (re-)inserts it into the open nodes.
+	 */
+	void update(int node, int distance, int parent) {
+		distances[node] = distance;
+		parents[node] = parent;
+		if (heapPositions[node] >= 0) {
+			siftUp(heapPositions[node], node);
+		} else {
+			push(node);
+		}
+	}
+
+	boolean hasOpenNodes() {
+		return heapSize > 0;
+	}
+
+	int poll() {
+		int result = heap[0];
+		heapPositions[result] = -1;
+		int last = heap[--heapSize];
+		if (heapSize > 0) {
+			siftDown(0, last);
+		}
+		return result;
+	}
+
+	/**
+	 * Path from the start node (exclusive) to the given node. As before, the array has one slot for each step of
+	 * distance, so a path containing jumps has trailing null elements.
+	 */
+	FieldCoordinate[] getPath(int node) {
+		int steps = 0;
+		for (int pathNode = node; parents[pathNode] >= 0; pathNode = parents[pathNode]) {
+			steps++;
+		}
+		// a jump costs two squares of movement, so the path may be shorter than its distance
+		FieldCoordinate[] path = new FieldCoordinate[steps];
+		int pathNode = node;
+		for (int i = steps - 1; i >= 0; i--) {
+			path[i] = PathFindGrid.toCoordinate(getCell(pathNode));
+			pathNode = parents[pathNode];
+		}
+		return path;
+	}
+
+	private void push(int node) {
+		siftUp(heapSize++, node);
+	}
+
+	private void siftUp(int position, int node) {
+		while (position > 0) {
+			int parentPosition = (position - 1) >>> 1;
+			int parent = heap[parentPosition];
+			if (compare(node, parent) >= 0) {
+				break;
+			}
+			heap[position] = parent;
+			heapPositions[parent] = position;
+			position = parentPosition;
+		}
+		heap[position] = node;
+		heapPositions[node] = position;
+	}
+
+	private void siftDown(int position, int node) {
+		int half = heapSize >>> 1;
+		while (position < half) {
+			int childPosition = 2 * position + 1;
+			int child = heap[childPosition];
+			int rightPosition = childPosition + 1;
+			if ((rightPosition < heapSize) && (compare(child, heap[rightPosition]) > 0)) {
+				childPosition = rightPosition;
+				child = heap[childPosition];
+			}
+			if (compare(node, child) <= 0) {
+				break;
+			}
+			heap[position] = child;
+			heapPositions[child] = position;
+			position = childPosition;
+		}
+		heap[position] = node;
+		heapPositions[node] = position;
+	}
+
+	// Order nodes by shortest distance + estimate first, on ties take diagonals first.
+	private int compare(int node, int other) {
+		int nodeCell = getCell(node);
+		int otherCell = getCell(other);
+		int result = (distances[node] + estimates[nodeCell]) - (distances[other] + estimates[otherCell]);
+		if (result == 0) {
+			result = (distances[node] + nonDiagonalEstimates[nodeCell]) - (distances[other] + nonDiagonalEstimates[otherCell]);
+		}
+		return result;
+	}
+
 }
@@ -0,0 +1,127 @@
+package com.fumbbl.ffb.util.pathfinding;
+
+import com.fumbbl.ffb.FieldCoordinate;
+import com.fumbbl.ffb.FieldCoordinateBounds;
+
+import java.util.Arrays;
+
+/**
+ * Static lookup tables for the squares of the pitch, which are encoded as <code>x * FIELD_HEIGHT + y</code>.
+ * For every square the squares up to two steps away are stored in the order of
+ * {@link com.fumbbl.ffb.model.FieldModel#findAdjacentCoordinates}, together with their distance and
+ * the squares jumped over when moving two steps.
+ */
+final class PathFindGrid {
+
+	static final int CELLS = FieldCoordinate.FIELD_WIDTH * FieldCoordinate.FIELD_HEIGHT;
+
+	private static final int MAX_NEIGHBOURS = 24;
+	private static final int MAX_JUMP_OVER = 2;
+
+	private static final int[] NEIGHBOUR_COUNTS = new int[CELLS];
+	private static final int[] NEIGHBOURS = new int[CELLS * MAX_NEIGHBOURS];
+	private static final int[] NEIGHBOUR_DISTANCES = new int[CELLS * MAX_NEIGHBOURS];
+	private static final int[] JUMP_OVER = new int[CELLS * MAX_NEIGHBOURS * MAX_JUMP_OVER];
+
+	static {
+		Arrays.fill(JUMP_OVER, -1);
+		for (int cell = 0; cell < CELLS; cell++) {
+			int x = getX(cell);
+			int y = getY(cell);
+			int count = 0;
+			for (int dy = -2; dy <= 2; dy++) {
+				for (int dx = -2; dx <= 2; dx++) {
+					if (((dx != 0) || (dy != 0)) && isOnGrid(x + dx, y + dy)) {
+						int index = cell * MAX_NEIGHBOURS + count++;
+						NEIGHBOURS[index] = getCell(x + dx, y + dy);
+						NEIGHBOUR_DISTANCES[index] = Math.max(Math.abs(dx), Math.abs(dy));
+						if (NEIGHBOUR_DISTANCES[index] > 1) {
+							initJumpOver(index, x, y, dx, dy);
+						}
+					}
+				}
+			}
+			NEIGHBOUR_COUNTS[cell] = count;
+		}
+	}
+
+	// same squares as PathFinderExtension.findPossiblePathSquares
+	private static void initJumpOver(int index, int x, int y, int dx, int dy) {
+		int[] xVariances = jumpVariances(dx);
+		int[] yVariances = jumpVariances(dy);
+		int count = 0;
+		for (int xVariance : xVariances) {
+			for (int yVariance : yVariances) {
+				JUMP_OVER[index * MAX_JUMP_OVER + count++] = getCell(x + xVariance, y + yVariance);
+			}
+		}
+	}
+
+	private static int[] jumpVariances(int diff) {
+		if (Math.abs(diff) == 2) {
+			return new int[]{diff / 2};
+		} else if (Math.abs(diff) == 1) {
+			return new int[]{diff, 0};
+		}
+		return new int[]{0};
+	}
+
+	private PathFindGrid() {
+	}
+
+	static int getCell(int x, int y) {
+		return x * FieldCoordinate.FIELD_HEIGHT + y;
+	}
+
+	static int getCell(FieldCoordinate coordinate) {
+		return getCell(coordinate.getX(), coordinate.getY());
+	}
+
+	static int getX(int cell) {
+		return cell / FieldCoordinate.FIELD_HEIGHT;
+	}
+
+	static int getY(int cell) {
+		return cell % FieldCoordinate.FIELD_HEIGHT;
+	}
+
+	static boolean isOnGrid(int x, int y) {
+		return (x >= 0) && (x < FieldCoordinate.FIELD_WIDTH) && (y >= 0) && (y < FieldCoordinate.FIELD_HEIGHT);
+	}
+
+	static boolean isOnGrid(FieldCoordinate coordinate) {
+		return (coordinate != null) && isOnGrid(coordinate.getX(), coordinate.getY());
+	}
+
+	static boolean isInBounds(FieldCoordinateBounds bounds, int cell) {
+		int x = getX(cell);
+		int y = getY(cell);
+		return (x >= bounds.getTopLeftCorner().getX()) && (x <= bounds.getBottomRightCorner().getX())
+			&& (y >= bounds.getTopLeftCorner().getY()) && (y <= bounds.getBottomRightCorner().getY());
+	}
+
+	static FieldCoordinate toCoordinate(int cell) {
+		return new FieldCoordinate(getX(cell), getY(cell));
+	}
+
+	static int getNeighbourCount(int cell) {
+		return NEIGHBOUR_COUNTS[cell];
+	}
+
+	static int getNeighbour(int cell, int index) {
+		return NEIGHBOURS[cell * MAX_NEIGHBOURS + index];
+	}
+
+	static int getNeighbourDistance(int cell, int index) {
+		return NEIGHBOUR_DISTANCES[cell * MAX_NEIGHBOURS + index];
+	}
+
+	/**
+	 * @param jumpIndex 0 or 1
+	 * @return square passed when jumping to the given neighbour or -1
+	 */
+	static int getJumpOver(int cell, int index, int jumpIndex) {
+		return JUMP_OVER[(cell * MAX_NEIGHBOURS + index) * MAX_JUMP_OVER + jumpIndex];
+	}
+
+}
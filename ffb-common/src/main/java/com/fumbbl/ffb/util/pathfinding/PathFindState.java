@@ -1,5 +1,5 @@
 package com.fumbbl.ffb.util.pathfinding;
 
 public enum PathFindState {
-	GLOBAL, NORMAL, HAS_JUMPED
+	NORMAL, HAS_JUMPED
 }
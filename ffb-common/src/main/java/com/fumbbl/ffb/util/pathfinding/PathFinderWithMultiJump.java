@@ -2,6 +2,7 @@ package com.fumbbl.ffb.util.pathfinding;
 
 import com.fumbbl.ffb.FieldCoordinate;
 import com.fumbbl.ffb.FieldCoordinateBounds;
+import com.fumbbl.ffb.PlayerState;
 import com.fumbbl.ffb.TurnMode;
 import com.fumbbl.ffb.model.ActingPlayer;
 import com.fumbbl.ffb.model.FieldModel;
@@ -13,8 +14,6 @@ import com.fumbbl.ffb.model.stadium.OnPitchEnhancement;
 
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,8 +22,6 @@ public class PathFinderWithMultiJump {
 
 	private final PathFindContext theoreticalRangeContext = new PathFindContext.Builder().allowJump().build();
 
-	private final PathFinderExtension extension = new PathFinderExtension();
-
 	public final static PathFinderWithMultiJump INSTANCE = new PathFinderWithMultiJump();
 
 	/**
@@ -58,19 +55,8 @@ public class PathFinderWithMultiJump {
 			endzoneBounds = FieldCoordinateBounds.ENDZONE_HOME;
 		}
 
-		// Keeps a list of potential candidates
-		PriorityQueue<PathFindNode> openSet = new PriorityQueue<>();
-
-		PathFindData data = new PathFindData();
-
-		// Nodes which have already been processed
-		Set<FieldCoordinate> closedSet = new HashSet<>();
-		PathFindNode neighbour;
-
-		// Initialise the open set with the start squares
-		PathFindNode current = new PathFindNode(PathFindState.NORMAL, start, 0, false, pEndCoords, null);
-		data.setNode(start, current);
-		openSet.add(current);
+		// Keeps the open nodes and the processed ones
+		PathFindData data = PathFindData.start(start, pEndCoords);
 
 		FieldCoordinate ballCoord = fieldModel.getBallCoordinate();
 
@@ -78,15 +64,15 @@ public class PathFinderWithMultiJump {
 			// Handle the square with the ball by marking it as a TZ.
 			// This allows the player to move into the ball, but not through it.
 			if (isOnField(game, ballCoord) && context.isBlockTacklezones() && fieldModel.isBallInPlay()) {
-				data.setNode(ballCoord, new PathFindNode(PathFindState.NORMAL, ballCoord, 1000, true, pEndCoords, null));
+				data.markTacklezone(PathFindGrid.getCell(ballCoord));
 			}
 		}
 
 		if (context.isBlockTrapdoors()) {
 			// Treat trapdoor fields as tackle zones to avoid paths crossing them
-			fieldModel.getOnPitchEnhancements().stream().map(OnPitchEnhancement::getCoordinate)
-				.forEach(
-					coord -> data.setNode(coord, new PathFindNode(PathFindState.NORMAL, coord, 1000, true, pEndCoords, null)));
+			for (OnPitchEnhancement enhancement : fieldModel.getOnPitchEnhancements()) {
+				data.markTacklezone(PathFindGrid.getCell(enhancement.getCoordinate()));
+			}
 		}
 
 		boolean hasBall = start.equals(ballCoord);
@@ -94,18 +80,28 @@ public class PathFinderWithMultiJump {
 		// Block off squares with players in them
 		FieldCoordinate[] players = fieldModel.getPlayerCoordinates();
 		for (FieldCoordinate pCoord : players) {
+			if (!PathFindGrid.isOnGrid(pCoord)) {
+				continue;
+			}
+			int playerCell = PathFindGrid.getCell(pCoord);
+			Player<?> p = fieldModel.getPlayer(pCoord);
+
+			// Remember prone or stunned players, which can be jumped over
+			PlayerState playerState = fieldModel.getPlayerState(p);
+			if ((playerState != null) && (playerState.isStunned() || playerState.isProneOrStunned())) {
+				data.markDownedPlayer(playerCell);
+			}
+
 			if (!isOnField(game, pCoord)) {
 				continue;
 			}
-			PathFindNode blockedNode = data.blockNode(pCoord);
-			closedSet.add(blockedNode.getCoord());
+			data.block(playerCell);
 
 			if (context.isBlockTacklezones()) {
 				// And mark tackle zones as well for each opponent
-				Player<?> p = fieldModel.getPlayer(pCoord);
 				if (p.getTeam() != movingTeam) {
 					// Skip if the player does not have a tackle zone
-					if (!fieldModel.getPlayerState(p).hasTacklezones()) {
+					if (!playerState.hasTacklezones()) {
 						continue;
 					}
 
@@ -114,92 +110,88 @@ public class PathFinderWithMultiJump {
 						return null;
 					}
 
-					FieldCoordinate[] tz = fieldModel.findAdjacentCoordinates(pCoord, FieldCoordinateBounds.FIELD, 1, false);
-					for (FieldCoordinate tzCoord : tz) {
-						if (data.isProcessed(PathFindState.NORMAL, tzCoord.getX(), tzCoord.getY())) {
+					for (int i = 0; i < PathFindGrid.getNeighbourCount(playerCell); i++) {
+						int tzCell = PathFindGrid.getNeighbour(playerCell, i);
+						if ((PathFindGrid.getNeighbourDistance(playerCell, i) > 1)
+							|| data.isProcessed(PathFindData.getNode(PathFindState.NORMAL, tzCell))) {
 							continue;
 						}
 
 						// mark the node as a tacklezone
-						data.setNode(tzCoord, new PathFindNode(PathFindState.NORMAL, tzCoord, 1000, true, pEndCoords, null));
+						data.markTacklezone(tzCell);
 					}
 				}
 			}
 		}
 
-		while (!openSet.isEmpty()) {
+		while (data.hasOpenNodes()) {
 			// Get the node with the shortest distance that hasn't been
 			// processed
-			current = openSet.poll();
+			int current = data.poll();
+			int currentCell = data.getCell(current);
+			int currentDistance = data.getDistance(current);
 
 			// Check if we're beyond normal movement range
-			if (current.getDistance() > maxDistance) {
+			if (currentDistance > maxDistance) {
 				return null;
 			}
 
 			// Are we at the target?
-			if (pEndCoords.contains(current.getCoord())) {
-				return reconstructPath(current);
+			if (data.isTarget(currentCell)) {
+				return data.getPath(current);
 			}
 
 			// Mark as processed
-			closedSet.add(current.getCoord());
+			data.close(current);
 
-			boolean isInEndzone = endzoneBounds.isInBounds(current.getCoord());
+			boolean isInEndzone = PathFindGrid.isInBounds(endzoneBounds, currentCell);
 
 			// For each neighbour of the square we're processing...
-			int searchDistance = context.isAllowJump() && maxDistance - current.getDistance() > 1 ? 2 : 1;
-			FieldCoordinate[] neighbours = fieldModel.findAdjacentCoordinates(current.getCoord(), FieldCoordinateBounds.FIELD,
-				searchDistance, false);
-			for (FieldCoordinate neighbourCoord : neighbours) {
+			int searchDistance = context.isAllowJump() && maxDistance - currentDistance > 1 ? 2 : 1;
+			for (int i = 0; i < PathFindGrid.getNeighbourCount(currentCell); i++) {
 
-				int distance = current.getCoord().distanceInSteps(neighbourCoord);
+				int distance = PathFindGrid.getNeighbourDistance(currentCell, i);
+				if (distance > searchDistance) {
+					continue;
+				}
 
 				// Don't allow a jump if the context explicitly disallows it, if the path
 				// already has jumped before or if the player can't jump
-				boolean downedPlayerOnPath = extension.hasProneOrStunnedPlayerOnPath(game, current.getCoord(), neighbourCoord);
-				Set<FieldCoordinate> pathSquares = extension.findPossiblePathSquares(current.getCoord(), neighbourCoord);
-				pathSquares.removeAll(closedSet);
 				if (distance > 1 &&
-					(maxDistance - current.getDistance() - distance < 0 // square can't be reached
+					(maxDistance - currentDistance - distance < 0 // square can't be reached
 						|| !context.isAllowJump()  // we look for a path without any jumps
-						|| (!canJumpOverStandingPlayer && !downedPlayerOnPath)
+						|| (!canJumpOverStandingPlayer && !isDownedPlayerOnPath(data, currentCell, i))
 						// player without leap/pogo can only jump over downed players
-						|| (!pathSquares.isEmpty()) // there is an empty square in between, so we should not jump over it
+						|| hasOpenSquareOnPath(data, currentCell, i) // there is an empty square in between, so we should not jump over it
 					)) {
 					continue;
 				}
 
-				// Get the state of the next coordinate.
-				PathFindState neighbourState = distance == 1 ? current.getState() : PathFindState.HAS_JUMPED;
+				int neighbourCell = PathFindGrid.getNeighbour(currentCell, i);
 
-				// Get the neighbour node from the cache if it exists
-				neighbour = data.getNeighbour(neighbourState, neighbourCoord);
+				// Get the state of the next coordinate.
+				PathFindState neighbourState = distance == 1 ? data.getState(current) : PathFindState.HAS_JUMPED;
+				int neighbour = PathFindData.getNode(neighbourState, neighbourCell);
+				boolean processed = data.isProcessed(neighbour);
 
 				// Did we already process the square?
-				if (neighbour != null
-					&& (closedSet.contains(neighbour.getCoord()) || (neighbour.isTz() && !pEndCoords.contains(neighbourCoord)))) {
+				if (processed
+					&& (data.isCellClosed(neighbourCell) || (data.isTacklezone(neighbour) && !data.isTarget(neighbourCell)))) {
 					continue;
 				}
 
 				// Don't allow moving out of an endzone if the player has the ball.
 				if (!context.isAllowExitEndzoneWithBall() && hasBall && isInEndzone &&
-					!endzoneBounds.isInBounds(neighbourCoord)) {
+					!PathFindGrid.isInBounds(endzoneBounds, neighbourCell)) {
 					continue;
 				}
 
-				if (neighbour == null) {
+				if (!processed) {
 					// This square has not been touched at all yet
-					neighbour =
-						new PathFindNode(neighbourState, neighbourCoord, current.getDistance() + distance, false, pEndCoords,
-							current);
-					data.setNode(neighbourCoord, neighbour);
-					openSet.add(neighbour);
-				} else if (current.getDistance() + distance < neighbour.getDistance()) {
+					data.open(neighbour, currentDistance + distance, current);
+				} else if (currentDistance + distance < data.getDistance(neighbour)) {
 					// Found an old path with a longer distance, so update
-					openSet.remove(neighbour);
-					neighbour.setSource(current, distance);
-					openSet.add(neighbour);
+					data.update(neighbour, currentDistance + distance, current);
 				}
 			}
 		}
@@ -208,18 +200,24 @@ public class PathFinderWithMultiJump {
 		return null;
 	}
 
-	// Constructs a path from the PathFindNode structure
-	private FieldCoordinate[] reconstructPath(PathFindNode end) {
-		LinkedList<FieldCoordinate> list = new LinkedList<>();
-		FieldCoordinate[] result = new FieldCoordinate[end.getDistance()];
-
-		while (end.getParent() != null) {
-			// The list is reversed, so we add to the head of the linked list.
-			list.addFirst(end.getCoord());
-			end = end.getParent();
+	private boolean isDownedPlayerOnPath(PathFindData data, int cell, int neighbourIndex) {
+		for (int i = 0; i < 2; i++) {
+			int jumpOver = PathFindGrid.getJumpOver(cell, neighbourIndex, i);
+			if ((jumpOver >= 0) && data.isDownedPlayer(jumpOver)) {
+				return true;
+			}
 		}
+		return false;
+	}
 
-		return list.toArray(result);
+	private boolean hasOpenSquareOnPath(PathFindData data, int cell, int neighbourIndex) {
+		for (int i = 0; i < 2; i++) {
+			int jumpOver = PathFindGrid.getJumpOver(cell, neighbourIndex, i);
+			if ((jumpOver >= 0) && !data.isCellClosed(jumpOver)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	public FieldCoordinate[] getPathToBlitzTarget(Game pGame, Player<?> targetPlayer) {
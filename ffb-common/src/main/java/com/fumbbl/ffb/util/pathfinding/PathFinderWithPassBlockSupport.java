@@ -13,8 +13,6 @@ import com.fumbbl.ffb.model.stadium.OnPitchEnhancement;
 
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -61,30 +59,20 @@ public class PathFinderWithPassBlockSupport {
 			endzoneBounds = FieldCoordinateBounds.ENDZONE_HOME;
 		}
 
-		// Keeps a list of potential candidates
-		PriorityQueue<PathFindNode> openSet = new PriorityQueue<>();
-
-		PathFindData data = new PathFindData();
-
-		// Nodes which have already been processed
-		Set<PathFindNode> closedSet = new HashSet<>();
-		PathFindNode neighbour;
-
-		// Initialise the open set with the start squares
-		PathFindNode current = new PathFindNode(PathFindState.NORMAL, start, 0, false, pEndCoords, null);
-		data.setNode(start, current);
-		openSet.add(current);
+		// Keeps the open nodes and the processed ones
+		PathFindData data = PathFindData.start(start, pEndCoords);
 
 		// Handle the square with the ball by marking it as a TZ.
 		// This allows the player to move into the ball, but not through it.
 		FieldCoordinate ballCoord = fieldModel.getBallCoordinate();
 		if (isOnField(pGame, ballCoord) && context.isBlockTacklezones() && fieldModel.isBallInPlay()) {
-			data.setNode(ballCoord, new PathFindNode(PathFindState.NORMAL, ballCoord, 1000, true, pEndCoords, null));
+			data.markTacklezone(PathFindGrid.getCell(ballCoord));
 		}
 
 		// Treat trapdoor fields as tackle zones to avoid paths crossing them
-		fieldModel.getOnPitchEnhancements().stream().map(OnPitchEnhancement::getCoordinate)
-				.forEach(coord -> data.setNode(coord, new PathFindNode(PathFindState.NORMAL, coord, 1000, true, pEndCoords, null)));
+		for (OnPitchEnhancement enhancement : fieldModel.getOnPitchEnhancements()) {
+			data.markTacklezone(PathFindGrid.getCell(enhancement.getCoordinate()));
+		}
 
 		boolean hasBall = start.equals(ballCoord);
 
@@ -93,8 +81,8 @@ public class PathFinderWithPassBlockSupport {
 		for (FieldCoordinate pCoord : players) {
 			if (!isOnField(pGame, pCoord))
 				continue;
-			PathFindNode blockedNode = data.blockNode(pCoord);
-			closedSet.add(blockedNode);
+			int playerCell = PathFindGrid.getCell(pCoord);
+			data.block(playerCell);
 
 			if (context.isBlockTacklezones()) {
 				// And mark tackle zones as well for each opponent
@@ -110,81 +98,83 @@ public class PathFinderWithPassBlockSupport {
 						return null;
 					}
 
-					FieldCoordinate[] tz = fieldModel.findAdjacentCoordinates(pCoord, FieldCoordinateBounds.FIELD, 1, false);
-					for (FieldCoordinate tzCoord : tz) {
-						if (data.isProcessed(PathFindState.NORMAL, tzCoord.getX(), tzCoord.getY())) {
+					for (int i = 0; i < PathFindGrid.getNeighbourCount(playerCell); i++) {
+						int tzCell = PathFindGrid.getNeighbour(playerCell, i);
+						if ((PathFindGrid.getNeighbourDistance(playerCell, i) > 1)
+								|| data.isProcessed(PathFindData.getNode(PathFindState.NORMAL, tzCell))) {
 							continue;
 						}
 
 						// mark the node as a tacklezone
-						data.setNode(tzCoord, new PathFindNode(PathFindState.NORMAL, tzCoord, 1000, true, pEndCoords, null));
+						data.markTacklezone(tzCell);
 					}
 				}
 			}
 		}
 
-		while (!openSet.isEmpty()) {
+		while (data.hasOpenNodes()) {
 			// Get the node with the shortest distance that hasn't been
 			// processed
-			current = openSet.poll();
+			int current = data.poll();
+			int currentCell = data.getCell(current);
+			int currentDistance = data.getDistance(current);
+			PathFindState currentState = data.getState(current);
 
 			// Check if we're beyond normal movement range
-			if (current.getDistance() > maxDistance) {
+			if (currentDistance > maxDistance) {
 				return null;
 			}
 
 			// Are we at the target?
-			if (pEndCoords.contains(current.getCoord())) {
-				return reconstructPath(current);
+			if (data.isTarget(currentCell)) {
+				return data.getPath(current);
 			}
 
 			// Mark as processed
-			closedSet.add(current);
+			data.close(current);
 
-			boolean isInEndzone = endzoneBounds.isInBounds(current.getCoord());
+			boolean isInEndzone = PathFindGrid.isInBounds(endzoneBounds, currentCell);
 
 			// For each neighbour of the square we're processing...
-			int searchDistance = canJump && current.getState() != PathFindState.HAS_JUMPED && context.isAllowJump()
-					&& maxDistance - current.getDistance() > 1 ? 2 : 1;
-			FieldCoordinate[] neighbours = fieldModel.findAdjacentCoordinates(current.getCoord(), FieldCoordinateBounds.FIELD,
-					searchDistance, false);
-			for (FieldCoordinate neighbourCoord : neighbours) {
+			int searchDistance = canJump && currentState != PathFindState.HAS_JUMPED && context.isAllowJump()
+					&& maxDistance - currentDistance > 1 ? 2 : 1;
+			for (int i = 0; i < PathFindGrid.getNeighbourCount(currentCell); i++) {
 
-				int distance = current.getCoord().distanceInSteps(neighbourCoord);
+				int distance = PathFindGrid.getNeighbourDistance(currentCell, i);
+				if (distance > searchDistance) {
+					continue;
+				}
 
 				// Don't allow a jump if the context explicitly disallows it, if the path
 				// already has jumped before or if the player can't jump
-				if (distance > 1 && (maxDistance - current.getDistance() - distance < 0 || current.getState() == PathFindState.HAS_JUMPED
+				if (distance > 1 && (maxDistance - currentDistance - distance < 0 || currentState == PathFindState.HAS_JUMPED
 						|| !context.isAllowJump() || !canJump))
 					continue;
 
-				// Get the state of the next coordinate.
-				PathFindState neighbourState = distance == 1 ? current.getState() : PathFindState.HAS_JUMPED;
+				int neighbourCell = PathFindGrid.getNeighbour(currentCell, i);
 
-				// Get the neighbour node from the cache if it exists
-				neighbour = data.getNeighbour(neighbourState, neighbourCoord);
+				// Get the state of the next coordinate.
+				PathFindState neighbourState = distance == 1 ? currentState : PathFindState.HAS_JUMPED;
+				int neighbour = PathFindData.getNode(neighbourState, neighbourCell);
+				boolean processed = data.isProcessed(neighbour);
 
 				// Did we already process the square?
-				if (neighbour != null
-						&& (closedSet.contains(neighbour) || (neighbour.isTz() && !pEndCoords.contains(neighbourCoord)))) {
+				if (processed
+						&& (data.isClosed(neighbour) || (data.isTacklezone(neighbour) && !data.isTarget(neighbourCell)))) {
 					continue;
 				}
 
 				// Don't allow moving out of an endzone if the player has the ball.
-				if (!context.isAllowExitEndzoneWithBall() && hasBall && isInEndzone && !endzoneBounds.isInBounds(neighbourCoord))
+				if (!context.isAllowExitEndzoneWithBall() && hasBall && isInEndzone
+						&& !PathFindGrid.isInBounds(endzoneBounds, neighbourCell))
 					continue;
 
-				if (neighbour == null) {
+				if (!processed) {
 					// This square has not been touched at all yet
-					neighbour = new PathFindNode(neighbourState, neighbourCoord, current.getDistance() + distance, false, pEndCoords,
-							current);
-					data.setNode(neighbourCoord, neighbour);
-					openSet.add(neighbour);
-				} else if (current.getDistance() + distance < neighbour.getDistance()) {
+					data.open(neighbour, currentDistance + distance, current);
+				} else if (currentDistance + distance < data.getDistance(neighbour)) {
 					// Found an old path with a longer distance, so update
-					openSet.remove(neighbour);
-					neighbour.setSource(current, distance);
-					openSet.add(neighbour);
+					data.update(neighbour, currentDistance + distance, current);
 				}
 			}
 		}
@@ -193,20 +183,6 @@ public class PathFinderWithPassBlockSupport {
 		return null;
 	}
 
-	// Constructs a path from the PathFindNode structure
-	private FieldCoordinate[] reconstructPath(PathFindNode end) {
-		LinkedList<FieldCoordinate> list = new LinkedList<>();
-		FieldCoordinate[] result = new FieldCoordinate[end.getDistance()];
-
-		while (end.getParent() != null) {
-			// The list is reversed, so we add to the head of the linked list.
-			list.addFirst(end.getCoord());
-			end = end.getParent();
-		}
-
-		return list.toArray(result);
-	}
-
 	/**
 	 * Gets the shortest path from the player in the start square to the end square.
 	 * The start square must contain a player. The path will not leave or pass
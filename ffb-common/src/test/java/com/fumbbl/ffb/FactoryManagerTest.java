@@ -0,0 +1,84 @@
+package com.fumbbl.ffb;
+
+import com.fumbbl.ffb.FactoryType.Factory;
+import com.fumbbl.ffb.factory.DodgeModifierFactory;
+import com.fumbbl.ffb.factory.IFactorySource;
+import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.option.GameOptionBoolean;
+import com.fumbbl.ffb.option.GameOptionId;
+import com.fumbbl.ffb.option.IGameOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class FactoryManagerTest {
+
+	private FactoryManager manager;
+	private IFactorySource applicationSource;
+
+	@BeforeEach
+	void setUp() {
+		manager = new FactoryManager();
+		applicationSource = mock(IFactorySource.class);
+	}
+
+	@Test
+	void gamesWithSameOptionsShareRuntime() {
+		Game first = createGame(RulesCollection.Rules.BB2020);
+		Game second = createGame(RulesCollection.Rules.BB2020);
+
+		assertSame(first.getRules().getRuntime(), second.getRules().getRuntime());
+		assertSame(first.getFactory(Factory.SKILL), second.getFactory(Factory.SKILL));
+		assertSame(first.getFactory(Factory.MECHANIC), second.getFactory(Factory.MECHANIC));
+		assertEquals(1, manager.getNumberOfRuntimes());
+	}
+
+	@Test
+	void gameBoundFactoriesAreCreatedForEachGame() {
+		Game first = createGame(RulesCollection.Rules.BB2020);
+		Game second = createGame(RulesCollection.Rules.BB2020);
+
+		DodgeModifierFactory firstDodge = first.getFactory(Factory.DODGE_MODIFIER);
+		DodgeModifierFactory secondDodge = second.getFactory(Factory.DODGE_MODIFIER);
+		assertNotSame(firstDodge, secondDodge);
+		assertNotSame(first.getFactory(Factory.TEMPORARY_STAT_MODIFIER), second.getFactory(Factory.TEMPORARY_STAT_MODIFIER));
+		assertNotNull(firstDodge.forName("1 Prehensile Tail"));
+		assertSame(firstDodge.forName("1 Prehensile Tail"), secondDodge.forName("1 Prehensile Tail"));
+	}
+
+	@Test
+	void differentOptionsUseDifferentRuntimes() {
+		Game bb2020 = createGame(RulesCollection.Rules.BB2020);
+		Game bb2016 = createGame(RulesCollection.Rules.BB2016);
+		Game bombs = createGame(RulesCollection.Rules.BB2020,
+			((GameOptionBoolean) bb2020.getOptions().getFactory().createGameOption(GameOptionId.BOMB_USES_MB)).setValue(true));
+
+		assertNotSame(bb2020.getFactory(Factory.SKILL), bb2016.getFactory(Factory.SKILL));
+		assertNotSame(bb2020.getRules().getRuntime(), bombs.getRules().getRuntime());
+		assertEquals(3, manager.getNumberOfRuntimes());
+	}
+
+	@Test
+	void optionsWithDefaultValuesDoNotChangeKey() {
+		Game plain = createGame(RulesCollection.Rules.BB2020);
+		Game defaults = createGame(RulesCollection.Rules.BB2020,
+			((GameOptionBoolean) plain.getOptions().getFactory().createGameOption(GameOptionId.BOMB_USES_MB)).setValue(false));
+
+		assertSame(plain.getRules().getRuntime(), defaults.getRules().getRuntime());
+	}
+
+	private Game createGame(RulesCollection.Rules rules, IGameOption... options) {
+		Game game = new Game(applicationSource, manager);
+		game.getOptions().addOption(game.getOptions().getFactory().createGameOption(GameOptionId.RULESVERSION).setValue(rules.name()));
+		for (IGameOption option : options) {
+			game.getOptions().addOption(option);
+		}
+		game.initializeRules();
+		return game;
+	}
+}
@@ -0,0 +1,130 @@
+package com.fumbbl.ffb.model;
+
+import com.fumbbl.ffb.FieldCoordinate;
+import com.fumbbl.ffb.FieldCoordinateBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FieldModelTest {
+
+	private FieldModel fieldModel;
+	private Map<String, Player<?>> players;
+
+	@BeforeEach
+	public void setUp() {
+		Game game = mock(Game.class);
+		players = new HashMap<>();
+		when(game.getPlayerById(anyString())).thenAnswer(invocation -> players.get(invocation.<String>getArgument(0)));
+		fieldModel = new FieldModel(game);
+	}
+
+	@Test
+	public void adjacentCoordinatesMatchBoundsAndOrder() {
+		for (int steps = 1; steps <= 4; steps++) {
+			for (int x = -1; x <= FieldCoordinate.FIELD_WIDTH; x++) {
+				for (int y = -1; y <= FieldCoordinate.FIELD_HEIGHT; y++) {
+					FieldCoordinate coordinate = new FieldCoordinate(x, y);
+					assertArrayEquals(expectedAdjacentCoordinates(coordinate, steps, false),
+						fieldModel.findAdjacentCoordinates(coordinate, FieldCoordinateBounds.FIELD, steps, false));
+					assertArrayEquals(expectedAdjacentCoordinates(coordinate, steps, true),
+						fieldModel.findAdjacentCoordinates(coordinate, FieldCoordinateBounds.FIELD, steps, true));
+				}
+			}
+		}
+		assertArrayEquals(new FieldCoordinate[]{new FieldCoordinate(12, 4), new FieldCoordinate(12, 5)},
+			fieldModel.findAdjacentCoordinates(new FieldCoordinate(11, 4), FieldCoordinateBounds.LOS_HOME, 1, false));
+		assertEquals(0, fieldModel.findAdjacentCoordinates(null, FieldCoordinateBounds.FIELD, 1, false).length);
+	}
+
+	@Test
+	public void adjacentCoordinatesAreCopies() {
+		FieldCoordinate coordinate = new FieldCoordinate(5, 5);
+		FieldCoordinate[] adjacentCoordinates = fieldModel.findAdjacentCoordinates(coordinate, FieldCoordinateBounds.FIELD, 1, false);
+		adjacentCoordinates[0] = null;
+
+		FieldCoordinate[] otherCoordinates = fieldModel.findAdjacentCoordinates(coordinate, FieldCoordinateBounds.FIELD, 1, false);
+
+		assertNotSame(adjacentCoordinates, otherCoordinates);
+		assertEquals(new FieldCoordinate(4, 4), otherCoordinates[0]);
+	}
+
+	@Test
+	public void sharedCoordinateInstances() {
+		assertSame(FieldCoordinate.of(3, 4), FieldCoordinate.of(3, 4));
+		assertSame(FieldCoordinate.of(FieldCoordinate.KO_AWAY_X, 2), new FieldCoordinate(FieldCoordinate.KO_HOME_X, 2).transform());
+		assertEquals(new FieldCoordinate(40, 3), FieldCoordinate.of(40, 3));
+	}
+
+	@Test
+	public void occupancyFollowsPlayerMoves() {
+		Player<?> first = addPlayer("first");
+		Player<?> second = addPlayer("second");
+		FieldCoordinate square = new FieldCoordinate(10, 7);
+
+		fieldModel.setPlayerCoordinate(first, square);
+		assertSame(first, fieldModel.getPlayer(square));
+
+		fieldModel.setPlayerCoordinate(second, square);
+		assertSame(second, fieldModel.getPlayer(square));
+
+		fieldModel.remove(second);
+		assertSame(first, fieldModel.getPlayer(square));
+
+		fieldModel.setPlayerCoordinate(first, new FieldCoordinate(FieldCoordinate.RSV_HOME_X, 0));
+		assertNull(fieldModel.getPlayer(square));
+		assertSame(first, fieldModel.getPlayer(new FieldCoordinate(FieldCoordinate.RSV_HOME_X, 0)));
+	}
+
+	@Test
+	public void adjacentPlayers() {
+		Player<?> center = addPlayer("center");
+		Player<?> adjacent = addPlayer("adjacent");
+		Player<?> twoSquaresAway = addPlayer("twoSquaresAway");
+		fieldModel.setPlayerCoordinate(center, new FieldCoordinate(0, 0));
+		fieldModel.setPlayerCoordinate(adjacent, new FieldCoordinate(1, 1));
+		fieldModel.setPlayerCoordinate(twoSquaresAway, new FieldCoordinate(0, 2));
+
+		assertEquals(Collections.singletonList(adjacent), fieldModel.findAdjacentPlayers(new FieldCoordinate(0, 0), 1, false));
+		assertEquals(Arrays.asList(center, adjacent), fieldModel.findAdjacentPlayers(new FieldCoordinate(0, 0), 1, true));
+		assertEquals(Arrays.asList(adjacent, twoSquaresAway), fieldModel.findAdjacentPlayers(new FieldCoordinate(0, 0), 2, false));
+		assertTrue(fieldModel.findAdjacentPlayers(new FieldCoordinate(FieldCoordinate.BAN_HOME_X, 0), 1, false).isEmpty());
+	}
+
+	private Player<?> addPlayer(String id) {
+		Player<?> player = mock(Player.class);
+		when(player.getId()).thenReturn(id);
+		players.put(id, player);
+		return player;
+	}
+
+	private FieldCoordinate[] expectedAdjacentCoordinates(FieldCoordinate coordinate, int steps, boolean withStart) {
+		List<FieldCoordinate> coordinates = new ArrayList<>();
+		for (int y = -steps; y <= steps; y++) {
+			for (int x = -steps; x <= steps; x++) {
+				FieldCoordinate adjacentCoordinate = new FieldCoordinate(coordinate.getX() + x, coordinate.getY() + y);
+				if (((x != 0) || (y != 0) || withStart) && FieldCoordinateBounds.FIELD.isInBounds(adjacentCoordinate)) {
+					coordinates.add(adjacentCoordinate);
+				}
+			}
+		}
+		return coordinates.toArray(new FieldCoordinate[0]);
+	}
+
+}
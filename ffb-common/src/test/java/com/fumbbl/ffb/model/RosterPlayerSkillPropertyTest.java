@@ -0,0 +1,90 @@
+package com.fumbbl.ffb.model;
+
+import com.fumbbl.ffb.SkillCategory;
+import com.fumbbl.ffb.model.property.ISkillProperty;
+import com.fumbbl.ffb.model.property.NamedProperty;
+import com.fumbbl.ffb.model.skill.Skill;
+import com.fumbbl.ffb.model.skill.SkillWithValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class RosterPlayerSkillPropertyTest {
+
+	private static final ISkillProperty PROPERTY = new NamedProperty("Test Property");
+	private static final ISkillProperty TEMPORARY_PROPERTY = new NamedProperty("Temporary Property");
+
+	private RosterPlayer player;
+	private Skill skill;
+	private Game game;
+
+	@BeforeEach
+	public void setUp() {
+		player = new RosterPlayer();
+		skill = new PropertySkill("Test Skill", PROPERTY);
+		game = mock(Game.class);
+	}
+
+	@Test
+	public void addedSkillProvidesProperty() {
+		assertFalse(player.hasSkillProperty(PROPERTY));
+
+		player.addSkill(skill);
+
+		assertTrue(player.hasSkillProperty(PROPERTY));
+		assertEquals(skill, player.getSkillWithProperty(PROPERTY));
+	}
+
+	@Test
+	public void removedSkillNoLongerProvidesProperty() {
+		player.addSkill(skill);
+		assertTrue(player.hasSkillProperty(PROPERTY));
+
+		player.removeSkill(skill);
+
+		assertFalse(player.hasSkillProperty(PROPERTY));
+		assertNull(player.getSkillWithProperty(PROPERTY));
+	}
+
+	@Test
+	public void usedSkillPropertyIsNotUnused() {
+		player.addSkill(skill);
+		assertTrue(player.hasUnusedSkillProperty(PROPERTY));
+
+		player.markUsed(skill, game);
+		assertFalse(player.hasUnusedSkillProperty(PROPERTY));
+		assertTrue(player.hasSkillProperty(PROPERTY));
+
+		player.markUnused(skill, game);
+		assertTrue(player.hasUnusedSkillProperty(PROPERTY));
+	}
+
+	@Test
+	public void temporarySkillsAndPropertiesAreIndexed() {
+		player.addTemporarySkills("card", Collections.singleton(new SkillWithValue(skill)));
+		player.addTemporaryProperties("card", Collections.singleton(TEMPORARY_PROPERTY));
+
+		assertTrue(player.hasSkillProperty(PROPERTY));
+		assertTrue(player.hasUnusedSkillProperty(TEMPORARY_PROPERTY));
+
+		player.removeEnhancements("card");
+
+		assertFalse(player.hasSkillProperty(PROPERTY));
+		assertFalse(player.hasSkillProperty(TEMPORARY_PROPERTY));
+	}
+
+	private static class PropertySkill extends Skill {
+
+		PropertySkill(String name, ISkillProperty property) {
+			super(name, SkillCategory.GENERAL);
+			registerProperty(property);
+		}
+	}
+}
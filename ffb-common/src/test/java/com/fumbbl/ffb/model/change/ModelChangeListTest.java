@@ -0,0 +1,88 @@
+package com.fumbbl.ffb.model.change;
+
+import com.fumbbl.ffb.FieldCoordinate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ModelChangeListTest {
+
+	private ModelChangeList changeList;
+
+	@BeforeEach
+	void setUp() {
+		changeList = new ModelChangeList();
+	}
+
+	@Test
+	void repeatedSetterKeepsLastValue() {
+		changeList.add(new ModelChange(ModelChangeId.FIELD_MODEL_SET_PLAYER_COORDINATE, "player1", new FieldCoordinate(1, 1)));
+		changeList.add(new ModelChange(ModelChangeId.FIELD_MODEL_SET_PLAYER_COORDINATE, "player1", new FieldCoordinate(2, 1)));
+		ModelChange last = new ModelChange(ModelChangeId.FIELD_MODEL_SET_PLAYER_COORDINATE, "player1", new FieldCoordinate(3, 1));
+		changeList.add(last);
+
+		assertEquals(2, changeList.compact());
+
+		assertEquals(1, changeList.size());
+		assertSame(last, changeList.getChanges()[0]);
+	}
+
+	@Test
+	void differentKeysAndIdsAreKept() {
+		changeList.add(new ModelChange(ModelChangeId.FIELD_MODEL_SET_PLAYER_COORDINATE, "player1", new FieldCoordinate(1, 1)));
+		changeList.add(new ModelChange(ModelChangeId.FIELD_MODEL_SET_PLAYER_COORDINATE, "player2", new FieldCoordinate(2, 1)));
+		changeList.add(new ModelChange(ModelChangeId.PLAYER_RESULT_SET_BLOCKS, "player1", 1));
+
+		assertEquals(0, changeList.compact());
+
+		assertEquals(3, changeList.size());
+	}
+
+	@Test
+	void otherChangeForSameKeyEndsRun() {
+		changeList.add(new ModelChange(ModelChangeId.FIELD_MODEL_SET_PLAYER_COORDINATE, "player1", new FieldCoordinate(1, 1)));
+		changeList.add(new ModelChange(ModelChangeId.FIELD_MODEL_REMOVE_PLAYER, "player1", null));
+		changeList.add(new ModelChange(ModelChangeId.FIELD_MODEL_SET_PLAYER_COORDINATE, "player1", new FieldCoordinate(2, 1)));
+
+		assertEquals(0, changeList.compact());
+
+		assertEquals(3, changeList.size());
+	}
+
+	@Test
+	void changesWithoutLastWriteWinsAreKept() {
+		changeList.add(new ModelChange(ModelChangeId.ACTING_PLAYER_SET_PLAYER_ID, null, "player1"));
+		changeList.add(new ModelChange(ModelChangeId.ACTING_PLAYER_SET_PLAYER_ID, null, "player2"));
+		changeList.add(new ModelChange(ModelChangeId.GAME_SET_DEFENDER_ID, "player3", null));
+		changeList.add(new ModelChange(ModelChangeId.GAME_SET_DEFENDER_ID, "player4", null));
+
+		assertEquals(0, changeList.compact());
+
+		assertEquals(4, changeList.size());
+	}
+
+	@Test
+	void orderOfRemainingChangesIsKept() {
+		ModelChange half = new ModelChange(ModelChangeId.GAME_SET_HALF, null, 1);
+		changeList.add(half);
+		changeList.add(new ModelChange(ModelChangeId.TURN_DATA_SET_RE_ROLLS, ModelChange.HOME, 2));
+		ModelChange reRolls = new ModelChange(ModelChangeId.TURN_DATA_SET_RE_ROLLS, ModelChange.HOME, 1);
+		changeList.add(reRolls);
+		ModelChange away = new ModelChange(ModelChangeId.TURN_DATA_SET_RE_ROLLS, ModelChange.AWAY, 3);
+		changeList.add(away);
+
+		assertEquals(1, changeList.compact());
+
+		List<ModelChange> changes = Arrays.asList(changeList.getChanges());
+		assertEquals(3, changes.size());
+		assertSame(half, changes.get(0));
+		assertSame(reRolls, changes.get(1));
+		assertSame(away, changes.get(2));
+	}
+
+}
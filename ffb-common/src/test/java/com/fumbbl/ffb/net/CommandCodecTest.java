@@ -0,0 +1,185 @@
+package com.fumbbl.ffb.net;
+
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import com.fumbbl.ffb.json.IJsonOption;
+import com.fumbbl.ffb.model.change.ModelChangeId;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandCodecTest {
+
+	private final CommandCodec codec = new CommandCodec(true);
+
+	@Test
+	void binaryMessagesRoundTrip() throws IOException {
+		JsonObject command = createModelSync(3);
+
+		byte[] message = codec.encode(command, WireProtocol.BINARY);
+
+		assertTrue(CommandCodec.isBinary(message, 0, message.length));
+		assertEquals(command, codec.decode(message, 0, message.length));
+	}
+
+	@Test
+	void knownNamesAreWrittenAsIndices() {
+		JsonObject command = createModelSync(3);
+
+		byte[] binary = codec.encode(command, WireProtocol.BINARY);
+
+		assertTrue(binary.length * 3 < command.toString().getBytes(StandardCharsets.UTF_8).length);
+	}
+
+	@Test
+	void largeMessagesAreDeflated() throws IOException {
+		JsonObject command = createModelSync(500);
+
+		byte[] message = codec.encode(command, WireProtocol.BINARY);
+
+		assertEquals(0x02, message[0]);
+		assertTrue(message.length < command.toString().length() / 10);
+		assertEquals(command, codec.decode(message, 0, message.length));
+	}
+
+	@Test
+	void valuesRoundTrip() throws IOException {
+		JsonArray values = new JsonArray()
+			.add(0).add(-1).add(Long.MAX_VALUE).add(Long.MIN_VALUE).add(1.5).add(-0.25).add(1e300)
+			.add(true).add(false).add(JsonValue.NULL)
+			.add("").add("Grün ☠").add("Grün ☠")
+			.add(new JsonArray()).add(new JsonObject().add("", "empty key"));
+
+		byte[] message = codec.encode(values, WireProtocol.BINARY);
+		JsonArray decoded = codec.decode(message, 0, message.length).asArray();
+
+		assertEquals(values, decoded);
+		assertEquals(Long.MIN_VALUE, decoded.get(3).asLong());
+	}
+
+	@Test
+	void messagesAreDecodedByTheirOwnFormat() throws IOException {
+		JsonObject command = createModelSync(3);
+		byte[] json = new CommandCodec(false).encode(command, WireProtocol.JSON);
+		byte[] compressed = codec.encode(command, WireProtocol.JSON);
+
+		assertFalse(CommandCodec.isBinary(json, 0, json.length));
+		assertFalse(CommandCodec.isBinary(compressed, 0, compressed.length));
+		assertEquals(command, new CommandCodec(false).decode(json, 0, json.length));
+		assertEquals(command, codec.decode(compressed, 0, compressed.length));
+	}
+
+	@Test
+	void messagesAreDecodedFromAnOffset() throws IOException {
+		byte[] message = codec.encode(createModelSync(1), WireProtocol.BINARY);
+		byte[] buffer = new byte[message.length + 7];
+		System.arraycopy(message, 0, buffer, 5, message.length);
+
+		assertEquals(createModelSync(1), codec.decode(buffer, 5, message.length));
+	}
+
+	@Test
+	void truncatedMessagesAreRejected() {
+		byte[] small = codec.encode(createModelSync(1), WireProtocol.BINARY);
+		byte[] large = codec.encode(createModelSync(500), WireProtocol.BINARY);
+
+		assertThrows(IOException.class, () -> codec.decode(Arrays.copyOf(small, small.length - 1), 0, small.length - 1));
+		assertThrows(IOException.class, () -> codec.decode(Arrays.copyOf(large, large.length / 2), 0, large.length / 2));
+	}
+
+	@Test
+	void declaredLengthBeyondTheLimitIsRejected() {
+		CommandCodec limited = new CommandCodec(true, 64 * 1024);
+		byte[] huge = {0x02, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0x00};
+		byte[] large = codec.encode(createModelSync(20000), WireProtocol.BINARY);
+
+		assertThrows(IOException.class, () -> limited.decode(huge, 0, huge.length));
+		assertThrows(IOException.class, () -> limited.decode(large, 0, large.length));
+	}
+
+	@Test
+	void negativeDeclaredLengthIsRejected() {
+		byte[] negative = {0x02, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+			(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01, 0x00};
+
+		assertThrows(IOException.class, () -> codec.decode(negative, 0, negative.length));
+	}
+
+	@Test
+	void inflatingBeyondTheDeclaredLengthIsRejected() {
+		byte[] message = codec.encode(createModelSync(500), WireProtocol.BINARY);
+		int declaredLength = 0;
+		int headerLength = 1;
+		for (int shift = 0; ; shift += 7) {
+			int b = message[headerLength++] & 0xFF;
+			declaredLength |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				break;
+			}
+		}
+		byte[] understated = new byte[message.length - headerLength + 2];
+		understated[0] = 0x02;
+		understated[1] = 0x7F;
+		System.arraycopy(message, headerLength, understated, 2, message.length - headerLength);
+
+		assertTrue(declaredLength > 0x7F);
+		assertThrows(IOException.class, () -> codec.decode(understated, 0, understated.length));
+	}
+
+	@Test
+	void deepNestingIsRejected() throws IOException {
+		byte[] shallow = nestedArrays(50);
+		byte[] deep = nestedArrays(100000);
+
+		codec.decode(shallow, 0, shallow.length);
+		assertThrows(IOException.class, () -> codec.decode(deep, 0, deep.length));
+	}
+
+	@Test
+	void onlyMatchingBinaryProtocolIsAccepted() {
+		String binary = CommandCodec.getProtocolName(WireProtocol.BINARY);
+
+		assertEquals(WireProtocol.BINARY, CommandCodec.findProtocol(binary));
+		assertEquals(WireProtocol.JSON, CommandCodec.findProtocol("binary-0"));
+		assertEquals(WireProtocol.JSON, CommandCodec.findProtocol(CommandCodec.getProtocolName(WireProtocol.JSON)));
+		assertEquals(WireProtocol.JSON, CommandCodec.findProtocol(null));
+	}
+
+	private byte[] nestedArrays(int pDepth) {
+		byte[] message = new byte[2 * pDepth + 3];
+		message[0] = 0x01;
+		for (int i = 0; i < pDepth; i++) {
+			// array with a single element
+			message[2 * i + 1] = 0x08;
+			message[2 * i + 2] = 0x01;
+		}
+		// innermost empty array
+		message[2 * pDepth + 1] = 0x08;
+		message[2 * pDepth + 2] = 0x00;
+		return message;
+	}
+
+		private JsonObject createModelSync(int pNrOfChanges) {
+		JsonArray changes = new JsonArray();
+		for (int i = 0; i < pNrOfChanges; i++) {
+			changes.add(new JsonObject()
+				.add(IJsonOption.MODEL_CHANGE_ID.getKey(), ModelChangeId.PLAYER_RESULT_SET_SERIOUS_INJURY.getName())
+				.add(IJsonOption.MODEL_CHANGE_KEY.getKey(), "player" + (i % 11))
+				.add(IJsonOption.MODEL_CHANGE_VALUE.getKey(), i));
+		}
+		return new JsonObject()
+			.add(IJsonOption.NET_COMMAND_ID.getKey(), NetCommandId.SERVER_MODEL_SYNC.getName())
+			.add(IJsonOption.COMMAND_NR.getKey(), 4711)
+			.add(IJsonOption.MODEL_CHANGE_LIST.getKey(), new JsonObject()
+				.add(IJsonOption.MODEL_CHANGE_ARRAY.getKey(), changes));
+	}
+
+}
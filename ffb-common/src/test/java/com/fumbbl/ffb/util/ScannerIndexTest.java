@@ -0,0 +1,174 @@
+package com.fumbbl.ffb.util;
+
+import com.fumbbl.ffb.RulesCollection;
+import com.fumbbl.ffb.RulesCollection.Rules;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ScanResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the index written by the ScannerIndexProcessor for ffb-common against a ClassGraph scan of the same classes.
+ */
+class ScannerIndexTest {
+
+	private static ScanResult scanResult;
+	private static File mainClasses;
+
+	@BeforeAll
+	static void scan() throws URISyntaxException {
+		mainClasses = new File(ScannerIndex.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		scanResult = new ClassGraph()
+			.enableClassInfo()
+			.acceptPackages("com.fumbbl.ffb")
+			.scan();
+	}
+
+	@AfterAll
+	static void close() {
+		scanResult.close();
+	}
+
+	@Test
+	void indexIsOnTheClasspath() {
+		assertNotNull(ScannerIndex.getInstance());
+	}
+
+	@Test
+	void moduleWithoutIndexFallsBackToTheClasspathScan(@TempDir Path classes) throws IOException {
+		addClass(classes, "com.fumbbl.ffb.server.FantasyFootballServer");
+
+		try (URLClassLoader classLoader = classLoader(classes)) {
+			assertNull(ScannerIndex.load(classLoader));
+		}
+	}
+
+	@Test
+	void indexesOfAllModulesOnTheClasspathAreCombined(@TempDir Path classes) throws IOException {
+		addClass(classes, "com.fumbbl.ffb.server.FantasyFootballServer");
+		Path index = classes.resolve("META-INF/ffb-index/ffb-server.idx");
+		Files.createDirectories(index.getParent());
+		Files.write(index, Collections.singletonList("com.fumbbl.ffb.server.Indexed\t1\t\tcom.fumbbl.ffb.INamedObject\t"),
+			StandardCharsets.UTF_8);
+
+		try (URLClassLoader classLoader = classLoader(classes)) {
+			ScannerIndex combined = ScannerIndex.load(classLoader);
+			assertNotNull(combined);
+			List<String> implementations = combined.getClassesImplementing("com.fumbbl.ffb.INamedObject");
+			assertTrue(implementations.contains("com.fumbbl.ffb.server.Indexed"));
+			assertTrue(implementations.containsAll(ScannerIndex.getInstance().getClassesImplementing(
+				"com.fumbbl.ffb.INamedObject")));
+		}
+	}
+
+	@Test
+	void implementationsMatchTheClasspathScan() {
+		ScannerIndex index = ScannerIndex.getInstance();
+		List<String> mismatches = new ArrayList<>();
+		int checked = 0;
+		for (ClassInfo interfaceInfo : scanResult.getAllInterfaces()) {
+			if (isMainClass(interfaceInfo)) {
+				Set<String> expected = concreteMainClasses(scanResult.getClassesImplementing(interfaceInfo.getName()));
+				Set<String> indexed = new TreeSet<>(index.getClassesImplementing(interfaceInfo.getName()));
+				if (!expected.equals(indexed)) {
+					mismatches.add(interfaceInfo.getName() + ": scanned " + expected + ", indexed " + indexed);
+				}
+				checked++;
+			}
+		}
+		assertTrue(checked > 0);
+		assertEquals(new ArrayList<String>(), mismatches);
+	}
+
+	@Test
+	void subclassesMatchTheClasspathScan() {
+		ScannerIndex index = ScannerIndex.getInstance();
+		List<String> mismatches = new ArrayList<>();
+		int checked = 0;
+		for (ClassInfo classInfo : scanResult.getAllStandardClasses()) {
+			if (isMainClass(classInfo)) {
+				Set<String> expected = concreteMainClasses(scanResult.getSubclasses(classInfo.getName()));
+				Set<String> indexed = new TreeSet<>(index.getSubclasses(classInfo.getName()));
+				if (!expected.equals(indexed)) {
+					mismatches.add(classInfo.getName() + ": scanned " + expected + ", indexed " + indexed);
+				}
+				checked++;
+			}
+		}
+		assertTrue(checked > 0);
+		assertEquals(new ArrayList<String>(), mismatches);
+	}
+
+	@Test
+	void rulesMatchTheAnnotations() throws ClassNotFoundException {
+		ScannerIndex index = ScannerIndex.getInstance();
+		List<String> mismatches = new ArrayList<>();
+		for (ClassInfo classInfo : scanResult.getAllClasses()) {
+			if (isMainClass(classInfo)) {
+				Class<?> cls = Class.forName(classInfo.getName(), false, ScannerIndexTest.class.getClassLoader());
+				Set<Rules> expected = new HashSet<>();
+				for (RulesCollection rulesCollection : cls.getAnnotationsByType(RulesCollection.class)) {
+					expected.add(rulesCollection.value());
+				}
+				Set<Rules> indexed = new HashSet<>(index.getRules(classInfo.getName()));
+				if (!expected.equals(indexed)) {
+					mismatches.add(classInfo.getName() + ": annotated " + expected + ", indexed " + indexed);
+				}
+			}
+		}
+		assertEquals(new ArrayList<String>(), mismatches);
+	}
+
+	private static void addClass(Path classes, String className) throws IOException {
+		Path classFile = classes.resolve(className.replace('.', '/') + ".class");
+		Files.createDirectories(classFile.getParent());
+		Files.createFile(classFile);
+	}
+
+	private static URLClassLoader classLoader(Path classes) throws IOException {
+		return new URLClassLoader(new URL[]{classes.toUri().toURL()}, ScannerIndexTest.class.getClassLoader());
+	}
+
+	private static Set<String> concreteMainClasses(ClassInfoList classInfos) {
+		Set<String> names = new TreeSet<>();
+		for (ClassInfo classInfo : classInfos) {
+			if (isMainClass(classInfo) && !classInfo.isAbstract()) {
+				names.add(classInfo.getName());
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Test classes and the processor itself are on the classpath as well, but not part of the index.
+	 */
+	private static boolean isMainClass(ClassInfo classInfo) {
+		return mainClasses.equals(classInfo.getClasspathElementFile());
+	}
+
+}
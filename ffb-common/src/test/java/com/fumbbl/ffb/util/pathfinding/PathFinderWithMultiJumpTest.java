@@ -0,0 +1,148 @@
+package com.fumbbl.ffb.util.pathfinding;
+
+import com.fumbbl.ffb.FieldCoordinate;
+import com.fumbbl.ffb.PlayerState;
+import com.fumbbl.ffb.TurnMode;
+import com.fumbbl.ffb.model.ActingPlayer;
+import com.fumbbl.ffb.model.FieldModel;
+import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.model.Player;
+import com.fumbbl.ffb.model.Team;
+import com.fumbbl.ffb.model.property.NamedProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PathFinderWithMultiJumpTest {
+
+	private static final int LINE_X = 7;
+
+	private Game game;
+	private FieldModel fieldModel;
+	private Team home;
+	private Team away;
+	private Map<String, Player<?>> players;
+
+	@BeforeEach
+	public void setUp() {
+		game = mock(Game.class);
+		fieldModel = new FieldModel(game);
+		home = mock(Team.class);
+		away = mock(Team.class);
+		players = new HashMap<>();
+		when(game.getFieldModel()).thenReturn(fieldModel);
+		when(game.getTurnMode()).thenReturn(TurnMode.REGULAR);
+		when(game.getTeamHome()).thenReturn(home);
+		when(game.getPlayerById(anyString())).thenAnswer(invocation -> players.get(invocation.<String>getArgument(0)));
+	}
+
+	@Test
+	public void leapOverLineOfStandingPlayers() {
+		Player<?> mover = addActingPlayer(6, new FieldCoordinate(5, 7));
+		when(mover.hasSkillProperty(NamedProperties.canLeap)).thenReturn(true);
+		addLine(-1);
+		Player<?> target = addPlayer("target", away, 6, new FieldCoordinate(10, 7), PlayerState.STANDING);
+
+		FieldCoordinate[] path = PathFinderWithMultiJump.INSTANCE.getPathToBlitzTarget(game, target);
+
+		assertNotNull(path);
+		assertEquals(3, path.length);
+		assertTrue(path[path.length - 1].isAdjacent(new FieldCoordinate(10, 7)));
+		int jump = findJump(new FieldCoordinate(5, 7), path);
+		assertTrue(jump >= 0);
+		assertEquals(LINE_X - 1, previous(new FieldCoordinate(5, 7), path, jump).getX());
+		assertEquals(LINE_X + 1, path[jump].getX());
+	}
+
+	@Test
+	public void noJumpOverStandingPlayersWithoutLeap() {
+		addActingPlayer(6, new FieldCoordinate(5, 7));
+		addLine(-1);
+		Player<?> target = addPlayer("target", away, 6, new FieldCoordinate(10, 7), PlayerState.STANDING);
+
+		assertNull(PathFinderWithMultiJump.INSTANCE.getPathToBlitzTarget(game, target));
+	}
+
+	@Test
+	public void jumpOverPronePlayerInTheLineWithoutLeap() {
+		addActingPlayer(6, new FieldCoordinate(5, 7));
+		addLine(5);
+		Player<?> target = addPlayer("target", away, 6, new FieldCoordinate(10, 7), PlayerState.STANDING);
+
+		FieldCoordinate[] path = PathFinderWithMultiJump.INSTANCE.getPathToBlitzTarget(game, target);
+
+		assertNotNull(path);
+		assertEquals(3, path.length);
+		assertTrue(path[path.length - 1].isAdjacent(new FieldCoordinate(10, 7)));
+		int jump = findJump(new FieldCoordinate(5, 7), path);
+		assertTrue(jump >= 0);
+		// the jump has to pass the prone player
+		FieldCoordinate from = previous(new FieldCoordinate(5, 7), path, jump);
+		assertTrue(from.isAdjacent(new FieldCoordinate(LINE_X, 5)));
+		assertTrue(path[jump].isAdjacent(new FieldCoordinate(LINE_X, 5)));
+	}
+
+	@Test
+	public void noJumpBeyondMovement() {
+		Player<?> mover = addActingPlayer(2, new FieldCoordinate(5, 7));
+		when(mover.hasSkillProperty(NamedProperties.canLeap)).thenReturn(true);
+		addLine(-1);
+		Player<?> target = addPlayer("target", away, 6, new FieldCoordinate(10, 7), PlayerState.STANDING);
+
+		assertNull(PathFinderWithMultiJump.INSTANCE.getPathToBlitzTarget(game, target));
+	}
+
+	/**
+	 * Puts a line of opponents across the whole width of the field, the one at the given row is prone.
+	 */
+	private void addLine(int proneY) {
+		for (int y = 0; y < 15; y++) {
+			addPlayer("line" + y, away, 6, new FieldCoordinate(LINE_X, y),
+				(y == proneY) ? PlayerState.PRONE : PlayerState.STANDING);
+		}
+	}
+
+	private int findJump(FieldCoordinate start, FieldCoordinate[] path) {
+		for (int i = 0; i < path.length; i++) {
+			if (previous(start, path, i).distanceInSteps(path[i]) > 1) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private FieldCoordinate previous(FieldCoordinate start, FieldCoordinate[] path, int index) {
+		return (index > 0) ? path[index - 1] : start;
+	}
+
+	private Player<?> addActingPlayer(int movement, FieldCoordinate coordinate) {
+		Player<?> player = addPlayer("mover", home, movement, coordinate, PlayerState.STANDING);
+		ActingPlayer actingPlayer = mock(ActingPlayer.class);
+		doReturn(player).when(actingPlayer).getPlayer();
+		when(game.getActingPlayer()).thenReturn(actingPlayer);
+		return player;
+	}
+
+	private Player<?> addPlayer(String id, Team team, int movement, FieldCoordinate coordinate, int state) {
+		Player<?> player = mock(Player.class);
+		when(player.getId()).thenReturn(id);
+		doReturn(team).when(player).getTeam();
+		when(player.getMovementWithModifiers()).thenReturn(movement);
+		players.put(id, player);
+		fieldModel.setPlayerCoordinate(player, coordinate);
+		fieldModel.setPlayerState(player, new PlayerState(state));
+		return player;
+	}
+
+}
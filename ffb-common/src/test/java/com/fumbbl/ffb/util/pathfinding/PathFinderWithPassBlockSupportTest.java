@@ -0,0 +1,144 @@
+package com.fumbbl.ffb.util.pathfinding;
+
+import com.fumbbl.ffb.FieldCoordinate;
+import com.fumbbl.ffb.PlayerState;
+import com.fumbbl.ffb.TurnMode;
+import com.fumbbl.ffb.model.ActingPlayer;
+import com.fumbbl.ffb.model.FieldModel;
+import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.model.Player;
+import com.fumbbl.ffb.model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PathFinderWithPassBlockSupportTest {
+
+	private Game game;
+	private FieldModel fieldModel;
+	private Team home;
+	private Team away;
+	private Map<String, Player<?>> players;
+
+	@BeforeEach
+	public void setUp() {
+		game = mock(Game.class);
+		fieldModel = new FieldModel(game);
+		home = mock(Team.class);
+		away = mock(Team.class);
+		players = new HashMap<>();
+		when(game.getFieldModel()).thenReturn(fieldModel);
+		when(game.getTurnMode()).thenReturn(TurnMode.REGULAR);
+		when(game.getTeamHome()).thenReturn(home);
+		when(game.getPlayerById(anyString())).thenAnswer(invocation -> players.get(invocation.<String>getArgument(0)));
+	}
+
+	@Test
+	public void straightPathOnEmptyField() {
+		Player<?> player = addPlayer("mover", home, 6, new FieldCoordinate(5, 7));
+
+		FieldCoordinate[] path = PathFinderWithPassBlockSupport.INSTANCE.getShortestPath(game,
+			Collections.singleton(new FieldCoordinate(9, 7)), player, 0);
+
+		assertArrayEquals(new FieldCoordinate[]{new FieldCoordinate(6, 7), new FieldCoordinate(7, 7),
+			new FieldCoordinate(8, 7), new FieldCoordinate(9, 7)}, path);
+	}
+
+	@Test
+	public void pathAvoidsTacklezones() {
+		Player<?> player = addPlayer("mover", home, 8, new FieldCoordinate(5, 7));
+		addPlayer("opponent", away, 6, new FieldCoordinate(7, 7));
+
+		FieldCoordinate[] path = PathFinderWithPassBlockSupport.INSTANCE.getShortestPath(game,
+			Collections.singleton(new FieldCoordinate(9, 7)), player, 0);
+
+		assertNotNull(path);
+		assertEquals(new FieldCoordinate(9, 7), path[path.length - 1]);
+		for (FieldCoordinate coordinate : path) {
+			assertTrue((coordinate.getX() < 6) || (coordinate.getX() > 8) || (Math.abs(coordinate.getY() - 7) > 1));
+		}
+	}
+
+	@Test
+	public void pathMayEndInTacklezone() {
+		Player<?> player = addPlayer("mover", home, 6, new FieldCoordinate(5, 7));
+		addPlayer("opponent", away, 6, new FieldCoordinate(9, 7));
+
+		FieldCoordinate[] path = PathFinderWithPassBlockSupport.INSTANCE.getShortestPath(game,
+			Collections.singleton(new FieldCoordinate(8, 7)), player, 0);
+
+		assertNotNull(path);
+		assertEquals(3, path.length);
+	}
+
+	@Test
+	public void noPathBeyondMovement() {
+		Player<?> player = addPlayer("mover", home, 6, new FieldCoordinate(5, 7));
+
+		assertNull(PathFinderWithPassBlockSupport.INSTANCE.getShortestPath(game,
+			Collections.singleton(new FieldCoordinate(12, 7)), player, 0));
+		assertNull(PathFinderWithPassBlockSupport.INSTANCE.getShortestPath(game,
+			Collections.singleton(new FieldCoordinate(11, 7)), player, 1));
+	}
+
+	@Test
+	public void noPathWhenStartingInTacklezone() {
+		Player<?> player = addPlayer("mover", home, 6, new FieldCoordinate(5, 7));
+		addPlayer("opponent", away, 6, new FieldCoordinate(6, 8));
+
+		assertNull(PathFinderWithPassBlockSupport.INSTANCE.getShortestPath(game,
+			Collections.singleton(new FieldCoordinate(3, 7)), player, 0));
+	}
+
+	@Test
+	public void repeatedSearchesAreIndependent() {
+		Player<?> player = addPlayer("mover", home, 6, new FieldCoordinate(5, 7));
+
+		assertNull(PathFinderWithPassBlockSupport.INSTANCE.getShortestPath(game,
+			Collections.singleton(new FieldCoordinate(12, 7)), player, 0));
+		assertEquals(2, PathFinderWithPassBlockSupport.INSTANCE.getShortestPath(game,
+			Collections.singleton(new FieldCoordinate(7, 9)), player, 0).length);
+		assertEquals(1, PathFinderWithPassBlockSupport.INSTANCE.getShortestPath(game,
+			Collections.singleton(new FieldCoordinate(6, 6)), player, 0).length);
+	}
+
+	@Test
+	public void blitzPathEndsNextToTarget() {
+		Player<?> player = addPlayer("mover", home, 6, new FieldCoordinate(5, 7));
+		Player<?> target = addPlayer("target", away, 6, new FieldCoordinate(10, 7));
+		ActingPlayer actingPlayer = mock(ActingPlayer.class);
+		doReturn(player).when(actingPlayer).getPlayer();
+		when(game.getActingPlayer()).thenReturn(actingPlayer);
+
+		FieldCoordinate[] path = PathFinderWithMultiJump.INSTANCE.getPathToBlitzTarget(game, target);
+
+		assertNotNull(path);
+		assertEquals(4, path.length);
+		assertTrue(path[path.length - 1].isAdjacent(new FieldCoordinate(10, 7)));
+	}
+
+	private Player<?> addPlayer(String id, Team team, int movement, FieldCoordinate coordinate) {
+		Player<?> player = mock(Player.class);
+		when(player.getId()).thenReturn(id);
+		doReturn(team).when(player).getTeam();
+		when(player.getMovementWithModifiers()).thenReturn(movement);
+		players.put(id, player);
+		fieldModel.setPlayerCoordinate(player, coordinate);
+		fieldModel.setPlayerState(player, new PlayerState(PlayerState.STANDING));
+		return player;
+	}
+
+}
@@ -0,0 +1,165 @@
+package com.fumbbl.ffb.scanner;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Annotation processor writing an index of all types of a module below com.fumbbl.ffb, so the Scanner of ffb-common
+ * does not have to scan the classpath at runtime.
+ * <p>
+ * The index is written to META-INF/ffb-index/&lt;module&gt;.idx with the module name given by the processor option
+ * ffb.index.module. Each line describes one type, fields separated by tabs:
+ * binary name, 1 if it is a public concrete class (the ones reported by the Scanner) else 0, superclass,
+ * comma separated interfaces, comma separated rules of its RulesCollection annotations.
+ * Only supertypes below com.fumbbl.ffb are listed.
+ */
+public class ScannerIndexProcessor extends AbstractProcessor {
+
+	public static final String OPTION_MODULE = "ffb.index.module";
+	public static final String INDEX_DIRECTORY = "META-INF/ffb-index/";
+	public static final String INDEX_SUFFIX = ".idx";
+
+	private static final String PACKAGE_PREFIX = "com.fumbbl.ffb.";
+	private static final String RULES_COLLECTION = "com.fumbbl.ffb.RulesCollection";
+	private static final String RULES_COLLECTIONS = "com.fumbbl.ffb.RulesCollections";
+
+	private final Map<String, String> fEntries = new TreeMap<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton("*");
+	}
+
+	@Override
+	public Set<String> getSupportedOptions() {
+		return Collections.singleton(OPTION_MODULE);
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> pAnnotations, RoundEnvironment pRoundEnv) {
+		for (Element element : pRoundEnv.getRootElements()) {
+			addType(element);
+		}
+		if (pRoundEnv.processingOver()) {
+			writeIndex();
+		}
+		return false;
+	}
+
+	private void addType(Element pElement) {
+		if (!(pElement instanceof TypeElement) || (pElement.getKind() == ElementKind.ANNOTATION_TYPE)) {
+			return;
+		}
+		TypeElement type = (TypeElement) pElement;
+		String name = binaryName(type);
+		if (!name.startsWith(PACKAGE_PREFIX)) {
+			return;
+		}
+		List<String> interfaces = new ArrayList<>();
+		for (TypeMirror interfaceType : type.getInterfaces()) {
+			String interfaceName = binaryName(interfaceType);
+			if (interfaceName.startsWith(PACKAGE_PREFIX)) {
+				interfaces.add(interfaceName);
+			}
+		}
+		String superclass = binaryName(type.getSuperclass());
+		boolean scannable = (type.getKind() != ElementKind.INTERFACE) && type.getModifiers().contains(Modifier.PUBLIC)
+			&& !type.getModifiers().contains(Modifier.ABSTRACT);
+		fEntries.put(name, name
+			+ '\t' + (scannable ? '1' : '0')
+			+ '\t' + (superclass.startsWith(PACKAGE_PREFIX) ? superclass : "")
+			+ '\t' + String.join(",", interfaces)
+			+ '\t' + String.join(",", findRules(type)));
+		for (Element enclosed : type.getEnclosedElements()) {
+			addType(enclosed);
+		}
+	}
+
+	private List<String> findRules(TypeElement pType) {
+		List<String> rules = new ArrayList<>();
+		for (AnnotationMirror annotation : pType.getAnnotationMirrors()) {
+			String annotationName = binaryName(annotation.getAnnotationType());
+			if (RULES_COLLECTION.equals(annotationName)) {
+				rules.add(annotationValue(annotation).getValue().toString());
+			} else if (RULES_COLLECTIONS.equals(annotationName)) {
+				for (Object value : (List<?>) annotationValue(annotation).getValue()) {
+					AnnotationMirror nested = (AnnotationMirror) ((AnnotationValue) value).getValue();
+					rules.add(annotationValue(nested).getValue().toString());
+				}
+			}
+		}
+		return rules;
+	}
+
+	private AnnotationValue annotationValue(AnnotationMirror pAnnotation) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : pAnnotation.getElementValues().entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals("value")) {
+				return entry.getValue();
+			}
+		}
+		throw new IllegalStateException("Missing value on annotation " + pAnnotation);
+	}
+
+	private String binaryName(TypeMirror pType) {
+		if (pType.getKind() != TypeKind.DECLARED) {
+			return "";
+		}
+		return binaryName((TypeElement) ((DeclaredType) pType).asElement());
+	}
+
+	private String binaryName(TypeElement pType) {
+		return processingEnv.getElementUtils().getBinaryName(pType).toString();
+	}
+
+	private void writeIndex() {
+		String module = processingEnv.getOptions().get(OPTION_MODULE);
+		if ((module == null) || module.isEmpty()) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+				"No " + OPTION_MODULE + " option given, skipping scanner index.");
+			return;
+		}
+		try {
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+				INDEX_DIRECTORY + module + INDEX_SUFFIX);
+			try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+				for (String entry : fEntries.values()) {
+					writer.write(entry);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException pIoException) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+				"Unable to write scanner index: " + pIoException.getMessage());
+		}
+	}
+
+}
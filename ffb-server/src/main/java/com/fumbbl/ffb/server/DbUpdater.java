@@ -3,23 +3,41 @@ package com.fumbbl.ffb.server;
 import com.fumbbl.ffb.server.db.DbTransaction;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * 
+ * Writes queued transactions to the database.
+ * <p>
+ * All transactions pending at once are taken together, so updates superseded by a later one for the same row
+ * (like the serialization of a busy game) are dropped before they are written.
+ *
  * @author Kalimar
  */
 public class DbUpdater implements Runnable {
 
+	private static final int MAX_PENDING = 256;
+
 	private final FantasyFootballServer fServer;
 	private boolean fStopped;
 	private final BlockingQueue<DbTransaction> fUpdateQueue;
+	private final AtomicLong fWritten;
+	private final AtomicLong fCoalesced;
+	private final AtomicLong fWriteTimeNanos;
+	private final AtomicLong fMaxWriteTimeNanos;
 
 	public DbUpdater(FantasyFootballServer pServer) {
 		fServer = pServer;
 		fUpdateQueue = new LinkedBlockingQueue<DbTransaction>();
+		fWritten = new AtomicLong();
+		fCoalesced = new AtomicLong();
+		fWriteTimeNanos = new AtomicLong();
+		fMaxWriteTimeNanos = new AtomicLong();
 	}
 
 	public boolean add(DbTransaction dbTransaction) {
@@ -33,13 +51,14 @@ public class DbUpdater implements Runnable {
 	public void run() {
 		try {
 			while (!fStopped) {
-				DbTransaction update = null;
+				List<DbTransaction> updates = new ArrayList<>();
 				try {
-					update = fUpdateQueue.take();
+					updates.add(fUpdateQueue.take());
+					fUpdateQueue.drainTo(updates, MAX_PENDING - 1);
 				} catch (InterruptedException pInterruptedException) {
-					// continue with dbTransaction == null
+					// continue with no updates
 				}
-				handleUpdateInternal(update);
+				handleUpdatesInternal(updates);
 			}
 		} catch (Exception pException) {
 			getServer().getDebugLog().logWithOutGameId(pException);
@@ -47,24 +66,69 @@ public class DbUpdater implements Runnable {
 		}
 	}
 
-	private void handleUpdateInternal(DbTransaction update) {
-		if (update == null) {
-			return;
+	void handleUpdatesInternal(List<DbTransaction> updates) {
+		Set<String> laterKeys = new HashSet<>();
+		for (int i = updates.size() - 1; i >= 0; i--) {
+			fCoalesced.addAndGet(updates.get(i).coalesce(laterKeys));
 		}
+		for (DbTransaction update : updates) {
+			if (update.size() > 0) {
+				handleUpdateInternal(update);
+			}
+		}
+	}
+
+	private void handleUpdateInternal(DbTransaction update) {
+		long start = System.nanoTime();
 		update.executeUpdate(getServer());
+		long writeTime = System.nanoTime() - start;
+		fWritten.incrementAndGet();
+		fWriteTimeNanos.addAndGet(writeTime);
+		fMaxWriteTimeNanos.accumulateAndGet(writeTime, Math::max);
 	}
 
 	public void shutdown() {
 		fStopped = true;
 		List<DbTransaction> updates = new ArrayList<>();
 		fUpdateQueue.drainTo(updates);
-		for (DbTransaction update : updates) {
-			handleUpdateInternal(update);
-		}
+		handleUpdatesInternal(updates);
 	}
 
 	public FantasyFootballServer getServer() {
 		return fServer;
 	}
 
+	public int getQueueSize() {
+		return fUpdateQueue.size();
+	}
+
+	/**
+	 * @return number of transactions written so far
+	 */
+	public long getWritten() {
+		return fWritten.get();
+	}
+
+	/**
+	 * @return number of updates dropped because a later one overwrote the same row
+	 */
+	public long getCoalesced() {
+		return fCoalesced.get();
+	}
+
+	/**
+	 * @return average time in ms to write and commit a transaction
+	 */
+	public long getAverageWriteTime() {
+		long written = fWritten.get();
+		return (written > 0) ? TimeUnit.NANOSECONDS.toMillis(fWriteTimeNanos.get() / written) : 0;
+	}
+
+	/**
+	 * @return longest time in ms to write and commit a transaction
+	 */
+	public long getMaxWriteTime() {
+		return TimeUnit.NANOSECONDS.toMillis(fMaxWriteTimeNanos.get());
+	}
+
 }
@@ -13,15 +13,13 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -54,19 +52,22 @@ public class DebugLog {
 	private static final int _GAME_ID_MAX_LENGTH = 8;
 	private static final String _ZEROES = "000000000000000000000";
 	private static final String _LINES = "---------------------";
-	private static final DateFormat _HEADER_TIMESTAMP_FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS"); // 2001-07-04T12:08:56.235
+	private static final DateTimeFormatter _HEADER_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS"); // 2001-07-04T12:08:56.235
 	private static final int _TIMESTAMP_LENGTH = 23;
 	private static final int _COMMAND_FLAG_LENGTH = 4;
 	private static final String GAME_LOG_PREFIX = "game_";
+	private static final int DEFAULT_QUEUE_SIZE = 65536;
 	public static final String GAME_LOG_SUFFIX = ".log";
 	public static final String GZ_SUFFIX = ".gz";
 	private final FantasyFootballServer fServer;
 	private final File fLogFile, baseLogPath, defaultLogFile, replayLogFile;
 	private int fLogLevel;
 	private final Set<Long> forceLog = new HashSet<>();
+	// only used by the writer
 	private final Map<Long, File> logFiles = new HashMap<>();
 
 	private final boolean splitLogs;
+	private final DebugLogWriter writer;
 
 	public DebugLog(FantasyFootballServer server, File logFile, File baseLogPath, int logLevel) {
 		fServer = server;
@@ -81,6 +82,19 @@ public class DebugLog {
 
 		splitLogs = Boolean.parseBoolean(server.getProperty(IServerProperty.SERVER_LOG_FILE_SPLIT));
 
+		int queueSize = DEFAULT_QUEUE_SIZE;
+		String queueSizeProperty = server.getProperty(IServerProperty.SERVER_LOG_QUEUE_SIZE);
+		if (StringTool.isProvided(queueSizeProperty)) {
+			queueSize = Integer.parseInt(queueSizeProperty.trim());
+		}
+		DebugLogWriter.OverflowPolicy overflowPolicy = DebugLogWriter.OverflowPolicy.BLOCK;
+		String overflowProperty = server.getProperty(IServerProperty.SERVER_LOG_QUEUE_OVERFLOW);
+		if (StringTool.isProvided(overflowProperty)) {
+			overflowPolicy = DebugLogWriter.OverflowPolicy.valueOf(overflowProperty.trim().toUpperCase());
+		}
+		writer = new DebugLogWriter(this, queueSize, overflowPolicy);
+		writer.start();
+
 		setLogLevel(logLevel);
 		cleanLogsFromCrash();
 	}
@@ -285,8 +299,15 @@ public class DebugLog {
 	}
 
 	private void logInternal(Long pGameId, String replayName, String pCommandFlag, String pLogString) {
+		String lines = formatLines(pGameId, replayName, pCommandFlag, pLogString);
+		if (!lines.isEmpty()) {
+			writer.write(pGameId, lines);
+		}
+	}
+
+	String formatLines(Long pGameId, String replayName, String pCommandFlag, String pLogString) {
 		StringBuilder headerBuffer = new StringBuilder(_TIMESTAMP_LENGTH + _GAME_ID_MAX_LENGTH + _COMMAND_FLAG_LENGTH);
-		headerBuffer.append(_HEADER_TIMESTAMP_FORMAT.format(new Date()));
+		headerBuffer.append(_HEADER_TIMESTAMP_FORMAT.format(LocalDateTime.now()));
 		headerBuffer.append(" ");
 		if (pGameId == null) {
 			if (StringTool.isProvided(replayName)) {
@@ -312,37 +333,39 @@ public class DebugLog {
 		}
 		headerBuffer.append(" ");
 		String header = headerBuffer.toString();
+		StringBuilder lines = new StringBuilder();
 		StringTokenizer tokenizer = new StringTokenizer(pLogString, "\r\n");
-		// write synchronized to the log, create a new one if necessary
-		synchronized (this) {
-
-			if (pGameId != null && splitLogs) {
+		while (tokenizer.hasMoreTokens()) {
+			lines.append(header).append(tokenizer.nextToken()).append(System.lineSeparator());
+		}
+		return lines.toString();
+	}
 
-				try (PrintWriter gameLog = new PrintWriter(new FileWriter(gameLogFile(pGameId), true))) {
-					writeLogLine(header, tokenizer, gameLog);
-				} catch (IOException ioe) {
-					//noinspection CallToPrintStackTrace
-					ioe.printStackTrace();
-				}
-			} else {
-				File logFile = pGameId == null ? replayLogFile : getLogFile();
-				try (PrintWriter out = new PrintWriter(new FileWriter(logFile, true))) {
-					writeLogLine(header, tokenizer, out);
-				} catch (IOException ioe) {
-					//noinspection CallToPrintStackTrace
-					ioe.printStackTrace();
-				}
-			}
+	/**
+	 * File the writer appends the lines of the given game to, null for replays.
+	 */
+	File logFileFor(Long pGameId) {
+		if (pGameId != null && splitLogs) {
+			return gameLogFile(pGameId);
 		}
+		return pGameId == null ? replayLogFile : getLogFile();
 	}
 
-	private static void writeLogLine(String header, StringTokenizer tokenizer, PrintWriter gameLog) {
-		while (tokenizer.hasMoreTokens()) {
-			String line = tokenizer.nextToken();
-			gameLog.print(header);
-			gameLog.println(line);
+	/**
+	 * Called by the writer once all lines of the game have been written and the file is closed.
+	 */
+	void closeLogFile(long pGameId, File pLogFile) {
+		logFiles.remove(pGameId);
+		if (pLogFile.exists()) {
+			zipLog(pLogFile);
 		}
-		gameLog.flush();
+	}
+
+	/**
+	 * Writes all queued log lines, later lines are written directly by the calling thread.
+	 */
+	public void shutdown() {
+		writer.shutdown();
 	}
 
 	public boolean isLogging(int pLogLevel) {
@@ -364,8 +387,7 @@ public class DebugLog {
 
 	public void closeResources(long id) {
 		if (splitLogs) {
-			zipLog(logFiles.get(id));
-			logFiles.remove(id);
+			writer.close(id);
 		}
 	}
 
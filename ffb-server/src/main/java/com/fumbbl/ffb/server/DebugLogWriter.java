@@ -0,0 +1,270 @@
+package com.fumbbl.ffb.server;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer of the {@link DebugLog}. Callers queue formatted records, the writer thread appends them to
+ * log files it keeps open and flushes whenever the queue runs empty.
+ * <p>
+ * The queue is bounded. When it is full, callers either sleep until the writer has freed up space
+ * ({@link OverflowPolicy#BLOCK}) or the record is dropped and counted ({@link OverflowPolicy#DROP}).
+ */
+class DebugLogWriter implements Runnable {
+
+	enum OverflowPolicy {
+		BLOCK, DROP
+	}
+
+	private static final int MAX_OPEN_FILES = 256;
+	private static final long IDLE_WAIT_MS = 100;
+	private static final long FULL_WAIT_MS = 100;
+	private static final long SHUTDOWN_TIMEOUT_MS = 10000;
+	// queued by shutdown to end the idle wait of the writer, nothing is written for it
+	private static final Record WAKE_UP = new Record(null, null, false);
+
+	private final DebugLog fDebugLog;
+	private final OverflowPolicy fOverflowPolicy;
+	private final BlockingQueue<Record> fQueue;
+	private final AtomicLong fDropped = new AtomicLong();
+	private final Thread fThread;
+	private volatile boolean fStopped;
+	private volatile boolean fFinished;
+
+	// used by the writer thread, once it has finished by callers holding the lock
+	private final Map<File, Writer> fOpenFiles = new LinkedHashMap<File, Writer>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<File, Writer> eldest) {
+			if (size() > MAX_OPEN_FILES) {
+				close(eldest.getValue());
+				return true;
+			}
+			return false;
+		}
+	};
+
+	DebugLogWriter(DebugLog pDebugLog, int pCapacity, OverflowPolicy pOverflowPolicy) {
+		fDebugLog = pDebugLog;
+		fQueue = new LinkedBlockingQueue<>(Math.max(1, pCapacity));
+		fOverflowPolicy = pOverflowPolicy;
+		fThread = new Thread(this, "DebugLogWriter");
+		fThread.setDaemon(true);
+	}
+
+	void start() {
+		fThread.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "DebugLogWriter-shutdown"));
+	}
+
+	/**
+	 * Queues lines for the log of the given game, null for the replay log.
+	 */
+	void write(Long pGameId, String pLines) {
+		add(new Record(pGameId, pLines, false));
+	}
+
+	/**
+	 * Queues closing and zipping the log of the given game after all lines queued so far.
+	 */
+	void close(long pGameId) {
+		add(new Record(pGameId, null, true));
+	}
+
+	private void add(Record pRecord) {
+		if (Thread.currentThread() == fThread) {
+			// logging of the writer itself, waiting for the queue would never end
+			process(pRecord);
+			return;
+		}
+		if (fFinished) {
+			// the writer thread has drained the queue for the last time, the caller writes
+			writeDirectly(pRecord);
+			return;
+		}
+		if (!fQueue.offer(pRecord)) {
+			if (!pRecord.fClose && !fStopped && (fOverflowPolicy == OverflowPolicy.DROP)) {
+				fDropped.incrementAndGet();
+				return;
+			}
+			if (!waitForSpace(pRecord)) {
+				writeDirectly(pRecord);
+				return;
+			}
+		}
+		if (fFinished) {
+			// queued while the writer was finishing
+			synchronized (this) {
+				drain();
+				flush();
+			}
+		}
+	}
+
+	/**
+	 * Sleeps until the writer has taken records off the full queue and queues the given one.
+	 *
+	 * @return false if the writer has finished before there was space
+	 */
+	private boolean waitForSpace(Record pRecord) {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					if (fQueue.offer(pRecord, FULL_WAIT_MS, TimeUnit.MILLISECONDS)) {
+						return true;
+					}
+					if (fFinished) {
+						return false;
+					}
+				} catch (InterruptedException pInterruptedException) {
+					// the record must not get lost, the caller is interrupted once it has been queued
+					interrupted = true;
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void writeDirectly(Record pRecord) {
+		synchronized (this) {
+			drain();
+			process(pRecord);
+			flush();
+		}
+	}
+
+	private void drain() {
+		Record record = fQueue.poll();
+		while (record != null) {
+			process(record);
+			record = fQueue.poll();
+		}
+	}
+
+	public void run() {
+		while (true) {
+			Record record = fQueue.poll();
+			if (record == null) {
+				flush();
+				if (fStopped) {
+					break;
+				}
+				record = waitForRecord();
+			}
+			if (record != null) {
+				process(record);
+			}
+		}
+		synchronized (this) {
+			fFinished = true;
+			drain();
+			flush();
+			for (Writer writer : fOpenFiles.values()) {
+				close(writer);
+			}
+			fOpenFiles.clear();
+		}
+	}
+
+	/**
+	 * Writes all queued records and stops the writer thread. Later records are written directly by the caller.
+	 */
+	void shutdown() {
+		if (fStopped) {
+			return;
+		}
+		fStopped = true;
+		// a full queue keeps the writer busy anyway
+		fQueue.offer(WAKE_UP);
+		try {
+			fThread.join(SHUTDOWN_TIMEOUT_MS);
+		} catch (InterruptedException pInterruptedException) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Record waitForRecord() {
+		try {
+			return fQueue.poll(IDLE_WAIT_MS, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException pInterruptedException) {
+			return null;
+		}
+	}
+
+	private void process(Record pRecord) {
+		if (pRecord == WAKE_UP) {
+			return;
+		}
+		File file = fDebugLog.logFileFor(pRecord.fGameId);
+		if (pRecord.fClose) {
+			Writer writer = fOpenFiles.remove(file);
+			if (writer != null) {
+				close(writer);
+			}
+			fDebugLog.closeLogFile(pRecord.fGameId, file);
+			return;
+		}
+		try {
+			Writer writer = fOpenFiles.get(file);
+			if (writer == null) {
+				writer = new BufferedWriter(new FileWriter(file, true));
+				fOpenFiles.put(file, writer);
+			}
+			writer.write(pRecord.fLines);
+		} catch (IOException ioe) {
+			//noinspection CallToPrintStackTrace
+			ioe.printStackTrace();
+		}
+	}
+
+	private void flush() {
+		long dropped = fDropped.getAndSet(0);
+		if (dropped > 0) {
+			process(new Record(-1L, fDebugLog.formatLines(-1L, null, null, "Dropped " + dropped + " log records"), false));
+		}
+		for (Writer writer : fOpenFiles.values()) {
+			try {
+				writer.flush();
+			} catch (IOException ioe) {
+				//noinspection CallToPrintStackTrace
+				ioe.printStackTrace();
+			}
+		}
+	}
+
+	private static void close(Writer pWriter) {
+		try {
+			pWriter.close();
+		} catch (IOException ioe) {
+			//noinspection CallToPrintStackTrace
+			ioe.printStackTrace();
+		}
+	}
+
+	private static final class Record {
+
+		private final Long fGameId;
+		private final String fLines;
+		private final boolean fClose;
+
+		private Record(Long pGameId, String pLines, boolean pClose) {
+			fGameId = pGameId;
+			fLines = pLines;
+			fClose = pClose;
+		}
+
+	}
+
+}
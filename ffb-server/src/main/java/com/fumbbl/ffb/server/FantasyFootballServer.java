@@ -19,10 +19,11 @@ import com.fumbbl.ffb.server.db.DbUpdateFactory;
 import com.fumbbl.ffb.server.handler.ServerCommandHandlerFactory;
 import com.fumbbl.ffb.server.net.CommandServlet;
 import com.fumbbl.ffb.server.net.FileServlet;
+import com.fumbbl.ffb.server.net.GameClockScheduler;
 import com.fumbbl.ffb.server.net.ReplaySessionManager;
 import com.fumbbl.ffb.server.net.ServerCommunication;
 import com.fumbbl.ffb.server.net.ServerDbKeepAliveTask;
-import com.fumbbl.ffb.server.net.ServerGameTimeTask;
+import com.fumbbl.ffb.server.net.ServerGameHibernationTask;
 import com.fumbbl.ffb.server.net.ServerNetworkEntropyTask;
 import com.fumbbl.ffb.server.net.SessionManager;
 import com.fumbbl.ffb.server.net.SessionTimeoutTask;
@@ -61,7 +62,6 @@ public class FantasyFootballServer implements IFactorySource {
 	private DbUpdater fDbUpdater;
 	private Thread fPersistenceUpdaterThread;
 	private ServerCommunication fCommunication;
-	private Thread fCommunicationThread;
 	private ServerCommandHandlerFactory fCommandHandlerFactory;
 	private GameCache fGameCache;
 	private ReplayCache replayCache;
@@ -75,10 +75,11 @@ public class FantasyFootballServer implements IFactorySource {
 	private ServerRequestProcessor fServerRequestProcessor;
 	private boolean fBlockingNewGames;
 
-	private Timer fServerGameTimeTimer;
+	private GameClockScheduler fGameClock;
 	private Timer fDbKeepAliveTimer;
 	private Timer fNetworkEntropyTimer;
 	private Timer sessionTimeoutTimer;
+	private Timer fGameHibernationTimer;
 
 	private final FactoryManager factoryManager;
 
@@ -119,7 +120,6 @@ public class FantasyFootballServer implements IFactorySource {
 
 	public void run() throws Exception {
 
-		fServerGameTimeTimer = new Timer(true);
 		fFortuna = new Fortuna();
 
 		File logFile = null;
@@ -196,8 +196,7 @@ public class FantasyFootballServer implements IFactorySource {
 			fCommandHandlerFactory = new ServerCommandHandlerFactory(this);
 
 			fCommunication = new ServerCommunication(this);
-			fCommunicationThread = new Thread(fCommunication);
-			fCommunicationThread.start();
+			fCommunication.start();
 
 			String httpPortProperty = getProperty(IServerProperty.SERVER_PORT);
 			String httpDirProperty = getProperty(IServerProperty.SERVER_BASE_DIR);
@@ -236,13 +235,33 @@ public class FantasyFootballServer implements IFactorySource {
 				fNetworkEntropyTimer.schedule(new ServerNetworkEntropyTask(this), 0, networkEntropyPeriod);
 			}
 
-			fServerGameTimeTimer = new Timer(true);
-			fServerGameTimeTimer.scheduleAtFixedRate(new ServerGameTimeTask(this), 0, 1000);
+			fGameClock = new GameClockScheduler(this, 100);
+			fGameClock.start();
 
-			fReplayer = new ServerReplayer(this);
-			Thread replayerThread = new Thread(fReplayer);
-			replayerThread.setPriority(replayerThread.getPriority() - 1);
-			replayerThread.start();
+			String gameHibernationProperty = getProperty(IServerProperty.TIMER_GAME_HIBERNATION);
+			String hibernationIdleTimeProperty = getProperty(IServerProperty.GAME_HIBERNATION_IDLE_TIME);
+			int gameHibernationPeriod = StringTool.isProvided(gameHibernationProperty)
+					? Integer.parseInt(gameHibernationProperty)
+					: 0;
+			long hibernationIdleTime = StringTool.isProvided(hibernationIdleTimeProperty)
+					? Long.parseLong(hibernationIdleTimeProperty)
+					: 0;
+			if ((gameHibernationPeriod > 0) && (hibernationIdleTime > 0)) {
+				fGameHibernationTimer = new Timer("GameHibernation", true);
+				fGameHibernationTimer.schedule(new ServerGameHibernationTask(this, hibernationIdleTime),
+					gameHibernationPeriod, gameHibernationPeriod);
+			}
+
+			String replayChunkCacheProperty = getProperty(IServerProperty.REPLAY_CHUNK_CACHE_SIZE);
+			long replayChunkCacheSize = StringTool.isProvided(replayChunkCacheProperty)
+					? Long.parseLong(replayChunkCacheProperty)
+					: 0;
+			String replayWorkersProperty = getProperty(IServerProperty.REPLAY_WORKERS);
+			int replayWorkers = StringTool.isProvided(replayWorkersProperty)
+					? Integer.parseInt(replayWorkersProperty.trim())
+					: 1;
+			fReplayer = new ServerReplayer(this, replayChunkCacheSize, replayWorkers);
+			fReplayer.start();
 
 			fServerRequestProcessor = new ServerRequestProcessor(this);
 			fServerRequestProcessor.start();
@@ -358,6 +377,10 @@ public class FantasyFootballServer implements IFactorySource {
 		return fDbUpdateFactory;
 	}
 
+	public GameClockScheduler getGameClock() {
+		return fGameClock;
+	}
+
 	public ServerReplayer getReplayer() {
 		return fReplayer;
 	}
@@ -378,7 +401,13 @@ public class FantasyFootballServer implements IFactorySource {
 		setBlockingNewGames(true);
 		fDbKeepAliveTimer = null;
 		fNetworkEntropyTimer = null;
-		fServerGameTimeTimer = null;
+		if (fGameClock != null) {
+			fGameClock.stop();
+		}
+		if (fGameHibernationTimer != null) {
+			fGameHibernationTimer.cancel();
+			fGameHibernationTimer = null;
+		}
 		if (fReplayer != null) {
 			fReplayer.stop();
 		}
@@ -413,6 +442,7 @@ public class FantasyFootballServer implements IFactorySource {
 			}
 		}
 		getDebugLog().logWithOutGameId(IServerLogLevel.ERROR, "FantasyFootballServer shut down.");
+		getDebugLog().shutdown();
 		System.exit(pStatus);
 	}
 
@@ -459,6 +489,16 @@ public class FantasyFootballServer implements IFactorySource {
 		return StringTool.isProvided(testSetting) && Boolean.parseBoolean(testSetting);
 	}
 
+	public boolean isDbSerializationIncremental() {
+		String incrementalSetting = getProperty(IServerProperty.DB_SERIALIZATION_INCREMENTAL);
+		return StringTool.isProvided(incrementalSetting) && Boolean.parseBoolean(incrementalSetting);
+	}
+
+	public boolean isModelSyncCompaction() {
+		String compactionSetting = getProperty(IServerProperty.SERVER_MODEL_SYNC_COMPACTION);
+		return StringTool.isProvided(compactionSetting) && Boolean.parseBoolean(compactionSetting);
+	}
+
 	public void closeResources(long id) {
 		fDebugLog.closeResources(id);
 	}
@@ -24,18 +24,22 @@ import com.fumbbl.ffb.server.db.DbStatementId;
 import com.fumbbl.ffb.server.db.DbTransaction;
 import com.fumbbl.ffb.server.db.IDbStatementFactory;
 import com.fumbbl.ffb.server.db.delete.DbGamesInfoDeleteParameter;
+import com.fumbbl.ffb.server.db.delete.DbGamesLogChunksDeleteParameter;
 import com.fumbbl.ffb.server.db.delete.DbGamesSerializedDeleteParameter;
 import com.fumbbl.ffb.server.db.delete.DbPlayerMarkersDeleteParameter;
+import com.fumbbl.ffb.server.db.insert.DbGamesLogChunksInsertParameter;
 import com.fumbbl.ffb.server.db.insert.DbGamesSerializedInsertParameter;
 import com.fumbbl.ffb.server.db.insert.DbPlayerMarkersInsertParameterList;
 import com.fumbbl.ffb.server.db.query.DbGameListQueryOpenGamesByCoach;
 import com.fumbbl.ffb.server.db.query.DbGamesInfoInsertQuery;
 import com.fumbbl.ffb.server.db.query.DbGamesSerializedQuery;
 import com.fumbbl.ffb.server.db.query.DbUserSettingsQuery;
+import com.fumbbl.ffb.server.db.update.DbGamesHibernatedParameter;
 import com.fumbbl.ffb.server.db.update.DbGamesInfoUpdateParameter;
 import com.fumbbl.ffb.server.db.update.DbGamesSerializedUpdateParameter;
 import com.fumbbl.ffb.server.net.SessionManager;
 import com.fumbbl.ffb.server.request.fumbbl.FumbblRequestRemoveGamestate;
+import com.fumbbl.ffb.server.util.UtilSkillBehaviours;
 import com.fumbbl.ffb.util.DateTool;
 import com.fumbbl.ffb.util.StringTool;
 import com.fumbbl.ffb.util.UtilBox;
@@ -48,7 +52,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Kalimar
@@ -58,6 +65,9 @@ public class GameCache {
 	private final FantasyFootballServer fServer;
 	private final Map<Long, GameState> fGameStateById;
 	private final Map<String, Long> fGameIdByName;
+	private final Map<Long, HibernatedGame> fHibernatedGameById;
+	private final AtomicLong fHibernations;
+	private final AtomicLong fWakeUps;
 	private RosterCache rosterCache;
 	private TeamCache teamCache; // used in standalone mode only
 
@@ -65,6 +75,9 @@ public class GameCache {
 		fServer = pServer;
 		fGameStateById = Collections.synchronizedMap(new HashMap<>());
 		fGameIdByName = Collections.synchronizedMap(new HashMap<>());
+		fHibernatedGameById = Collections.synchronizedMap(new HashMap<>());
+		fHibernations = new AtomicLong();
+		fWakeUps = new AtomicLong();
 	}
 
 	public void init() {
@@ -88,8 +101,18 @@ public class GameCache {
 		return fServer;
 	}
 
+	/**
+	 * Returns the game state for the given id, waking the game up if it has been hibernated.
+	 */
 	public GameState getGameStateById(long pGameId) {
-		return fGameStateById.get(pGameId);
+		GameState gameState = fGameStateById.get(pGameId);
+		if (gameState == null) {
+			HibernatedGame hibernatedGame = fHibernatedGameById.get(pGameId);
+			if (hibernatedGame != null) {
+				gameState = wakeUp(hibernatedGame);
+			}
+		}
+		return gameState;
 	}
 
 	public GameState[] allGameStates() {
@@ -120,10 +143,11 @@ public class GameCache {
 		}
 		// remove dead games from cache if there are no connections to the session
 		SessionManager sessionManager = getServer().getSessionManager();
-		Long[] gameIds = fGameStateById.keySet().toArray(new Long[0]);
+		Set<Long> gameIds = new HashSet<>(fGameStateById.keySet());
+		gameIds.addAll(fHibernatedGameById.keySet());
 		for (Long gameId : gameIds) {
-			GameStatus status = fGameStateById.get(gameId).getStatus();
-			if ((gameId == null) || (gameId == gameState.getId()) || (status == GameStatus.LOADING)) {
+			GameStatus status = getStatus(gameId);
+			if ((gameId == null) || (gameId == gameState.getId()) || (status == null) || (status == GameStatus.LOADING)) {
 				continue;
 			}
 			Session[] sessions = sessionManager.getSessionsForGameId(gameId);
@@ -135,11 +159,28 @@ public class GameCache {
 		}
 	}
 
+	private GameStatus getStatus(long gameId) {
+		GameState gameState = fGameStateById.get(gameId);
+		if (gameState != null) {
+			return gameState.getStatus();
+		}
+		HibernatedGame hibernatedGame = fHibernatedGameById.get(gameId);
+		return (hibernatedGame != null) ? hibernatedGame.getStatus() : null;
+	}
+
 	public GameState getGameStateByName(String pGameName) {
 		Long gameId = fGameIdByName.get(pGameName);
 		return (gameId != null) ? getGameStateById(gameId) : null;
 	}
 
+	/**
+	 * @return the id mapped to the given game name or 0, without loading the game
+	 */
+	public long findGameIdByName(String pGameName) {
+		Long gameId = (pGameName != null) ? fGameIdByName.get(pGameName) : null;
+		return (gameId != null) ? gameId : 0L;
+	}
+
 	public String getGameName(long id) {
 		return fGameIdByName.entrySet().stream().filter(entry -> entry.getValue() == id).findFirst().map(Map.Entry::getKey).orElse("");
 	}
@@ -195,6 +236,11 @@ public class GameCache {
 				gameList.add(listEntry);
 			}
 		}
+		for (HibernatedGame hibernatedGame : allHibernatedGames()) {
+			if (GameStatus.ACTIVE == hibernatedGame.getStatus()) {
+				gameList.add(hibernatedGame.getListEntry());
+			}
+		}
 		return gameList;
 	}
 
@@ -311,12 +357,25 @@ public class GameCache {
 		if (pGameState == null) {
 			return;
 		}
+		DbTransaction transaction = createDbUpdate(pGameState, pWithSerialization);
+		// a later update of the game overwrites the same rows
+		transaction.setCoalescable(true);
+		getServer().getDbUpdater().add(transaction);
+	}
+
+	private DbTransaction createDbUpdate(GameState pGameState, boolean pWithSerialization) {
 		DbTransaction transaction = new DbTransaction();
 		transaction.add(new DbGamesInfoUpdateParameter(pGameState));
 		if (pWithSerialization) {
-			transaction.add(new DbGamesSerializedUpdateParameter(pGameState));
+			if (getServer().isDbSerializationIncremental()) {
+				// snapshot without log plus the commands since the last update - chunk goes last as it tracks its commit
+				transaction.add(new DbGamesSerializedUpdateParameter(pGameState, false));
+				transaction.add(new DbGamesLogChunksInsertParameter(pGameState));
+			} else {
+				transaction.add(new DbGamesSerializedUpdateParameter(pGameState));
+			}
 		}
-		getServer().getDbUpdater().add(transaction);
+		return transaction;
 	}
 
 	public void queueDbDelete(long pGameStateId, boolean pWithGamesInfo) {
@@ -328,6 +387,9 @@ public class GameCache {
 			deleteTransaction.add(new DbGamesInfoDeleteParameter(pGameStateId));
 		}
 		deleteTransaction.add(new DbGamesSerializedDeleteParameter(pGameStateId));
+		if (getServer().isDbSerializationIncremental()) {
+			deleteTransaction.add(new DbGamesLogChunksDeleteParameter(pGameStateId));
+		}
 		getServer().getDbUpdater().add(deleteTransaction);
 	}
 
@@ -344,6 +406,102 @@ public class GameCache {
 		for (GameState gameState : allGameStates()) {
 			closeGame(gameState.getId());
 		}
+		for (HibernatedGame hibernatedGame : allHibernatedGames()) {
+			closeHibernatedGame(hibernatedGame);
+		}
+	}
+
+	// hibernation
+
+	public HibernatedGame[] allHibernatedGames() {
+		return fHibernatedGameById.values().toArray(new HibernatedGame[0]);
+	}
+
+	public long getHibernations() {
+		return fHibernations.get();
+	}
+
+	public long getWakeUps() {
+		return fWakeUps.get();
+	}
+
+	/**
+	 * Active games without commands for the given time may be hibernated.
+	 */
+	public boolean isHibernationCandidate(GameState pGameState, long pIdleTime, long pCurrentTimeMillis) {
+		return (pIdleTime > 0) && (pGameState.getStatus() == GameStatus.ACTIVE)
+			&& (pCurrentTimeMillis - pGameState.getLastActivity() >= pIdleTime);
+	}
+
+	/**
+	 * Persists an idle game and replaces it with a stub. Has to run on the command lane of the game,
+	 * so it cannot interleave with its commands.
+	 *
+	 * @return true if the game has been hibernated
+	 */
+	public boolean hibernate(long pGameId, long pIdleTime) {
+		GameState gameState = fGameStateById.get(pGameId);
+		long currentTimeMillis = System.currentTimeMillis();
+		if ((gameState == null) || !isHibernationCandidate(gameState, pIdleTime, currentTimeMillis)) {
+			return false;
+		}
+		HibernatedGame hibernatedGame = new HibernatedGame(gameState, currentTimeMillis);
+		DbTransaction serialization = createDbUpdate(gameState, true);
+		DbTransaction confirmation = new DbTransaction();
+		confirmation.add(new DbGamesHibernatedParameter(hibernatedGame, serialization));
+		// the stub goes in first, so the game can be found at any time
+		fHibernatedGameById.put(pGameId, hibernatedGame);
+		fGameStateById.remove(pGameId);
+		getServer().getDbUpdater().add(serialization);
+		getServer().getDbUpdater().add(confirmation);
+		fHibernations.incrementAndGet();
+		getServer().getDebugLog().log(IServerLogLevel.WARN, pGameId,
+			StringTool.bind("HIBERNATE GAME cache decreases to $1 games.", fGameStateById.size()));
+		return true;
+	}
+
+	/**
+	 * Called by the db updater once the serialization of a hibernated game has been committed (or has failed).
+	 */
+	public void hibernationPersisted(HibernatedGame pHibernatedGame, boolean pSuccess) {
+		if (pSuccess) {
+			pHibernatedGame.persisted();
+		} else {
+			// keep the game state in memory, it is put back into the cache on the next wake up
+			getServer().getDebugLog().log(IServerLogLevel.ERROR, pHibernatedGame.getGameId(),
+				"Serialization of hibernated game failed, keeping it in memory.");
+		}
+	}
+
+	private GameState wakeUp(HibernatedGame pHibernatedGame) {
+		long gameId = pHibernatedGame.getGameId();
+		synchronized (pHibernatedGame) {
+			if (fHibernatedGameById.get(gameId) != pHibernatedGame) {
+				// woken up by another thread in the meantime
+				return fGameStateById.get(gameId);
+			}
+			GameState gameState = pHibernatedGame.getPendingGameState();
+			if (gameState == null) {
+				gameState = queryFromDb(gameId);
+				if (gameState == null) {
+					getServer().getDebugLog().log(IServerLogLevel.ERROR, gameId, "Hibernated game not found in database.");
+					fHibernatedGameById.remove(gameId);
+					return null;
+				}
+				gameState.initCommandNrGenerator(gameState.getGameLog().findMaxCommandNr());
+				UtilSkillBehaviours.registerBehaviours(gameState.getGame(), getServer().getDebugLog());
+			}
+			// the turn clock keeps running while hibernated, coaches may still be connected to an idle game
+			gameState.setTurnTimeStarted(pHibernatedGame.getTurnTimeStarted());
+			gameState.setLastActivity(System.currentTimeMillis());
+			fGameStateById.put(gameId, gameState);
+			fHibernatedGameById.remove(gameId);
+			fWakeUps.incrementAndGet();
+			getServer().getDebugLog().log(IServerLogLevel.WARN, gameId,
+				StringTool.bind("WAKE UP GAME after $1s cache increases to $2 games.",
+					(System.currentTimeMillis() - pHibernatedGame.getHibernated()) / 1000, fGameStateById.size()));
+			return gameState;
+		}
 	}
 
 	public void closeGame(long gameId) {
@@ -352,11 +510,7 @@ public class GameCache {
 		}
 		GameState gameState = getGameStateById(gameId);
 		if (gameState != null) {
-			SessionManager sessionManager = getServer().getSessionManager();
-			Session[] sessions = sessionManager.getSessionsForGameId(gameState.getId());
-			for (Session session : sessions) {
-				getServer().getCommunication().close(session);
-			}
+			closeSessions(gameId);
 			removeGame(gameId);
 			if ((getServer().getMode() == ServerMode.FUMBBL) && (gameState.getStatus() != GameStatus.REPLAYING)
 					&& (gameState.getStatus() != GameStatus.LOADING)) {
@@ -367,6 +521,30 @@ public class GameCache {
 		}
 	}
 
+	/**
+	 * Closes a hibernated game without waking it up, its serialization stays in the database.
+	 */
+	private void closeHibernatedGame(HibernatedGame pHibernatedGame) {
+		long gameId = pHibernatedGame.getGameId();
+		closeSessions(gameId);
+		fHibernatedGameById.remove(gameId);
+		removeMappingForGameId(gameId);
+		if ((getServer().getMode() == ServerMode.FUMBBL) && (pHibernatedGame.getStatus() != GameStatus.REPLAYING)
+				&& (pHibernatedGame.getStatus() != GameStatus.LOADING)) {
+			getServer().getRequestProcessor().add(new FumbblRequestRemoveGamestate(gameId));
+		} else {
+			fServer.closeResources(gameId);
+		}
+	}
+
+	private void closeSessions(long gameId) {
+		SessionManager sessionManager = getServer().getSessionManager();
+		Session[] sessions = sessionManager.getSessionsForGameId(gameId);
+		for (Session session : sessions) {
+			getServer().getCommunication().close(session);
+		}
+	}
+
 	public void queueDbPlayerMarkersUpdate(GameState pGameState) {
 		if (pGameState == null) {
 			return;
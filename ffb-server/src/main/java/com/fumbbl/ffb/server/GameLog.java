@@ -22,6 +22,7 @@ public class GameLog implements IJsonSerializable {
 	private final List<ServerCommand> fServerCommands;
 
 	private transient int fLastCommitedCommandNr;
+	private transient int fCommitedSize;
 	private final transient GameState fGameState;
 
 	public GameLog(GameState pGameState) {
@@ -57,6 +58,16 @@ public class GameLog implements IJsonSerializable {
 		return uncommitedCommands.toArray(new ServerCommand[uncommitedCommands.size()]);
 	}
 
+	public ServerCommand[] getServerCommands(int pFromIndex, int pToIndex) {
+		synchronized (fServerCommands) {
+			int toIndex = Math.min(pToIndex, fServerCommands.size());
+			if (pFromIndex >= toIndex) {
+				return new ServerCommand[0];
+			}
+			return fServerCommands.subList(pFromIndex, toIndex).toArray(new ServerCommand[0]);
+		}
+	}
+
 	public int findMaxCommandNr() {
 		int maxCommandNr = 0;
 		synchronized (fServerCommands) {
@@ -81,9 +92,25 @@ public class GameLog implements IJsonSerializable {
 		}
 	}
 
+	/**
+	 * Number of commands at the start of the log which have already been persisted as log chunks.
+	 */
+	public int getCommitedSize() {
+		synchronized (fServerCommands) {
+			return fCommitedSize;
+		}
+	}
+
+	public void setCommitedSize(int pCommitedSize) {
+		synchronized (fServerCommands) {
+			fCommitedSize = pCommitedSize;
+		}
+	}
+
 	public void clear() {
 		synchronized (fServerCommands) {
 			fServerCommands.clear();
+			fCommitedSize = 0;
 		}
 	}
 
@@ -100,9 +127,13 @@ public class GameLog implements IJsonSerializable {
 	// JSON serialization
 
 	public JsonObject toJsonValue() {
+		return toJsonValue(getServerCommands());
+	}
+
+	public static JsonObject toJsonValue(ServerCommand[] pServerCommands) {
 		JsonObject jsonObject = new JsonObject();
 		JsonArray commandArray = new JsonArray();
-		for (ServerCommand serverCommand : getServerCommands()) {
+		for (ServerCommand serverCommand : pServerCommands) {
 			commandArray.add(serverCommand.toJsonValue());
 		}
 		IJsonOption.COMMAND_ARRAY.addTo(jsonObject, commandArray);
@@ -110,11 +141,19 @@ public class GameLog implements IJsonSerializable {
 	}
 
 	public GameLog initFrom(IFactorySource source, JsonValue jsonValue) {
+		clear();
+		return appendFrom(source, jsonValue, 0);
+	}
+
+	/**
+	 * Appends the commands of a serialized log chunk starting at log position pStartIndex.
+	 * Commands already contained in this log are skipped.
+	 */
+	public GameLog appendFrom(IFactorySource source, JsonValue jsonValue, int pStartIndex) {
 		NetCommandFactory netCommandFactory = new NetCommandFactory(fGameState.getServer().getFactorySource());
 		JsonObject jsonObject = UtilJson.toJsonObject(jsonValue);
 		JsonArray commandArray = IJsonOption.COMMAND_ARRAY.getFrom(source, jsonObject);
-		fServerCommands.clear();
-		for (int i = 0; i < commandArray.size(); i++) {
+		for (int i = Math.max(0, size() - pStartIndex); i < commandArray.size(); i++) {
 			ServerCommand serverCommand = (ServerCommand) netCommandFactory.forJsonValue(source, commandArray.get(i));
 			add(serverCommand);
 		}
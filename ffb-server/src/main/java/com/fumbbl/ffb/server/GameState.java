@@ -64,6 +64,7 @@ public class GameState implements IModelChangeObserver, IJsonSerializable {
 	private final transient DiceRoller fDiceRoller;
 	private transient IdGenerator fCommandNrGenerator;
 	private transient long fTurnTimeStarted;
+	private transient volatile long fLastActivity;
 	private transient ModelChangeList fChangeList;
 	private final transient Map<String, Long> fSpectatorCooldownTime;
 	private StepFactory stepFactory;
@@ -86,6 +87,7 @@ public class GameState implements IModelChangeObserver, IJsonSerializable {
 		fChangeList = new ModelChangeList();
 		setGame(new Game(fServer.getFactorySource(), fServer.getFactoryManager()));
 		setPassState(new PassState());
+		fLastActivity = System.currentTimeMillis();
 	}
 
 	public void initRulesDependentMembers() {
@@ -172,6 +174,17 @@ public class GameState implements IModelChangeObserver, IJsonSerializable {
 		fTurnTimeStarted = pTurnTimeStarted;
 	}
 
+	/**
+	 * @return time of the last command handled by this game, used to find idle games for hibernation
+	 */
+	public long getLastActivity() {
+		return fLastActivity;
+	}
+
+	public void setLastActivity(long pLastActivity) {
+		fLastActivity = pLastActivity;
+	}
+
 	public GameStatus getStatus() {
 		return fStatus;
 	}
@@ -200,6 +213,7 @@ public class GameState implements IModelChangeObserver, IJsonSerializable {
 		if (pReceivedCommand == null) {
 			return;
 		}
+		fLastActivity = System.currentTimeMillis();
 		if (fCurrentStep == null) {
 			startNextStep();
 		}
@@ -0,0 +1,62 @@
+package com.fumbbl.ffb.server;
+
+import com.fumbbl.ffb.GameListEntry;
+import com.fumbbl.ffb.GameStatus;
+
+/**
+ * Stub left in the {@link GameCache} for a game that has been persisted and dropped from heap after being idle.
+ * <p>
+ * The full game state is kept until the database has confirmed the write, so waking up before that does not
+ * read an outdated serialization.
+ */
+public class HibernatedGame {
+
+	private final long fGameId;
+	private final GameStatus fStatus;
+	private final GameListEntry fListEntry;
+	private final long fTurnTimeStarted;
+	private final long fHibernated;
+	private GameState fPendingGameState;
+
+	public HibernatedGame(GameState pGameState, long pHibernated) {
+		fGameId = pGameState.getId();
+		fStatus = pGameState.getStatus();
+		fListEntry = new GameListEntry();
+		fListEntry.init(pGameState.getGame());
+		fTurnTimeStarted = pGameState.getTurnTimeStarted();
+		fHibernated = pHibernated;
+		fPendingGameState = pGameState;
+	}
+
+	public long getGameId() {
+		return fGameId;
+	}
+
+	public GameStatus getStatus() {
+		return fStatus;
+	}
+
+	public GameListEntry getListEntry() {
+		return fListEntry;
+	}
+
+	public long getTurnTimeStarted() {
+		return fTurnTimeStarted;
+	}
+
+	public long getHibernated() {
+		return fHibernated;
+	}
+
+	/**
+	 * @return the full game state as long as it has not been confirmed by the database, null afterwards
+	 */
+	public synchronized GameState getPendingGameState() {
+		return fPendingGameState;
+	}
+
+	synchronized void persisted() {
+		fPendingGameState = null;
+	}
+
+}
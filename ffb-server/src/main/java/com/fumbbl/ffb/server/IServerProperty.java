@@ -14,8 +14,13 @@ public interface IServerProperty {
 	String SERVER_LOG_FOLDER = "server.log.folder";
 	String SERVER_LOG_LEVEL = "server.log.level";
 	String SERVER_LOG_FILE_SPLIT = "server.log.file.split";
+	String SERVER_LOG_QUEUE_SIZE = "server.log.queue.size";
+	String SERVER_LOG_QUEUE_OVERFLOW = "server.log.queue.overflow";
 	String SERVER_SPECTATOR_COOLDOWN = "server.spectator.cooldown";
 	String SERVER_COMMAND_COMPRESSION = "server.command.compression";
+	String SERVER_COMMAND_BINARY = "server.command.binary";
+	String SERVER_COMMAND_LANES = "server.command.lanes";
+	String SERVER_MODEL_SYNC_COMPACTION = "server.modelSync.compaction";
 	String SERVER_TEST = "server.test";
 	String SERVER_REDEPLOY_EXIT_CODE = "server.redeploy.exitCode";
 	String SERVER_REDEPLOY_DEFAULT_BRANCH = "server.redeploy.defaultBranch";
@@ -42,6 +47,7 @@ public interface IServerProperty {
 	String DB_USER = "db.user";
 	String DB_PASSWORD = "db.password";
 	String DB_TYPE = "db.type";
+	String DB_SERIALIZATION_INCREMENTAL = "db.serialization.incremental";
 
 	String TIMER_DB_KEEP_ALIVE = "timer.dbKeepAlive";
 	String TIMER_NETWORK_ENTROPY = "timer.networkEntropy";
@@ -49,4 +55,13 @@ public interface IServerProperty {
 	String TIMER_SESSION_TIMEOUT_ENABLED = "timer.sessionTimeoutEnabled";
 	String TIMER_SESSION_TIMEOUT_SCHEDULE = "timer.sessionTimeoutSchedule";
 	String SESSION_TIMEOUT_VALUE = "session.timeoutValue";
+
+	String TIMER_GAME_HIBERNATION = "timer.gameHibernation";
+	String GAME_HIBERNATION_IDLE_TIME = "game.hibernationIdleTime";
+
+	String REPLAY_CHUNK_CACHE_SIZE = "replay.chunkCacheSize";
+	String REPLAY_WORKERS = "replay.workers";
+	String REPLAY_SOURCE_CACHE_DIR = "replay.sourceCacheDir";
+	String REPLAY_SOURCE_CACHE_SIZE = "replay.sourceCacheSize";
+	String REPLAY_SOURCE_CACHE_ENTRIES = "replay.sourceCacheEntries";
 }
@@ -0,0 +1,52 @@
+package com.fumbbl.ffb.server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A replay command for a range of the game log, encoded once and shared by all sessions replaying it.
+ */
+public class ReplayChunk {
+
+	private final ByteBuffer fMessage;
+	private final int fLowestCommandNr;
+	private final int fHighestCommandNr;
+	private final int fTotalNrOfCommands;
+	private final boolean fLastCommand;
+
+	public ReplayChunk(ByteBuffer pMessage, int pLowestCommandNr, int pHighestCommandNr, int pTotalNrOfCommands,
+	                   boolean pLastCommand) {
+		fMessage = pMessage;
+		fLowestCommandNr = pLowestCommandNr;
+		fHighestCommandNr = pHighestCommandNr;
+		fTotalNrOfCommands = pTotalNrOfCommands;
+		fLastCommand = pLastCommand;
+	}
+
+	/**
+	 * @return read-only encoded message, to be duplicated before sending
+	 */
+	public ByteBuffer getMessage() {
+		return fMessage;
+	}
+
+	public int getLowestCommandNr() {
+		return fLowestCommandNr;
+	}
+
+	public int getHighestCommandNr() {
+		return fHighestCommandNr;
+	}
+
+	public int getTotalNrOfCommands() {
+		return fTotalNrOfCommands;
+	}
+
+	public boolean isLastCommand() {
+		return fLastCommand;
+	}
+
+	public int getSize() {
+		return (fMessage != null) ? fMessage.capacity() : 0;
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.fumbbl.ffb.server;
+
+import com.fumbbl.ffb.net.WireProtocol;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * Least recently used cache of encoded replay chunks, limited by the total size of the encoded messages.
+ * <p>
+ * Chunks are keyed by game, position, the extent of the log they were built from and the protocol they are encoded
+ * for, so a growing log of a running game never hits an outdated chunk. Those just age out of the cache.
+ */
+public class ReplayChunkCache {
+
+	private final long fMaxBytes;
+	private final LinkedHashMap<Key, ReplayChunk> fChunks;
+	private long fBytes;
+	private long fHits;
+	private long fMisses;
+
+	public ReplayChunkCache(long pMaxBytes) {
+		fMaxBytes = pMaxBytes;
+		fChunks = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	public synchronized ReplayChunk get(long pGameId, int pFromCommandNr, int pToCommandNr, int pLogSize,
+	                                    WireProtocol pProtocol) {
+		ReplayChunk chunk = fChunks.get(new Key(pGameId, pFromCommandNr, pToCommandNr, pLogSize, pProtocol));
+		if (chunk != null) {
+			fHits++;
+		} else {
+			fMisses++;
+		}
+		return chunk;
+	}
+
+	public synchronized void put(long pGameId, int pFromCommandNr, int pToCommandNr, int pLogSize, WireProtocol pProtocol,
+	                             ReplayChunk pChunk) {
+		if ((pChunk == null) || (pChunk.getSize() > fMaxBytes)) {
+			return;
+		}
+		ReplayChunk previous = fChunks.put(new Key(pGameId, pFromCommandNr, pToCommandNr, pLogSize, pProtocol), pChunk);
+		if (previous != null) {
+			fBytes -= previous.getSize();
+		}
+		fBytes += pChunk.getSize();
+		Iterator<ReplayChunk> eldest = fChunks.values().iterator();
+		while ((fBytes > fMaxBytes) && eldest.hasNext()) {
+			fBytes -= eldest.next().getSize();
+			eldest.remove();
+		}
+	}
+
+	public synchronized int size() {
+		return fChunks.size();
+	}
+
+	public synchronized long getBytes() {
+		return fBytes;
+	}
+
+	public synchronized long getHits() {
+		return fHits;
+	}
+
+	public synchronized long getMisses() {
+		return fMisses;
+	}
+
+	private static final class Key {
+
+		private final long fGameId;
+		private final int fFromCommandNr;
+		private final int fToCommandNr;
+		private final int fLogSize;
+		private final WireProtocol fProtocol;
+
+		private Key(long pGameId, int pFromCommandNr, int pToCommandNr, int pLogSize, WireProtocol pProtocol) {
+			fGameId = pGameId;
+			fFromCommandNr = pFromCommandNr;
+			fToCommandNr = pToCommandNr;
+			fLogSize = pLogSize;
+			fProtocol = pProtocol;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) o;
+			return (fGameId == key.fGameId) && (fFromCommandNr == key.fFromCommandNr)
+				&& (fToCommandNr == key.fToCommandNr) && (fLogSize == key.fLogSize) && (fProtocol == key.fProtocol);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fGameId, fFromCommandNr, fToCommandNr, fLogSize, fProtocol);
+		}
+
+	}
+
+}
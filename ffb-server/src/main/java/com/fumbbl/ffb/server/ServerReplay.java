@@ -3,8 +3,7 @@ package com.fumbbl.ffb.server;
 import com.fumbbl.ffb.net.commands.ServerCommand;
 import org.eclipse.jetty.websocket.api.Session;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * @author Kalimar
@@ -80,17 +79,28 @@ public class ServerReplay {
 		}
 	}
 
+	public int getLogSize() {
+		return (fServerCommands != null) ? fServerCommands.length : 0;
+	}
+
+	/**
+	 * Commands are numbered by their position in the log, so the relevant range is looked up by index.
+	 */
 	public ServerCommand[] findRelevantCommandsInLog() {
-		List<ServerCommand> replayCommands = new ArrayList<>();
-		if (fServerCommands != null) {
-			for (ServerCommand serverCommand : fServerCommands) {
-				if ((serverCommand.getCommandNr() >= getFromCommandNr())
-						&& ((getToCommandNr() == 0) || (serverCommand.getCommandNr() < getToCommandNr()))) {
-					replayCommands.add(serverCommand);
-				}
-			}
+		return findRelevantCommandsInLog(Integer.MAX_VALUE);
+	}
+
+	public ServerCommand[] findRelevantCommandsInLog(int pMaxNrOfCommands) {
+		if (fServerCommands == null) {
+			return new ServerCommand[0];
+		}
+		int fromIndex = Math.max(getFromCommandNr(), 1) - 1;
+		int toIndex = (getToCommandNr() == 0) ? fServerCommands.length
+			: Math.min(Math.max(getToCommandNr() - 1, 0), fServerCommands.length);
+		if (fromIndex >= toIndex) {
+			return new ServerCommand[0];
 		}
-		return replayCommands.toArray(new ServerCommand[0]);
+		return Arrays.copyOfRange(fServerCommands, fromIndex, (int) Math.min(toIndex, (long) fromIndex + pMaxNrOfCommands));
 	}
 
 }
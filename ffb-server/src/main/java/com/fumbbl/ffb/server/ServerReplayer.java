@@ -2,14 +2,20 @@ package com.fumbbl.ffb.server;
 
 import com.fumbbl.ffb.model.change.ModelChange;
 import com.fumbbl.ffb.model.change.ModelChangeId;
+import com.fumbbl.ffb.net.WireProtocol;
 import com.fumbbl.ffb.net.commands.ServerCommand;
 import com.fumbbl.ffb.net.commands.ServerCommandModelSync;
 import com.fumbbl.ffb.net.commands.ServerCommandReplay;
 
+import org.eclipse.jetty.websocket.api.Session;
+
 import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Set;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Kalimar
@@ -26,116 +32,284 @@ public class ServerReplayer implements Runnable {
 		add(ModelChangeId.PLAYER_RESULT_SET_SERIOUS_INJURY_DECAY);
 	}};
 
-	private boolean fStopped;
-	private final List<ServerReplay> fReplayQueue;
+	private static final long PACING_DELAY = 50;
+
+	private volatile boolean fStopped;
+	private final DelayQueue<ScheduledReplay> fReplayQueue;
 	private final FantasyFootballServer fServer;
+	private final ReplayChunkCache fChunkCache;
+	private final Thread[] fWorkers;
+	private final AtomicLong fSequence;
+	private final AtomicLong fReplaysStarted;
+	private final AtomicLong fReplaysServed;
+	private final AtomicLong fChunksSent;
+	private final AtomicLong fChunksPaced;
+	private final AtomicLong fFirstChunkLatency;
+	private final AtomicLong fMaxFirstChunkLatency;
 
-	public ServerReplayer(FantasyFootballServer pServer) {
+	public ServerReplayer(FantasyFootballServer pServer, long pChunkCacheSize, int pNrOfWorkers) {
 		fServer = pServer;
-		fReplayQueue = new LinkedList<>();
+		fReplayQueue = new DelayQueue<>();
+		fChunkCache = new ReplayChunkCache(pChunkCacheSize);
+		fWorkers = new Thread[Math.max(1, pNrOfWorkers)];
+		fSequence = new AtomicLong();
+		fReplaysStarted = new AtomicLong();
+		fReplaysServed = new AtomicLong();
+		fChunksSent = new AtomicLong();
+		fChunksPaced = new AtomicLong();
+		fFirstChunkLatency = new AtomicLong();
+		fMaxFirstChunkLatency = new AtomicLong();
+	}
+
+	public void start() {
+		for (int i = 0; i < fWorkers.length; i++) {
+			fWorkers[i] = new Thread(this, "ServerReplayer-" + i);
+			fWorkers[i].setPriority(fWorkers[i].getPriority() - 1);
+			fWorkers[i].start();
+		}
 	}
 
 	public void add(ServerReplay pReplay) {
-		synchronized (fReplayQueue) {
-			fReplayQueue.add(pReplay);
-			fReplayQueue.notify();
+		if (pReplay != null) {
+			fReplayQueue.add(new ScheduledReplay(pReplay, System.currentTimeMillis()));
 		}
 	}
 
+	/**
+	 * Worker loop. Every turn serves a single chunk of a replay and queues the replay again behind all others,
+	 * so long replays do not hold up short ones.
+	 */
 	public void run() {
+		while (!fStopped) {
+			ScheduledReplay scheduledReplay;
+			try {
+				scheduledReplay = fReplayQueue.take();
+			} catch (InterruptedException e) {
+				break;
+			}
+			ServerReplay serverReplay = scheduledReplay.getReplay();
+			try {
+				if (serve(scheduledReplay)) {
+					fReplaysServed.incrementAndGet();
+				}
+			} catch (Exception pException) {
+				getServer().getDebugLog().log(serverReplay.getGameId(), pException);
+			}
+		}
+	}
 
-		ServerReplay serverReplay = null;
+	/**
+	 * @return true if the replay is finished, false if it has been queued again
+	 */
+	boolean serve(ScheduledReplay pScheduledReplay) {
 
-		while (true) {
+		ServerReplay serverReplay = pScheduledReplay.getReplay();
+		Session session = serverReplay.getSession();
+		if ((session != null) && !session.isOpen()) {
+			return true;
+		}
 
-			FantasyFootballServer server = getServer();
-			try {
+		// pace the replay to the client, a slow socket must not pile up chunks or hold a worker
+		Future<Void> previousSend = pScheduledReplay.getPreviousSend();
+		if ((previousSend != null) && !previousSend.isDone()) {
+			fChunksPaced.incrementAndGet();
+			requeue(pScheduledReplay, PACING_DELAY);
+			return false;
+		}
 
-				synchronized (fReplayQueue) {
-					try {
-						while (fReplayQueue.isEmpty() && !fStopped) {
-							fReplayQueue.wait();
-						}
-					} catch (InterruptedException e) {
-						break;
-					}
-					if (fStopped) {
-						break;
-					}
-					if (serverReplay == null) {
-						serverReplay = fReplayQueue.remove(0);
-					}
-				}
+		FantasyFootballServer server = getServer();
+		ReplayChunk chunk = findChunk(serverReplay, server.getCommunication().findWireProtocol(session));
+		serverReplay.setComplete(chunk.isLastCommand());
 
-				while (serverReplay != null) {
-
-					serverReplay.setComplete(true);
-
-					ServerCommandReplay replayCommand = new ServerCommandReplay();
-					replayCommand.setTotalNrOfCommands(serverReplay.size());
-					replayCommand.setLastCommand(true);
-
-					ServerCommand[] serverCommands = serverReplay.findRelevantCommandsInLog();
-					for (ServerCommand serverCommand : serverCommands) {
-						replayCommand.add(serverCommand);
-						switch(serverCommand.getId()) {
-							case SERVER_ADD_PLAYER:
-								replayCommand.addMarkingAffectingCommand(serverCommand.getCommandNr());
-								break;
-							case SERVER_MODEL_SYNC:
-								ServerCommandModelSync syncCommand = (ServerCommandModelSync) serverCommand;
-								for (ModelChange change: syncCommand.getModelChanges().getChanges()) {
-									if (markingAffectingChanges.contains(change.getChangeId())) {
-										replayCommand.addMarkingAffectingCommand(serverCommand.getCommandNr());
-										break;
-									}
-								}
- 								break;
-							default:
-								break;
-						}
-						if (replayCommand.getNrOfCommands() >= ServerCommandReplay.MAX_NR_OF_COMMANDS) {
-							serverReplay.setComplete(false);
-							replayCommand.setLastCommand(false);
-							break;
-						}
-					}
+		pScheduledReplay.setPreviousSend(server.getCommunication().send(session, chunk.getMessage()));
+		fChunksSent.incrementAndGet();
+		if (!pScheduledReplay.isStarted()) {
+			pScheduledReplay.setStarted(true);
+			fReplaysStarted.incrementAndGet();
+			long latency = System.currentTimeMillis() - pScheduledReplay.getQueued();
+			fFirstChunkLatency.addAndGet(latency);
+			fMaxFirstChunkLatency.accumulateAndGet(latency, Math::max);
+		}
 
-					server.getCommunication().send(serverReplay.getSession(), replayCommand, false);
-					if (server.getDebugLog().isLogging(IServerLogLevel.DEBUG)) {
-						StringBuilder message = new StringBuilder().append("Replay commands ").append(replayCommand.getCommandNr());
-						message.append(replayCommand.findLowestCommandNr()).append(" - ")
-							.append(replayCommand.findHighestCommandNr());
-						message.append(" of ").append(replayCommand.getTotalNrOfCommands()).append(" total.");
-						server.getDebugLog().log(IServerLogLevel.DEBUG, serverReplay.getGameId(),
-							DebugLog.COMMAND_SERVER_SPECTATOR, message.toString());
-					}
+		if (server.getDebugLog().isLogging(IServerLogLevel.DEBUG)) {
+			StringBuilder message = new StringBuilder().append("Replay commands ");
+			message.append(chunk.getLowestCommandNr()).append(" - ")
+				.append(chunk.getHighestCommandNr());
+			message.append(" of ").append(chunk.getTotalNrOfCommands()).append(" total.");
+			server.getDebugLog().log(IServerLogLevel.DEBUG, serverReplay.getGameId(),
+				DebugLog.COMMAND_SERVER_SPECTATOR, message.toString());
+		}
 
-					if (!serverReplay.isComplete()) {
-						serverReplay.setFromCommandNr(replayCommand.findHighestCommandNr() + 1);
-					} else {
-						serverReplay = null;
-					}
+		if (serverReplay.isComplete()) {
+			return true;
+		}
+		serverReplay.setFromCommandNr(chunk.getHighestCommandNr() + 1);
+		requeue(pScheduledReplay, 0);
+		return false;
 
-				}
+	}
 
-			} catch (Exception pException) {
-				server.getDebugLog().log(serverReplay != null ? serverReplay.getGameId() : 0, pException);
+	private void requeue(ScheduledReplay pScheduledReplay, long pDelay) {
+		if (!fStopped) {
+			pScheduledReplay.schedule(System.currentTimeMillis() + pDelay, fSequence.incrementAndGet());
+			fReplayQueue.add(pScheduledReplay);
+		}
+	}
+
+	/**
+	 * Returns the chunk starting at the current position of the replay encoded for the protocol, building and caching
+	 * it if needed.
+	 */
+	public ReplayChunk findChunk(ServerReplay pReplay, WireProtocol pProtocol) {
+		int fromCommandNr = Math.max(pReplay.getFromCommandNr(), 1);
+		ReplayChunk chunk = fChunkCache.get(pReplay.getGameId(), fromCommandNr, pReplay.getToCommandNr(),
+			pReplay.getLogSize(), pProtocol);
+		if (chunk == null) {
+			chunk = buildChunk(pReplay, pProtocol);
+			fChunkCache.put(pReplay.getGameId(), fromCommandNr, pReplay.getToCommandNr(), pReplay.getLogSize(), pProtocol,
+				chunk);
+		}
+		return chunk;
+	}
+
+	private ReplayChunk buildChunk(ServerReplay pReplay, WireProtocol pProtocol) {
+		ServerCommandReplay replayCommand = new ServerCommandReplay();
+		replayCommand.setTotalNrOfCommands(pReplay.size());
+		ServerCommand[] serverCommands = pReplay.findRelevantCommandsInLog(ServerCommandReplay.MAX_NR_OF_COMMANDS);
+		for (ServerCommand serverCommand : serverCommands) {
+			replayCommand.add(serverCommand);
+			if (isMarkingAffecting(serverCommand)) {
+				replayCommand.addMarkingAffectingCommand(serverCommand.getCommandNr());
 			}
+		}
+		replayCommand.setLastCommand(serverCommands.length < ServerCommandReplay.MAX_NR_OF_COMMANDS);
+		return new ReplayChunk(getServer().getCommunication().encode(replayCommand, pProtocol), replayCommand.findLowestCommandNr(),
+			replayCommand.findHighestCommandNr(), replayCommand.getTotalNrOfCommands(), replayCommand.isLastCommand());
+	}
 
+	private boolean isMarkingAffecting(ServerCommand pServerCommand) {
+		switch (pServerCommand.getId()) {
+			case SERVER_ADD_PLAYER:
+				return true;
+			case SERVER_MODEL_SYNC:
+				ServerCommandModelSync syncCommand = (ServerCommandModelSync) pServerCommand;
+				for (ModelChange change : syncCommand.getModelChanges().getChanges()) {
+					if (markingAffectingChanges.contains(change.getChangeId())) {
+						return true;
+					}
+				}
+				return false;
+			default:
+				return false;
 		}
+	}
 
+	public ReplayChunkCache getChunkCache() {
+		return fChunkCache;
 	}
 
 	public void stop() {
 		fStopped = true;
-		synchronized (fReplayQueue) {
-			fReplayQueue.notifyAll();
+		for (Thread worker : fWorkers) {
+			if (worker != null) {
+				worker.interrupt();
+			}
 		}
 	}
 
+	public int getQueueLength() {
+		return fReplayQueue.size();
+	}
+
+	public int getNrOfWorkers() {
+		return fWorkers.length;
+	}
+
+	public long getReplaysServed() {
+		return fReplaysServed.get();
+	}
+
+	public long getChunksSent() {
+		return fChunksSent.get();
+	}
+
+	public long getChunksPaced() {
+		return fChunksPaced.get();
+	}
+
+	/**
+	 * @return average time in ms from queueing a replay to sending its first chunk
+	 */
+	public long getAverageFirstChunkLatency() {
+		long replaysStarted = fReplaysStarted.get();
+		return (replaysStarted > 0) ? fFirstChunkLatency.get() / replaysStarted : 0;
+	}
+
+	public long getMaxFirstChunkLatency() {
+		return fMaxFirstChunkLatency.get();
+	}
+
 	public FantasyFootballServer getServer() {
 		return fServer;
 	}
 
+	/**
+	 * A queued replay, ordered by the time it is due and the order of queueing.
+	 */
+	static final class ScheduledReplay implements Delayed {
+
+		private final ServerReplay fReplay;
+		private final long fQueued;
+		private long fDue;
+		private long fSequence;
+		private boolean fStarted;
+		private Future<Void> fPreviousSend;
+
+		ScheduledReplay(ServerReplay pReplay, long pQueued) {
+			fReplay = pReplay;
+			fQueued = pQueued;
+			fDue = pQueued;
+		}
+
+		ServerReplay getReplay() {
+			return fReplay;
+		}
+
+		long getQueued() {
+			return fQueued;
+		}
+
+		boolean isStarted() {
+			return fStarted;
+		}
+
+		void setStarted(boolean pStarted) {
+			fStarted = pStarted;
+		}
+
+		Future<Void> getPreviousSend() {
+			return fPreviousSend;
+		}
+
+		void setPreviousSend(Future<Void> pPreviousSend) {
+			fPreviousSend = pPreviousSend;
+		}
+
+		void schedule(long pDue, long pSequence) {
+			fDue = pDue;
+			fSequence = pSequence;
+		}
+
+		public long getDelay(TimeUnit pUnit) {
+			return pUnit.convert(fDue - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		public int compareTo(Delayed pOther) {
+			ScheduledReplay other = (ScheduledReplay) pOther;
+			int result = Long.compare(fDue, other.fDue);
+			return (result != 0) ? result : Long.compare(fSequence, other.fSequence);
+		}
+
+	}
+
 }
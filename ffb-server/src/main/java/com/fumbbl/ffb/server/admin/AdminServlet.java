@@ -3,23 +3,31 @@ package com.fumbbl.ffb.server.admin;
 import com.fumbbl.ffb.*;
 import com.fumbbl.ffb.factory.GameStatusFactory;
 import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.server.DbUpdater;
 import com.fumbbl.ffb.server.DebugLog;
 import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.GameCache;
 import com.fumbbl.ffb.server.GameState;
 import com.fumbbl.ffb.server.IServerProperty;
+import com.fumbbl.ffb.server.ReplayChunkCache;
+import com.fumbbl.ffb.server.ServerReplayer;
 import com.fumbbl.ffb.server.db.DbStatementId;
 import com.fumbbl.ffb.server.db.query.DbAdminListByIdQuery;
 import com.fumbbl.ffb.server.db.query.DbAdminListByStatusQuery;
 import com.fumbbl.ffb.server.db.query.DbTestGameListQuery;
 import com.fumbbl.ffb.server.db.query.DbUserSettingsQuery;
 import com.fumbbl.ffb.server.handler.RedeployHandler;
+import com.fumbbl.ffb.server.net.GameClockScheduler;
+import com.fumbbl.ffb.server.net.ServerCommandLane;
 import com.fumbbl.ffb.server.net.ServerCommunication;
 import com.fumbbl.ffb.server.net.commands.InternalServerCommandCloseGame;
 import com.fumbbl.ffb.server.net.commands.InternalServerCommandDeleteGame;
 import com.fumbbl.ffb.server.net.commands.InternalServerCommandScheduleGame;
 import com.fumbbl.ffb.server.net.commands.InternalServerCommandUploadGame;
+import com.fumbbl.ffb.server.request.ReplaySourceCache;
 import com.fumbbl.ffb.server.request.ServerRequestSaveReplay;
 import com.fumbbl.ffb.server.util.rng.Fortuna;
+import com.fumbbl.ffb.server.util.rng.FortunaShard;
 import com.fumbbl.ffb.util.ArrayTool;
 import com.fumbbl.ffb.util.DateTool;
 import com.fumbbl.ffb.util.StringTool;
@@ -663,7 +671,8 @@ public class AdminServlet extends HttpServlet {
 			}
 		}
 
-		GameState[] gameStates = getServer().getGameCache().allGameStates();
+		GameCache gameCache = getServer().getGameCache();
+		GameState[] gameStates = gameCache.allGameStates();
 		int activeGames = 0;
 		int inactiveGames = 0;
 		for (GameState gameState : gameStates) {
@@ -680,24 +689,90 @@ public class AdminServlet extends HttpServlet {
 
 		UtilXml.startElement(handler, "stats");
 
+		int queueLength = 0;
+		for (ServerCommandLane lane : comms.getLanes()) {
+			queueLength += lane.getQueueLength();
+		}
 		AttributesImpl commAttributes = new AttributesImpl();
-		UtilXml.addAttribute(commAttributes, "queueLength", comms.getQueueLength());
+		UtilXml.addAttribute(commAttributes, "queueLength", queueLength);
 		UtilXml.startElement(handler, "communication", commAttributes);
+		for (ServerCommandLane lane : comms.getLanes()) {
+			AttributesImpl laneAttributes = new AttributesImpl();
+			UtilXml.addAttribute(laneAttributes, "index", lane.getIndex());
+			UtilXml.addAttribute(laneAttributes, "queueLength", lane.getQueueLength());
+			UtilXml.addAttribute(laneAttributes, "processed", lane.getProcessed());
+			UtilXml.addEmptyElement(handler, "lane", laneAttributes);
+		}
 		UtilXml.endElement(handler, "communication");
 
 		AttributesImpl fortunaAttributes = new AttributesImpl();
 		UtilXml.addAttribute(fortunaAttributes, "rekeyings", fortuna.getRekeyings());
 		UtilXml.addAttribute(fortunaAttributes, "numBytes", fortuna.getNumberOfBytes());
 		UtilXml.startElement(handler, "fortuna", fortunaAttributes);
+		for (FortunaShard shard : fortuna.getShards()) {
+			AttributesImpl shardAttributes = new AttributesImpl();
+			UtilXml.addAttribute(shardAttributes, "index", shard.getIndex());
+			UtilXml.addAttribute(shardAttributes, "thread", shard.getThreadName());
+			UtilXml.addAttribute(shardAttributes, "numBytes", shard.getNumberOfBytes());
+			UtilXml.addAttribute(shardAttributes, "reseeds", shard.getReseeds());
+			UtilXml.addEmptyElement(handler, "shard", shardAttributes);
+		}
 		UtilXml.endElement(handler, "fortuna");
 
 		AttributesImpl cacheAttributes = new AttributesImpl();
 		UtilXml.addAttribute(cacheAttributes, "size", gameStates.length);
 		UtilXml.addAttribute(cacheAttributes, "active", activeGames);
 		UtilXml.addAttribute(cacheAttributes, "inactive", inactiveGames);
+		UtilXml.addAttribute(cacheAttributes, "hibernated", gameCache.allHibernatedGames().length);
+		UtilXml.addAttribute(cacheAttributes, "hibernations", gameCache.getHibernations());
+		UtilXml.addAttribute(cacheAttributes, "wakeUps", gameCache.getWakeUps());
 		UtilXml.startElement(handler, "cache", cacheAttributes);
 		UtilXml.endElement(handler, "cache");
 
+		ServerReplayer replayer = getServer().getReplayer();
+		AttributesImpl replayerAttributes = new AttributesImpl();
+		UtilXml.addAttribute(replayerAttributes, "workers", replayer.getNrOfWorkers());
+		UtilXml.addAttribute(replayerAttributes, "queueLength", replayer.getQueueLength());
+		UtilXml.addAttribute(replayerAttributes, "served", replayer.getReplaysServed());
+		UtilXml.addAttribute(replayerAttributes, "chunks", replayer.getChunksSent());
+		UtilXml.addAttribute(replayerAttributes, "paced", replayer.getChunksPaced());
+		UtilXml.addAttribute(replayerAttributes, "avgLatency", replayer.getAverageFirstChunkLatency());
+		UtilXml.addAttribute(replayerAttributes, "maxLatency", replayer.getMaxFirstChunkLatency());
+		UtilXml.addEmptyElement(handler, "replayer", replayerAttributes);
+
+		ReplayChunkCache replayCache = replayer.getChunkCache();
+		AttributesImpl replayCacheAttributes = new AttributesImpl();
+		UtilXml.addAttribute(replayCacheAttributes, "size", replayCache.size());
+		UtilXml.addAttribute(replayCacheAttributes, "bytes", replayCache.getBytes());
+		UtilXml.addAttribute(replayCacheAttributes, "hits", replayCache.getHits());
+		UtilXml.addAttribute(replayCacheAttributes, "misses", replayCache.getMisses());
+		UtilXml.addEmptyElement(handler, "replayCache", replayCacheAttributes);
+
+		ReplaySourceCache replaySourceCache = getServer().getRequestProcessor().getReplaySourceCache();
+		AttributesImpl replaySourceAttributes = new AttributesImpl();
+		UtilXml.addAttribute(replaySourceAttributes, "size", replaySourceCache.size());
+		UtilXml.addAttribute(replaySourceAttributes, "memoryHits", replaySourceCache.getMemoryHits());
+		UtilXml.addAttribute(replaySourceAttributes, "diskHits", replaySourceCache.getDiskHits());
+		UtilXml.addAttribute(replaySourceAttributes, "misses", replaySourceCache.getMisses());
+		UtilXml.addEmptyElement(handler, "replaySourceCache", replaySourceAttributes);
+
+		GameClockScheduler gameClock = getServer().getGameClock();
+		AttributesImpl gameClockAttributes = new AttributesImpl();
+		UtilXml.addAttribute(gameClockAttributes, "deadlines", gameClock.getNrOfDeadlines());
+		UtilXml.addAttribute(gameClockAttributes, "fired", gameClock.getFired());
+		UtilXml.addEmptyElement(handler, "gameClock", gameClockAttributes);
+
+		DbUpdater dbUpdater = getServer().getDbUpdater();
+		if (dbUpdater != null) {
+			AttributesImpl dbUpdaterAttributes = new AttributesImpl();
+			UtilXml.addAttribute(dbUpdaterAttributes, "queued", dbUpdater.getQueueSize());
+			UtilXml.addAttribute(dbUpdaterAttributes, "written", dbUpdater.getWritten());
+			UtilXml.addAttribute(dbUpdaterAttributes, "coalesced", dbUpdater.getCoalesced());
+			UtilXml.addAttribute(dbUpdaterAttributes, "averageWriteTime", dbUpdater.getAverageWriteTime());
+			UtilXml.addAttribute(dbUpdaterAttributes, "maxWriteTime", dbUpdater.getMaxWriteTime());
+			UtilXml.addEmptyElement(handler, "dbUpdater", dbUpdaterAttributes);
+		}
+
 		AttributesImpl sessionAttributes = new AttributesImpl();
 		UtilXml.addAttribute(sessionAttributes, "size", sessions.length);
 		UtilXml.addAttribute(sessionAttributes, "open", openSessions);
@@ -41,6 +41,7 @@ public class DbInitializer {
 			dropTable(statement, IDbTableUserSettings.TABLE_NAME);
 			dropTable(statement, IDbTableGamesInfo.TABLE_NAME);
 			dropTable(statement, IDbTableGamesSerialized.TABLE_NAME);
+			dropTable(statement, IDbTableGamesLogChunks.TABLE_NAME);
 
 			if (fDbConnectionManager.isStandalone()) {
 				dropTable(statement, IDbTableCoaches.TABLE_NAME);
@@ -52,6 +53,7 @@ public class DbInitializer {
 			createTableTeamSetups(statement);
 			createTableGamesInfo(statement);
 			createTableGamesSerialized(statement);
+			createTableGamesLogChunks(statement);
 
 			if (fDbConnectionManager.isStandalone()) {
 				initTableCoaches(statement);
@@ -164,6 +166,22 @@ public class DbInitializer {
 		return pStatement.executeUpdate(sql.toString());
 	}
 
+	private int createTableGamesLogChunks(Statement pStatement) throws SQLException {
+		StringBuilder sql = new StringBuilder();
+		sql.append("CREATE TABLE ").append(IDbTableGamesLogChunks.TABLE_NAME).append(" (");
+		sql.append(IDbTableGamesLogChunks.COLUMN_ID).append(" BIGINT NOT NULL,"); // 1
+		sql.append(IDbTableGamesLogChunks.COLUMN_START_INDEX).append(" INTEGER NOT NULL,"); // 2
+		sql.append(IDbTableGamesLogChunks.COLUMN_SERIALIZED).append(" BLOB,"); // 3
+		sql.append("PRIMARY KEY(").append(IDbTableGamesLogChunks.COLUMN_ID).append(",")
+				.append(IDbTableGamesLogChunks.COLUMN_START_INDEX).append(")");
+		if (fDbConnectionManager.useMysqlDialect()) {
+			sql.append(");");
+		} else {
+			sql.append(") ENGINE=InnoDB DEFAULT CHARSET=utf8;");
+		}
+		return pStatement.executeUpdate(sql.toString());
+	}
+
 	private int createTablePlayerMarkers(Statement pStatement) throws SQLException {
 		StringBuilder sql = new StringBuilder();
 		sql.append("CREATE TABLE ").append(IDbTablePlayerMarkers.TABLE_NAME).append("(");
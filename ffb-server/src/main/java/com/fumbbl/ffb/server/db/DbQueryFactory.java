@@ -6,6 +6,7 @@ import com.fumbbl.ffb.server.db.query.DbAdminListByIdQuery;
 import com.fumbbl.ffb.server.db.query.DbAdminListByStatusQuery;
 import com.fumbbl.ffb.server.db.query.DbGameListQueryOpenGamesByCoach;
 import com.fumbbl.ffb.server.db.query.DbGamesInfoInsertQuery;
+import com.fumbbl.ffb.server.db.query.DbGamesLogChunksQuery;
 import com.fumbbl.ffb.server.db.query.DbGamesSerializedQuery;
 import com.fumbbl.ffb.server.db.query.DbPasswordForCoachQuery;
 import com.fumbbl.ffb.server.db.query.DbPlayerMarkersQuery;
@@ -51,6 +52,10 @@ public class DbQueryFactory implements IDbStatementFactory {
 			register(new DbPasswordForCoachQuery(getServer()));
 		}
 
+		if (getServer().isDbSerializationIncremental()) {
+			register(new DbGamesLogChunksQuery(getServer()));
+		}
+
 	}
 
 	public DbStatement getStatement(DbStatementId pStatementId) {
@@ -16,6 +16,8 @@ public enum DbStatementId {
 
 	GAMES_SERIALIZED_INSERT, GAMES_SERIALIZED_UPDATE, GAMES_SERIALIZED_DELETE, GAMES_SERIALIZED_QUERY,
 
+	GAMES_LOG_CHUNKS_INSERT, GAMES_LOG_CHUNKS_DELETE, GAMES_LOG_CHUNKS_QUERY,
+
 	USER_SETTINGS_DELETE, USER_SETTINGS_INSERT, USER_SETTINGS_QUERY,
 
 	GAME_LIST_QUERY_OPEN_GAMES_BY_COACH, ADMIN_LIST_BY_ID_QUERY, ADMIN_LIST_BY_STATUS_QUERY, TEST_GAME_LIST_QUERY
@@ -4,8 +4,10 @@ import com.fumbbl.ffb.server.FantasyFootballServer;
 import com.fumbbl.ffb.server.IServerLogLevel;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  *
@@ -14,6 +16,7 @@ import java.util.List;
 public class DbTransaction implements IDbUpdateParameter {
 
 	private int fUpdatedRows;
+	private boolean fCoalescable;
 	private final List<IDbUpdateParameter> fDbUpdateParameters;
 
 	public DbTransaction() {
@@ -42,19 +45,57 @@ public class DbTransaction implements IDbUpdateParameter {
 		return fDbUpdateParameters.size();
 	}
 
+	/**
+	 * @param pCoalescable true if updates of this transaction may be dropped in favour of later ones with the same key
+	 */
+	public void setCoalescable(boolean pCoalescable) {
+		fCoalescable = pCoalescable;
+	}
+
+	public boolean isCoalescable() {
+		return fCoalescable;
+	}
+
+	/**
+	 * Drops the updates superseded by a transaction queued behind this one.
+	 *
+	 * @param pLaterKeys keys of the updates queued behind this transaction, the keys of this one are added.
+	 * @return the number of dropped updates
+	 */
+	public int coalesce(Set<String> pLaterKeys) {
+		int nrOfDropped = 0;
+		for (int i = fDbUpdateParameters.size() - 1; i >= 0; i--) {
+			IDbUpdateParameter dbUpdateParameter = fDbUpdateParameters.get(i);
+			if (dbUpdateParameter instanceof IDbUpdateCoalescable) {
+				boolean superseded = !pLaterKeys.add(((IDbUpdateCoalescable) dbUpdateParameter).getCoalescingKey());
+				if (superseded && fCoalescable) {
+					fDbUpdateParameters.remove(i);
+					nrOfDropped++;
+				}
+			}
+		}
+		return nrOfDropped;
+	}
+
 	public void executeUpdate(FantasyFootballServer pServer) {
 		fUpdatedRows = 0;
 		boolean doCommit = true;
-		for (int i = 0; i < fDbUpdateParameters.size(); i++) {
-			IDbUpdateParameter dbUpdateParameter = fDbUpdateParameters.get(i);
+		int i = 0;
+		while (i < fDbUpdateParameters.size()) {
+			int batchEnd = findBatchEnd(pServer, i);
 			try {
-				dbUpdateParameter.executeUpdate(pServer);
-				fUpdatedRows += dbUpdateParameter.getUpdatedRows();
+				if (batchEnd - i > 1) {
+					fUpdatedRows += executeBatch(pServer, i, batchEnd);
+				} else {
+					IDbUpdateParameter dbUpdateParameter = fDbUpdateParameters.get(i);
+					dbUpdateParameter.executeUpdate(pServer);
+					fUpdatedRows += dbUpdateParameter.getUpdatedRows();
+				}
 			} catch (SQLException pSqlException) {
 				doCommit = false;
 				pServer.getDebugLog().logWithOutGameId(pSqlException);
 				pServer.getDebugLog().logWithOutGameId(IServerLogLevel.ERROR, "*** DbTransaction Content ***");
-				for (int j = 0; j <= i; j++) {
+				for (int j = 0; j < batchEnd; j++) {
 					try {
 						pServer.getDebugLog().logWithOutGameId(IServerLogLevel.ERROR,
 							fDbUpdateParameters.get(j).getDbUpdateStatement(pServer).toString(fDbUpdateParameters.get(j)));
@@ -64,10 +105,12 @@ public class DbTransaction implements IDbUpdateParameter {
 				}
 				break;
 			}
+			i = batchEnd;
 		}
 		try {
 			if (doCommit) {
 				pServer.getDbUpdateFactory().commit();
+				notifyCommitted();
 			} else {
 				fUpdatedRows = 0;
 				pServer.getDbUpdateFactory().rollback();
@@ -77,6 +120,47 @@ public class DbTransaction implements IDbUpdateParameter {
 		}
 	}
 
+	private void notifyCommitted() {
+		for (IDbUpdateParameter dbUpdateParameter : fDbUpdateParameters) {
+			if (dbUpdateParameter instanceof IDbUpdateCommitListener) {
+				((IDbUpdateCommitListener) dbUpdateParameter).committed();
+			}
+		}
+	}
+
+	/**
+	 * @return the index behind the run of parameters starting at the given one that share a batchable statement
+	 */
+	private int findBatchEnd(FantasyFootballServer pServer, int pStart) {
+		DbUpdateStatement statement = fDbUpdateParameters.get(pStart).getDbUpdateStatement(pServer);
+		int end = pStart + 1;
+		if ((statement != null) && statement.isBatchable()) {
+			while ((end < fDbUpdateParameters.size())
+				&& (fDbUpdateParameters.get(end).getDbUpdateStatement(pServer) == statement)) {
+				end++;
+			}
+		}
+		return end;
+	}
+
+	private int executeBatch(FantasyFootballServer pServer, int pStart, int pEnd) throws SQLException {
+		DbUpdateStatement statement = fDbUpdateParameters.get(pStart).getDbUpdateStatement(pServer);
+		try {
+			for (int i = pStart; i < pEnd; i++) {
+				statement.addBatch(fDbUpdateParameters.get(i));
+			}
+			int updatedRows = 0;
+			for (int updateCount : statement.executeBatch()) {
+				// drivers may not report the rows of a batched statement
+				updatedRows += (updateCount == Statement.SUCCESS_NO_INFO) ? 1 : Math.max(0, updateCount);
+			}
+			return updatedRows;
+		} finally {
+			// the statement is shared, rows left over from a failure must not end up in the next batch
+			statement.clearBatch();
+		}
+	}
+
 	public int getUpdatedRows() {
 		return fUpdatedRows;
 	}
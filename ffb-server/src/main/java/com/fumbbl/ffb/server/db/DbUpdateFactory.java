@@ -8,10 +8,12 @@ import java.util.Map;
 
 import com.fumbbl.ffb.server.FantasyFootballServer;
 import com.fumbbl.ffb.server.db.delete.DbGamesInfoDelete;
+import com.fumbbl.ffb.server.db.delete.DbGamesLogChunksDelete;
 import com.fumbbl.ffb.server.db.delete.DbGamesSerializedDelete;
 import com.fumbbl.ffb.server.db.delete.DbPlayerMarkersDelete;
 import com.fumbbl.ffb.server.db.delete.DbTeamSetupsDelete;
 import com.fumbbl.ffb.server.db.delete.DbUserSettingsDelete;
+import com.fumbbl.ffb.server.db.insert.DbGamesLogChunksInsert;
 import com.fumbbl.ffb.server.db.insert.DbGamesSerializedInsert;
 import com.fumbbl.ffb.server.db.insert.DbPlayerMarkersInsert;
 import com.fumbbl.ffb.server.db.insert.DbTeamSetupsInsert;
@@ -46,6 +48,11 @@ public class DbUpdateFactory implements IDbStatementFactory {
 		register(new DbGamesSerializedDelete(getServer()));
 		register(new DbTeamSetupsDelete(getServer()));
 
+		if (getServer().isDbSerializationIncremental()) {
+			register(new DbGamesLogChunksInsert(getServer()));
+			register(new DbGamesLogChunksDelete(getServer()));
+		}
+
 	}
 
 	public DbStatement getStatement(DbStatementId pStatementId) {
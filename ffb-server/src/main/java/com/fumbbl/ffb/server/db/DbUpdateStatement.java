@@ -18,4 +18,28 @@ public abstract class DbUpdateStatement extends DbStatement {
 
 	public abstract String toString(IDbUpdateParameter pUpdateParameter) throws SQLException;
 
+	/**
+	 * @return true if consecutive parameters of this statement may be sent to the database as one batch
+	 */
+	public boolean isBatchable() {
+		return false;
+	}
+
+	public void addBatch(IDbUpdateParameter pUpdateParameter) throws SQLException {
+		throw new SQLException("Statement " + getId() + " does not support batches.");
+	}
+
+	/**
+	 * @return the update counts of the batched parameters
+	 */
+	public int[] executeBatch() throws SQLException {
+		throw new SQLException("Statement " + getId() + " does not support batches.");
+	}
+
+	/**
+	 * Drops all parameters added since the last execution, whether the batch has been executed or not.
+	 */
+	public void clearBatch() throws SQLException {
+	}
+
 }
@@ -0,0 +1,14 @@
+package com.fumbbl.ffb.server.db;
+
+/**
+ * Game log commands appended in chunks, used by the incremental serialization mode.
+ */
+public interface IDbTableGamesLogChunks {
+
+	String TABLE_NAME = "ffb_games_log_chunks";
+
+	String COLUMN_ID = "id";
+	String COLUMN_START_INDEX = "start_index";
+	String COLUMN_SERIALIZED = "serialized";
+
+}
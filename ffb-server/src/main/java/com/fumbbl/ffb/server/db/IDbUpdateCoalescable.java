@@ -0,0 +1,10 @@
+package com.fumbbl.ffb.server.db;
+
+/**
+ * Update overwriting a whole row, so a pending update with the same key is superseded by a later one.
+ */
+public interface IDbUpdateCoalescable {
+
+	String getCoalescingKey();
+
+}
@@ -0,0 +1,11 @@
+package com.fumbbl.ffb.server.db;
+
+/**
+ * Update keeping in-memory state in line with the database, which may only change once its transaction has been
+ * committed.
+ */
+public interface IDbUpdateCommitListener {
+
+	void committed();
+
+}
@@ -0,0 +1,51 @@
+package com.fumbbl.ffb.server.db.delete;
+
+import com.fumbbl.ffb.FantasyFootballException;
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.db.DbStatementId;
+import com.fumbbl.ffb.server.db.DbUpdateStatement;
+import com.fumbbl.ffb.server.db.IDbTableGamesLogChunks;
+import com.fumbbl.ffb.server.db.IDbUpdateParameter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public class DbGamesLogChunksDelete extends DbUpdateStatement {
+
+	private PreparedStatement fStatement;
+
+	public DbGamesLogChunksDelete(FantasyFootballServer pServer) {
+		super(pServer);
+	}
+
+	public DbStatementId getId() {
+		return DbStatementId.GAMES_LOG_CHUNKS_DELETE;
+	}
+
+	public void prepare(Connection pConnection) {
+		try {
+			String sql = "DELETE FROM " + IDbTableGamesLogChunks.TABLE_NAME + " WHERE " +
+				IDbTableGamesLogChunks.COLUMN_ID + "=?";
+			fStatement = pConnection.prepareStatement(sql);
+		} catch (SQLException sqlE) {
+			throw new FantasyFootballException(sqlE);
+		}
+	}
+
+	private PreparedStatement fillDbStatement(IDbUpdateParameter pUpdateParameter) throws SQLException {
+		DbGamesLogChunksDeleteParameter parameter = (DbGamesLogChunksDeleteParameter) pUpdateParameter;
+		fStatement.clearParameters();
+		fStatement.setLong(1, parameter.getGameStateId());
+		return fStatement;
+	}
+
+	public int execute(IDbUpdateParameter pUpdateParameter) throws SQLException {
+		return fillDbStatement(pUpdateParameter).executeUpdate();
+	}
+
+	public String toString(IDbUpdateParameter pUpdateParameter) throws SQLException {
+		return fillDbStatement(pUpdateParameter).toString();
+	}
+
+}
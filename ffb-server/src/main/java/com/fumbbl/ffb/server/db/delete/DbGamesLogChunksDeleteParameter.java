@@ -0,0 +1,24 @@
+package com.fumbbl.ffb.server.db.delete;
+
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.db.DbStatementId;
+import com.fumbbl.ffb.server.db.DbUpdateStatement;
+import com.fumbbl.ffb.server.db.DefaultDbUpdateParameter;
+
+public class DbGamesLogChunksDeleteParameter extends DefaultDbUpdateParameter {
+
+	private final long fGameStateId;
+
+	public DbGamesLogChunksDeleteParameter(long pGameStateId) {
+		fGameStateId = pGameStateId;
+	}
+
+	public long getGameStateId() {
+		return fGameStateId;
+	}
+
+	public DbUpdateStatement getDbUpdateStatement(FantasyFootballServer pServer) {
+		return (DbUpdateStatement) pServer.getDbUpdateFactory().getStatement(DbStatementId.GAMES_LOG_CHUNKS_DELETE);
+	}
+
+}
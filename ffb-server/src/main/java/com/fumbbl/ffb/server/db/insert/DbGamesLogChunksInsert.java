@@ -0,0 +1,69 @@
+package com.fumbbl.ffb.server.db.insert;
+
+import com.fumbbl.ffb.FantasyFootballException;
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.IServerLogLevel;
+import com.fumbbl.ffb.server.db.DbStatementId;
+import com.fumbbl.ffb.server.db.DbUpdateStatement;
+import com.fumbbl.ffb.server.db.IDbTableGamesLogChunks;
+import com.fumbbl.ffb.server.db.IDbUpdateParameter;
+import com.fumbbl.ffb.util.StringTool;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public class DbGamesLogChunksInsert extends DbUpdateStatement {
+
+	private PreparedStatement fStatement;
+
+	public DbGamesLogChunksInsert(FantasyFootballServer pServer) {
+		super(pServer);
+	}
+
+	public DbStatementId getId() {
+		return DbStatementId.GAMES_LOG_CHUNKS_INSERT;
+	}
+
+	public void prepare(Connection pConnection) {
+		try {
+			String sql = "INSERT INTO " + IDbTableGamesLogChunks.TABLE_NAME + " VALUES(?,?,?)";
+			fStatement = pConnection.prepareStatement(sql);
+		} catch (SQLException sqlE) {
+			throw new FantasyFootballException(sqlE);
+		}
+	}
+
+	public int execute(IDbUpdateParameter pUpdateParameter) throws SQLException {
+		return fillDbStatement(pUpdateParameter, true).executeUpdate();
+	}
+
+	public String toString(IDbUpdateParameter pUpdateParameter) throws SQLException {
+		return fillDbStatement(pUpdateParameter, false).toString();
+	}
+
+	private PreparedStatement fillDbStatement(IDbUpdateParameter pUpdateParameter, boolean pFillBlob)
+			throws SQLException {
+		DbGamesLogChunksInsertParameter parameter = (DbGamesLogChunksInsertParameter) pUpdateParameter;
+		fStatement.clearParameters();
+		int col = 1;
+		fStatement.setLong(col++, parameter.getId());
+		fStatement.setInt(col++, parameter.getStartIndex());
+		try {
+			byte[] blobData = pFillBlob ? parameter.gzip() : new byte[0];
+			if (pFillBlob && getServer().getDebugLog().isLogging(IServerLogLevel.TRACE)) {
+				String logMsg = "appending log chunk of commands " + parameter.getStartIndex() + " to " +
+					(parameter.getEndIndex() - 1) + " with " + StringTool.formatThousands(blobData.length) + " bytes" +
+					" (original " + StringTool.formatThousands(parameter.length()) + " bytes)";
+				getServer().getDebugLog().log(IServerLogLevel.TRACE, parameter.getId(), logMsg);
+			}
+			fStatement.setBinaryStream(col++, new ByteArrayInputStream(blobData), blobData.length);
+		} catch (IOException pIoException) {
+			throw new SQLException("Error on compressing log chunk", pIoException);
+		}
+		return fStatement;
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.fumbbl.ffb.server.db.insert;
+
+import com.eclipsesource.json.JsonObject;
+import com.fumbbl.ffb.json.UtilJson;
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.GameLog;
+import com.fumbbl.ffb.server.GameState;
+import com.fumbbl.ffb.server.db.DbStatementId;
+import com.fumbbl.ffb.server.db.DbUpdateStatement;
+import com.fumbbl.ffb.server.db.DefaultDbUpdateParameter;
+import com.fumbbl.ffb.server.db.IDbUpdateCommitListener;
+import com.fumbbl.ffb.server.db.IDbUpdateWithGameState;
+import com.fumbbl.ffb.server.db.delete.DbGamesLogChunksDeleteParameter;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Appends all commands logged since the last persisted chunk as a new chunk.
+ * The chunk range is determined on execution, so consecutive queued updates never overlap.
+ * The commited size of the log only advances once the transaction has been committed, a rolled back chunk is
+ * written again by the next update.
+ */
+public class DbGamesLogChunksInsertParameter extends DefaultDbUpdateParameter implements IDbUpdateWithGameState,
+	IDbUpdateCommitListener {
+
+	private final long fId;
+	private final GameState fGameState;
+	private final int fEndIndex;
+	private int fStartIndex;
+	private boolean fWritten;
+	private JsonObject fJsonObject;
+
+	public DbGamesLogChunksInsertParameter(GameState pGameState) {
+		fGameState = pGameState;
+		fId = fGameState.getId();
+		fEndIndex = fGameState.getGameLog().size();
+	}
+
+	public long getId() {
+		return fId;
+	}
+
+	public GameState getGameState() {
+		return fGameState;
+	}
+
+	public int getStartIndex() {
+		return fStartIndex;
+	}
+
+	public int getEndIndex() {
+		return fEndIndex;
+	}
+
+	public int length() {
+		return (fJsonObject != null) ? fJsonObject.toString().length() : 0;
+	}
+
+	public byte[] gzip() throws IOException {
+		fJsonObject = GameLog.toJsonValue(fGameState.getGameLog().getServerCommands(fStartIndex, fEndIndex));
+		return UtilJson.gzip(fJsonObject);
+	}
+
+	@Override
+	public void executeUpdate(FantasyFootballServer pServer) throws SQLException {
+		fWritten = false;
+		fStartIndex = fGameState.getGameLog().getCommitedSize();
+		if (fStartIndex >= fEndIndex) {
+			return;
+		}
+		if (fStartIndex == 0) {
+			// log has not been written in chunks before - drop any leftovers from an earlier serialization
+			new DbGamesLogChunksDeleteParameter(fId).executeUpdate(pServer);
+		}
+		super.executeUpdate(pServer);
+		fWritten = true;
+	}
+
+	@Override
+	public void committed() {
+		if (fWritten) {
+			fGameState.getGameLog().setCommitedSize(fEndIndex);
+		}
+	}
+
+	public DbUpdateStatement getDbUpdateStatement(FantasyFootballServer pServer) {
+		return (DbUpdateStatement) pServer.getDbUpdateFactory().getStatement(DbStatementId.GAMES_LOG_CHUNKS_INSERT);
+	}
+
+}
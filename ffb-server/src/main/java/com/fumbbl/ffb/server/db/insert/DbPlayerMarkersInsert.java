@@ -55,4 +55,24 @@ public class DbPlayerMarkersInsert extends DbUpdateStatement {
 		return fillDbStatement(pUpdateParameter).toString();
 	}
 
+	@Override
+	public boolean isBatchable() {
+		return true;
+	}
+
+	@Override
+	public void addBatch(IDbUpdateParameter pUpdateParameter) throws SQLException {
+		fillDbStatement(pUpdateParameter).addBatch();
+	}
+
+	@Override
+	public int[] executeBatch() throws SQLException {
+		return fStatement.executeBatch();
+	}
+
+	@Override
+	public void clearBatch() throws SQLException {
+		fStatement.clearBatch();
+	}
+
 }
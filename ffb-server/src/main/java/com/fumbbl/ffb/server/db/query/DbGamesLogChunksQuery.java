@@ -0,0 +1,66 @@
+package com.fumbbl.ffb.server.db.query;
+
+import com.eclipsesource.json.JsonValue;
+import com.fumbbl.ffb.FantasyFootballException;
+import com.fumbbl.ffb.json.UtilJson;
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.GameLog;
+import com.fumbbl.ffb.server.GameState;
+import com.fumbbl.ffb.server.db.DbStatement;
+import com.fumbbl.ffb.server.db.DbStatementId;
+import com.fumbbl.ffb.server.db.IDbTableGamesLogChunks;
+
+import java.io.IOException;
+import java.sql.Blob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Appends all persisted log chunks of a game to its (snapshot) game log in order.
+ */
+public class DbGamesLogChunksQuery extends DbStatement {
+
+	private PreparedStatement fStatement;
+
+	public DbGamesLogChunksQuery(FantasyFootballServer pServer) {
+		super(pServer);
+	}
+
+	public DbStatementId getId() {
+		return DbStatementId.GAMES_LOG_CHUNKS_QUERY;
+	}
+
+	public void prepare(Connection pConnection) {
+		try {
+			String sql = "SELECT " + IDbTableGamesLogChunks.COLUMN_START_INDEX + ", " +
+				IDbTableGamesLogChunks.COLUMN_SERIALIZED + " FROM " + IDbTableGamesLogChunks.TABLE_NAME +
+				" WHERE " + IDbTableGamesLogChunks.COLUMN_ID + "=? ORDER BY " + IDbTableGamesLogChunks.COLUMN_START_INDEX;
+			fStatement = pConnection.prepareStatement(sql);
+		} catch (SQLException sqlE) {
+			throw new FantasyFootballException(sqlE);
+		}
+	}
+
+	public int execute(GameState pGameState) {
+		int nrOfChunks = 0;
+		GameLog gameLog = pGameState.getGameLog();
+		try {
+			fStatement.setLong(1, pGameState.getId());
+			try (ResultSet resultSet = fStatement.executeQuery()) {
+				while (resultSet.next()) {
+					int startIndex = resultSet.getInt(1);
+					Blob blob = resultSet.getBlob(2);
+					JsonValue jsonValue = UtilJson.gunzip(blob.getBytes(1, (int) blob.length()));
+					gameLog.appendFrom(pGameState.getGame().getRules(), jsonValue, startIndex);
+					nrOfChunks++;
+				}
+			}
+		} catch (IOException | SQLException pException) {
+			throw new FantasyFootballException(pException);
+		}
+		return nrOfChunks;
+	}
+
+}
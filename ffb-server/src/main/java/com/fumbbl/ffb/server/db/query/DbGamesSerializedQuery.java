@@ -5,6 +5,7 @@ import com.fumbbl.ffb.FantasyFootballException;
 import com.fumbbl.ffb.json.UtilJson;
 import com.fumbbl.ffb.server.FantasyFootballServer;
 import com.fumbbl.ffb.server.GameState;
+import com.fumbbl.ffb.server.IServerJsonOption;
 import com.fumbbl.ffb.server.IServerLogLevel;
 import com.fumbbl.ffb.server.db.DbStatement;
 import com.fumbbl.ffb.server.db.DbStatementId;
@@ -54,6 +55,7 @@ public class DbGamesSerializedQuery extends DbStatement {
 					JsonValue jsonValue = UtilJson.gunzip(blob.getBytes(1, (int) blob.length()));
 					gameState = new GameState(pServer);
 					gameState.initFrom(gameState.getGame().getRules(), jsonValue);
+					appendLogChunks(gameState, jsonValue);
 					if (getServer().getDebugLog().isLogging(IServerLogLevel.TRACE) && (gameState.getCurrentStep() != null)) {
 						String currentStepName = (gameState.getCurrentStep() != null) ? gameState.getCurrentStep().getId().getName()
 							: "null";
@@ -68,4 +70,20 @@ public class DbGamesSerializedQuery extends DbStatement {
 		return gameState;
 	}
 
+	private void appendLogChunks(GameState pGameState, JsonValue pJsonValue) {
+		DbGamesLogChunksQuery chunksQuery = (DbGamesLogChunksQuery) getServer().getDbQueryFactory()
+			.getStatement(DbStatementId.GAMES_LOG_CHUNKS_QUERY);
+		if (chunksQuery == null) {
+			return;
+		}
+		boolean snapshotOnly = !IServerJsonOption.GAME_LOG.isDefinedIn(UtilJson.toJsonObject(pJsonValue));
+		int nrOfChunks = chunksQuery.execute(pGameState);
+		// a full serialization (written without incremental mode) is rewritten completely on the next update
+		pGameState.getGameLog().setCommitedSize(snapshotOnly ? pGameState.getGameLog().size() : 0);
+		if (getServer().getDebugLog().isLogging(IServerLogLevel.TRACE)) {
+			getServer().getDebugLog().log(IServerLogLevel.TRACE, pGameState.getId(),
+				StringTool.bind("appended $1 log chunks", nrOfChunks));
+		}
+	}
+
 }
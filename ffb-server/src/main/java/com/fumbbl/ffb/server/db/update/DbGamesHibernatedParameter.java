@@ -0,0 +1,39 @@
+package com.fumbbl.ffb.server.db.update;
+
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.HibernatedGame;
+import com.fumbbl.ffb.server.db.DbTransaction;
+import com.fumbbl.ffb.server.db.DbUpdateStatement;
+import com.fumbbl.ffb.server.db.IDbUpdateParameter;
+
+/**
+ * Confirms the serialization of a hibernated game to the game cache.
+ * Queued in a transaction of its own behind the serialization, so it runs after that has been committed.
+ */
+public class DbGamesHibernatedParameter implements IDbUpdateParameter {
+
+	private final HibernatedGame fHibernatedGame;
+	private final DbTransaction fSerialization;
+
+	public DbGamesHibernatedParameter(HibernatedGame pHibernatedGame, DbTransaction pSerialization) {
+		fHibernatedGame = pHibernatedGame;
+		fSerialization = pSerialization;
+	}
+
+	public HibernatedGame getHibernatedGame() {
+		return fHibernatedGame;
+	}
+
+	public void executeUpdate(FantasyFootballServer pServer) {
+		pServer.getGameCache().hibernationPersisted(fHibernatedGame, fSerialization.getUpdatedRows() > 0);
+	}
+
+	public int getUpdatedRows() {
+		return 0;
+	}
+
+	public DbUpdateStatement getDbUpdateStatement(FantasyFootballServer pServer) {
+		return null;
+	}
+
+}
@@ -8,12 +8,13 @@ import com.fumbbl.ffb.server.GameState;
 import com.fumbbl.ffb.server.db.DbStatementId;
 import com.fumbbl.ffb.server.db.DbUpdateStatement;
 import com.fumbbl.ffb.server.db.DefaultDbUpdateParameter;
+import com.fumbbl.ffb.server.db.IDbUpdateCoalescable;
 
 /**
  * 
  * @author Kalimar
  */
-public class DbGamesInfoUpdateParameter extends DefaultDbUpdateParameter {
+public class DbGamesInfoUpdateParameter extends DefaultDbUpdateParameter implements IDbUpdateCoalescable {
 
 	private long fId;
 	private Timestamp fScheduled;
@@ -58,6 +59,10 @@ public class DbGamesInfoUpdateParameter extends DefaultDbUpdateParameter {
 		return fId;
 	}
 
+	public String getCoalescingKey() {
+		return "gamesInfo:" + fId;
+	}
+
 	public Timestamp getScheduled() {
 		return fScheduled;
 	}
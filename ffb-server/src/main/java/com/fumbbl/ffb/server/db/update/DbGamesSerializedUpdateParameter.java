@@ -9,23 +9,32 @@ import com.fumbbl.ffb.server.GameState;
 import com.fumbbl.ffb.server.db.DbStatementId;
 import com.fumbbl.ffb.server.db.DbUpdateStatement;
 import com.fumbbl.ffb.server.db.DefaultDbUpdateParameter;
+import com.fumbbl.ffb.server.db.IDbUpdateCoalescable;
 import com.fumbbl.ffb.server.db.IDbUpdateWithGameState;
 
 /**
  * 
  * @author Kalimar
  */
-public class DbGamesSerializedUpdateParameter extends DefaultDbUpdateParameter implements IDbUpdateWithGameState {
+public class DbGamesSerializedUpdateParameter extends DefaultDbUpdateParameter implements IDbUpdateWithGameState,
+		IDbUpdateCoalescable {
 
 	private long fId;
 	private JsonObject fJsonObject;
 	private GameState fGameState;
 
 	public DbGamesSerializedUpdateParameter(GameState pGameState) {
+		this(pGameState, true);
+	}
+
+	/**
+	 * @param pWithLog false to store only a snapshot of the game state, with the log persisted in chunks.
+	 */
+	public DbGamesSerializedUpdateParameter(GameState pGameState, boolean pWithLog) {
 		fGameState = pGameState;
 		if (fGameState != null) {
 			fId = fGameState.getId();
-			fJsonObject = fGameState.toJsonValue();
+			fJsonObject = fGameState.toJsonValue(pWithLog, 0);
 		}
 	}
 
@@ -33,6 +42,10 @@ public class DbGamesSerializedUpdateParameter extends DefaultDbUpdateParameter i
 		return fId;
 	}
 
+	public String getCoalescingKey() {
+		return "gamesSerialized:" + fId;
+	}
+
 	public int length() {
 		return fJsonObject.toString().length();
 	}
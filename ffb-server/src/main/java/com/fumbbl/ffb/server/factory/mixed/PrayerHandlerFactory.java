@@ -32,4 +32,12 @@ public class PrayerHandlerFactory implements INamedObjectFactory<PrayerHandler>
 	public void initialize(Game game) {
 		handlers.addAll(new Scanner<>(PrayerHandler.class).getSubclassInstances(game.getOptions()));
 	}
+
+	/**
+	 * Handlers keep pending reports between initializing an effect and applying a dialog selection.
+	 */
+	@Override
+	public boolean isGameBound() {
+		return true;
+	}
 }
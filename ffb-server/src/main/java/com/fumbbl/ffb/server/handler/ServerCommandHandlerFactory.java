@@ -19,6 +19,8 @@ public class ServerCommandHandlerFactory {
 		fCommandHandlerById = new HashMap<>();
 		register(new ServerCommandHandlerCloseGame(server));
 		register(new ServerCommandHandlerDeleteGame(server));
+		register(new ServerCommandHandlerHibernateGame(server));
+		register(new ServerCommandHandlerGameClock(server));
 		register(new ServerCommandHandlerFumbblGameChecked(server));
 		register(new ServerCommandHandlerFumbblTeamLoaded(server));
 		register(new ServerCommandHandlerJoin(server));
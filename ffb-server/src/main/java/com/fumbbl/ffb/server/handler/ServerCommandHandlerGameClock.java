@@ -0,0 +1,42 @@
+package com.fumbbl.ffb.server.handler;
+
+import com.fumbbl.ffb.SoundId;
+import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.net.NetCommandId;
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.GameState;
+import com.fumbbl.ffb.server.net.ReceivedCommand;
+import com.fumbbl.ffb.server.net.commands.InternalServerCommandGameClock;
+import com.fumbbl.ffb.server.util.UtilServerGame;
+import com.fumbbl.ffb.server.util.UtilServerTimer;
+
+public class ServerCommandHandlerGameClock extends ServerCommandHandler {
+
+	protected ServerCommandHandlerGameClock(FantasyFootballServer pServer) {
+		super(pServer);
+	}
+
+	public NetCommandId getId() {
+		return NetCommandId.INTERNAL_SERVER_GAME_CLOCK;
+	}
+
+	public boolean handleCommand(ReceivedCommand pReceivedCommand) {
+		InternalServerCommandGameClock clockCommand = (InternalServerCommandGameClock) pReceivedCommand.getCommand();
+		GameState gameState = getServer().getGameCache().getGameStateById(clockCommand.getGameId());
+		if (gameState == null) {
+			getServer().getGameClock().cancel(clockCommand.getGameId());
+			return true;
+		}
+		Game game = gameState.getGame();
+		boolean timeoutPossible = game.isTimeoutPossible();
+		UtilServerTimer.syncTime(gameState, System.currentTimeMillis());
+		getServer().getCommunication().sendGameTime(gameState);
+		// check if timeout flag has changes -> sync game model
+		if (timeoutPossible != game.isTimeoutPossible()) {
+			UtilServerGame.syncGameModel(gameState, null, null, SoundId.WHISTLE);
+		}
+		getServer().getGameClock().schedule(gameState.getId(), UtilServerTimer.findNextDeadline(gameState));
+		return true;
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.fumbbl.ffb.server.handler;
+
+import com.fumbbl.ffb.net.NetCommandId;
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.net.ReceivedCommand;
+import com.fumbbl.ffb.server.net.commands.InternalServerCommandHibernateGame;
+
+public class ServerCommandHandlerHibernateGame extends ServerCommandHandler {
+
+	protected ServerCommandHandlerHibernateGame(FantasyFootballServer pServer) {
+		super(pServer);
+	}
+
+	public NetCommandId getId() {
+		return NetCommandId.INTERNAL_SERVER_HIBERNATE_GAME;
+	}
+
+	public boolean handleCommand(ReceivedCommand pReceivedCommand) {
+		InternalServerCommandHibernateGame hibernateCommand = (InternalServerCommandHibernateGame) pReceivedCommand.getCommand();
+		// the game may have received commands since the command was queued, it is checked again
+		getServer().getGameCache().hibernate(hibernateCommand.getGameId(), hibernateCommand.getIdleTime());
+		return true;
+	}
+
+}
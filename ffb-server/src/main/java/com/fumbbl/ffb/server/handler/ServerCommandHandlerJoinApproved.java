@@ -62,25 +62,27 @@ public class ServerCommandHandlerJoinApproved extends ServerCommandHandler {
 			getServer().getDebugLog().log(IServerLogLevel.WARN, joinApprovedCommand.getGameId(),
 				"Loading GameState by name: " + joinApprovedCommand.getGameName());
 
-			gameState = gameCache.getGameStateByName(joinApprovedCommand.getGameName());
-
-			String info = "";
-			long id = 0;
-			if (gameState == null) {
-				info = "not ";
-			} else {
-				id = gameState.getId();
+			if (gameCache.findGameIdByName(joinApprovedCommand.getGameName()) == 0) {
+				getServer().getDebugLog().log(IServerLogLevel.WARN, 0,
+					"GameState not found by name: " + joinApprovedCommand.getGameName());
+
+				if (!getServer().isBlockingNewGames()) {
+					boolean testing = (joinApprovedCommand.getGameName().startsWith(_TEST_PREFIX)
+						|| getServer().getMode() == ServerMode.STANDALONE) || getServer().isInTestMode();
+					GameState createdGameState = gameCache.createGameState(testing ? GameStartMode.START_TEST_GAME
+						: GameStartMode.START_GAME);
+					gameCache.mapGameNameToId(joinApprovedCommand.getGameName(), createdGameState.getId());
+					getServer().getDebugLog().log(IServerLogLevel.WARN, createdGameState.getId(),
+						"GameState created by name: " + joinApprovedCommand.getGameName());
+				}
 			}
-			getServer().getDebugLog().log(IServerLogLevel.WARN, id,
-				"GameState " + info + "found by name: " + joinApprovedCommand.getGameName());
-
-			if ((gameState == null) && !getServer().isBlockingNewGames()) {
-				boolean testing = (joinApprovedCommand.getGameName().startsWith(_TEST_PREFIX)
-					|| getServer().getMode() == ServerMode.STANDALONE) || getServer().isInTestMode();
-				gameState = gameCache.createGameState(testing ? GameStartMode.START_TEST_GAME : GameStartMode.START_GAME);
-				gameCache.mapGameNameToId(joinApprovedCommand.getGameName(), gameState.getId());
-				getServer().getDebugLog().log(IServerLogLevel.WARN, gameState.getId(),
-					"GameState created by name: " + joinApprovedCommand.getGameName());
+
+			if (gameCache.findGameIdByName(joinApprovedCommand.getGameName()) > 0) {
+				// only the game's lane may touch the game, so the join continues there bound to the game's id
+				getServer().getDebugLog().log(IServerLogLevel.WARN, joinApprovedCommand.getGameId(),
+					"Requeueing join for game: " + joinApprovedCommand.getGameName());
+				communication.handleCommand(receivedCommand);
+				return true;
 			}
 		}
 
@@ -130,6 +132,9 @@ public class ServerCommandHandlerJoinApproved extends ServerCommandHandler {
 
 			}
 
+			// send the clocks to the joining client
+			UtilServerTimer.wakeUpClock(gameState);
+
 		} else if (joinApprovedCommand.getClientMode() == ClientMode.REPLAY) {
 
 
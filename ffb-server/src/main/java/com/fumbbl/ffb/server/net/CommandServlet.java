@@ -1,11 +1,15 @@
 package com.fumbbl.ffb.server.net;
 
+import java.util.List;
+
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeResponse;
 import org.eclipse.jetty.websocket.servlet.WebSocketCreator;
 import org.eclipse.jetty.websocket.servlet.WebSocketServlet;
 import org.eclipse.jetty.websocket.servlet.WebSocketServletFactory;
 
+import com.fumbbl.ffb.net.CommandCodec;
+import com.fumbbl.ffb.net.WireProtocol;
 import com.fumbbl.ffb.server.FantasyFootballServer;
 import com.fumbbl.ffb.server.IServerProperty;
 import com.fumbbl.ffb.util.StringTool;
@@ -37,7 +41,16 @@ public class CommandServlet extends WebSocketServlet implements WebSocketCreator
 		if (StringTool.isProvided(commandCompressionProperty)) {
 			commandCompression = Boolean.parseBoolean(commandCompressionProperty);
 		}
-		return new CommandSocket(fServer, commandCompression);
+		return new CommandSocket(fServer, commandCompression, findProtocol(pRequest));
+	}
+
+	private WireProtocol findProtocol(ServletUpgradeRequest pRequest) {
+		String commandBinaryProperty = (fServer != null) ? fServer.getProperty(IServerProperty.SERVER_COMMAND_BINARY) : null;
+		if (!StringTool.isProvided(commandBinaryProperty) || !Boolean.parseBoolean(commandBinaryProperty)) {
+			return WireProtocol.JSON;
+		}
+		List<String> protocols = pRequest.getParameterMap().get(CommandCodec.PARAMETER_PROTOCOL);
+		return ((protocols != null) && !protocols.isEmpty()) ? CommandCodec.findProtocol(protocols.get(0)) : WireProtocol.JSON;
 	}
 
 }
\ No newline at end of file
@@ -2,12 +2,14 @@ package com.fumbbl.ffb.server.net;
 
 import com.eclipsesource.json.JsonValue;
 import com.fumbbl.ffb.factory.IFactorySource;
-import com.fumbbl.ffb.json.LZString;
 import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.net.CommandCodec;
 import com.fumbbl.ffb.net.NetCommand;
 import com.fumbbl.ffb.net.NetCommandFactory;
+import com.fumbbl.ffb.net.WireProtocol;
 import com.fumbbl.ffb.server.FantasyFootballServer;
 import com.fumbbl.ffb.server.GameState;
+import com.fumbbl.ffb.server.IServerLogLevel;
 import com.fumbbl.ffb.server.handler.IReceivedCommandHandler;
 import com.fumbbl.ffb.server.net.commands.InternalServerCommandSocketClosed;
 import org.eclipse.jetty.websocket.api.Session;
@@ -16,31 +18,50 @@ import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
 import org.eclipse.jetty.websocket.api.annotations.WebSocket;
 
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-
 /**
  * 
  * @author Kalimar
  */
-@WebSocket(maxTextMessageSize = 64 * 1024)
+@WebSocket(maxTextMessageSize = CommandSocket.MAX_MESSAGE_SIZE, maxBinaryMessageSize = CommandSocket.MAX_MESSAGE_SIZE)
 public class CommandSocket {
 
+	public static final int MAX_MESSAGE_SIZE = 64 * 1024;
+
 	private final IReceivedCommandHandler fCommandHandler;
 	private final NetCommandFactory fNetCommandFactory;
-	private final boolean fCommandCompression;
+	private final CommandCodec fCodec;
+	private final WireProtocol fProtocol;
 	private final FantasyFootballServer server;
 
-	public CommandSocket(FantasyFootballServer server, boolean commandCompression) {
+	public CommandSocket(FantasyFootballServer server, boolean commandCompression, WireProtocol protocol) {
 		this.server = server;
 		fCommandHandler = server.getCommunication();
 		fNetCommandFactory = new NetCommandFactory(server.getFactorySource());
-		fCommandCompression = commandCompression;
+		fCodec = new CommandCodec(commandCompression, MAX_MESSAGE_SIZE);
+		fProtocol = protocol;
 	}
 
 	@OnWebSocketMessage
 	public void onBinaryMessage(Session pSession, byte[] buf, int offset, int length) {
-		this.onTextMessage(pSession, new String(buf, offset, length, StandardCharsets.UTF_8));
+
+		if ((pSession == null) || (buf == null) || !pSession.isOpen()) {
+			return;
+		}
+
+		// binary encoding is only accepted from sessions that negotiated it
+		if (CommandCodec.isBinary(buf, offset, length)
+			&& (WireProtocol.BINARY != server.getCommunication().findWireProtocol(pSession))) {
+			server.getDebugLog().log(IServerLogLevel.WARN, server.getSessionManager().getGameIdForSession(pSession),
+				"Rejected binary message on a json connection.");
+			return;
+		}
+
+		try {
+			handleJsonValue(pSession, fCodec.decode(buf, offset, length));
+		} catch (Exception e) {
+			server.getDebugLog().log(server.getSessionManager().getGameIdForSession(pSession), e);
+		}
+
 	}
 
 	@OnWebSocketMessage
@@ -50,31 +71,34 @@ public class CommandSocket {
 			return;
 		}
 
-		long gameId = 0;
 		try {
-			String decompressed = fCommandCompression ? LZString.decompressFromUTF16(pTextMessage) : pTextMessage;
-			JsonValue jsonValue = JsonValue.readFrom(decompressed);
-
-			gameId = server.getSessionManager().getGameIdForSession(pSession);
-			GameState gameState = server.getGameCache().getGameStateById(gameId);
-			Game game = gameState != null ? gameState.getGame() : null;
-			IFactorySource source = game != null ? game.getRules() : server.getFactorySource();
-			NetCommand netCommand = fNetCommandFactory.forJsonValue(source, jsonValue);
-			if (netCommand == null) {
-				return;
-			}
-
-			ReceivedCommand receivedCommand = new ReceivedCommand(netCommand, pSession);
-			fCommandHandler.handleCommand(receivedCommand);
+			handleJsonValue(pSession, fCodec.decode(pTextMessage));
 		} catch (Exception e) {
-			server.getDebugLog().log(gameId, e);
+			server.getDebugLog().log(server.getSessionManager().getGameIdForSession(pSession), e);
+		}
+
+	}
+
+	private void handleJsonValue(Session pSession, JsonValue pJsonValue) {
+
+		long gameId = server.getSessionManager().getGameIdForSession(pSession);
+		GameState gameState = server.getGameCache().getGameStateById(gameId);
+		Game game = gameState != null ? gameState.getGame() : null;
+		IFactorySource source = game != null ? game.getRules() : server.getFactorySource();
+		NetCommand netCommand = fNetCommandFactory.forJsonValue(source, pJsonValue);
+		if (netCommand == null) {
+			return;
 		}
 
+		ReceivedCommand receivedCommand = new ReceivedCommand(netCommand, pSession);
+		fCommandHandler.handleCommand(receivedCommand);
+
 	}
 
 	@OnWebSocketConnect
 	public void onConnect(Session pSession) {
 		pSession.setIdleTimeout(Long.MAX_VALUE);
+		server.getCommunication().setWireProtocol(pSession, fProtocol);
 	}
 
 	@OnWebSocketClose
@@ -82,6 +106,7 @@ public class CommandSocket {
 		if (pSession == null) {
 			return;
 		}
+		server.getCommunication().removeWireProtocol(pSession);
 		fCommandHandler.handleCommand(new ReceivedCommand(new InternalServerCommandSocketClosed(), pSession));
 	}
 
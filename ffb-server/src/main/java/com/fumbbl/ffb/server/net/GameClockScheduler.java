@@ -0,0 +1,167 @@
+package com.fumbbl.ffb.server.net;
+
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.net.commands.InternalServerCommandGameClock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hashed timer wheel holding the next clock deadline of each game.
+ * <p>
+ * A game is only woken up when its deadline is due, by queueing an {@link InternalServerCommandGameClock} on its
+ * command lane. Each game has at most one deadline, scheduling another replaces it.
+ */
+public class GameClockScheduler implements Runnable {
+
+	private static final int WHEEL_SIZE = 512;
+
+	private final FantasyFootballServer fServer;
+	private final long fTickDuration;
+	private final List<List<Deadline>> fWheel;
+	private final Map<Long, Deadline> fDeadlineByGameId;
+	private final AtomicLong fFired;
+	private long fCurrentTick;
+	private volatile boolean fStopped;
+	private Thread fThread;
+
+	public GameClockScheduler(FantasyFootballServer pServer, long pTickDuration) {
+		fServer = pServer;
+		fTickDuration = Math.max(1, pTickDuration);
+		fWheel = new ArrayList<>(WHEEL_SIZE);
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			fWheel.add(new ArrayList<>());
+		}
+		fDeadlineByGameId = new HashMap<>();
+		fFired = new AtomicLong();
+		fCurrentTick = System.currentTimeMillis() / fTickDuration;
+	}
+
+	public void start() {
+		fThread = new Thread(this, "GameClock");
+		fThread.setDaemon(true);
+		fThread.start();
+	}
+
+	public void stop() {
+		fStopped = true;
+		if (fThread != null) {
+			fThread.interrupt();
+		}
+	}
+
+	/**
+	 * Schedules the next deadline of a game, replacing any previous one.
+	 *
+	 * @param pDeadline time in ms, 0 if the game has no upcoming deadline
+	 */
+	public void schedule(long pGameId, long pDeadline) {
+		boolean due;
+		synchronized (this) {
+			cancel(pGameId);
+			if (pDeadline <= 0) {
+				return;
+			}
+			long tick = (pDeadline + fTickDuration - 1) / fTickDuration;
+			due = tick <= fCurrentTick;
+			if (!due) {
+				Deadline deadline = new Deadline(pGameId, tick);
+				fWheel.get((int) (tick % WHEEL_SIZE)).add(deadline);
+				fDeadlineByGameId.put(pGameId, deadline);
+			}
+		}
+		if (due) {
+			wakeUp(pGameId);
+		}
+	}
+
+	public synchronized void cancel(long pGameId) {
+		Deadline deadline = fDeadlineByGameId.remove(pGameId);
+		if (deadline != null) {
+			deadline.fCancelled = true;
+		}
+	}
+
+	/**
+	 * Queues a clock command for the game right away, e.g. because one of its clocks has been started or stopped.
+	 */
+	public void wakeUp(long pGameId) {
+		fFired.incrementAndGet();
+		fServer.getCommunication().handleCommand(new InternalServerCommandGameClock(pGameId));
+	}
+
+	public void run() {
+		while (!fStopped) {
+			try {
+				long nextTick;
+				synchronized (this) {
+					nextTick = fCurrentTick + 1;
+				}
+				long sleep = nextTick * fTickDuration - System.currentTimeMillis();
+				if (sleep > 0) {
+					Thread.sleep(sleep);
+				}
+				advance(System.currentTimeMillis());
+			} catch (InterruptedException pInterruptedException) {
+				break;
+			} catch (Exception pException) {
+				fServer.getDebugLog().logWithOutGameId(pException);
+			}
+		}
+	}
+
+	/**
+	 * Processes all ticks up to the given time and wakes up the games with due deadlines.
+	 */
+	void advance(long pCurrentTimeMillis) {
+		List<Long> dueGameIds = new ArrayList<>();
+		synchronized (this) {
+			long lastTick = pCurrentTimeMillis / fTickDuration;
+			// a full turn of the wheel visits every slot
+			long firstTick = Math.max(fCurrentTick + 1, lastTick - WHEEL_SIZE + 1);
+			for (long tick = firstTick; tick <= lastTick; tick++) {
+				Iterator<Deadline> slot = fWheel.get((int) (tick % WHEEL_SIZE)).iterator();
+				while (slot.hasNext()) {
+					Deadline deadline = slot.next();
+					if (deadline.fCancelled) {
+						slot.remove();
+					} else if (deadline.fTick <= lastTick) {
+						slot.remove();
+						fDeadlineByGameId.remove(deadline.fGameId);
+						dueGameIds.add(deadline.fGameId);
+					}
+				}
+			}
+			fCurrentTick = Math.max(fCurrentTick, lastTick);
+		}
+		for (Long gameId : dueGameIds) {
+			wakeUp(gameId);
+		}
+	}
+
+	public synchronized int getNrOfDeadlines() {
+		return fDeadlineByGameId.size();
+	}
+
+	public long getFired() {
+		return fFired.get();
+	}
+
+	private static final class Deadline {
+
+		private final long fGameId;
+		private final long fTick;
+		private boolean fCancelled;
+
+		private Deadline(long pGameId, long pTick) {
+			fGameId = pGameId;
+			fTick = pTick;
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.fumbbl.ffb.server.net;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One worker lane of the server command executor. All commands of a given game
+ * (or replay) are queued on the same lane, so they are executed in order while
+ * different lanes run in parallel.
+ */
+public class ServerCommandLane implements Runnable {
+
+	private final ServerCommunication fCommunication;
+	private final int fIndex;
+	private final BlockingQueue<ReceivedCommand> fCommandQueue;
+	private final AtomicLong fProcessed;
+	private volatile boolean fStopped;
+
+	public ServerCommandLane(ServerCommunication pCommunication, int pIndex) {
+		fCommunication = pCommunication;
+		fIndex = pIndex;
+		fCommandQueue = new LinkedBlockingQueue<>();
+		fProcessed = new AtomicLong();
+	}
+
+	public int getIndex() {
+		return fIndex;
+	}
+
+	public boolean offer(ReceivedCommand command) {
+		if (fStopped) {
+			return false;
+		}
+		return fCommandQueue.offer(command);
+	}
+
+	public void run() {
+		try {
+			while (!fStopped) {
+				ReceivedCommand command = null;
+				try {
+					command = fCommandQueue.take();
+				} catch (InterruptedException pInterruptedException) {
+					// continue with receivedCommand == null
+				}
+				execute(command);
+			}
+		} catch (Exception pException) {
+			fCommunication.getServer().getDebugLog().logWithOutGameId(pException);
+			System.exit(99);
+		}
+	}
+
+	private void execute(ReceivedCommand command) {
+		if (command == null) {
+			return;
+		}
+		fCommunication.handleCommandInternal(command);
+		fProcessed.incrementAndGet();
+	}
+
+	public void stop() {
+		fStopped = true;
+	}
+
+	public void drainTo(List<ReceivedCommand> commands) {
+		fCommandQueue.drainTo(commands);
+	}
+
+	public int getQueueLength() {
+		return fCommandQueue.size();
+	}
+
+	public long getProcessed() {
+		return fProcessed.get();
+	}
+
+}
@@ -1,6 +1,5 @@
 package com.fumbbl.ffb.server.net;
 
-import com.eclipsesource.json.JsonValue;
 import com.fumbbl.ffb.ClientMode;
 import com.fumbbl.ffb.CommonProperty;
 import com.fumbbl.ffb.FantasyFootballException;
@@ -8,7 +7,6 @@ import com.fumbbl.ffb.GameList;
 import com.fumbbl.ffb.PlayerState;
 import com.fumbbl.ffb.SoundId;
 import com.fumbbl.ffb.TeamList;
-import com.fumbbl.ffb.json.LZString;
 import com.fumbbl.ffb.marking.PlayerMarker;
 import com.fumbbl.ffb.model.Animation;
 import com.fumbbl.ffb.model.Game;
@@ -16,9 +14,11 @@ import com.fumbbl.ffb.model.PlayerResult;
 import com.fumbbl.ffb.model.RosterPlayer;
 import com.fumbbl.ffb.model.ZappedPlayer;
 import com.fumbbl.ffb.model.change.ModelChangeList;
+import com.fumbbl.ffb.net.CommandCodec;
 import com.fumbbl.ffb.net.NetCommand;
 import com.fumbbl.ffb.net.NetCommandId;
 import com.fumbbl.ffb.net.ServerStatus;
+import com.fumbbl.ffb.net.WireProtocol;
 import com.fumbbl.ffb.net.commands.ClientCommand;
 import com.fumbbl.ffb.net.commands.ServerCommand;
 import com.fumbbl.ffb.net.commands.ServerCommandAddPlayer;
@@ -54,37 +54,54 @@ import com.fumbbl.ffb.server.IServerProperty;
 import com.fumbbl.ffb.server.ReplayState;
 import com.fumbbl.ffb.server.handler.IReceivedCommandHandler;
 import com.fumbbl.ffb.server.net.commands.InternalServerCommand;
+import com.fumbbl.ffb.server.net.commands.InternalServerCommandJoinApproved;
 import com.fumbbl.ffb.server.net.commands.InternalServerCommandSocketClosed;
+import com.fumbbl.ffb.server.util.UtilServerTimer;
 import com.fumbbl.ffb.util.ArrayTool;
 import com.fumbbl.ffb.util.StringTool;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.WebSocketException;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 
 /**
  * @author Kalimar
  */
-public class ServerCommunication implements Runnable, IReceivedCommandHandler {
+public class ServerCommunication implements IReceivedCommandHandler {
 
-	private boolean fStopped;
-	private final BlockingQueue<ReceivedCommand> fCommandQueue;
+	private volatile boolean fStopped;
+	private final ServerCommandLane[] fLanes;
 	private final FantasyFootballServer fServer;
-	private boolean fCommandCompression;
+	private final CommandCodec fCodec;
+	private final Map<Session, WireProtocol> fWireProtocolBySession;
 
 	public ServerCommunication(FantasyFootballServer pServer) {
 		fServer = pServer;
-		fCommandQueue = new LinkedBlockingQueue<>();
 		String commandCompression = (fServer != null) ? fServer.getProperty(IServerProperty.SERVER_COMMAND_COMPRESSION)
 			: null;
-		if (StringTool.isProvided(commandCompression)) {
-			fCommandCompression = Boolean.parseBoolean(commandCompression);
+		fCodec = new CommandCodec(StringTool.isProvided(commandCompression) && Boolean.parseBoolean(commandCompression));
+		fWireProtocolBySession = new ConcurrentHashMap<>();
+		int nrOfLanes = 1;
+		String commandLanes = (fServer != null) ? fServer.getProperty(IServerProperty.SERVER_COMMAND_LANES) : null;
+		if (StringTool.isProvided(commandLanes)) {
+			nrOfLanes = Math.max(1, Integer.parseInt(commandLanes.trim()));
+		}
+		fLanes = new ServerCommandLane[nrOfLanes];
+		for (int i = 0; i < fLanes.length; i++) {
+			fLanes[i] = new ServerCommandLane(this, i);
+		}
+	}
+
+	public void start() {
+		for (ServerCommandLane lane : fLanes) {
+			Thread laneThread = new Thread(lane, "ServerCommandLane-" + lane.getIndex());
+			laneThread.start();
 		}
 	}
 
@@ -92,31 +109,58 @@ public class ServerCommunication implements Runnable, IReceivedCommandHandler {
 		if (fStopped) {
 			return false;
 		}
-		return fCommandQueue.offer(command);
+		ReceivedCommand boundCommand = bindJoinToGame(command);
+		return fLanes[findLaneIndex(boundCommand)].offer(boundCommand);
+	}
+
+	/**
+	 * A join approved by game name for a game that already exists is bound to that game's id, so it is executed on the
+	 * game's lane instead of lane 0.
+	 */
+	ReceivedCommand bindJoinToGame(ReceivedCommand command) {
+		if ((command == null) || !(command.getCommand() instanceof InternalServerCommandJoinApproved)) {
+			return command;
+		}
+		InternalServerCommandJoinApproved joinApproved = (InternalServerCommandJoinApproved) command.getCommand();
+		if ((joinApproved.getGameId() > 0) || !StringTool.isProvided(joinApproved.getGameName())) {
+			return command;
+		}
+		long gameId = getServer().getGameCache().findGameIdByName(joinApproved.getGameName());
+		if (gameId == 0) {
+			return command;
+		}
+		return new ReceivedCommand(new InternalServerCommandJoinApproved(gameId, joinApproved.getGameName(),
+			joinApproved.getCoach(), joinApproved.getTeamId(), joinApproved.getClientMode(),
+			joinApproved.getAccountProperties()), command.getSession());
 	}
 
 	public boolean handleCommand(InternalServerCommand internalCommand) {
 		return handleCommand(new ReceivedCommand(internalCommand, null));
 	}
 
-	public void run() {
-		try {
-			while (!fStopped) {
-				ReceivedCommand command = null;
-				try {
-					command = fCommandQueue.take();
-				} catch (InterruptedException pInterruptedException) {
-					// continue with receivedCommand == null
-				}
-				handleCommandInternal(command);
+	/**
+	 * Commands are hashed onto a lane by game id (or replay name), so all commands of one game are executed in order.
+	 * Commands not yet bound to a game (join requests, joins for new games, version checks, ...) go to lane 0.
+	 */
+	int findLaneIndex(ReceivedCommand command) {
+		if ((fLanes.length == 1) || (command == null)) {
+			return 0;
+		}
+		long gameId = 0;
+		if (command.isInternalCommand()) {
+			gameId = ((InternalServerCommand) command.getCommand()).getGameId();
+		}
+		if ((gameId == 0) && (command.getSession() != null)) {
+			String replayName = getServer().getReplaySessionManager().replayNameForSession(command.getSession());
+			if (StringTool.isProvided(replayName)) {
+				return Math.floorMod(replayName.hashCode(), fLanes.length);
 			}
-		} catch (Exception pException) {
-			getServer().getDebugLog().logWithOutGameId(pException);
-			System.exit(99);
+			gameId = getServer().getSessionManager().getGameIdForSession(command.getSession());
 		}
+		return (int) Math.floorMod(gameId, (long) fLanes.length);
 	}
 
-	private void handleCommandInternal(ReceivedCommand command) {
+	void handleCommandInternal(ReceivedCommand command) {
 
 		if (command == null) {
 			return;
@@ -173,7 +217,10 @@ public class ServerCommunication implements Runnable, IReceivedCommandHandler {
 
 
 	private void handleByGameState(ReceivedCommand command) {
-		if ((command.getId() != NetCommandId.CLIENT_PING) && (command.getId() != NetCommandId.CLIENT_DEBUG_CLIENT_STATE)) {
+		// hibernation must not wake the game up again, neither hibernation nor clock updates count as activity
+		if ((command.getId() != NetCommandId.CLIENT_PING) && (command.getId() != NetCommandId.CLIENT_DEBUG_CLIENT_STATE)
+			&& (command.getId() != NetCommandId.INTERNAL_SERVER_HIBERNATE_GAME)
+			&& (command.getId() != NetCommandId.INTERNAL_SERVER_GAME_CLOCK)) {
 			long gameId;
 			if (command.isInternalCommand()) {
 				gameId = ((InternalServerCommand) command.getCommand()).getGameId();
@@ -278,10 +325,13 @@ public class ServerCommunication implements Runnable, IReceivedCommandHandler {
 
 	public void shutdown() {
 		fStopped = true;
-		List<ReceivedCommand> commands = new ArrayList<>();
-		fCommandQueue.drainTo(commands);
-		for (ReceivedCommand command : commands) {
-			handleCommandInternal(command);
+		for (ServerCommandLane lane : fLanes) {
+			lane.stop();
+			List<ReceivedCommand> commands = new ArrayList<>();
+			lane.drainTo(commands);
+			for (ReceivedCommand command : commands) {
+				handleCommandInternal(command);
+			}
 		}
 	}
 
@@ -308,44 +358,91 @@ public class ServerCommunication implements Runnable, IReceivedCommandHandler {
 		if (pLog && ArrayTool.isProvided(pSessions) && (command != null)) {
 			getServer().getDebugLog().logServerCommand(IServerLogLevel.DEBUG, command, pSessions);
 		}
+		if (!ArrayTool.isProvided(pSessions)) {
+			return;
+		}
+		// serialize once per protocol, every session gets its own view of the shared buffer
+		Map<WireProtocol, ByteBuffer> messages = new EnumMap<>(WireProtocol.class);
 		for (Session pSession : pSessions) {
-			send(pSession, command);
+			send(pSession, messages.computeIfAbsent(findWireProtocol(pSession), protocol -> encode(command, protocol)));
 		}
 	}
 
 	private void send(Session session, NetCommand command) {
-
 		if ((session == null) || (command == null)) {
 			return;
 		}
-
 		if (!session.isOpen()) {
 			close(session);
 			return;
 		}
+		send(session, encode(command, findWireProtocol(session)));
+	}
 
-		JsonValue jsonValue = command.toJsonValue();
-		if (jsonValue == null) {
-			return;
+	/**
+	 * Encodes a command into a read-only buffer that can be shared by any number of sessions using the protocol.
+	 */
+	public ByteBuffer encode(NetCommand command, WireProtocol protocol) {
+
+		if (command == null) {
+			return null;
 		}
 
-		String textMessage = jsonValue.toString();
-		if (fCommandCompression) {
-			textMessage = LZString.compressToUTF16(textMessage);
+		byte[] message = fCodec.encode(command.toJsonValue(), protocol);
+		if (message == null) {
+			return null;
 		}
 
-		if (!StringTool.isProvided(textMessage)) {
-			return;
+		return ByteBuffer.wrap(message).asReadOnlyBuffer();
+
+	}
+
+	public void setWireProtocol(Session session, WireProtocol protocol) {
+		if ((session != null) && (protocol != null)) {
+			fWireProtocolBySession.put(session, protocol);
+		}
+	}
+
+	public void removeWireProtocol(Session session) {
+		if (session != null) {
+			fWireProtocolBySession.remove(session);
+		}
+	}
+
+	/**
+	 * @return the protocol negotiated for the session, json if there was none
+	 */
+	public WireProtocol findWireProtocol(Session session) {
+		WireProtocol protocol = (session != null) ? fWireProtocolBySession.get(session) : null;
+		return (protocol != null) ? protocol : WireProtocol.JSON;
+	}
+
+	/**
+	 * @return the pending write of the message, null if nothing has been sent
+	 */
+	public Future<Void> send(Session session, ByteBuffer message) {
+
+		if (session == null) {
+			return null;
+		}
+
+		if (!session.isOpen()) {
+			close(session);
+			return null;
+		}
+
+		if (message == null) {
+			return null;
 		}
 
 		try {
 			// Future<Void> future = session.getRemote().sendStringByFuture(textMessage);
-			session.getRemote()
-				.sendBytesByFuture(ByteBuffer.wrap(textMessage.getBytes(StandardCharsets.UTF_8)));
+			return session.getRemote().sendBytesByFuture(message.duplicate());
 		} catch (WebSocketException webSocketException) {
 			// getServer().getDebugLog().log(IServerLogLevel.WARN,
 			// webSocketException.getMessage());
 			close(session);
+			return null;
 		}
 
 	}
@@ -368,7 +465,9 @@ public class ServerCommunication implements Runnable, IReceivedCommandHandler {
 		if ((replayState == null) || (command == null)) {
 			return;
 		}
-		getServer().getDebugLog().logReplay(IServerLogLevel.DEBUG, replayState.getName(), DebugLog.COMMAND_CLIENT_REPLAY_CLIENTS, command.toJsonValue().toString());
+		if (getServer().getDebugLog().isLogging(IServerLogLevel.DEBUG)) {
+			getServer().getDebugLog().logReplay(IServerLogLevel.DEBUG, replayState.getName(), DebugLog.COMMAND_CLIENT_REPLAY_CLIENTS, command.toJsonValue().toString());
+		}
 		ReplaySessionManager sessionManager = getServer().getReplaySessionManager();
 		Session[] allSessions = sessionManager.sessionsForReplay(replayState.getName());
 		send(allSessions, command, false);
@@ -378,7 +477,9 @@ public class ServerCommunication implements Runnable, IReceivedCommandHandler {
 		if ((session == null) || (command == null)) {
 			return;
 		}
-		getServer().getDebugLog().logReplay(IServerLogLevel.DEBUG, getServer().getReplaySessionManager().replayNameForSession(session), DebugLog.COMMAND_CLIENT_REPLAY_CLIENTS, command.toJsonValue().toString());
+		if (getServer().getDebugLog().isLogging(IServerLogLevel.DEBUG)) {
+			getServer().getDebugLog().logReplay(IServerLogLevel.DEBUG, getServer().getReplaySessionManager().replayNameForSession(session), DebugLog.COMMAND_CLIENT_REPLAY_CLIENTS, command.toJsonValue().toString());
+		}
 		send(session, command, false);
 	}
 
@@ -494,15 +595,19 @@ public class ServerCommunication implements Runnable, IReceivedCommandHandler {
 
 	protected void sendToReplay(Session[] pSessions, NetCommand command) {
 		getServer().getDebugLog().logServerCommand(IServerLogLevel.DEBUG, command, pSessions);
-		for (Session pSession : pSessions) {
-			sendToReplaySession(pSession, command);
+		if (getServer().getDebugLog().isLogging(IServerLogLevel.DEBUG)) {
+			for (Session pSession : pSessions) {
+				getServer().getDebugLog().logReplay(IServerLogLevel.DEBUG, getServer().getReplaySessionManager().replayNameForSession(pSession), DebugLog.COMMAND_CLIENT_REPLAY_CLIENTS, command.toJsonValue().toString());
+			}
 		}
+		send(pSessions, command, false);
 	}
 
 	public void sendGameTime(GameState gameState) {
 		if (gameState != null) {
 			Game game = gameState.getGame();
-			ServerCommandGameTime gameTimeCommand = new ServerCommandGameTime(game.getGameTime(), game.getTurnTime());
+			ServerCommandGameTime gameTimeCommand = new ServerCommandGameTime(game.getGameTime(), game.getTurnTime(),
+				UtilServerTimer.isGameTimeRunning(game), UtilServerTimer.isTurnTimeRunning(gameState));
 			sendAllSessions(gameState, gameTimeCommand, false);
 			// not logged in Game Log
 		}
@@ -617,7 +722,8 @@ public class ServerCommunication implements Runnable, IReceivedCommandHandler {
 		send(session, new ServerCommandAutomaticPlayerMarkings(index, markings), true);
 	}
 
-	public int getQueueLength() {
-		return fCommandQueue.size();
+	public ServerCommandLane[] getLanes() {
+		return fLanes;
 	}
+
 }
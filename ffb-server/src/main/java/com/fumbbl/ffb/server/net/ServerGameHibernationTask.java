@@ -0,0 +1,37 @@
+package com.fumbbl.ffb.server.net;
+
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.GameCache;
+import com.fumbbl.ffb.server.GameState;
+import com.fumbbl.ffb.server.net.commands.InternalServerCommandHibernateGame;
+
+import java.util.TimerTask;
+
+/**
+ * Looks for idle games and queues their hibernation on their command lanes.
+ */
+public class ServerGameHibernationTask extends TimerTask {
+
+	private final FantasyFootballServer fServer;
+	private final long fIdleTime;
+
+	public ServerGameHibernationTask(FantasyFootballServer server, long idleTime) {
+		fServer = server;
+		fIdleTime = idleTime;
+	}
+
+	public void run() {
+		try {
+			long currentTimeMillis = System.currentTimeMillis();
+			GameCache gameCache = fServer.getGameCache();
+			for (GameState gameState : gameCache.allGameStates()) {
+				if (gameCache.isHibernationCandidate(gameState, fIdleTime, currentTimeMillis)) {
+					fServer.getCommunication().handleCommand(new InternalServerCommandHibernateGame(gameState.getId(), fIdleTime));
+				}
+			}
+		} catch (Exception anyException) {
+			fServer.getDebugLog().logWithOutGameId(anyException);
+		}
+	}
+
+}
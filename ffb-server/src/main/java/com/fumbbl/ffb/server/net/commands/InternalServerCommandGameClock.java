@@ -0,0 +1,19 @@
+package com.fumbbl.ffb.server.net.commands;
+
+import com.fumbbl.ffb.net.NetCommandId;
+
+/**
+ * Queued on the lane of a game whenever its clocks need attention, either because a deadline has been reached
+ * or because a clock has been started or stopped.
+ */
+public class InternalServerCommandGameClock extends InternalServerCommand {
+
+	public InternalServerCommandGameClock(long pGameId) {
+		super(pGameId);
+	}
+
+	public NetCommandId getId() {
+		return NetCommandId.INTERNAL_SERVER_GAME_CLOCK;
+	}
+
+}
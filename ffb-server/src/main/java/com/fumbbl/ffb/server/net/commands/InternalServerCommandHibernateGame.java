@@ -0,0 +1,25 @@
+package com.fumbbl.ffb.server.net.commands;
+
+import com.fumbbl.ffb.net.NetCommandId;
+
+/**
+ * Queued on the lane of an idle game, so it is hibernated in order with its commands.
+ */
+public class InternalServerCommandHibernateGame extends InternalServerCommand {
+
+	private final long fIdleTime;
+
+	public InternalServerCommandHibernateGame(long pGameId, long pIdleTime) {
+		super(pGameId);
+		fIdleTime = pIdleTime;
+	}
+
+	public NetCommandId getId() {
+		return NetCommandId.INTERNAL_SERVER_HIBERNATE_GAME;
+	}
+
+	public long getIdleTime() {
+		return fIdleTime;
+	}
+
+}
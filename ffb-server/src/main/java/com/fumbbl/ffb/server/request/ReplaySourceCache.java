@@ -0,0 +1,207 @@
+package com.fumbbl.ffb.server.request;
+
+import com.eclipsesource.json.JsonValue;
+import com.fumbbl.ffb.json.UtilJson;
+import com.fumbbl.ffb.util.StringTool;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache for games loaded from the backup service to be replayed.
+ * <p>
+ * Parsed games are kept in a small in-memory LRU, gzipped games in a directory limited by size. Concurrent loads
+ * of the same game wait for a single fetch. Parsed values are shared and must only be read.
+ */
+public class ReplaySourceCache {
+
+	private static final String FILE_SUFFIX = ".json.gz";
+
+	private final File fDirectory;
+	private final long fMaxDiskBytes;
+	private final int fMaxEntries;
+	private final LinkedHashMap<Long, JsonValue> fParsedGames;
+	private final Map<Long, CompletableFuture<JsonValue>> fPendingLoads;
+	private final AtomicLong fMemoryHits;
+	private final AtomicLong fDiskHits;
+	private final AtomicLong fMisses;
+
+	/**
+	 * @param pDirectory directory for the gzipped games, null to keep games in memory only
+	 */
+	public ReplaySourceCache(File pDirectory, long pMaxDiskBytes, int pMaxEntries) {
+		fDirectory = pDirectory;
+		fMaxDiskBytes = pMaxDiskBytes;
+		fMaxEntries = pMaxEntries;
+		fParsedGames = new LinkedHashMap<>(16, 0.75f, true);
+		fPendingLoads = new ConcurrentHashMap<>();
+		fMemoryHits = new AtomicLong();
+		fDiskHits = new AtomicLong();
+		fMisses = new AtomicLong();
+		if (isDiskEnabled()) {
+			//noinspection ResultOfMethodCallIgnored
+			fDirectory.mkdirs();
+		}
+	}
+
+	/**
+	 * Returns the game from the cache or fetches it, the fetched json text is cached if it holds a game.
+	 *
+	 * @return the parsed game or null if none could be fetched
+	 */
+	public JsonValue get(long pGameId, Callable<String> pFetch) throws IOException {
+		JsonValue jsonValue = findParsed(pGameId);
+		if (jsonValue != null) {
+			fMemoryHits.incrementAndGet();
+			return jsonValue;
+		}
+		CompletableFuture<JsonValue> load = new CompletableFuture<>();
+		CompletableFuture<JsonValue> pendingLoad = fPendingLoads.putIfAbsent(pGameId, load);
+		if (pendingLoad != null) {
+			return await(pendingLoad);
+		}
+		try {
+			jsonValue = load(pGameId, pFetch);
+			load.complete(jsonValue);
+			return jsonValue;
+		} catch (IOException | RuntimeException pException) {
+			load.completeExceptionally(pException);
+			throw pException;
+		} finally {
+			fPendingLoads.remove(pGameId);
+		}
+	}
+
+	private JsonValue load(long pGameId, Callable<String> pFetch) throws IOException {
+		JsonValue jsonValue = readFromDisk(pGameId);
+		if (jsonValue != null) {
+			fDiskHits.incrementAndGet();
+		} else {
+			fMisses.incrementAndGet();
+			String jsonString;
+			try {
+				jsonString = pFetch.call();
+			} catch (IOException | RuntimeException pException) {
+				throw pException;
+			} catch (Exception pException) {
+				throw new IOException(pException);
+			}
+			if (!StringTool.isProvided(jsonString)) {
+				return null;
+			}
+			jsonValue = JsonValue.readFrom(jsonString);
+			if ((jsonValue == null) || jsonValue.isNull()) {
+				return null;
+			}
+			writeToDisk(pGameId, jsonValue);
+		}
+		synchronized (fParsedGames) {
+			fParsedGames.put(pGameId, jsonValue);
+			while (fParsedGames.size() > fMaxEntries) {
+				fParsedGames.remove(fParsedGames.keySet().iterator().next());
+			}
+		}
+		return jsonValue;
+	}
+
+	private JsonValue findParsed(long pGameId) {
+		synchronized (fParsedGames) {
+			return fParsedGames.get(pGameId);
+		}
+	}
+
+	private JsonValue await(CompletableFuture<JsonValue> pLoad) throws IOException {
+		try {
+			return pLoad.get();
+		} catch (InterruptedException pInterruptedException) {
+			Thread.currentThread().interrupt();
+			throw new IOException(pInterruptedException);
+		} catch (ExecutionException pExecutionException) {
+			throw new IOException(pExecutionException.getCause());
+		}
+	}
+
+	private boolean isDiskEnabled() {
+		return (fDirectory != null) && (fMaxDiskBytes > 0);
+	}
+
+	private File findFile(long pGameId) {
+		return new File(fDirectory, pGameId + FILE_SUFFIX);
+	}
+
+	private JsonValue readFromDisk(long pGameId) throws IOException {
+		if (!isDiskEnabled()) {
+			return null;
+		}
+		File file = findFile(pGameId);
+		if (!file.exists()) {
+			return null;
+		}
+		//noinspection ResultOfMethodCallIgnored
+		file.setLastModified(System.currentTimeMillis());
+		return UtilJson.gunzip(Files.readAllBytes(file.toPath()));
+	}
+
+	private void writeToDisk(long pGameId, JsonValue pJsonValue) throws IOException {
+		if (!isDiskEnabled()) {
+			return;
+		}
+		byte[] gzippedJson = UtilJson.gzip(pJsonValue);
+		if (gzippedJson.length > fMaxDiskBytes) {
+			return;
+		}
+		File file = findFile(pGameId);
+		File tempFile = new File(fDirectory, pGameId + FILE_SUFFIX + ".tmp");
+		Files.write(tempFile.toPath(), gzippedJson);
+		Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		evictFromDisk();
+	}
+
+	private synchronized void evictFromDisk() {
+		File[] files = fDirectory.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+		if (files == null) {
+			return;
+		}
+		long diskBytes = 0;
+		for (File file : files) {
+			diskBytes += file.length();
+		}
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for (int i = 0; (i < files.length) && (diskBytes > fMaxDiskBytes); i++) {
+			long length = files[i].length();
+			if (files[i].delete()) {
+				diskBytes -= length;
+			}
+		}
+	}
+
+	public int size() {
+		synchronized (fParsedGames) {
+			return fParsedGames.size();
+		}
+	}
+
+	public long getMemoryHits() {
+		return fMemoryHits.get();
+	}
+
+	public long getDiskHits() {
+		return fDiskHits.get();
+	}
+
+	public long getMisses() {
+		return fMisses.get();
+	}
+
+}
@@ -56,16 +56,25 @@ public class ServerRequestLoadReplay extends ServerRequest {
 	@Override
 	public void process(ServerRequestProcessor pRequestProcessor) {
 		FantasyFootballServer server = pRequestProcessor.getServer();
+		if ((fMode == LOAD_GAME) && (server.getGameCache().getGameStateById(getGameId()) != null)) {
+			// loaded for another viewer in the meantime
+			replayLoaded(server);
+			return;
+		}
 		GameState gameState = null;
 		try {
 			String loadUrl = StringTool.bind(ServerUrlProperty.BACKUP_URL_LOAD.url(server.getProperties()), getGameId());
-			String jsonString = UtilServerHttpClient.fetchPage(loadUrl);
-			if (StringTool.isProvided(jsonString)) {
-				JsonValue jsonValue = JsonValue.readFrom(jsonString);
-				if ((jsonValue != null) && !jsonValue.isNull()) {
-					gameState = new GameState(server);
-					gameState.initFrom(gameState.getGame().getRules(), jsonValue);
-				}
+			JsonValue jsonValue;
+			if (fMode == LOAD_GAME) {
+				jsonValue = pRequestProcessor.getReplaySourceCache().get(getGameId(), () -> UtilServerHttpClient.fetchPage(loadUrl));
+			} else {
+				// deleting or uploading needs the current state of the backup
+				String jsonString = UtilServerHttpClient.fetchPage(loadUrl);
+				jsonValue = StringTool.isProvided(jsonString) ? JsonValue.readFrom(jsonString) : null;
+			}
+			if ((jsonValue != null) && !jsonValue.isNull()) {
+				gameState = new GameState(server);
+				gameState.initFrom(gameState.getGame().getRules(), jsonValue);
 			}
 		} catch (Exception parseException) {
 			server.getDebugLog().log(getGameId(), new FantasyFootballException("Unable to load Replay", parseException));
@@ -75,9 +84,7 @@ public class ServerRequestLoadReplay extends ServerRequest {
 			if (gameState != null) {
 				gameState.setStatus(GameStatus.LOADING);
 				server.getGameCache().addGame(gameState);
-				InternalServerCommandReplayLoaded replayLoadedCommand = new InternalServerCommandReplayLoaded(getGameId(),
-					getReplayToCommandNr(), coach);
-				server.getCommunication().handleCommand(new ReceivedCommand(replayLoadedCommand, getSession()));
+				replayLoaded(server);
 			} else {
 				server.getCommunication().sendStatus(getSession(), ServerStatus.REPLAY_UNAVAILABLE, "");
 			}
@@ -93,4 +100,10 @@ public class ServerRequestLoadReplay extends ServerRequest {
 		}
 	}
 
+	private void replayLoaded(FantasyFootballServer pServer) {
+		InternalServerCommandReplayLoaded replayLoadedCommand = new InternalServerCommandReplayLoaded(getGameId(),
+			getReplayToCommandNr(), coach);
+		pServer.getCommunication().handleCommand(new ReceivedCommand(replayLoadedCommand, getSession()));
+	}
+
 }
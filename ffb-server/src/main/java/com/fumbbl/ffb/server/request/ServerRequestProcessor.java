@@ -2,8 +2,10 @@ package com.fumbbl.ffb.server.request;
 
 import com.fumbbl.ffb.server.FantasyFootballServer;
 import com.fumbbl.ffb.server.IServerLogLevel;
+import com.fumbbl.ffb.server.IServerProperty;
 import com.fumbbl.ffb.util.StringTool;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
@@ -18,16 +20,27 @@ public class ServerRequestProcessor extends Thread {
 	private boolean fStopped;
 	private final FantasyFootballServer fServer;
 	private final BlockingQueue<ServerRequest> fRequestQueue;
+	private final ReplaySourceCache fReplaySourceCache;
 
 	public ServerRequestProcessor(FantasyFootballServer pServer) {
 		fServer = pServer;
 		fRequestQueue = new LinkedBlockingQueue<>();
+		String cacheDir = pServer.getProperty(IServerProperty.REPLAY_SOURCE_CACHE_DIR);
+		String cacheSize = pServer.getProperty(IServerProperty.REPLAY_SOURCE_CACHE_SIZE);
+		String cacheEntries = pServer.getProperty(IServerProperty.REPLAY_SOURCE_CACHE_ENTRIES);
+		fReplaySourceCache = new ReplaySourceCache(StringTool.isProvided(cacheDir) ? new File(cacheDir.trim()) : null,
+			StringTool.isProvided(cacheSize) ? Long.parseLong(cacheSize.trim()) : 0,
+			StringTool.isProvided(cacheEntries) ? Integer.parseInt(cacheEntries.trim()) : 0);
 	}
 
 	public FantasyFootballServer getServer() {
 		return fServer;
 	}
 
+	public ReplaySourceCache getReplaySourceCache() {
+		return fReplaySourceCache;
+	}
+
 	public boolean add(ServerRequest pServerRequest) {
 		if (fStopped) {
 			return false;
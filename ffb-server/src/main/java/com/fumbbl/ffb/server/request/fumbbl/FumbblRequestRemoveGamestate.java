@@ -1,6 +1,5 @@
 package com.fumbbl.ffb.server.request.fumbbl;
 
-import com.fumbbl.ffb.model.Game;
 import com.fumbbl.ffb.server.DebugLog;
 import com.fumbbl.ffb.server.FantasyFootballServer;
 import com.fumbbl.ffb.server.GameState;
@@ -15,12 +14,22 @@ import com.fumbbl.ffb.util.StringTool;
  */
 public class FumbblRequestRemoveGamestate extends ServerRequest {
 
+	private final long fGameId;
 	private final GameState fGameState;
 
 	public FumbblRequestRemoveGamestate(GameState pGameState) {
+		fGameId = pGameState.getId();
 		fGameState = pGameState;
 	}
 
+	/**
+	 * For a hibernated game, which is removed without loading its state. Errors are logged only.
+	 */
+	public FumbblRequestRemoveGamestate(long pGameId) {
+		fGameId = pGameId;
+		fGameState = null;
+	}
+
 	public GameState getGameState() {
 		return fGameState;
 	}
@@ -28,16 +37,20 @@ public class FumbblRequestRemoveGamestate extends ServerRequest {
 	@Override
 	public void process(ServerRequestProcessor pRequestProcessor) {
 		FantasyFootballServer server = pRequestProcessor.getServer();
-		Game game = getGameState().getGame();
 		String challengeResponse = UtilFumbblRequest.getFumbblAuthChallengeResponseForFumbblUser(server);
 		setRequestUrl(StringTool.bind(ServerUrlProperty.FUMBBL_GAMESTATE_REMOVE.url(server.getProperties()),
-			new Object[]{challengeResponse, game.getId()}));
-		server.getDebugLog().log(IServerLogLevel.INFO, game.getId(), DebugLog.FUMBBL_REQUEST, getRequestUrl());
+			new Object[]{challengeResponse, fGameId}));
+		server.getDebugLog().log(IServerLogLevel.INFO, fGameId, DebugLog.FUMBBL_REQUEST, getRequestUrl());
 		FumbblGameState fumbblGameState = UtilFumbblRequest.processFumbblGameStateRequest(server, getRequestUrl());
 		if ((fumbblGameState == null) || !fumbblGameState.isOk()) {
-			UtilFumbblRequest.reportFumbblError(getGameState(), fumbblGameState);
+			if (getGameState() != null) {
+				UtilFumbblRequest.reportFumbblError(getGameState(), fumbblGameState);
+			} else {
+				server.getDebugLog().log(IServerLogLevel.ERROR, fGameId,
+					(fumbblGameState != null) ? fumbblGameState.toXml(false) : "Unable to remove gamestate.");
+			}
 		}
-		server.closeResources(game.getId());
+		server.closeResources(fGameId);
 	}
 
 }
@@ -6,16 +6,9 @@ import com.fumbbl.ffb.factory.IFactorySource;
 import com.fumbbl.ffb.json.UtilJson;
 import com.fumbbl.ffb.server.GameState;
 import com.fumbbl.ffb.server.IServerJsonOption;
-import com.fumbbl.ffb.server.skillbehaviour.StepHook;
 import com.fumbbl.ffb.server.skillbehaviour.StepHook.HookPoint;
-import com.fumbbl.ffb.util.Scanner;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Generator class for steps.
@@ -25,16 +18,11 @@ import java.util.Map;
 public class StepFactory {
 
 	private final GameState fGameState;
-	private final Map<StepId, Constructor<? extends IStep>> stepRegistry = new HashMap<>();
-	private final Map<HookPoint, List<StepId>> hooks = new HashMap<>();
+	private final StepRegistry stepRegistry;
 
 	public StepFactory(GameState pGameState) {
 		fGameState = pGameState;
-
-		for (HookPoint p : HookPoint.values()) {
-			hooks.put(p, new ArrayList<>());
-		}
-		initialize();
+		stepRegistry = StepRegistry.forGameState(pGameState);
 	}
 
 	public IStep forStepId(StepId pStepId) {
@@ -46,17 +34,7 @@ public class StepFactory {
 		IStep step = null;
 
 		if (pStepId != null) {
-
-			if (stepRegistry.containsKey(pStepId)) {
-				Constructor<?> ctr = stepRegistry.get(pStepId);
-				try {
-					step = (IStep) ctr.newInstance(fGameState);
-				} catch (SecurityException | InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-					throw new StepException("Error constructing Step " + pStepId, e);
-				}
-			} else {
-				throw new StepException("Unhandled StepId " + pStepId);
-			}
+			step = stepRegistry.create(pStepId, fGameState);
 		}
 
 		if (step != null) {
@@ -90,37 +68,8 @@ public class StepFactory {
 		return step;
 	}
 
-	private void initialize() {
-
-		new Scanner<>(IStep.class).getInstancesImplementing(fGameState.getGame().getOptions(), (cls) -> {
-				Constructor<? extends IStep> constructor;
-				try {
-					constructor = cls.getConstructor(GameState.class);
-					return constructor.newInstance(fGameState);
-				} catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-					throw new StepException("Error constructing Step for class " + cls.getCanonicalName(), e);
-				}
-			})
-			.forEach(step -> {
-
-				try {
-					stepRegistry.put(step.getId(), step.getClass().getConstructor(GameState.class));
-
-					StepHook hook = step.getClass().getAnnotation(StepHook.class);
-					if (hook != null) {
-						HookPoint hookPoint = hook.value();
-						hooks.get(hookPoint).add(step.getId());
-					}
-
-				} catch (NoSuchMethodException e) {
-					throw new StepException("Error constructing Step for class " + step.getClass().getCanonicalName(), e);
-				}
-			});
-
-	}
-
 	public List<StepId> getSteps(HookPoint hookPoint) {
-		return hooks.get(hookPoint);
+		return stepRegistry.getSteps(hookPoint);
 	}
 
 }
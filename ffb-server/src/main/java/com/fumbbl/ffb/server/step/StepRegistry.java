@@ -0,0 +1,98 @@
+package com.fumbbl.ffb.server.step;
+
+import com.fumbbl.ffb.RulesCollection.Rules;
+import com.fumbbl.ffb.server.GameState;
+import com.fumbbl.ffb.server.skillbehaviour.StepHook;
+import com.fumbbl.ffb.server.skillbehaviour.StepHook.HookPoint;
+import com.fumbbl.ffb.util.Scanner;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable registry of all steps of a rules version, shared by the step factories of all games using these rules.
+ * The classpath is scanned only once per rules version.
+ */
+public final class StepRegistry {
+
+	private static final MethodType STEP_CONSTRUCTOR_TYPE = MethodType.methodType(IStep.class, GameState.class);
+
+	private static final Map<Rules, StepRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+	private final Map<StepId, MethodHandle> constructors;
+	private final Map<HookPoint, List<StepId>> hooks;
+
+	public static StepRegistry forGameState(GameState gameState) {
+		Rules rules = gameState.getGame().getOptions().getRulesVersion();
+		return REGISTRIES.computeIfAbsent(rules, key -> new StepRegistry(gameState));
+	}
+
+	private StepRegistry(GameState gameState) {
+
+		Map<StepId, MethodHandle> constructors = new EnumMap<>(StepId.class);
+		Map<HookPoint, List<StepId>> hooks = new EnumMap<>(HookPoint.class);
+		for (HookPoint hookPoint : HookPoint.values()) {
+			hooks.put(hookPoint, new ArrayList<>());
+		}
+
+		// steps have to be instantiated once to learn their id
+		new Scanner<>(IStep.class).getInstancesImplementing(gameState.getGame().getOptions(), (cls) -> {
+				try {
+					Constructor<? extends IStep> constructor = cls.getConstructor(GameState.class);
+					return constructor.newInstance(gameState);
+				} catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+					throw new StepException("Error constructing Step for class " + cls.getCanonicalName(), e);
+				}
+			})
+			.forEach(step -> {
+
+				try {
+					MethodHandle constructor = MethodHandles.publicLookup()
+						.findConstructor(step.getClass(), MethodType.methodType(void.class, GameState.class))
+						.asType(STEP_CONSTRUCTOR_TYPE);
+					constructors.put(step.getId(), constructor);
+
+					StepHook hook = step.getClass().getAnnotation(StepHook.class);
+					if (hook != null) {
+						hooks.get(hook.value()).add(step.getId());
+					}
+
+				} catch (NoSuchMethodException | IllegalAccessException e) {
+					throw new StepException("Error constructing Step for class " + step.getClass().getCanonicalName(), e);
+				}
+			});
+
+		for (HookPoint hookPoint : HookPoint.values()) {
+			hooks.put(hookPoint, Collections.unmodifiableList(hooks.get(hookPoint)));
+		}
+
+		this.constructors = Collections.unmodifiableMap(constructors);
+		this.hooks = Collections.unmodifiableMap(hooks);
+	}
+
+	public IStep create(StepId stepId, GameState gameState) {
+		MethodHandle constructor = constructors.get(stepId);
+		if (constructor == null) {
+			throw new StepException("Unhandled StepId " + stepId);
+		}
+		try {
+			return (IStep) constructor.invokeExact(gameState);
+		} catch (Throwable t) {
+			throw new StepException("Error constructing Step " + stepId, t);
+		}
+	}
+
+	public List<StepId> getSteps(HookPoint hookPoint) {
+		return hooks.get(hookPoint);
+	}
+
+}
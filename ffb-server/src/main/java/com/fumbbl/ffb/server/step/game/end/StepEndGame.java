@@ -19,6 +19,7 @@ import com.fumbbl.ffb.server.step.AbstractStep;
 import com.fumbbl.ffb.server.step.StepAction;
 import com.fumbbl.ffb.server.step.StepId;
 import com.fumbbl.ffb.server.util.UtilServerDialog;
+import com.fumbbl.ffb.server.util.UtilServerTimer;
 
 import java.util.Date;
 
@@ -49,6 +50,7 @@ public final class StepEndGame extends AbstractStep {
 		GameCache gameCache = getGameState().getServer().getGameCache();
 		if (game.getFinished() == null) {
 			game.setFinished(new Date());
+			UtilServerTimer.wakeUpClock(getGameState());
 			getGameState().setStatus(GameStatus.FINISHED);
 			getGameState().getStepStack().clear(); // clean up after ourselves
 			gameCache.queueDbUpdate(getGameState(), true);
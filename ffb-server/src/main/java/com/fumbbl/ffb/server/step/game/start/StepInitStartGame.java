@@ -21,6 +21,7 @@ import com.fumbbl.ffb.server.step.AbstractStep;
 import com.fumbbl.ffb.server.step.StepAction;
 import com.fumbbl.ffb.server.step.StepCommandStatus;
 import com.fumbbl.ffb.server.step.StepId;
+import com.fumbbl.ffb.server.util.UtilServerTimer;
 import com.fumbbl.ffb.util.StringTool;
 
 import java.util.Date;
@@ -72,6 +73,7 @@ public final class StepInitStartGame extends AbstractStep {
 				}
 				if (fStartedHome && fStartedAway && (game.getStarted() == null)) {
 					game.setStarted(new Date());
+					UtilServerTimer.wakeUpClock(getGameState());
 				}
 				commandStatus = StepCommandStatus.EXECUTE_STEP;
 				break;
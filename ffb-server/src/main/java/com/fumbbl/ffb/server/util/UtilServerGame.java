@@ -58,6 +58,9 @@ public class UtilServerGame {
 		FantasyFootballServer server = pGameState.getServer();
 		UtilServerTimer.syncTime(pGameState, System.currentTimeMillis());
 		ModelChangeList modelChanges = pGameState.fetchChanges();
+		if (server.isModelSyncCompaction()) {
+			modelChanges.compact();
+		}
 		if ((modelChanges.size() > 0) || ((pReportList != null) && (pReportList.size() > 0)) || (pAnimation != null)
 			|| (pSound != null)) {
 			server.getCommunication().sendModelSync(pGameState, modelChanges, pReportList, pAnimation, pSound,
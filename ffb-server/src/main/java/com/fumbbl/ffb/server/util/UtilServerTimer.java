@@ -3,6 +3,7 @@ package com.fumbbl.ffb.server.util;
 import com.fumbbl.ffb.model.Game;
 import com.fumbbl.ffb.option.GameOptionId;
 import com.fumbbl.ffb.option.UtilGameOption;
+import com.fumbbl.ffb.server.FantasyFootballServer;
 import com.fumbbl.ffb.server.GameState;
 
 /**
@@ -15,6 +16,7 @@ public class UtilServerTimer {
 		Game game = gameState.getGame();
 		if ((gameState.getTurnTimeStarted() == 0) && game.isTurnTimeEnabled()) {
 			gameState.setTurnTimeStarted(currentTimeMillis - game.getTurnTime());
+			wakeUpClock(gameState);
 		}
 	}
 
@@ -22,6 +24,7 @@ public class UtilServerTimer {
 		Game game = gameState.getGame();
 		if ((gameState.getTurnTimeStarted() > 0) && game.isTurnTimeEnabled()) {
 			game.setTurnTime(currentTimeMillis - gameState.getTurnTimeStarted());
+			wakeUpClock(gameState);
 		}
 		gameState.setTurnTimeStarted(0);
 	}
@@ -45,4 +48,37 @@ public class UtilServerTimer {
 		}
 	}
 
+	public static boolean isGameTimeRunning(Game game) {
+		return (game.getStarted() != null) && (game.getFinished() == null);
+	}
+
+	public static boolean isTurnTimeRunning(GameState gameState) {
+		Game game = gameState.getGame();
+		return isGameTimeRunning(game) && (gameState.getTurnTimeStarted() > 0) && game.isTurnTimeEnabled();
+	}
+
+	/**
+	 * @return time in ms at which a timeout becomes possible, 0 if there is no such deadline
+	 */
+	public static long findNextDeadline(GameState gameState) {
+		Game game = gameState.getGame();
+		int turnTimeLimit = UtilGameOption.getIntOption(game, GameOptionId.TURNTIME);
+		if (isTurnTimeRunning(gameState) && !game.isTimeoutPossible() && (turnTimeLimit > 0)
+			&& UtilGameOption.isOptionEnabled(game, GameOptionId.TIMEOUT_ALLOWED)) {
+			return gameState.getTurnTimeStarted() + turnTimeLimit * 1000L;
+		}
+		return 0;
+	}
+
+	/**
+	 * Lets the clients know about a started or stopped clock and reschedules the next deadline of the game,
+	 * after the command currently executed.
+	 */
+	public static void wakeUpClock(GameState gameState) {
+		FantasyFootballServer server = gameState.getServer();
+		if ((server != null) && (server.getGameClock() != null)) {
+			server.getGameClock().wakeUp(gameState.getId());
+		}
+	}
+
 }
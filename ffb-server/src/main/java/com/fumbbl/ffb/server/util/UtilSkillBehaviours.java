@@ -9,18 +9,33 @@ import com.fumbbl.ffb.server.model.SkillBehaviour;
 import com.fumbbl.ffb.util.Scanner;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 public class UtilSkillBehaviours {
 
-	@SuppressWarnings({"unchecked", "rawtypes"})
+	// skill factories are shared between games with the same options, behaviours are registered once for each of them
+	private static final Set<SkillFactory> REGISTERED_FACTORIES = Collections.newSetFromMap(new WeakHashMap<>());
+
 	public static void registerBehaviours(Game game, DebugLog log) {
+		SkillFactory skillFactory = game.getRules().getSkillFactory();
+		synchronized (REGISTERED_FACTORIES) {
+			if (!REGISTERED_FACTORIES.add(skillFactory)) {
+				log.log(IServerLogLevel.DEBUG, game.getId(), "Behaviours already registered for skillFactory: " + skillFactory);
+				return;
+			}
+			registerBehaviours(game, skillFactory, log);
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static void registerBehaviours(Game game, SkillFactory skillFactory, DebugLog log) {
 
 		Scanner<SkillBehaviour> scanner = new Scanner<>(SkillBehaviour.class);
 		Collection<SkillBehaviour> skillBehaviours = scanner.getSubclassInstances(game.getOptions());
 		Set<String> packageNames = new HashSet<>();
-		SkillFactory skillFactory = game.getRules().getSkillFactory();
 		for (SkillBehaviour<Skill> behaviour : skillBehaviours) {
 			packageNames.add(behaviour.getClass().getPackage().getName());
 			log.log(IServerLogLevel.DEBUG, game.getId(), "Using skillFactory: " + skillFactory);
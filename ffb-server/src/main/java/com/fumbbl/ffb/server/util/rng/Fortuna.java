@@ -3,6 +3,9 @@ package com.fumbbl.ffb.server.util.rng;
 import java.net.InetAddress;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
@@ -11,7 +14,13 @@ import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 
 /**
- * 
+ * Collects entropy into 32 pools and hands out random data through one {@link FortunaShard} per thread.
+ * Shards of threads that have ended are dropped when the next shard is created.
+ * <p>
+ * The generator of this class is only used to key new shards. Whenever the pools are drained into a new seed,
+ * each shard mixes that seed into its own key before generating its next batch, so threads never contend
+ * when rolling dice.
+ *
  * @author Christer Kaivo-oja
  */
 public class Fortuna {
@@ -26,15 +35,19 @@ public class Fortuna {
 	private Cipher cipher;
 	private byte[] nonce;
 	private byte[] randomData;
-	private int byteOffset;
 	private long lastRekeying;
 
-	private long numberOfRekeyings;
-	private long numberOfBytes;
+	private volatile Seed seed;
+	private final List<FortunaShard> shards = new CopyOnWriteArrayList<>();
+	private int nextShardIndex;
+	private long retiredNumberOfBytes;
+	private final ThreadLocal<FortunaShard> threadShard = ThreadLocal.withInitial(this::createShard);
 
 	public Fortuna() {
-		numberOfRekeyings = 0;
-		numberOfBytes = 0;
+		this(createInitialKey());
+	}
+
+	Fortuna(byte[] key) {
 		pools = new EntropyPool[NUMBER_OF_POOLS];
 		for (int i = 0; i < NUMBER_OF_POOLS; i++) {
 			pools[i] = new EntropyPool();
@@ -51,6 +64,15 @@ public class Fortuna {
 		nonce = new byte[] { (byte) 0x4E, (byte) 0xC1, (byte) 0x37, (byte) 0xA4, (byte) 0x26, (byte) 0xDA, (byte) 0xBF,
 				(byte) 0x8A, (byte) 0xA0, (byte) 0xBE, (byte) 0xB8, (byte) 0xBC, (byte) 0x0C, (byte) 0x2B, (byte) 0x89,
 				(byte) 0xD6 };
+		seed = new Seed(0, new byte[0]);
+
+		rekeyGenerator(key);
+		generateRandomData();
+		rekeyGenerator(randomData);
+		generateRandomData();
+	}
+
+	private static byte[] createInitialKey() {
 		byte[] key = new byte[] { (byte) 0x95, (byte) 0xA8, (byte) 0xEE, (byte) 0x8E, (byte) 0x89, (byte) 0x97, (byte) 0x9B,
 				(byte) 0x9E, (byte) 0xFD, (byte) 0xCB, (byte) 0xC6, (byte) 0xEB, (byte) 0x97, (byte) 0x97, (byte) 0x52,
 				(byte) 0x8D, (byte) 0x43, (byte) 0x2D, (byte) 0xC2, (byte) 0x60, (byte) 0x61, (byte) 0x55, (byte) 0x38,
@@ -68,48 +90,82 @@ public class Fortuna {
 			} catch (Exception e) {
 			}
 		}
-
-		rekeyGenerator(key);
-		generateRandomData();
-		rekeyGenerator(randomData);
-		generateRandomData();
+		return key;
 	}
 
 	public void displayStats() {
-		System.out.println("Rekeyings:         " + numberOfRekeyings);
+		long rekeyings = getRekeyings();
+		long numberOfBytes = getNumberOfBytes();
+		System.out.println("Rekeyings:         " + rekeyings);
 		System.out.println("Bytes fetched:     " + numberOfBytes);
-		System.out.println("Bits per rekeying: " + (8 * numberOfBytes) / numberOfRekeyings);
+		System.out.println("Bits per rekeying: " + ((rekeyings > 0) ? (8 * numberOfBytes) / rekeyings : 0));
+		for (FortunaShard shard : getShards()) {
+			System.out.println("Shard " + shard.getIndex() + " (" + shard.getThreadName() + "): "
+				+ shard.getNumberOfBytes() + " bytes, " + shard.getReseeds() + " reseeds");
+		}
 	}
 
+	/**
+	 * @return number of times the pools have been drained into a new seed for the shards
+	 */
 	public long getRekeyings() {
-		return numberOfRekeyings;
+		return seed.count;
 	}
 
-	public long getNumberOfBytes() {
+	public synchronized long getNumberOfBytes() {
+		long numberOfBytes = retiredNumberOfBytes;
+		for (FortunaShard shard : shards) {
+			numberOfBytes += shard.getNumberOfBytes();
+		}
 		return numberOfBytes;
 	}
 
+	public List<FortunaShard> getShards() {
+		return new ArrayList<>(shards);
+	}
+
 	public int getByte() {
-		numberOfBytes++;
-		int result = randomData[byteOffset];
-		byteOffset++;
-		if (byteOffset >= 16)
-			generateRandomData();
-		return result & 0xff;
+		return threadShard.get().getByte();
 	}
 
 	public int getDieRoll(int sides) {
-		int result;
-		assert sides < 256 && sides > 0;
-		do {
-			result = getByte();
-		} while (result >= 256 - (256 % sides));
-		return 1 + (result % sides);
+		return threadShard.get().getDieRoll(sides);
 	}
 
-	public synchronized void rekeyGenerator(byte[] newKey) {
+	Seed getSeed() {
+		return seed;
+	}
+
+	private synchronized FortunaShard createShard() {
+		removeRetiredShards();
+		byte[] key = new byte[FortunaShard.KEY_LENGTH];
+		generateRandomData();
+		System.arraycopy(randomData, 0, key, 0, 16);
+		generateRandomData();
+		System.arraycopy(randomData, 0, key, 16, 16);
+		// keep the generator moving away from keys already handed out
+		rekeyGenerator(randomData);
+		generateRandomData();
+		FortunaShard shard = new FortunaShard(this, nextShardIndex++, key);
+		shards.add(shard);
+		return shard;
+	}
+
+	/**
+	 * Drops the shards of threads that have ended, so short-lived threads do not pile up shards. Their bytes are
+	 * still counted.
+	 */
+	private synchronized void removeRetiredShards() {
+		for (FortunaShard shard : shards) {
+			if (!shard.isOwnerAlive()) {
+				retiredNumberOfBytes += shard.getNumberOfBytes();
+				shards.remove(shard);
+			}
+		}
+	}
+
+	private synchronized void rekeyGenerator(byte[] newKey) {
 		lastRekeying = System.currentTimeMillis();
-		numberOfRekeyings++;
 		sKeySpec = new SecretKeySpec(newKey, "AES");
 		try {
 			cipher.init(Cipher.ENCRYPT_MODE, sKeySpec);
@@ -118,7 +174,7 @@ public class Fortuna {
 		}
 	}
 
-	public void generateRandomData() {
+	private synchronized void generateRandomData() {
 		try {
 			randomData = cipher.doFinal(nonce);
 			for (int i = nonce.length - 1; i >= 0; i--) {
@@ -126,7 +182,6 @@ public class Fortuna {
 				if (nonce[i] != 0)
 					break;
 			}
-			byteOffset = 0;
 		} catch (IllegalBlockSizeException e) {
 			e.printStackTrace();
 		} catch (BadPaddingException e) {
@@ -149,8 +204,25 @@ public class Fortuna {
 					}
 				}
 				rekeyGenerator(newKey);
+				seed = new Seed(seed.count + 1, newKey);
 				poolSelector++;
 			}
 		}
 	}
+
+	/**
+	 * Entropy drained from the pools, picked up by the shards on their next batch.
+	 */
+	static final class Seed {
+
+		final long count;
+		final byte[] data;
+
+		Seed(long count, byte[] data) {
+			this.count = count;
+			this.data = data;
+		}
+
+	}
+
 }
@@ -0,0 +1,129 @@
+package com.fumbbl.ffb.server.util.rng;
+
+import com.fumbbl.ffb.FantasyFootballException;
+
+import java.lang.ref.WeakReference;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Fortuna generator owned by a single thread. Encrypts a counter with AES and produces a batch of blocks at once,
+ * replacing its key with two extra blocks after every batch. Picks up new seeds of the shared {@link Fortuna}
+ * pools before generating a batch.
+ * <p>
+ * Only the owning thread draws bytes, the counters may be read from any thread.
+ */
+public class FortunaShard {
+
+	static final int KEY_LENGTH = 32;
+
+	private static final int BLOCK_LENGTH = 16;
+	private static final int BLOCKS_PER_BATCH = 16;
+	private static final int KEY_BLOCKS = KEY_LENGTH / BLOCK_LENGTH;
+
+	private final Fortuna fortuna;
+	private final int index;
+	private final String threadName;
+	private final WeakReference<Thread> owner;
+	private final Cipher cipher;
+	private final MessageDigest digest;
+	private final byte[] key;
+	private final byte[] counter = new byte[BLOCK_LENGTH];
+	private final byte[] counterBlocks = new byte[(BLOCKS_PER_BATCH + KEY_BLOCKS) * BLOCK_LENGTH];
+	private final byte[] output = new byte[(BLOCKS_PER_BATCH + KEY_BLOCKS) * BLOCK_LENGTH];
+	private final int batchLength = BLOCKS_PER_BATCH * BLOCK_LENGTH;
+	private int byteOffset;
+	private long seedCount;
+
+	private volatile long numberOfBytes;
+	private volatile long reseeds;
+
+	FortunaShard(Fortuna fortuna, int index, byte[] key) {
+		this.fortuna = fortuna;
+		this.index = index;
+		this.threadName = Thread.currentThread().getName();
+		this.owner = new WeakReference<>(Thread.currentThread());
+		this.key = key.clone();
+		try {
+			cipher = Cipher.getInstance("AES/ECB/NoPadding");
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (GeneralSecurityException e) {
+			throw new FantasyFootballException("Unable to create random generator", e);
+		}
+		seedCount = fortuna.getSeed().count;
+		byteOffset = batchLength;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public String getThreadName() {
+		return threadName;
+	}
+
+	/**
+	 * @return false once the owning thread has ended, the shard cannot be drawn from anymore
+	 */
+	boolean isOwnerAlive() {
+		Thread thread = owner.get();
+		return (thread != null) && thread.isAlive();
+	}
+
+	public long getNumberOfBytes() {
+		return numberOfBytes;
+	}
+
+	public long getReseeds() {
+		return reseeds;
+	}
+
+	public int getByte() {
+		if (byteOffset >= batchLength) {
+			generateBatch();
+		}
+		numberOfBytes++;
+		return output[byteOffset++] & 0xff;
+	}
+
+	public int getDieRoll(int sides) {
+		int result;
+		assert sides < 256 && sides > 0;
+		do {
+			result = getByte();
+		} while (result >= 256 - (256 % sides));
+		return 1 + (result % sides);
+	}
+
+	private void generateBatch() {
+		Fortuna.Seed seed = fortuna.getSeed();
+		if (seed.count != seedCount) {
+			digest.update(key);
+			digest.update(seed.data);
+			System.arraycopy(digest.digest(), 0, key, 0, KEY_LENGTH);
+			seedCount = seed.count;
+			reseeds++;
+		}
+		for (int block = 0; block < BLOCKS_PER_BATCH + KEY_BLOCKS; block++) {
+			System.arraycopy(counter, 0, counterBlocks, block * BLOCK_LENGTH, BLOCK_LENGTH);
+			for (int i = counter.length - 1; i >= 0; i--) {
+				counter[i]++;
+				if (counter[i] != 0)
+					break;
+			}
+		}
+		try {
+			cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+			cipher.doFinal(counterBlocks, 0, counterBlocks.length, output, 0);
+		} catch (GeneralSecurityException e) {
+			throw new FantasyFootballException("Unable to generate random data", e);
+		}
+		// the blocks behind the batch become the next key, so drawn bytes cannot be reconstructed later
+		System.arraycopy(output, batchLength, key, 0, KEY_LENGTH);
+		byteOffset = 0;
+	}
+
+}
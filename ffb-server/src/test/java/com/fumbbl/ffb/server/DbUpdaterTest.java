@@ -0,0 +1,146 @@
+package com.fumbbl.ffb.server;
+
+import com.fumbbl.ffb.server.db.DbTransaction;
+import com.fumbbl.ffb.server.db.DbUpdateFactory;
+import com.fumbbl.ffb.server.db.DbUpdateStatement;
+import com.fumbbl.ffb.server.db.DefaultDbUpdateParameter;
+import com.fumbbl.ffb.server.db.IDbUpdateCoalescable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DbUpdaterTest {
+
+	private FantasyFootballServer server;
+	private DbUpdateFactory updateFactory;
+	private DbUpdateStatement statement;
+	private DbUpdater dbUpdater;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		server = mock(FantasyFootballServer.class);
+		updateFactory = mock(DbUpdateFactory.class);
+		statement = mock(DbUpdateStatement.class);
+		when(server.getDbUpdateFactory()).thenReturn(updateFactory);
+		when(server.getDebugLog()).thenReturn(mock(DebugLog.class));
+		when(statement.execute(any())).thenReturn(1);
+		dbUpdater = new DbUpdater(server);
+	}
+
+	@Test
+	void laterUpdatesOfTheSameGameSupersedePendingOnes() throws SQLException {
+		DbTransaction first = transaction(true, new RowUpdate("gamesInfo:1"), new RowUpdate("gamesSerialized:1"));
+		DbTransaction second = transaction(true, new RowUpdate("gamesInfo:1"), new RowUpdate("gamesSerialized:1"), new Update());
+		DbTransaction other = transaction(true, new RowUpdate("gamesInfo:2"));
+
+		dbUpdater.handleUpdatesInternal(Arrays.asList(first, second, other));
+
+		assertEquals(2, dbUpdater.getCoalesced());
+		assertEquals(2, dbUpdater.getWritten());
+		assertEquals(0, first.size());
+		assertEquals(3, second.getUpdatedRows());
+		verify(statement, times(4)).execute(any());
+		verify(updateFactory, times(2)).commit();
+	}
+
+	@Test
+	void transactionsNotMarkedCoalescableAreWritten() throws SQLException {
+		DbTransaction first = transaction(false, new RowUpdate("gamesSerialized:1"));
+		DbTransaction second = transaction(true, new RowUpdate("gamesSerialized:1"));
+
+		dbUpdater.handleUpdatesInternal(Arrays.asList(first, second));
+
+		assertEquals(0, dbUpdater.getCoalesced());
+		assertEquals(1, first.getUpdatedRows());
+		verify(statement, times(2)).execute(any());
+	}
+
+	@Test
+	void consecutiveParametersOfBatchableStatementsAreBatched() throws SQLException {
+		DbUpdateStatement batchStatement = mock(DbUpdateStatement.class);
+		when(batchStatement.isBatchable()).thenReturn(true);
+		when(batchStatement.executeBatch()).thenReturn(new int[] { 1, Statement.SUCCESS_NO_INFO, 1 });
+		DbTransaction transaction = transaction(false, new Update(), new Update(batchStatement),
+			new Update(batchStatement), new Update(batchStatement));
+
+		dbUpdater.handleUpdatesInternal(Arrays.asList(transaction));
+
+		verify(batchStatement, times(3)).addBatch(any());
+		verify(batchStatement, times(1)).executeBatch();
+		verify(batchStatement, times(1)).clearBatch();
+		verify(batchStatement, never()).execute(any());
+		verify(statement, times(1)).execute(any());
+		assertEquals(4, transaction.getUpdatedRows());
+	}
+
+	@Test
+	void failureWhileAddingToABatchClearsTheBatch() throws SQLException {
+		DbUpdateStatement batchStatement = mock(DbUpdateStatement.class);
+		when(batchStatement.isBatchable()).thenReturn(true);
+		Update failingUpdate = new Update(batchStatement);
+		doThrow(new SQLException("invalid parameter")).when(batchStatement).addBatch(failingUpdate);
+		DbTransaction transaction = transaction(false, new Update(batchStatement), failingUpdate,
+			new Update(batchStatement));
+
+		dbUpdater.handleUpdatesInternal(Arrays.asList(transaction));
+
+		verify(batchStatement, times(2)).addBatch(any());
+		verify(batchStatement, never()).executeBatch();
+		verify(batchStatement, times(1)).clearBatch();
+		verify(updateFactory, times(1)).rollback();
+		verify(updateFactory, never()).commit();
+		assertEquals(0, transaction.getUpdatedRows());
+	}
+
+	private DbTransaction transaction(boolean coalescable, Update... updates) {
+		DbTransaction transaction = new DbTransaction();
+		transaction.setCoalescable(coalescable);
+		for (Update update : updates) {
+			transaction.add(update);
+		}
+		return transaction;
+	}
+
+	private class Update extends DefaultDbUpdateParameter {
+
+		private final DbUpdateStatement updateStatement;
+
+		private Update() {
+			this(statement);
+		}
+
+		private Update(DbUpdateStatement updateStatement) {
+			this.updateStatement = updateStatement;
+		}
+
+		public DbUpdateStatement getDbUpdateStatement(FantasyFootballServer pServer) {
+			return updateStatement;
+		}
+	}
+
+	private class RowUpdate extends Update implements IDbUpdateCoalescable {
+
+		private final String key;
+
+		private RowUpdate(String key) {
+			this.key = key;
+		}
+
+		public String getCoalescingKey() {
+			return key;
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.fumbbl.ffb.server;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DebugLogTest {
+
+	@TempDir
+	File logFolder;
+
+	private DebugLog debugLog;
+
+	@BeforeEach
+	void setUp() {
+		FantasyFootballServer server = mock(FantasyFootballServer.class);
+		when(server.getProperty(IServerProperty.SERVER_LOG_FILE_SPLIT)).thenReturn("true");
+		debugLog = new DebugLog(server, new File(logFolder, "server.log"), logFolder, IServerLogLevel.DEBUG);
+	}
+
+	@Test
+	void linesAreWrittenPerGame() throws IOException {
+		debugLog.log(IServerLogLevel.INFO, 1042L, "first\nsecond");
+		debugLog.log(IServerLogLevel.TRACE, 1042L, "not logged");
+		debugLog.log(IServerLogLevel.INFO, 1043L, DebugLog.COMMAND_SERVER_HOME, "other game");
+
+		debugLog.shutdown();
+
+		List<String> lines = Files.readAllLines(debugLog.createLogFile(1042L).toPath(), Charset.defaultCharset());
+		assertEquals(2, lines.size());
+		assertTrue(lines.get(0).endsWith(" 00001042 ---- first"));
+		assertTrue(lines.get(1).endsWith(" 00001042 ---- second"));
+		lines = Files.readAllLines(debugLog.createLogFile(1043L).toPath(), Charset.defaultCharset());
+		assertEquals(1, lines.size());
+		assertTrue(lines.get(0).endsWith(" 00001043  ->H other game"));
+	}
+
+	@Test
+	void closedLogIsZipped() throws IOException {
+		debugLog.log(IServerLogLevel.INFO, 1042L, "first");
+		debugLog.closeResources(1042L);
+		debugLog.log(IServerLogLevel.INFO, 1043L, "other game");
+
+		debugLog.shutdown();
+
+		File logFile = debugLog.createLogFile(1042L);
+		assertFalse(logFile.exists());
+		try (BufferedReader in = new BufferedReader(new InputStreamReader(
+			new GZIPInputStream(new FileInputStream(debugLog.createZippedFile(logFile)))))) {
+			List<String> lines = in.lines().collect(Collectors.toList());
+			assertEquals(1, lines.size());
+			assertTrue(lines.get(0).endsWith(" first"));
+		}
+		assertTrue(debugLog.createLogFile(1043L).exists());
+	}
+
+	@Test
+	void linesAfterShutdownAreWrittenDirectly() throws IOException {
+		debugLog.shutdown();
+
+		debugLog.log(IServerLogLevel.INFO, 1042L, "late");
+
+		List<String> lines = Files.readAllLines(debugLog.createLogFile(1042L).toPath(), Charset.defaultCharset());
+		assertEquals(1, lines.size());
+	}
+
+}
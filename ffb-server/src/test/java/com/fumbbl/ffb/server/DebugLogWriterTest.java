@@ -0,0 +1,97 @@
+package com.fumbbl.ffb.server;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DebugLogWriterTest {
+
+	@TempDir
+	File logFolder;
+
+	private DebugLog debugLog;
+	private File logFile;
+	private CountDownLatch writing;
+	private CountDownLatch release;
+
+	@BeforeEach
+	void setUp() {
+		debugLog = mock(DebugLog.class);
+		logFile = new File(logFolder, "game.log");
+		writing = new CountDownLatch(1);
+		release = new CountDownLatch(1);
+		// the writer is held up on the first record
+		when(debugLog.logFileFor(any())).thenAnswer(invocation -> {
+			writing.countDown();
+			release.await();
+			return logFile;
+		});
+		when(debugLog.formatLines(anyLong(), any(), any(), any())).thenReturn("dropped\n");
+	}
+
+	@Test
+	void callersWaitForSpaceWhenBlocking() throws Exception {
+		DebugLogWriter writer = new DebugLogWriter(debugLog, 1, DebugLogWriter.OverflowPolicy.BLOCK);
+		writer.start();
+		writer.write(1L, "first\n");
+		assertTrue(writing.await(5, TimeUnit.SECONDS));
+		writer.write(1L, "second\n");
+
+		Thread caller = new Thread(() -> writer.write(1L, "third\n"), "caller");
+		caller.start();
+		awaitWaiting(caller);
+		assertTrue(caller.isAlive());
+
+		release.countDown();
+		caller.join(5000);
+		writer.shutdown();
+
+		assertFalse(caller.isAlive());
+		assertEquals(Arrays.asList("first", "second", "third"), lines());
+	}
+
+	@Test
+	void recordsAreDroppedWhenFull() throws Exception {
+		DebugLogWriter writer = new DebugLogWriter(debugLog, 1, DebugLogWriter.OverflowPolicy.DROP);
+		writer.start();
+		writer.write(1L, "first\n");
+		assertTrue(writing.await(5, TimeUnit.SECONDS));
+		writer.write(1L, "second\n");
+		writer.write(1L, "third\n");
+
+		release.countDown();
+		writer.shutdown();
+
+		assertEquals(Arrays.asList("first", "second", "dropped"), lines());
+	}
+
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+		long end = System.currentTimeMillis() + 5000;
+		while ((thread.getState() != Thread.State.TIMED_WAITING) && (System.currentTimeMillis() < end)) {
+			Thread.sleep(10);
+		}
+		assertEquals(Thread.State.TIMED_WAITING, thread.getState());
+	}
+
+	private List<String> lines() throws IOException {
+		return Files.readAllLines(logFile.toPath(), Charset.defaultCharset());
+	}
+
+}
@@ -0,0 +1,177 @@
+package com.fumbbl.ffb.server;
+
+import com.fumbbl.ffb.FactoryManager;
+import com.fumbbl.ffb.GameStatus;
+import com.fumbbl.ffb.RulesCollection;
+import com.fumbbl.ffb.factory.IFactorySource;
+import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.option.GameOptionId;
+import com.fumbbl.ffb.server.db.DbStatementId;
+import com.fumbbl.ffb.server.db.DbTransaction;
+import com.fumbbl.ffb.server.db.DbQueryFactory;
+import com.fumbbl.ffb.server.db.query.DbGamesSerializedQuery;
+import com.fumbbl.ffb.server.db.update.DbGamesHibernatedParameter;
+import com.fumbbl.ffb.server.net.ServerCommunication;
+import com.fumbbl.ffb.server.net.SessionManager;
+import org.eclipse.jetty.websocket.api.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameCacheTest {
+
+	private static final long GAME_ID = 1042L;
+	private static final long IDLE_TIME = 60000L;
+
+	private FantasyFootballServer server;
+	private DbUpdater dbUpdater;
+	private DbGamesSerializedQuery serializedQuery;
+	private GameCache gameCache;
+
+	@BeforeEach
+	void setUp() {
+		server = mock(FantasyFootballServer.class);
+		dbUpdater = mock(DbUpdater.class);
+		serializedQuery = mock(DbGamesSerializedQuery.class);
+		DbQueryFactory queryFactory = mock(DbQueryFactory.class);
+		when(server.getFactorySource()).thenReturn(mock(IFactorySource.class));
+		when(server.getFactoryManager()).thenReturn(new FactoryManager());
+		when(server.getDebugLog()).thenReturn(mock(DebugLog.class));
+		when(server.getDbUpdater()).thenReturn(dbUpdater);
+		when(server.getDbQueryFactory()).thenReturn(queryFactory);
+		when(queryFactory.getStatement(DbStatementId.GAMES_SERIALIZED_QUERY)).thenReturn(serializedQuery);
+		gameCache = new GameCache(server);
+		when(server.getGameCache()).thenReturn(gameCache);
+	}
+
+	@Test
+	void activeGamesAreHibernatedAfterIdleTime() {
+		GameState gameState = createGameState(GameStatus.ACTIVE);
+		gameState.setLastActivity(System.currentTimeMillis() - IDLE_TIME / 2);
+
+		assertFalse(gameCache.hibernate(GAME_ID, IDLE_TIME));
+
+		gameState.setLastActivity(System.currentTimeMillis() - IDLE_TIME);
+
+		assertTrue(gameCache.hibernate(GAME_ID, IDLE_TIME));
+		assertEquals(0, gameCache.allGameStates().length);
+		assertEquals(1, gameCache.allHibernatedGames().length);
+		assertEquals(1, gameCache.findActiveGames().getEntries().length);
+		assertEquals(1, gameCache.getHibernations());
+		verify(dbUpdater, times(2)).add(any(DbTransaction.class));
+	}
+
+	@Test
+	void onlyActiveGamesAreHibernated() {
+		GameState gameState = createGameState(GameStatus.STARTING);
+		gameState.setLastActivity(0);
+
+		assertFalse(gameCache.hibernate(GAME_ID, IDLE_TIME));
+		assertSame(gameState, gameCache.getGameStateById(GAME_ID));
+	}
+
+	@Test
+	void gameStateIsKeptUntilSerializationIsConfirmed() {
+		GameState gameState = createGameState(GameStatus.ACTIVE);
+		gameState.setLastActivity(0);
+		gameCache.hibernate(GAME_ID, IDLE_TIME);
+
+		assertSame(gameState, gameCache.getGameStateById(GAME_ID));
+		assertEquals(1, gameCache.getWakeUps());
+		assertEquals(0, gameCache.allHibernatedGames().length);
+		verify(serializedQuery, never()).execute(server, GAME_ID);
+	}
+
+	@Test
+	void confirmedGamesAreRehydratedFromDb() {
+		GameState gameState = createGameState(GameStatus.ACTIVE);
+		gameState.setTurnTimeStarted(12345L);
+		gameState.setLastActivity(0);
+		gameCache.hibernate(GAME_ID, IDLE_TIME);
+		confirmHibernation(true);
+
+		GameState loadedState = new GameState(server);
+		loadedState.getGame().setId(GAME_ID);
+		loadedState.setStatus(GameStatus.ACTIVE);
+		Game game = loadedState.getGame();
+		game.getOptions().addOption(game.getOptions().getFactory().createGameOption(GameOptionId.RULESVERSION)
+			.setValue(RulesCollection.Rules.BB2020.name()));
+		game.initializeRules();
+		when(serializedQuery.execute(server, GAME_ID)).thenReturn(loadedState);
+
+		GameState wokenState = gameCache.getGameStateById(GAME_ID);
+
+		assertNotSame(gameState, wokenState);
+		assertSame(loadedState, wokenState);
+		assertEquals(12345L, wokenState.getTurnTimeStarted());
+		assertSame(loadedState, gameCache.getGameStateById(GAME_ID));
+		assertEquals(1, gameCache.getWakeUps());
+		verify(serializedQuery, times(1)).execute(server, GAME_ID);
+	}
+
+	@Test
+	void failedSerializationKeepsGameStateInMemory() {
+		GameState gameState = createGameState(GameStatus.ACTIVE);
+		gameState.setLastActivity(0);
+		gameCache.hibernate(GAME_ID, IDLE_TIME);
+		confirmHibernation(false);
+
+		assertSame(gameState, gameCache.getGameStateById(GAME_ID));
+		verify(serializedQuery, never()).execute(server, GAME_ID);
+	}
+
+	@Test
+	void hibernatedGamesAreClosedWithoutWakingUp() {
+		SessionManager sessionManager = mock(SessionManager.class);
+		ServerCommunication communication = mock(ServerCommunication.class);
+		Session session = mock(Session.class);
+		when(server.getSessionManager()).thenReturn(sessionManager);
+		when(server.getCommunication()).thenReturn(communication);
+		when(sessionManager.getSessionsForGameId(GAME_ID)).thenReturn(new Session[]{session});
+		GameState gameState = createGameState(GameStatus.ACTIVE);
+		gameState.setLastActivity(0);
+		gameCache.mapGameNameToId("match", GAME_ID);
+		gameCache.hibernate(GAME_ID, IDLE_TIME);
+		confirmHibernation(true);
+
+		gameCache.closeAllGames();
+
+		assertEquals(0, gameCache.allHibernatedGames().length);
+		assertEquals(0, gameCache.findGameIdByName("match"));
+		assertEquals(0, gameCache.getWakeUps());
+		verify(communication).close(session);
+		verify(server).closeResources(GAME_ID);
+		verify(serializedQuery, never()).execute(server, GAME_ID);
+	}
+
+	private GameState createGameState(GameStatus status) {
+		GameState gameState = new GameState(server);
+		gameState.getGame().setId(GAME_ID);
+		gameState.setStatus(status);
+		gameCache.addGame(gameState);
+		return gameState;
+	}
+
+	private void confirmHibernation(boolean success) {
+		ArgumentCaptor<DbTransaction> transactions = ArgumentCaptor.forClass(DbTransaction.class);
+		verify(dbUpdater, times(2)).add(transactions.capture());
+		List<DbTransaction> queued = transactions.getAllValues();
+		DbGamesHibernatedParameter confirmation = (DbGamesHibernatedParameter) queued.get(1).getDbUpdateParameters()[0];
+		gameCache.hibernationPersisted(confirmation.getHibernatedGame(), success);
+	}
+
+}
@@ -0,0 +1,221 @@
+package com.fumbbl.ffb.server;
+
+import com.fumbbl.ffb.FactoryManager;
+import com.fumbbl.ffb.factory.IFactorySource;
+import com.fumbbl.ffb.model.change.ModelChange;
+import com.fumbbl.ffb.model.change.ModelChangeId;
+import com.fumbbl.ffb.net.NetCommand;
+import com.fumbbl.ffb.net.WireProtocol;
+import com.fumbbl.ffb.net.commands.ServerCommandAddPlayer;
+import com.fumbbl.ffb.net.commands.ServerCommandModelSync;
+import com.fumbbl.ffb.net.commands.ServerCommandReplay;
+import com.fumbbl.ffb.server.net.ServerCommunication;
+import org.eclipse.jetty.websocket.api.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServerReplayerTest {
+
+	private FantasyFootballServer server;
+	private ServerReplayer replayer;
+	private GameState gameState;
+	private ServerCommunication communication;
+	private List<ServerCommandReplay> encoded;
+
+	@BeforeEach
+	void setUp() {
+		server = mock(FantasyFootballServer.class);
+		communication = mock(ServerCommunication.class);
+		when(server.getDebugLog()).thenReturn(mock(DebugLog.class));
+		when(server.getFactorySource()).thenReturn(mock(IFactorySource.class));
+		when(server.getFactoryManager()).thenReturn(new FactoryManager());
+		when(server.getCommunication()).thenReturn(communication);
+		encoded = new ArrayList<>();
+		when(communication.encode(any(NetCommand.class), any())).thenAnswer(invocation -> {
+			ServerCommandReplay replayCommand = invocation.getArgument(0);
+			encoded.add(replayCommand);
+			return ByteBuffer.wrap(new byte[replayCommand.getNrOfCommands() + 1]).asReadOnlyBuffer();
+		});
+		replayer = new ServerReplayer(server, 1 << 20, 1);
+		gameState = new GameState(server);
+		gameState.getGame().setId(7L);
+		for (int i = 0; i < 250; i++) {
+			gameState.getGameLog().add(new ServerCommandModelSync());
+		}
+	}
+
+	@Test
+	void replayIsSplitIntoChunks() {
+		ServerReplay replay = new ServerReplay(gameState, 0, null);
+
+		ReplayChunk first = replayer.findChunk(replay, WireProtocol.JSON);
+		replay.setFromCommandNr(first.getHighestCommandNr() + 1);
+		ReplayChunk second = replayer.findChunk(replay, WireProtocol.JSON);
+		replay.setFromCommandNr(second.getHighestCommandNr() + 1);
+		ReplayChunk third = replayer.findChunk(replay, WireProtocol.JSON);
+
+		assertEquals(1, first.getLowestCommandNr());
+		assertEquals(100, first.getHighestCommandNr());
+		assertFalse(first.isLastCommand());
+		assertEquals(101, second.getLowestCommandNr());
+		assertEquals(200, second.getHighestCommandNr());
+		assertEquals(201, third.getLowestCommandNr());
+		assertEquals(250, third.getHighestCommandNr());
+		assertTrue(third.isLastCommand());
+		assertEquals(250, third.getTotalNrOfCommands());
+	}
+
+	@Test
+	void replayStopsBeforeRequestedCommand() {
+		ServerReplay replay = new ServerReplay(gameState, 51, null);
+
+		ReplayChunk chunk = replayer.findChunk(replay, WireProtocol.JSON);
+
+		assertEquals(50, chunk.getHighestCommandNr());
+		assertEquals(50, chunk.getTotalNrOfCommands());
+		assertTrue(chunk.isLastCommand());
+	}
+
+	@Test
+	void chunksAreEncodedOnceForAllReplays() {
+		ReplayChunk first = replayer.findChunk(new ServerReplay(gameState, 0, null), WireProtocol.JSON);
+		ReplayChunk second = replayer.findChunk(new ServerReplay(gameState, 0, null), WireProtocol.JSON);
+
+		assertSame(first, second);
+		assertEquals(1, encoded.size());
+		assertEquals(1, replayer.getChunkCache().getHits());
+	}
+
+	@Test
+	void chunksAreEncodedForEachProtocol() {
+		ReplayChunk json = replayer.findChunk(new ServerReplay(gameState, 0, null), WireProtocol.JSON);
+		ReplayChunk binary = replayer.findChunk(new ServerReplay(gameState, 0, null), WireProtocol.BINARY);
+
+		assertNotSame(json, binary);
+		assertEquals(2, encoded.size());
+		assertSame(binary, replayer.findChunk(new ServerReplay(gameState, 0, null), WireProtocol.BINARY));
+	}
+
+	@Test
+	void growingLogDoesNotHitOutdatedChunks() {
+		ReplayChunk before = replayer.findChunk(new ServerReplay(gameState, 0, null), WireProtocol.JSON);
+		gameState.getGameLog().add(new ServerCommandModelSync());
+		ReplayChunk after = replayer.findChunk(new ServerReplay(gameState, 0, null), WireProtocol.JSON);
+
+		assertNotSame(before, after);
+		assertEquals(251, after.getTotalNrOfCommands());
+	}
+
+	@Test
+	void markingAffectingCommandsAreDetected() {
+		ServerCommandModelSync injury = (ServerCommandModelSync) gameState.getGameLog().getServerCommands()[2];
+		injury.getModelChanges().add(new ModelChange(ModelChangeId.PLAYER_RESULT_SET_SERIOUS_INJURY, "player", null));
+		gameState.getGameLog().add(new ServerCommandAddPlayer());
+
+		ServerReplay replay = new ServerReplay(gameState, 0, null);
+		replay.setFromCommandNr(201);
+		replayer.findChunk(replay, WireProtocol.JSON);
+		replayer.findChunk(new ServerReplay(gameState, 0, null), WireProtocol.JSON);
+
+		assertEquals(Collections.singleton(251), encoded.get(0).getMarkingAffectingCommands());
+		assertEquals(Collections.singleton(3), encoded.get(1).getMarkingAffectingCommands());
+	}
+
+	@Test
+	void shortReplaysAreNotHeldUpByLongOnes() throws InterruptedException {
+		GameState shortGame = new GameState(server);
+		shortGame.getGame().setId(8L);
+		shortGame.getGameLog().add(new ServerCommandModelSync());
+		Session longSession = createSession();
+		Session shortSession = createSession();
+		List<Session> sent = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch allSent = new CountDownLatch(4);
+		when(communication.send(any(Session.class), any(ByteBuffer.class))).thenAnswer(invocation -> {
+			sent.add(invocation.getArgument(0));
+			allSent.countDown();
+			return CompletableFuture.completedFuture(null);
+		});
+
+		replayer.add(new ServerReplay(gameState, 0, longSession));
+		replayer.add(new ServerReplay(shortGame, 0, shortSession));
+		replayer.start();
+		try {
+			assertTrue(allSent.await(10, TimeUnit.SECONDS));
+			long timeout = System.currentTimeMillis() + 10000;
+			while ((replayer.getReplaysServed() < 2) && (System.currentTimeMillis() < timeout)) {
+				Thread.sleep(10);
+			}
+		} finally {
+			replayer.stop();
+		}
+
+		assertEquals(Arrays.asList(longSession, shortSession, longSession, longSession), sent);
+		assertEquals(2, replayer.getReplaysServed());
+		assertEquals(4, replayer.getChunksSent());
+	}
+
+	@Test
+	void slowClientsArePaced() {
+		Session session = createSession();
+		CompletableFuture<Void> pendingWrite = new CompletableFuture<>();
+		when(communication.send(any(Session.class), any(ByteBuffer.class))).thenReturn(pendingWrite);
+		ServerReplayer.ScheduledReplay scheduledReplay =
+			new ServerReplayer.ScheduledReplay(new ServerReplay(gameState, 0, session), System.currentTimeMillis());
+
+		assertFalse(replayer.serve(scheduledReplay));
+		assertFalse(replayer.serve(scheduledReplay));
+		assertEquals(1, replayer.getChunksSent());
+		assertEquals(1, replayer.getChunksPaced());
+
+		pendingWrite.complete(null);
+
+		assertFalse(replayer.serve(scheduledReplay));
+		assertEquals(2, replayer.getChunksSent());
+	}
+
+	@Test
+	void leastRecentlyUsedChunksAreEvicted() {
+		ReplayChunkCache cache = new ReplayChunkCache(10);
+		ReplayChunk first = createChunk(4);
+		ReplayChunk second = createChunk(4);
+		cache.put(1L, 1, 0, 10, WireProtocol.JSON, first);
+		cache.put(2L, 1, 0, 10, WireProtocol.JSON, second);
+		cache.get(1L, 1, 0, 10, WireProtocol.JSON);
+		cache.put(3L, 1, 0, 10, WireProtocol.JSON, createChunk(4));
+
+		assertSame(first, cache.get(1L, 1, 0, 10, WireProtocol.JSON));
+		assertNull(cache.get(2L, 1, 0, 10, WireProtocol.JSON));
+		assertEquals(2, cache.size());
+		assertEquals(8, cache.getBytes());
+	}
+
+	private Session createSession() {
+		Session session = mock(Session.class);
+		when(session.isOpen()).thenReturn(true);
+		return session;
+	}
+
+	private ReplayChunk createChunk(int pSize) {
+		return new ReplayChunk(ByteBuffer.wrap(new byte[pSize]).asReadOnlyBuffer(), 1, 1, 1, true);
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.fumbbl.ffb.server.db.insert;
+
+import com.fumbbl.ffb.FactoryManager;
+import com.fumbbl.ffb.factory.IFactorySource;
+import com.fumbbl.ffb.net.commands.ServerCommandModelSync;
+import com.fumbbl.ffb.server.DebugLog;
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.GameState;
+import com.fumbbl.ffb.server.db.DbStatementId;
+import com.fumbbl.ffb.server.db.DbTransaction;
+import com.fumbbl.ffb.server.db.DbUpdateFactory;
+import com.fumbbl.ffb.server.db.DbUpdateStatement;
+import com.fumbbl.ffb.server.db.delete.DbGamesLogChunksDeleteParameter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DbGamesLogChunksInsertParameterTest {
+
+	private static final long GAME_ID = 1042L;
+
+	private FantasyFootballServer server;
+	private DbUpdateFactory updateFactory;
+	private DbUpdateStatement insertStatement;
+	private DbUpdateStatement deleteStatement;
+	private GameState gameState;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		server = mock(FantasyFootballServer.class);
+		updateFactory = mock(DbUpdateFactory.class);
+		insertStatement = mock(DbUpdateStatement.class);
+		deleteStatement = mock(DbUpdateStatement.class);
+		when(server.getDebugLog()).thenReturn(mock(DebugLog.class));
+		when(server.getFactorySource()).thenReturn(mock(IFactorySource.class));
+		when(server.getFactoryManager()).thenReturn(new FactoryManager());
+		when(server.getDbUpdateFactory()).thenReturn(updateFactory);
+		when(updateFactory.getStatement(DbStatementId.GAMES_LOG_CHUNKS_INSERT)).thenReturn(insertStatement);
+		when(updateFactory.getStatement(DbStatementId.GAMES_LOG_CHUNKS_DELETE)).thenReturn(deleteStatement);
+		when(insertStatement.execute(any())).thenReturn(1);
+		gameState = new GameState(server);
+		gameState.getGame().setId(GAME_ID);
+	}
+
+	@Test
+	void consecutiveUpdatesAppendAdjacentChunks() {
+		addCommands(3);
+		DbGamesLogChunksInsertParameter first = update();
+		addCommands(2);
+		DbGamesLogChunksInsertParameter second = update();
+
+		assertEquals(0, first.getStartIndex());
+		assertEquals(3, first.getEndIndex());
+		assertEquals(3, second.getStartIndex());
+		assertEquals(5, second.getEndIndex());
+		assertEquals(5, gameState.getGameLog().getCommitedSize());
+	}
+
+	@Test
+	void leftoversAreOnlyDeletedBeforeTheFirstChunk() throws SQLException {
+		addCommands(3);
+		update();
+		addCommands(2);
+		update();
+
+		verify(deleteStatement, times(1)).execute(argThat(parameter ->
+			((DbGamesLogChunksDeleteParameter) parameter).getGameStateId() == GAME_ID));
+		verify(insertStatement, times(2)).execute(any());
+	}
+
+	@Test
+	void nothingIsWrittenWithoutNewCommands() throws SQLException {
+		addCommands(3);
+		update();
+		update();
+
+		verify(insertStatement, times(1)).execute(any());
+		assertEquals(3, gameState.getGameLog().getCommitedSize());
+	}
+
+	@Test
+	void rolledBackChunkIsWrittenAgain() throws SQLException {
+		addCommands(3);
+		update();
+		addCommands(2);
+		when(insertStatement.execute(any())).thenThrow(new SQLException("connection lost"));
+		update();
+
+		verify(updateFactory).rollback();
+		assertEquals(3, gameState.getGameLog().getCommitedSize());
+
+		doReturn(1).when(insertStatement).execute(any());
+		addCommands(1);
+		DbGamesLogChunksInsertParameter retry = update();
+
+		assertEquals(3, retry.getStartIndex());
+		assertEquals(6, retry.getEndIndex());
+		assertEquals(6, gameState.getGameLog().getCommitedSize());
+	}
+
+	@Test
+	void failedCommitKeepsTheCommitedSize() throws SQLException {
+		addCommands(3);
+		doThrow(new SQLException("commit failed")).when(updateFactory).commit();
+		update();
+
+		assertEquals(0, gameState.getGameLog().getCommitedSize());
+
+		doThrow(new SQLException("commit failed")).doNothing().when(updateFactory).commit();
+		update();
+		update();
+
+		// the first chunk is started over, dropping whatever the failed transactions left behind
+		verify(deleteStatement, times(3)).execute(any());
+		verify(updateFactory, never()).rollback();
+		assertEquals(3, gameState.getGameLog().getCommitedSize());
+	}
+
+	private DbGamesLogChunksInsertParameter update() {
+		DbGamesLogChunksInsertParameter parameter = new DbGamesLogChunksInsertParameter(gameState);
+		DbTransaction transaction = new DbTransaction();
+		transaction.add(parameter);
+		transaction.executeUpdate(server);
+		return parameter;
+	}
+
+	private void addCommands(int count) {
+		for (int i = 0; i < count; i++) {
+			gameState.getGameLog().add(new ServerCommandModelSync());
+		}
+	}
+
+}
@@ -0,0 +1,183 @@
+package com.fumbbl.ffb.server.db.query;
+
+import com.eclipsesource.json.JsonObject;
+import com.fumbbl.ffb.FactoryManager;
+import com.fumbbl.ffb.FactoryType.Factory;
+import com.fumbbl.ffb.FactoryType.FactoryContext;
+import com.fumbbl.ffb.GameStatus;
+import com.fumbbl.ffb.RulesCollection;
+import com.fumbbl.ffb.factory.IFactorySource;
+import com.fumbbl.ffb.factory.INamedObjectFactory;
+import com.fumbbl.ffb.json.UtilJson;
+import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.net.commands.ServerCommand;
+import com.fumbbl.ffb.net.commands.ServerCommandModelSync;
+import com.fumbbl.ffb.option.GameOptionId;
+import com.fumbbl.ffb.server.DebugLog;
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.GameLog;
+import com.fumbbl.ffb.server.GameState;
+import com.fumbbl.ffb.server.db.DbQueryFactory;
+import com.fumbbl.ffb.server.db.DbStatementId;
+import com.fumbbl.ffb.server.db.IDbTableGamesLogChunks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Blob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DbGamesSerializedQueryTest {
+
+	private static final long GAME_ID = 1042L;
+
+	private FantasyFootballServer server;
+	private PreparedStatement serializedStatement;
+	private PreparedStatement chunksStatement;
+	private DbGamesSerializedQuery serializedQuery;
+	private GameState gameState;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		server = mock(FantasyFootballServer.class);
+		FactoryManager factoryManager = new FactoryManager();
+		IFactorySource factorySource = applicationSource(factoryManager);
+		DbQueryFactory queryFactory = mock(DbQueryFactory.class);
+		when(server.getDebugLog()).thenReturn(mock(DebugLog.class));
+		when(server.getFactorySource()).thenReturn(factorySource);
+		when(server.getFactoryManager()).thenReturn(factoryManager);
+		when(server.getDbQueryFactory()).thenReturn(queryFactory);
+
+		Connection connection = mock(Connection.class);
+		serializedStatement = mock(PreparedStatement.class);
+		chunksStatement = mock(PreparedStatement.class);
+		when(connection.prepareStatement(anyString())).thenReturn(serializedStatement);
+		when(connection.prepareStatement(contains(IDbTableGamesLogChunks.TABLE_NAME))).thenReturn(chunksStatement);
+		serializedQuery = new DbGamesSerializedQuery(server);
+		serializedQuery.prepare(connection);
+		DbGamesLogChunksQuery chunksQuery = new DbGamesLogChunksQuery(server);
+		chunksQuery.prepare(connection);
+		when(queryFactory.getStatement(DbStatementId.GAMES_LOG_CHUNKS_QUERY)).thenReturn(chunksQuery);
+
+		gameState = new GameState(server);
+		gameState.setStatus(GameStatus.ACTIVE);
+		Game game = gameState.getGame();
+		game.setId(GAME_ID);
+		game.getOptions().addOption(game.getOptions().getFactory().createGameOption(GameOptionId.RULESVERSION)
+			.setValue(RulesCollection.Rules.BB2020.name()));
+		game.initializeRules();
+		for (int commandNr = 1; commandNr <= 5; commandNr++) {
+			ServerCommand command = new ServerCommandModelSync();
+			command.setCommandNr(commandNr);
+			gameState.getGameLog().add(command);
+		}
+	}
+
+	@Test
+	void snapshotIsCompletedFromTheChunks() throws IOException, SQLException {
+		ResultSet snapshot = rows(gameState.toJsonValue(false, 0));
+		when(serializedStatement.executeQuery()).thenReturn(snapshot);
+		ResultSet chunks = rows(chunk(0, 2), chunk(2, 5));
+		when(chunks.getInt(1)).thenReturn(0, 2);
+		when(chunksStatement.executeQuery()).thenReturn(chunks);
+
+		GameState loadedState = serializedQuery.execute(server, GAME_ID);
+
+		assertEquals(GAME_ID, loadedState.getId());
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5), commandNrs(loadedState.getGameLog()));
+		// the next update appends behind the chunks
+		assertEquals(5, loadedState.getGameLog().getCommitedSize());
+	}
+
+	@Test
+	void fullSerializationIsRewrittenAsChunks() throws IOException, SQLException {
+		ResultSet full = rows(gameState.toJsonValue(true, 0));
+		when(serializedStatement.executeQuery()).thenReturn(full);
+		ResultSet chunks = rows();
+		when(chunksStatement.executeQuery()).thenReturn(chunks);
+
+		GameState loadedState = serializedQuery.execute(server, GAME_ID);
+
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5), commandNrs(loadedState.getGameLog()));
+		assertEquals(0, loadedState.getGameLog().getCommitedSize());
+	}
+
+	@Test
+	void commandsContainedInTheSnapshotAreSkipped() throws IOException, SQLException {
+		ResultSet full = rows(gameState.toJsonValue(true, 0));
+		when(serializedStatement.executeQuery()).thenReturn(full);
+		ResultSet chunks = rows(chunk(3, 5));
+		when(chunks.getInt(1)).thenReturn(3);
+		when(chunksStatement.executeQuery()).thenReturn(chunks);
+
+		GameState loadedState = serializedQuery.execute(server, GAME_ID);
+
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5), commandNrs(loadedState.getGameLog()));
+	}
+
+	private JsonObject chunk(int startIndex, int endIndex) {
+		return GameLog.toJsonValue(gameState.getGameLog().getServerCommands(startIndex, endIndex));
+	}
+
+	/**
+	 * @return a result set with one row per given value, each gzipped into a blob in the serialized column
+	 */
+	private ResultSet rows(JsonObject... values) throws IOException, SQLException {
+		ResultSet resultSet = mock(ResultSet.class);
+		Boolean[] hasNext = new Boolean[values.length + 1];
+		Arrays.fill(hasNext, true);
+		hasNext[values.length] = false;
+		when(resultSet.next()).thenReturn(hasNext[0], Arrays.copyOfRange(hasNext, 1, hasNext.length));
+		if (values.length > 0) {
+			Blob[] blobs = new Blob[values.length];
+			for (int i = 0; i < values.length; i++) {
+				byte[] data = UtilJson.gzip(values[i]);
+				blobs[i] = mock(Blob.class);
+				when(blobs[i].length()).thenReturn((long) data.length);
+				when(blobs[i].getBytes(anyLong(), anyInt())).thenReturn(data);
+			}
+			when(resultSet.getBlob(anyInt())).thenReturn(blobs[0], Arrays.copyOfRange(blobs, 1, blobs.length));
+		}
+		return resultSet;
+	}
+
+	private static List<Integer> commandNrs(GameLog gameLog) {
+		List<Integer> commandNrs = new ArrayList<>();
+		for (ServerCommand command : gameLog.getServerCommands()) {
+			commandNrs.add(command.getCommandNr());
+		}
+		return commandNrs;
+	}
+
+	/**
+	 * Stands in for the server, which is the application factory source.
+	 */
+	@SuppressWarnings("rawtypes")
+	private IFactorySource applicationSource(FactoryManager factoryManager) {
+		IFactorySource factorySource = mock(IFactorySource.class);
+		Map<Factory, INamedObjectFactory> factories = factoryManager.getFactoriesForContext(FactoryContext.APPLICATION,
+			factorySource);
+		when(factorySource.getContext()).thenReturn(FactoryContext.APPLICATION);
+		when(factorySource.getFactoryManager()).thenReturn(factoryManager);
+		when(factorySource.forContext(FactoryContext.APPLICATION)).thenReturn(factorySource);
+		when(factorySource.getFactory(any())).thenAnswer(invocation -> factories.get(invocation.<Factory>getArgument(0)));
+		return factorySource;
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.fumbbl.ffb.server.factory;
+
+import com.fumbbl.ffb.FactoryManager;
+import com.fumbbl.ffb.FactoryType.Factory;
+import com.fumbbl.ffb.RulesCollection;
+import com.fumbbl.ffb.factory.IFactorySource;
+import com.fumbbl.ffb.model.Game;
+import com.fumbbl.ffb.option.GameOptionId;
+import com.fumbbl.ffb.server.factory.mixed.PrayerHandlerFactory;
+import com.fumbbl.ffb.server.inducements.mixed.prayers.PrayerHandler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class PrayerHandlerFactoryTest {
+
+	private final FactoryManager manager = new FactoryManager();
+	private final IFactorySource applicationSource = mock(IFactorySource.class);
+
+	@Test
+	void prayerHandlersAreNotSharedBetweenGames() {
+		Game first = createGame();
+		Game second = createGame();
+
+		PrayerHandlerFactory firstFactory = first.getFactory(Factory.PRAYER_HANDLER);
+		PrayerHandlerFactory secondFactory = second.getFactory(Factory.PRAYER_HANDLER);
+		PrayerHandler firstHandler = firstFactory.forName("IronManHandler");
+
+		assertSame(first.getRules().getRuntime(), second.getRules().getRuntime());
+		assertNotSame(firstFactory, secondFactory);
+		assertNotNull(firstHandler);
+		assertNotSame(firstHandler, secondFactory.forName("IronManHandler"));
+	}
+
+	private Game createGame() {
+		Game game = new Game(applicationSource, manager);
+		game.getOptions().addOption(game.getOptions().getFactory().createGameOption(GameOptionId.RULESVERSION)
+			.setValue(RulesCollection.Rules.BB2020.name()));
+		game.initializeRules();
+		return game;
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.fumbbl.ffb.server.handler;
+
+import com.fumbbl.ffb.ClientMode;
+import com.fumbbl.ffb.server.DebugLog;
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.GameCache;
+import com.fumbbl.ffb.server.GameState;
+import com.fumbbl.ffb.server.IServerProperty;
+import com.fumbbl.ffb.server.ServerMode;
+import com.fumbbl.ffb.server.net.ReceivedCommand;
+import com.fumbbl.ffb.server.net.ReplaySessionManager;
+import com.fumbbl.ffb.server.net.ServerCommandLane;
+import com.fumbbl.ffb.server.net.ServerCommunication;
+import com.fumbbl.ffb.server.net.SessionManager;
+import com.fumbbl.ffb.server.net.commands.InternalServerCommandJoinApproved;
+import org.eclipse.jetty.websocket.api.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ServerCommandHandlerJoinApprovedTest {
+
+	private static final long GAME_ID = 1043L;
+	private static final String GAME_NAME = "match";
+
+	private GameCache gameCache;
+	private SessionManager sessionManager;
+	private ServerCommunication communication;
+	private ServerCommandHandlerJoinApproved handler;
+
+	@BeforeEach
+	void setUp() {
+		FantasyFootballServer server = mock(FantasyFootballServer.class);
+		gameCache = mock(GameCache.class);
+		sessionManager = mock(SessionManager.class);
+		when(server.getProperty(IServerProperty.SERVER_COMMAND_LANES)).thenReturn("2");
+		when(server.getDebugLog()).thenReturn(mock(DebugLog.class));
+		when(server.getMode()).thenReturn(ServerMode.STANDALONE);
+		when(server.getGameCache()).thenReturn(gameCache);
+		when(server.getSessionManager()).thenReturn(sessionManager);
+		when(server.getReplaySessionManager()).thenReturn(mock(ReplaySessionManager.class));
+		communication = new ServerCommunication(server);
+		when(server.getCommunication()).thenReturn(communication);
+		handler = new ServerCommandHandlerJoinApproved(server);
+
+		AtomicLong mappedGameId = new AtomicLong();
+		when(gameCache.findGameIdByName(GAME_NAME)).thenAnswer(invocation -> mappedGameId.get());
+		doAnswer(invocation -> {
+			mappedGameId.set(invocation.getArgument(1));
+			return null;
+		}).when(gameCache).mapGameNameToId(eq(GAME_NAME), anyLong());
+		GameState gameState = mock(GameState.class);
+		when(gameState.getId()).thenReturn(GAME_ID);
+		when(gameCache.createGameState(any())).thenReturn(gameState);
+	}
+
+	@Test
+	void joinsByNameOnlyTouchTheNewGameOnItsLane() {
+		Session firstSession = mock(Session.class);
+		Session secondSession = mock(Session.class);
+		communication.handleCommand(new ReceivedCommand(joinByName(), firstSession));
+		communication.handleCommand(new ReceivedCommand(joinByName(), secondSession));
+		List<ReceivedCommand> laneZero = drain(0);
+		assertEquals(2, laneZero.size());
+
+		for (ReceivedCommand join : laneZero) {
+			assertTrue(handler.handleCommand(join));
+		}
+
+		verify(gameCache, times(1)).createGameState(any());
+		// lane 0 hands both joins over without touching the game
+		verify(sessionManager, never()).addSession(any(), anyLong(), any(), any(), anyBoolean(), any());
+		verify(gameCache, never()).getGameStateById(anyLong());
+		assertEquals(0, communication.getLanes()[0].getQueueLength());
+		List<ReceivedCommand> gameLane = drain(laneOf(GAME_ID));
+		assertEquals(2, gameLane.size());
+		assertSame(firstSession, gameLane.get(0).getSession());
+		assertSame(secondSession, gameLane.get(1).getSession());
+		for (ReceivedCommand join : gameLane) {
+			assertEquals(GAME_ID, ((InternalServerCommandJoinApproved) join.getCommand()).getGameId());
+		}
+	}
+
+	private int laneOf(long gameId) {
+		return (int) (gameId % communication.getLanes().length);
+	}
+
+	private List<ReceivedCommand> drain(int laneIndex) {
+		ServerCommandLane lane = communication.getLanes()[laneIndex];
+		List<ReceivedCommand> queued = new ArrayList<>();
+		lane.drainTo(queued);
+		return queued;
+	}
+
+	private static InternalServerCommandJoinApproved joinByName() {
+		return new InternalServerCommandJoinApproved(0, GAME_NAME, "coach", null, ClientMode.PLAYER,
+			Collections.emptyList());
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.fumbbl.ffb.server.net;
+
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.net.commands.InternalServerCommand;
+import com.fumbbl.ffb.server.net.commands.InternalServerCommandGameClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameClockSchedulerTest {
+
+	private static final long GAME_ID = 1042L;
+	private static final long TICK_DURATION = 100L;
+
+	private ServerCommunication communication;
+	private GameClockScheduler scheduler;
+	private long now;
+
+	@BeforeEach
+	void setUp() {
+		FantasyFootballServer server = mock(FantasyFootballServer.class);
+		communication = mock(ServerCommunication.class);
+		when(server.getCommunication()).thenReturn(communication);
+		scheduler = new GameClockScheduler(server, TICK_DURATION);
+		now = System.currentTimeMillis();
+	}
+
+	@Test
+	void deadlineFiresWhenDue() {
+		scheduler.schedule(GAME_ID, now + 1000);
+
+		scheduler.advance(now + 500);
+
+		verify(communication, never()).handleCommand(any(InternalServerCommand.class));
+		assertEquals(1, scheduler.getNrOfDeadlines());
+
+		scheduler.advance(now + 1100);
+
+		ArgumentCaptor<InternalServerCommandGameClock> command = ArgumentCaptor.forClass(InternalServerCommandGameClock.class);
+		verify(communication).handleCommand(command.capture());
+		assertEquals(GAME_ID, command.getValue().getGameId());
+		assertEquals(0, scheduler.getNrOfDeadlines());
+		assertEquals(1, scheduler.getFired());
+	}
+
+	@Test
+	void deadlineBeyondOneTurnOfTheWheelWaits() {
+		long deadline = now + 600 * TICK_DURATION;
+		scheduler.schedule(GAME_ID, deadline);
+
+		scheduler.advance(now + 100 * TICK_DURATION);
+		scheduler.advance(now + 512 * TICK_DURATION);
+
+		verify(communication, never()).handleCommand(any(InternalServerCommand.class));
+
+		scheduler.advance(deadline + TICK_DURATION);
+
+		verify(communication).handleCommand(any(InternalServerCommandGameClock.class));
+	}
+
+	@Test
+	void schedulingReplacesPreviousDeadline() {
+		scheduler.schedule(GAME_ID, now + 500);
+		scheduler.schedule(GAME_ID, now + 2000);
+
+		scheduler.advance(now + 1000);
+
+		verify(communication, never()).handleCommand(any(InternalServerCommand.class));
+		assertEquals(1, scheduler.getNrOfDeadlines());
+
+		scheduler.advance(now + 2100);
+
+		verify(communication, times(1)).handleCommand(any(InternalServerCommandGameClock.class));
+	}
+
+	@Test
+	void cancelledDeadlineDoesNotFire() {
+		scheduler.schedule(GAME_ID, now + 500);
+		scheduler.cancel(GAME_ID);
+
+		scheduler.advance(now + 1000);
+
+		verify(communication, never()).handleCommand(any(InternalServerCommand.class));
+		assertEquals(0, scheduler.getNrOfDeadlines());
+	}
+
+	@Test
+	void missingDeadlineCancels() {
+		scheduler.schedule(GAME_ID, now + 500);
+		scheduler.schedule(GAME_ID, 0);
+
+		scheduler.advance(now + 1000);
+
+		verify(communication, never()).handleCommand(any(InternalServerCommand.class));
+	}
+
+	@Test
+	void pastDeadlineFiresImmediately() {
+		scheduler.schedule(GAME_ID, now - 1000);
+
+		verify(communication).handleCommand(any(InternalServerCommandGameClock.class));
+		assertEquals(0, scheduler.getNrOfDeadlines());
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.fumbbl.ffb.server.net;
+
+import com.fumbbl.ffb.ClientMode;
+import com.fumbbl.ffb.net.NetCommand;
+import com.fumbbl.ffb.server.FantasyFootballServer;
+import com.fumbbl.ffb.server.GameCache;
+import com.fumbbl.ffb.server.IServerProperty;
+import com.fumbbl.ffb.server.net.commands.InternalServerCommandJoinApproved;
+import org.eclipse.jetty.websocket.api.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServerCommunicationTest {
+
+	private static final long GAME_ID = 1042L;
+	private static final String GAME_NAME = "match";
+
+	private GameCache gameCache;
+	private SessionManager sessionManager;
+	private ServerCommunication communication;
+
+	@BeforeEach
+	void setUp() {
+		FantasyFootballServer server = mock(FantasyFootballServer.class);
+		gameCache = mock(GameCache.class);
+		sessionManager = mock(SessionManager.class);
+		when(server.getProperty(IServerProperty.SERVER_COMMAND_LANES)).thenReturn("4");
+		when(server.getGameCache()).thenReturn(gameCache);
+		when(server.getSessionManager()).thenReturn(sessionManager);
+		when(server.getReplaySessionManager()).thenReturn(mock(ReplaySessionManager.class));
+		communication = new ServerCommunication(server);
+		when(server.getCommunication()).thenReturn(communication);
+	}
+
+	@Test
+	void joinByNameOfExistingGameRunsOnTheGameLane() {
+		when(gameCache.findGameIdByName(GAME_NAME)).thenReturn(GAME_ID);
+		Session session = mock(Session.class);
+
+		communication.handleCommand(new ReceivedCommand(joinByName(), session));
+
+		ReceivedCommand queued = takeQueued(laneOf(GAME_ID));
+		InternalServerCommandJoinApproved joinApproved = (InternalServerCommandJoinApproved) queued.getCommand();
+		assertEquals(GAME_ID, joinApproved.getGameId());
+		assertEquals(GAME_NAME, joinApproved.getGameName());
+		assertSame(session, queued.getSession());
+		assertEquals(0, communication.getLanes()[0].getQueueLength());
+	}
+
+	@Test
+	void joinByNameOfNewGameRunsOnLaneZero() {
+		communication.handleCommand(new ReceivedCommand(joinByName(), mock(Session.class)));
+
+		ReceivedCommand queued = takeQueued(0);
+		assertEquals(0, ((InternalServerCommandJoinApproved) queued.getCommand()).getGameId());
+	}
+
+	@Test
+	void commandsOfAGameSessionRunOnTheGameLane() {
+		Session session = mock(Session.class);
+		when(sessionManager.getGameIdForSession(session)).thenReturn(GAME_ID);
+
+		assertEquals(laneOf(GAME_ID), communication.findLaneIndex(new ReceivedCommand(mock(NetCommand.class), session)));
+	}
+
+	private int laneOf(long gameId) {
+		return (int) (gameId % communication.getLanes().length);
+	}
+
+	private ReceivedCommand takeQueued(int laneIndex) {
+		List<ReceivedCommand> queued = new ArrayList<>();
+		communication.getLanes()[laneIndex].drainTo(queued);
+		assertEquals(1, queued.size());
+		return queued.get(0);
+	}
+
+	private static InternalServerCommandJoinApproved joinByName() {
+		return new InternalServerCommandJoinApproved(0, GAME_NAME, "coach", null, ClientMode.PLAYER,
+			Collections.emptyList());
+	}
+
+}
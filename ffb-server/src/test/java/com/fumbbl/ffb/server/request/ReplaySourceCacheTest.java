@@ -0,0 +1,108 @@
+package com.fumbbl.ffb.server.request;
+
+import com.eclipsesource.json.JsonValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplaySourceCacheTest {
+
+	@TempDir
+	File directory;
+
+	private final AtomicInteger fetches = new AtomicInteger();
+
+	@Test
+	void parsedGamesAreFetchedOnce() throws IOException {
+		ReplaySourceCache cache = new ReplaySourceCache(directory, 1 << 20, 2);
+
+		JsonValue first = cache.get(1L, () -> fetch(1));
+		JsonValue second = cache.get(1L, () -> fetch(1));
+
+		assertSame(first, second);
+		assertEquals(1, fetches.get());
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.getMemoryHits());
+	}
+
+	@Test
+	void evictedGamesAreReadFromDisk() throws IOException {
+		ReplaySourceCache cache = new ReplaySourceCache(directory, 1 << 20, 1);
+		cache.get(1L, () -> fetch(1));
+		cache.get(2L, () -> fetch(2));
+
+		JsonValue reloaded = cache.get(1L, () -> fetch(1));
+
+		assertEquals(1, reloaded.asObject().get("gameId").asInt());
+		assertEquals(2, fetches.get());
+		assertEquals(1, cache.getDiskHits());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void diskIsLimitedBySize() throws IOException {
+		ReplaySourceCache cache = new ReplaySourceCache(directory, 1, 0);
+		cache.get(1L, () -> fetch(1));
+		cache.get(1L, () -> fetch(1));
+
+		assertEquals(2, fetches.get());
+		assertEquals(0, cache.getDiskHits());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void emptyResultsAreNotCached() throws IOException {
+		ReplaySourceCache cache = new ReplaySourceCache(directory, 1 << 20, 2);
+
+		assertNull(cache.get(1L, () -> ""));
+		assertEquals(0, cache.size());
+		assertFalse(new File(directory, "1.json.gz").exists());
+	}
+
+	@Test
+	void concurrentLoadsShareOneFetch() throws Exception {
+		ReplaySourceCache cache = new ReplaySourceCache(null, 0, 2);
+		CountDownLatch fetching = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<JsonValue> first = CompletableFuture.supplyAsync(() -> load(cache, () -> {
+			fetching.countDown();
+			assertTrue(release.await(10, TimeUnit.SECONDS));
+			return fetch(1);
+		}));
+		assertTrue(fetching.await(10, TimeUnit.SECONDS));
+		CompletableFuture<JsonValue> second = CompletableFuture.supplyAsync(() -> load(cache, () -> fetch(1)));
+		Thread.sleep(100);
+		release.countDown();
+
+		assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+		assertEquals(1, fetches.get());
+	}
+
+	private JsonValue load(ReplaySourceCache cache, Callable<String> pFetch) {
+		try {
+			return cache.get(1L, pFetch);
+		} catch (IOException pIoException) {
+			throw new IllegalStateException(pIoException);
+		}
+	}
+
+	private String fetch(int pGameId) {
+		fetches.incrementAndGet();
+		return "{\"gameId\":" + pGameId + "}";
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.fumbbl.ffb.server.util.rng;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FortunaTest {
+
+	private Fortuna fortuna;
+
+	@BeforeEach
+	void setUp() {
+		byte[] key = new byte[32];
+		Arrays.fill(key, (byte) 7);
+		fortuna = new Fortuna(key);
+	}
+
+	@Test
+	void dieRollsAreInRange() {
+		int[] counts = new int[7];
+		for (int i = 0; i < 6000; i++) {
+			int roll = fortuna.getDieRoll(6);
+			assertTrue(roll >= 1 && roll <= 6);
+			counts[roll]++;
+		}
+		for (int side = 1; side <= 6; side++) {
+			assertTrue(counts[side] > 800, "side " + side + " rolled " + counts[side] + " times");
+		}
+	}
+
+	@Test
+	void eachThreadDrawsFromItsOwnShard() throws InterruptedException {
+		byte[] mainBytes = drawBytes(64);
+		AtomicReference<byte[]> otherBytes = new AtomicReference<>();
+		Thread other = new Thread(() -> otherBytes.set(drawBytes(64)), "other");
+		other.start();
+		other.join();
+
+		assertEquals(2, fortuna.getShards().size());
+		assertFalse(Arrays.equals(mainBytes, otherBytes.get()));
+		for (FortunaShard shard : fortuna.getShards()) {
+			assertEquals(64, shard.getNumberOfBytes());
+		}
+		assertEquals("other", fortuna.getShards().get(1).getThreadName());
+		assertEquals(128, fortuna.getNumberOfBytes());
+	}
+
+	@Test
+	void shardsOfEndedThreadsAreDropped() throws InterruptedException {
+		drawBytes(16);
+		for (int i = 0; i < 10; i++) {
+			Thread worker = new Thread(() -> drawBytes(16), "worker-" + i);
+			worker.start();
+			worker.join();
+		}
+
+		// the shard of the last worker is only dropped when the next shard is created
+		assertEquals(2, fortuna.getShards().size());
+		assertEquals("worker-9", fortuna.getShards().get(1).getThreadName());
+		assertEquals(10, fortuna.getShards().get(1).getIndex());
+		assertEquals(176, fortuna.getNumberOfBytes());
+	}
+
+	@Test
+	void batchesDoNotRepeat() {
+		byte[] first = drawBytes(256);
+		byte[] second = drawBytes(256);
+
+		assertNotEquals(Arrays.toString(first), Arrays.toString(second));
+		assertEquals(512, fortuna.getNumberOfBytes());
+	}
+
+	private byte[] drawBytes(int count) {
+		byte[] bytes = new byte[count];
+		for (int i = 0; i < count; i++) {
+			bytes[i] = (byte) fortuna.getByte();
+		}
+		return bytes;
+	}
+
+}
@@ -12,8 +12,6 @@ import org.xml.sax.XMLReader;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
@@ -21,11 +19,18 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.StringReader;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Ergebnis eines XML Imports.
@@ -39,30 +44,50 @@ public class BuildFumbblIconCache {
   private static final String _PATH_PORTRAITS = "players/portraits/";
   private static final String _PATH_ICONSETS = "players/iconsets/";
 
+  private static final int _DEFAULT_PARALLELISM = 8;
+
+  // Ranked, Competitive, Stunty Leeg, League, Blackbox, Test
+  private static final int[] _DIVISIONS = { 1, 2, 3, 5, 10, 200 };
+
+  private final String fDivisionUrl;
+  private final String fRosterUrl;
+  private final int fParallelism;
+
+  public BuildFumbblIconCache() {
+    this(_URL_DIVISION, _URL_ROSTER, _DEFAULT_PARALLELISM);
+  }
+
+  /**
+   * @param pDivisionUrl division overview url, $1 is replaced by the division
+   * @param pRosterUrl roster url, $1 is replaced by the roster id
+   * @param pParallelism number of pages and icons loaded at the same time
+   */
+  public BuildFumbblIconCache(String pDivisionUrl, String pRosterUrl, int pParallelism) {
+    fDivisionUrl = pDivisionUrl;
+    fRosterUrl = pRosterUrl;
+    fParallelism = Math.max(1, pParallelism);
+  }
+
   public static void main(String[] args) {
     if ((args != null) && (args.length > 0)) {
-      BuildFumbblIconCache collectPlayerIcons = new BuildFumbblIconCache();
+      int parallelism = (args.length > 1) ? Integer.parseInt(args[1]) : _DEFAULT_PARALLELISM;
+      BuildFumbblIconCache collectPlayerIcons = new BuildFumbblIconCache(_URL_DIVISION, _URL_ROSTER, parallelism);
       try {
         Properties iconCache = new Properties();
-        collectPlayerIcons.collectRosterIcons(1, iconCache);  // Ranked
-        collectPlayerIcons.collectRosterIcons(2, iconCache);  // Competitive
-        collectPlayerIcons.collectRosterIcons(3, iconCache);  // Stunty Leeg
-        collectPlayerIcons.collectRosterIcons(5, iconCache); // League
-        collectPlayerIcons.collectRosterIcons(10, iconCache); // Blackbox
-        collectPlayerIcons.collectRosterIcons(200, iconCache); // Test
+        collectPlayerIcons.collectRosterIcons(_DIVISIONS, iconCache);
         collectPlayerIcons.saveIconCache(new File(args[0]), iconCache);
       } catch (Exception pAnyException) {
         pAnyException.printStackTrace();
       }
     } else {
-      System.out.println("java com.fumbbl.ffb.tools.BuildFumbblIconCache <downloadDirectory>");
+      System.out.println("java com.fumbbl.ffb.tools.BuildFumbblIconCache <downloadDirectory> [parallelism]");
     }
   }
 
   private Map<String, Integer> collectRosterIds(int pDivision) throws IOException, SAXException, ParserConfigurationException {
 
     Map<String, Integer> rosterIdByName = new HashMap<String, Integer>();
-    String responseXml = loadPage(StringTool.bind(_URL_DIVISION, pDivision));
+    String responseXml = loadPage(StringTool.bind(fDivisionUrl, pDivision));
     if (StringTool.isProvided(responseXml)) {
 
       SAXParserFactory xmlParserFactory = SAXParserFactory.newInstance();
@@ -110,15 +135,68 @@ public class BuildFumbblIconCache {
   }
 
   public void collectRosterIcons(int pDivision, Properties pIconCache) throws IOException, SAXException, ParserConfigurationException {
-    Map<String, Integer> rosterIdByName = collectRosterIds(pDivision);
-    for (int rosterId : rosterIdByName.values()) {
-      collectRosterIconUrls(rosterId, pIconCache);
+    collectRosterIcons(new int[] { pDivision }, pIconCache);
+  }
+
+  /**
+   * Loads divisions and rosters concurrently. Results are applied in division and roster order,
+   * so the icon cache is the same as if everything had been loaded one after the other.
+   */
+  public void collectRosterIcons(int[] pDivisions, Properties pIconCache) throws IOException, SAXException, ParserConfigurationException {
+    ExecutorService executor = Executors.newFixedThreadPool(fParallelism);
+    try {
+      List<Future<Map<String, Integer>>> divisions = new ArrayList<>();
+      for (int division : pDivisions) {
+        divisions.add(executor.submit(() -> collectRosterIds(division)));
+      }
+      // rosters listed in several divisions are loaded once
+      Set<Integer> rosterIds = new LinkedHashSet<>();
+      for (Future<Map<String, Integer>> division : divisions) {
+        rosterIds.addAll(await(division).values());
+      }
+      List<Future<Properties>> rosters = new ArrayList<>();
+      for (int rosterId : rosterIds) {
+        rosters.add(executor.submit(() -> {
+          Properties rosterIcons = new Properties();
+          collectRosterIconUrls(rosterId, rosterIcons);
+          return rosterIcons;
+        }));
+      }
+      for (Future<Properties> roster : rosters) {
+        pIconCache.putAll(await(roster));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private <T> T await(Future<T> pFuture) throws IOException, SAXException, ParserConfigurationException {
+    try {
+      return pFuture.get();
+    } catch (InterruptedException pInterruptedException) {
+      Thread.currentThread().interrupt();
+      throw new IOException(pInterruptedException);
+    } catch (ExecutionException pExecutionException) {
+      Throwable cause = pExecutionException.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof SAXException) {
+        throw (SAXException) cause;
+      }
+      if (cause instanceof ParserConfigurationException) {
+        throw (ParserConfigurationException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new FantasyFootballException(cause);
     }
   }
 
   private void collectRosterIconUrls(int pRosterId, Properties pIconCache) throws IOException {
 
-    String responseXml = loadPage(StringTool.bind(_URL_ROSTER, pRosterId));
+    String responseXml = loadPage(StringTool.bind(fRosterUrl, pRosterId));
     if (!StringTool.isProvided(responseXml)) {
       return;
     }
@@ -174,34 +252,7 @@ public class BuildFumbblIconCache {
 
     UtilFile.sortPropertyFile(iniFile);
 
-    for (Object key : pIconCache.keySet()) {
-      String iconUrl = key.toString();
-      String iconPath = pIconCache.getProperty(iconUrl);
-      File iconFile = new File(pDownloadDir, iconPath);
-      System.out.println("save " + iconFile.getAbsolutePath());
-      URL downloadUrl = new URL(iconUrl);
-      BufferedInputStream in = null;
-      BufferedOutputStream out = null;
-      try {
-        in = new BufferedInputStream(downloadUrl.openStream());
-        iconFile.getParentFile().mkdirs();
-        out = new BufferedOutputStream(new FileOutputStream(iconFile), 1024);
-        int bytesRead = 0;
-        byte[] data = new byte[1024];
-        while((bytesRead = in.read(data,0,1024)) >=0) {
-         out.write(data, 0, bytesRead);
-        }
-      } catch (IOException pIoException) {
-        // just continue with the next URL
-      } finally {
-        if (out != null) {
-          out.close();
-        }
-        if (in != null) {
-          in.close();
-        }
-      }
-    }
+    new IconDownloader(pDownloadDir, fParallelism).download(pIconCache);
 
   }
 
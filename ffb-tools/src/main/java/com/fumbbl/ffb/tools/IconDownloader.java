@@ -0,0 +1,265 @@
+package com.fumbbl.ffb.tools;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Downloads the icons of an icon cache concurrently.
+ * <p>
+ * A manifest in the download directory remembers size, validators and content hash of each url, so unchanged icons
+ * are only revalidated on the next run. Icons with identical content are stored once and linked to the other paths.
+ */
+public class IconDownloader {
+
+  private static final String _MANIFEST_FILE = "icons.manifest.json";
+  private static final int _BUFFER_SIZE = 8192;
+
+  private final File fDownloadDir;
+  private final int fParallelism;
+  private final Map<String, ManifestEntry> fManifest;
+  private final Map<String, File> fFileByHash;
+  private final AtomicInteger fDownloaded;
+  private final AtomicInteger fUnchanged;
+  private final AtomicInteger fDeduplicated;
+  private final AtomicInteger fFailed;
+
+  public IconDownloader(File pDownloadDir, int pParallelism) {
+    fDownloadDir = pDownloadDir;
+    fParallelism = Math.max(1, pParallelism);
+    fManifest = new ConcurrentHashMap<>();
+    fFileByHash = new ConcurrentHashMap<>();
+    fDownloaded = new AtomicInteger();
+    fUnchanged = new AtomicInteger();
+    fDeduplicated = new AtomicInteger();
+    fFailed = new AtomicInteger();
+  }
+
+  /**
+   * @param pIconCache icon urls mapped to paths relative to the download directory
+   */
+  public void download(Properties pIconCache) throws IOException {
+    loadManifest();
+    // icons that are no longer part of the cache are dropped from the manifest
+    fManifest.keySet().retainAll(pIconCache.stringPropertyNames());
+    ExecutorService executor = Executors.newFixedThreadPool(fParallelism);
+    try {
+      List<Future<?>> downloads = new ArrayList<>();
+      for (String iconUrl : new TreeSet<>(pIconCache.stringPropertyNames())) {
+        String iconPath = pIconCache.getProperty(iconUrl);
+        downloads.add(executor.submit(() -> {
+          downloadIcon(iconUrl, iconPath);
+          return null;
+        }));
+      }
+      for (Future<?> download : downloads) {
+        try {
+          download.get();
+        } catch (InterruptedException pInterruptedException) {
+          Thread.currentThread().interrupt();
+          throw new IOException(pInterruptedException);
+        } catch (ExecutionException pExecutionException) {
+          // just continue with the next URL
+          fFailed.incrementAndGet();
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    saveManifest();
+    System.out.println("downloaded " + fDownloaded + ", unchanged " + fUnchanged + ", deduplicated " + fDeduplicated
+      + ", failed " + fFailed);
+  }
+
+  private void downloadIcon(String pIconUrl, String pIconPath) throws IOException {
+
+    File iconFile = new File(fDownloadDir, pIconPath);
+    ManifestEntry previous = fManifest.get(pIconUrl);
+    boolean current = (previous != null) && pIconPath.equals(previous.fPath) && iconFile.isFile()
+      && (iconFile.length() == previous.fSize);
+
+    HttpURLConnection connection = (HttpURLConnection) new URL(pIconUrl).openConnection();
+    connection.setConnectTimeout(UtilHttpClient.CONNECTION_TIMEOUT);
+    connection.setReadTimeout(UtilHttpClient.CONNECTION_TIMEOUT);
+    if (current) {
+      if (StringTool.isProvided(previous.fETag)) {
+        connection.setRequestProperty("If-None-Match", previous.fETag);
+      }
+      if (StringTool.isProvided(previous.fLastModified)) {
+        connection.setRequestProperty("If-Modified-Since", previous.fLastModified);
+      }
+    }
+
+    try {
+      int status = connection.getResponseCode();
+      if (current && (status == HttpURLConnection.HTTP_NOT_MODIFIED)) {
+        fFileByHash.putIfAbsent(previous.fHash, iconFile);
+        fUnchanged.incrementAndGet();
+        return;
+      }
+      if (status != HttpURLConnection.HTTP_OK) {
+        fFailed.incrementAndGet();
+        return;
+      }
+
+      byte[] data;
+      try (InputStream in = connection.getInputStream()) {
+        data = readFully(in);
+      }
+      ManifestEntry entry = new ManifestEntry(pIconPath, data.length, connection.getHeaderField("ETag"),
+        connection.getHeaderField("Last-Modified"), DigestUtils.shaHex(data));
+
+      if (current && entry.fHash.equals(previous.fHash)) {
+        fUnchanged.incrementAndGet();
+      } else {
+        System.out.println("save " + iconFile.getAbsolutePath());
+        saveIcon(iconFile, data, fFileByHash.get(entry.fHash));
+        fDownloaded.incrementAndGet();
+      }
+      fFileByHash.putIfAbsent(entry.fHash, iconFile);
+      fManifest.put(pIconUrl, entry);
+
+    } finally {
+      connection.disconnect();
+    }
+
+  }
+
+  private void saveIcon(File pIconFile, byte[] pData, File pSameContent) throws IOException {
+    pIconFile.getParentFile().mkdirs();
+    // never write through a link shared with another icon
+    Files.deleteIfExists(pIconFile.toPath());
+    if ((pSameContent != null) && !pSameContent.equals(pIconFile)) {
+      fDeduplicated.incrementAndGet();
+      try {
+        Files.createLink(pIconFile.toPath(), pSameContent.toPath());
+      } catch (IOException | UnsupportedOperationException pLinkException) {
+        Files.copy(pSameContent.toPath(), pIconFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } else {
+      Files.write(pIconFile.toPath(), pData);
+    }
+  }
+
+  private byte[] readFully(InputStream pIn) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[_BUFFER_SIZE];
+    int bytesRead;
+    while ((bytesRead = pIn.read(buffer)) >= 0) {
+      out.write(buffer, 0, bytesRead);
+    }
+    return out.toByteArray();
+  }
+
+  private void loadManifest() throws IOException {
+    fManifest.clear();
+    File manifestFile = new File(fDownloadDir, _MANIFEST_FILE);
+    if (!manifestFile.isFile()) {
+      return;
+    }
+    try (BufferedReader in = new BufferedReader(
+      new InputStreamReader(new FileInputStream(manifestFile), StandardCharsets.UTF_8))) {
+      @SuppressWarnings("deprecation") JsonObject jsonObject = JsonObject.readFrom(in);
+      for (JsonObject.Member member : jsonObject) {
+        fManifest.put(member.getName(), ManifestEntry.initFrom(member.getValue().asObject()));
+      }
+    } catch (RuntimeException pParseException) {
+      // a broken manifest just means a full download
+      fManifest.clear();
+    }
+  }
+
+  private void saveManifest() throws IOException {
+    JsonObject jsonObject = new JsonObject();
+    for (String iconUrl : new TreeSet<>(fManifest.keySet())) {
+      jsonObject.add(iconUrl, fManifest.get(iconUrl).toJsonValue());
+    }
+    fDownloadDir.mkdirs();
+    try (BufferedWriter out = new BufferedWriter(
+      new OutputStreamWriter(new FileOutputStream(new File(fDownloadDir, _MANIFEST_FILE)), StandardCharsets.UTF_8))) {
+      out.write(jsonObject.toString());
+    }
+  }
+
+  public int getDownloaded() {
+    return fDownloaded.get();
+  }
+
+  public int getUnchanged() {
+    return fUnchanged.get();
+  }
+
+  public int getDeduplicated() {
+    return fDeduplicated.get();
+  }
+
+  public int getFailed() {
+    return fFailed.get();
+  }
+
+  private static final class ManifestEntry {
+
+    private final String fPath;
+    private final long fSize;
+    private final String fETag;
+    private final String fLastModified;
+    private final String fHash;
+
+    private ManifestEntry(String pPath, long pSize, String pETag, String pLastModified, String pHash) {
+      fPath = pPath;
+      fSize = pSize;
+      fETag = pETag;
+      fLastModified = pLastModified;
+      fHash = pHash;
+    }
+
+    private JsonValue toJsonValue() {
+      JsonObject jsonObject = new JsonObject();
+      jsonObject.add("path", fPath);
+      jsonObject.add("size", fSize);
+      if (fETag != null) {
+        jsonObject.add("etag", fETag);
+      }
+      if (fLastModified != null) {
+        jsonObject.add("lastModified", fLastModified);
+      }
+      jsonObject.add("hash", fHash);
+      return jsonObject;
+    }
+
+    private static ManifestEntry initFrom(JsonObject pJsonObject) {
+      return new ManifestEntry(pJsonObject.getString("path", ""), pJsonObject.getLong("size", -1),
+        pJsonObject.getString("etag", null), pJsonObject.getString("lastModified", null),
+        pJsonObject.getString("hash", ""));
+    }
+
+  }
+
+}
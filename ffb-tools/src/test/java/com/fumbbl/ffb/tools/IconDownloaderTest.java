@@ -0,0 +1,135 @@
+package com.fumbbl.ffb.tools;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IconDownloaderTest {
+
+  @TempDir
+  Path downloadDir;
+
+  private HttpServer server;
+  private final Map<String, byte[]> contentByPath = new ConcurrentHashMap<>();
+  private final AtomicInteger fullResponses = new AtomicInteger();
+  private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    contentByPath.put("/human/lineman.png", bytes("lineman"));
+    contentByPath.put("/human/blitzer.png", bytes("blitzer"));
+    contentByPath.put("/orc/lineman.png", bytes("lineman"));
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", this::serve);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void downloadsAllIconsAndStoresIdenticalContentOnce() throws IOException {
+    IconDownloader downloader = new IconDownloader(downloadDir.toFile(), 1);
+
+    downloader.download(iconCache());
+
+    assertEquals(3, downloader.getDownloaded());
+    assertEquals(1, downloader.getDeduplicated());
+    assertArrayEquals(bytes("lineman"), Files.readAllBytes(downloadDir.resolve("portraits/orc_lineman.png")));
+    assertArrayEquals(bytes("lineman"), Files.readAllBytes(downloadDir.resolve("portraits/human_lineman.png")));
+    assertArrayEquals(bytes("blitzer"), Files.readAllBytes(downloadDir.resolve("portraits/human_blitzer.png")));
+    assertTrue(new File(downloadDir.toFile(), "icons.manifest.json").isFile());
+  }
+
+  @Test
+  void unchangedIconsAreOnlyRevalidated() throws IOException {
+    new IconDownloader(downloadDir.toFile(), 4).download(iconCache());
+    fullResponses.set(0);
+
+    IconDownloader downloader = new IconDownloader(downloadDir.toFile(), 4);
+    downloader.download(iconCache());
+
+    assertEquals(0, downloader.getDownloaded());
+    assertEquals(3, downloader.getUnchanged());
+    assertEquals(0, fullResponses.get());
+    assertEquals(3, notModifiedResponses.get());
+  }
+
+  @Test
+  void changedIconIsDownloadedAgain() throws IOException {
+    new IconDownloader(downloadDir.toFile(), 4).download(iconCache());
+    contentByPath.put("/orc/lineman.png", bytes("orc lineman"));
+
+    IconDownloader downloader = new IconDownloader(downloadDir.toFile(), 4);
+    downloader.download(iconCache());
+
+    assertEquals(1, downloader.getDownloaded());
+    assertEquals(2, downloader.getUnchanged());
+    assertArrayEquals(bytes("orc lineman"), Files.readAllBytes(downloadDir.resolve("portraits/orc_lineman.png")));
+    // the icon it was linked to keeps its content
+    assertArrayEquals(bytes("lineman"), Files.readAllBytes(downloadDir.resolve("portraits/human_lineman.png")));
+  }
+
+  private Properties iconCache() {
+    Properties iconCache = new Properties();
+    iconCache.setProperty(url("/human/lineman.png"), "portraits/human_lineman.png");
+    iconCache.setProperty(url("/human/blitzer.png"), "portraits/human_blitzer.png");
+    iconCache.setProperty(url("/orc/lineman.png"), "portraits/orc_lineman.png");
+    return iconCache;
+  }
+
+  private String url(String pPath) {
+    return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + pPath;
+  }
+
+  private static byte[] bytes(String pContent) {
+    return pContent.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private void serve(HttpExchange pExchange) throws IOException {
+    byte[] content = contentByPath.get(pExchange.getRequestURI().getPath());
+    if (content == null) {
+      pExchange.sendResponseHeaders(404, -1);
+      pExchange.close();
+      return;
+    }
+    String eTag = "\"" + new String(content, StandardCharsets.UTF_8).hashCode() + "\"";
+    pExchange.getResponseHeaders().add("ETag", eTag);
+    if (eTag.equals(pExchange.getRequestHeaders().getFirst("If-None-Match"))) {
+      notModifiedResponses.incrementAndGet();
+      pExchange.sendResponseHeaders(304, -1);
+      pExchange.close();
+      return;
+    }
+    fullResponses.incrementAndGet();
+    pExchange.sendResponseHeaders(200, content.length);
+    try (OutputStream out = pExchange.getResponseBody()) {
+      out.write(content);
+    }
+  }
+
+}